@@ -0,0 +1,574 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataTransmitter;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.NamedThreadFactory;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Asynchronous send path over a {@link DataTransmitter}. The sends are queued and written by a
+ * dedicated thread, and each one returns a {@link CompletableFuture} that completes when its data
+ * was written, or completes exceptionally with the error of the write.
+ * <p>
+ * The writer thread coalesces the pending sends into a single write of up to a maximum amount of bytes,
+ * made through {@link DataTransmitter#sendData(ByteBuffer...)}, which is a gathering write without copies
+ * for transmitters backed by a channel.
+ * A send waits at most the coalescing delay for other sends to join it, so many small commands become
+ * few writes while the latency added is bounded. With a delay of 0, only the sends already queued are
+ * coalesced.
+ * </p>
+ * <p>
+ * The queue is bounded: when it's full, the sending thread waits for space, which propagates the pace
+ * of a slow link to the callers. The sending threads queue their data one at a time, so concurrent
+ * sends are written in the order they entered the queue and {@link #flush()} covers all of them. {@link #shutdown()} rejects new sends and writes the pending ones
+ * before stopping the writer thread.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class AsyncDataTransmitter implements ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	/**
+	 * Marks the end of the queue on shutdown.
+	 */
+	private static final PendingWrite END = new PendingWrite(new byte[0]);
+	
+	private final DataTransmitter transmitter;
+	private final BlockingQueue<PendingWrite> queue;
+	private final int maxCoalescedBytes;
+	private final long coalescingDelayNanos;
+	private final Thread writer;
+	private final AtomicLong writeCount = new AtomicLong();
+	private final AtomicLong sendCount = new AtomicLong();
+	private final List<PendingWrite> batch = new ArrayList<>();
+	
+	/**
+	 * Orders the insertion in the queue and the update of the last future among the sending threads.
+	 */
+	private final ReentrantLock sendLock = new ReentrantLock();
+	
+	/**
+	 * Send taken from the queue that didn't fit in the previous write.
+	 */
+	private PendingWrite carried;
+	private volatile CompletableFuture<Void> lastFuture = CompletableFuture.completedFuture(null);
+	private volatile boolean shuttingDown = false;
+	private volatile boolean terminated = false;
+	
+	/**
+	 * Creates an asynchronous transmitter with a queue of {@link Values.Defaults#WRITE_QUEUE_CAPACITY} sends,
+	 * writes of up to {@link Values.Defaults#WRITE_COALESCING_BYTES} and a coalescing delay of
+	 * {@link Values.Defaults#WRITE_COALESCING_DELAY_MICROS}.
+	 *
+	 * @param transmitter
+	 * - the transmitter that writes the data.
+	 * @author Sergio Morel
+	 */
+	public AsyncDataTransmitter(DataTransmitter transmitter)
+	{
+		this(transmitter, Values.Defaults.WRITE_QUEUE_CAPACITY, Values.Defaults.WRITE_COALESCING_BYTES, Values.Defaults.WRITE_COALESCING_DELAY_MICROS, TimeUnit.MICROSECONDS);
+	}
+	
+	/**
+	 * Creates an asynchronous transmitter.
+	 *
+	 * @param transmitter
+	 * - the transmitter that writes the data.
+	 * @param queueCapacity
+	 * - maximum amount of pending sends.
+	 * @param maxCoalescedBytes
+	 * - maximum amount of bytes coalesced into a single write. Larger sends are written alone.
+	 * @param coalescingDelay
+	 * - maximum time that a send waits for other sends to be coalesced with it.
+	 * @param unit
+	 * - unit of the delay.
+	 * @throws IllegalArgumentException
+	 * if the capacity or the amount of bytes are not positive, or the delay is negative.
+	 * @throws NullPointerException
+	 * if the transmitter or the unit are null.
+	 * @author Sergio Morel
+	 */
+	public AsyncDataTransmitter(DataTransmitter transmitter, int queueCapacity, int maxCoalescedBytes, long coalescingDelay, TimeUnit unit)
+	{
+		super();
+		
+		if(transmitter == null || unit == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append(transmitter == null ? "[transmitter] " : "[unit] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::AsyncDataTransmitter(DataTransmitter transmitter, int queueCapacity, int maxCoalescedBytes, long coalescingDelay, TimeUnit unit)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		checkArgument(queueCapacity > 0, "queueCapacity", queueCapacity);
+		checkArgument(maxCoalescedBytes > 0, "maxCoalescedBytes", maxCoalescedBytes);
+		checkArgument(coalescingDelay >= 0, "coalescingDelay", coalescingDelay);
+		
+		this.transmitter = transmitter;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.maxCoalescedBytes = maxCoalescedBytes;
+		this.coalescingDelayNanos = unit.toNanos(coalescingDelay);
+		this.writer = new NamedThreadFactory(this.getClass().getSimpleName()).newThread(this::write);
+		this.writer.start();
+	}
+	
+	/**
+	 * Queues data to be sent, waiting for space if the queue is full.
+	 *
+	 * @param data
+	 * - the data. It must not be modified until the returned future completes.
+	 * @return
+	 * - a future that completes when the data was written.
+	 * @throws NullPointerException
+	 * if the data is null.
+	 * @throws RejectedExecutionException
+	 * if the transmitter is shutting down, or the thread was interrupted while waiting for space.
+	 * @author Sergio Morel
+	 */
+	public CompletableFuture<Void> sendDataAsync(byte[] data)
+	{
+		if(data == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[data] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::sendDataAsync(byte[] data)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		PendingWrite pendingWrite = new PendingWrite(data);
+		
+		this.checkShutdown();
+		
+		try
+		{
+			this.sendLock.lockInterruptibly();
+			
+			try
+			{
+				while(!this.queue.offer(pendingWrite, Values.Defaults.POLL_DELAY_MS, TimeUnit.MILLISECONDS))
+				{
+					this.checkShutdown();
+				}
+				
+				this.lastFuture = pendingWrite.future;
+			}
+			finally
+			{
+				this.sendLock.unlock();
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			
+			String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+			
+			throw new RejectedExecutionException(errorMessage, e);
+		}
+		
+		if(this.terminated)
+		{
+			this.failPending();
+		}
+		
+		this.sendCount.incrementAndGet();
+		
+		return pendingWrite.future;
+	}
+	
+	/**
+	 * Queues data encoded in UTF-8 to be sent, waiting for space if the queue is full.
+	 *
+	 * @param data
+	 * - the data.
+	 * @return
+	 * - a future that completes when the data was written.
+	 * @throws NullPointerException
+	 * if the data is null.
+	 * @throws RejectedExecutionException
+	 * if the transmitter is shutting down, or the thread was interrupted while waiting for space.
+	 * @author Sergio Morel
+	 */
+	public CompletableFuture<Void> sendDataAsync(String data)
+	{
+		if(data == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[data] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::sendDataAsync(String data)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		return this.sendDataAsync(data.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Rejects the send if the transmitter is shutting down.
+	 */
+	private void checkShutdown()
+	{
+		if(!this.shuttingDown)
+		{
+			return;
+		}
+		
+		String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+		
+		throw new RejectedExecutionException(errorMessage);
+	}
+	
+	/**
+	 * Gets a future that completes when all the data queued so far was written. Since the sends are written
+	 * in order, it's the future of the last send.
+	 *
+	 * @return
+	 * - the future of the last send.
+	 * @author Sergio Morel
+	 */
+	public CompletableFuture<Void> flush()
+	{
+		return this.lastFuture.handle((result, throwable) -> null);
+	}
+	
+	private void write()
+	{
+		try
+		{
+			while(true)
+			{
+				PendingWrite first = (this.carried != null) ? this.carried : this.queue.take();
+				
+				this.carried = null;
+				
+				if(first == END)
+				{
+					break;
+				}
+				
+				this.collect(first);
+				this.writeBatch();
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		finally
+		{
+			this.terminated = true;
+			
+			this.failBatch();
+			this.failPending();
+		}
+	}
+	
+	/**
+	 * Collects the sends that can be coalesced with the first one, waiting at most the coalescing delay.
+	 */
+	private void collect(PendingWrite first) throws InterruptedException
+	{
+		this.batch.add(first);
+		
+		long bytes = first.data.length;
+		long deadline = first.queuedNanos + this.coalescingDelayNanos;
+		
+		while(bytes < this.maxCoalescedBytes)
+		{
+			PendingWrite next = this.queue.poll();
+			
+			if(next == null)
+			{
+				long remaining = deadline - System.nanoTime();
+				
+				if(remaining <= 0)
+				{
+					return;
+				}
+				
+				next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+				
+				if(next == null)
+				{
+					return;
+				}
+			}
+			
+			if(next == END || bytes + next.data.length > this.maxCoalescedBytes)
+			{
+				this.carried = next;
+				
+				return;
+			}
+			
+			this.batch.add(next);
+			
+			bytes += next.data.length;
+		}
+	}
+	
+	private void writeBatch()
+	{
+		Throwable error = null;
+		
+		try
+		{
+			if(this.batch.size() == 1)
+			{
+				this.transmitter.sendData(this.batch.get(0).data);
+			}
+			else
+			{
+				this.transmitter.sendData(this.wrapBatch());
+			}
+		}
+		catch(CommunicationException | RuntimeException e)
+		{
+			error = e;
+			
+			String errorMessage = MessageUtil.getMessage(Messages.WRITING_ERROR, this.transmitter);
+			
+			LOGGER.error(errorMessage, e);
+		}
+		
+		this.writeCount.incrementAndGet();
+		
+		for(PendingWrite pendingWrite : this.batch)
+		{
+			if(error == null)
+			{
+				pendingWrite.future.complete(null);
+			}
+			else
+			{
+				pendingWrite.future.completeExceptionally(error);
+			}
+		}
+		
+		this.batch.clear();
+	}
+	
+	/**
+	 * Wraps the data of the batch, so a transmitter with gathering writes sends it without copying.
+	 */
+	private ByteBuffer[] wrapBatch()
+	{
+		ByteBuffer[] buffers = new ByteBuffer[this.batch.size()];
+		
+		for(int i = 0; i < buffers.length; i++)
+		{
+			buffers[i] = ByteBuffer.wrap(this.batch.get(i).data);
+		}
+		
+		return buffers;
+	}
+	
+	private void failBatch()
+	{
+		if(this.carried != null && this.carried != END)
+		{
+			this.batch.add(this.carried);
+		}
+		
+		this.carried = null;
+		
+		String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+		
+		for(PendingWrite pendingWrite : this.batch)
+		{
+			pendingWrite.future.completeExceptionally(new RejectedExecutionException(errorMessage));
+		}
+		
+		this.batch.clear();
+	}
+	
+	private void failPending()
+	{
+		PendingWrite pendingWrite;
+		
+		while((pendingWrite = this.queue.poll()) != null)
+		{
+			if(pendingWrite != END)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+				
+				pendingWrite.future.completeExceptionally(new RejectedExecutionException(errorMessage));
+			}
+		}
+	}
+	
+	/**
+	 * Gets the amount of sends waiting to be written.
+	 *
+	 * @return
+	 * - the amount of pending sends.
+	 * @author Sergio Morel
+	 */
+	public int getPendingCount()
+	{
+		return this.queue.size();
+	}
+	
+	/**
+	 * Gets the amount of sends queued.
+	 *
+	 * @return
+	 * - the amount of sends.
+	 * @author Sergio Morel
+	 */
+	public long getSendCount()
+	{
+		return this.sendCount.get();
+	}
+	
+	/**
+	 * Gets the amount of writes made to the transmitter, which is less than the amount of sends when they are coalesced.
+	 *
+	 * @return
+	 * - the amount of writes.
+	 * @author Sergio Morel
+	 */
+	public long getWriteCount()
+	{
+		return this.writeCount.get();
+	}
+	
+	/**
+	 * Gets the transmitter that writes the data.
+	 *
+	 * @return
+	 * - the underlying transmitter.
+	 * @author Sergio Morel
+	 */
+	public DataTransmitter getTransmitter()
+	{
+		return this.transmitter;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation rejects new sends and writes the pending ones, waiting for
+	 * {@link Values.Constants#TERMINATION_TIMOUT_MS} before interrupting the writer thread.
+	 * The sends that could not be written complete exceptionally.
+	 * </p>
+	 */
+	@Override
+	public AsyncDataTransmitter shutdown()
+	{
+		if(this.shuttingDown)
+		{
+			return this;
+		}
+		
+		this.shuttingDown = true;
+		
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Values.Constants.TERMINATION_TIMOUT_MS);
+		
+		try
+		{
+			if(this.queue.offer(END, Values.Constants.TERMINATION_TIMOUT_MS, TimeUnit.MILLISECONDS))
+			{
+				TimeUnit.NANOSECONDS.timedJoin(this.writer, Math.max(1, deadline - System.nanoTime()));
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		
+		if(this.writer.isAlive())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.TERMINATION_TIMEOUT_ERROR, this.getClass().getSimpleName());
+			
+			LOGGER.warning(errorMessage);
+			
+			this.writer.interrupt();
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	/**
+	 * Waits until the writer thread finishes after {@link #shutdown()}.
+	 *
+	 * @param timeout
+	 * - maximum time to wait.
+	 * @param unit
+	 * - unit of the timeout.
+	 * @return
+	 * <b>true</b> if the writer thread finished.<br>
+	 * <b>false</b> if the time passed.
+	 * @throws InterruptedException
+	 * if the current thread is interrupted while waiting.
+	 * @author Sergio Morel
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		unit.timedJoin(this.writer, timeout);
+		
+		return !this.writer.isAlive();
+	}
+	
+	private static void checkArgument(boolean valid, String name, long value)
+	{
+		if(!valid)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, name, value);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+	
+	private static final class PendingWrite
+	{
+		private final byte[] data;
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+		private final long queuedNanos = System.nanoTime();
+		
+		private PendingWrite(byte[] data)
+		{
+			this.data = data;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,487 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReceiver;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.communication.listeners.FrameListener;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * {@link Flow.Publisher} of the data received by a {@link DataReceiver}, or of the frames delimited
+ * by a {@link DefaultDataReader}, with demand-based backpressure.
+ * <p>
+ * When a subscriber has no outstanding demand, the {@link DataReader} is paused through
+ * {@link DataReader#pauseReading()}, so the data stays in the device or socket instead of piling
+ * up in the heap, and it's resumed through {@link DataReader#startReading()} when all the subscribers
+ * request more items. The items that arrive while the reader is being paused are kept in a bounded
+ * buffer of each subscription; if it overflows, the subscription is cancelled and its subscriber
+ * receives {@code onError}.
+ * </p>
+ * <p>
+ * The items are delivered on the reader thread, or on the thread that calls {@code request}
+ * when there are buffered items, and never concurrently for the same subscriber. Receiving errors
+ * are not terminal and are not published. {@link #shutdown()} unregisters the publisher and
+ * completes the subscribers after their buffered items are delivered.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class DataPublisher implements Flow.Publisher<byte[]>, ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final DataReader dataReader;
+	private final int bufferCapacity;
+	private final ListenerAdapter listener = new ListenerAdapter();
+	private Runnable unregister;
+	private final Set<DataSubscription> subscriptions = new CopyOnWriteArraySet<>();
+	private volatile boolean paused = false;
+	private volatile boolean shuttingDown = false;
+	
+	private DataPublisher(DataReader dataReader, int bufferCapacity)
+	{
+		super();
+		
+		if(bufferCapacity <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "bufferCapacity", bufferCapacity);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.dataReader = dataReader;
+		this.bufferCapacity = bufferCapacity;
+	}
+	
+	/**
+	 * Creates a publisher of the data received by a receiver, with buffers of
+	 * {@link Values.Defaults#PUBLISHER_BUFFER_CAPACITY} items.
+	 *
+	 * @param receiver
+	 * - the receiver. Its {@link DataReceiver#getDataReader()} is paused and resumed according to the demand.
+	 * @return
+	 * - the publisher.
+	 * @author Sergio Morel
+	 */
+	public static DataPublisher ofData(DataReceiver receiver)
+	{
+		return ofData(receiver, Values.Defaults.PUBLISHER_BUFFER_CAPACITY);
+	}
+	
+	/**
+	 * Creates a publisher of the data received by a receiver.
+	 *
+	 * @param receiver
+	 * - the receiver. Its {@link DataReceiver#getDataReader()} is paused and resumed according to the demand.
+	 * @param bufferCapacity
+	 * - maximum amount of items buffered for a subscriber without demand.
+	 * @return
+	 * - the publisher.
+	 * @throws IllegalArgumentException
+	 * if the capacity is not positive.
+	 * @author Sergio Morel
+	 */
+	public static DataPublisher ofData(DataReceiver receiver, int bufferCapacity)
+	{
+		checkNotNull(receiver, "[receiver] ", "::ofData(DataReceiver receiver, int bufferCapacity)");
+		
+		DataPublisher publisher = new DataPublisher(receiver.getDataReader(), bufferCapacity);
+		
+		publisher.unregister = () -> receiver.removeDataListeners(publisher.listener);
+		
+		receiver.addDataListeners(publisher.listener);
+		
+		return publisher;
+	}
+	
+	/**
+	 * Creates a publisher of the frames delimited by a reader, with buffers of
+	 * {@link Values.Defaults#PUBLISHER_BUFFER_CAPACITY} frames.
+	 *
+	 * @param reader
+	 * - the reader, which is paused and resumed according to the demand.
+	 * @return
+	 * - the publisher.
+	 * @author Sergio Morel
+	 */
+	public static DataPublisher ofFrames(DefaultDataReader<?> reader)
+	{
+		return ofFrames(reader, Values.Defaults.PUBLISHER_BUFFER_CAPACITY);
+	}
+	
+	/**
+	 * Creates a publisher of the frames delimited by a reader.
+	 *
+	 * @param reader
+	 * - the reader, which is paused and resumed according to the demand.
+	 * @param bufferCapacity
+	 * - maximum amount of frames buffered for a subscriber without demand.
+	 * @return
+	 * - the publisher.
+	 * @throws IllegalArgumentException
+	 * if the capacity is not positive.
+	 * @author Sergio Morel
+	 */
+	public static DataPublisher ofFrames(DefaultDataReader<?> reader, int bufferCapacity)
+	{
+		checkNotNull(reader, "[reader] ", "::ofFrames(DefaultDataReader<?> reader, int bufferCapacity)");
+		
+		DataPublisher publisher = new DataPublisher(reader, bufferCapacity);
+		
+		publisher.unregister = () -> reader.removeFrameListeners(publisher.listener);
+		
+		reader.addFrameListeners(publisher.listener);
+		
+		return publisher;
+	}
+	
+	private static void checkNotNull(Object value, String parameter, String method)
+	{
+		if(value == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append(parameter);
+			methodName.append(Utilities.coalesce(DataPublisher.class.getCanonicalName(), DataPublisher.class.getName()));
+			methodName.append(method);
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+	}
+	
+	@Override
+	public void subscribe(Flow.Subscriber<? super byte[]> subscriber)
+	{
+		checkNotNull(subscriber, "[subscriber] ", "::subscribe(Flow.Subscriber<? super byte[]> subscriber)");
+		
+		DataSubscription subscription = new DataSubscription(subscriber);
+		
+		if(!this.shuttingDown)
+		{
+			this.subscriptions.add(subscription);
+		}
+		
+		subscriber.onSubscribe(subscription);
+		
+		if(this.shuttingDown)
+		{
+			subscription.complete();
+		}
+		
+		this.updateReading();
+	}
+	
+	/**
+	 * Publishes an item to all the subscribers.
+	 *
+	 * @param item
+	 * - the item.
+	 */
+	private void publish(byte[] item)
+	{
+		for(DataSubscription subscription : this.subscriptions)
+		{
+			subscription.offer(item);
+		}
+		
+		this.updateReading();
+	}
+	
+	/**
+	 * Pauses the reader if a subscriber has no demand, and resumes it if all of them have.
+	 */
+	private synchronized void updateReading()
+	{
+		if(this.dataReader == null)
+		{
+			return;
+		}
+		
+		boolean pause = false;
+		
+		if(!this.shuttingDown)
+		{
+			for(DataSubscription subscription : this.subscriptions)
+			{
+				if(subscription.requested.get() == 0)
+				{
+					pause = true;
+					
+					break;
+				}
+			}
+		}
+		
+		if(pause && !this.paused)
+		{
+			this.paused = true;
+			this.dataReader.pauseReading();
+		}
+		else if(!pause && this.paused)
+		{
+			this.paused = false;
+			this.dataReader.startReading();
+		}
+	}
+	
+	/**
+	 * Indicates if the reader is paused by this publisher.
+	 *
+	 * @return
+	 * <b>true</b> if the reader was paused for lack of demand.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean isPaused()
+	{
+		return this.paused;
+	}
+	
+	public int getSubscriberCount()
+	{
+		return this.subscriptions.size();
+	}
+	
+	public int getBufferCapacity()
+	{
+		return this.bufferCapacity;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation unregisters the publisher, completes the subscribers after delivering their
+	 * buffered items, and resumes the reader if it was paused by this publisher.
+	 * </p>
+	 */
+	@Override
+	public DataPublisher shutdown()
+	{
+		if(this.shuttingDown)
+		{
+			return this;
+		}
+		
+		this.shuttingDown = true;
+		this.unregister.run();
+		
+		for(DataSubscription subscription : this.subscriptions)
+		{
+			subscription.complete();
+		}
+		
+		this.subscriptions.clear();
+		this.updateReading();
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	/**
+	 * Subscription with a bounded buffer, drained by at most one thread at a time.
+	 */
+	private final class DataSubscription implements Flow.Subscription
+	{
+		private final Flow.Subscriber<? super byte[]> subscriber;
+		private final Queue<byte[]> items = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled = false;
+		private volatile boolean completed = false;
+		private volatile Throwable error;
+		
+		private DataSubscription(Flow.Subscriber<? super byte[]> subscriber)
+		{
+			this.subscriber = subscriber;
+		}
+		
+		private void offer(byte[] item)
+		{
+			if(this.cancelled || this.completed)
+			{
+				return;
+			}
+			
+			if(this.size.incrementAndGet() > DataPublisher.this.bufferCapacity)
+			{
+				this.size.decrementAndGet();
+				
+				String errorMessage = MessageUtil.getMessage(Messages.LISTENER_QUEUE_FULL_ERROR, this.subscriber.getClass().getName());
+				
+				this.error = new IllegalStateException(errorMessage);
+				this.drain();
+				
+				return;
+			}
+			
+			this.items.add(item);
+			this.drain();
+		}
+		
+		private void complete()
+		{
+			this.completed = true;
+			this.drain();
+		}
+		
+		@Override
+		public void request(long n)
+		{
+			if(n <= 0)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "n", n);
+				
+				this.error = new IllegalArgumentException(errorMessage);
+			}
+			else
+			{
+				this.requested.accumulateAndGet(n, (current, added) -> (current + added < 0) ? Long.MAX_VALUE : current + added);
+			}
+			
+			this.drain();
+			
+			DataPublisher.this.updateReading();
+		}
+		
+		@Override
+		public void cancel()
+		{
+			this.cancelled = true;
+			
+			DataPublisher.this.subscriptions.remove(this);
+			DataPublisher.this.updateReading();
+		}
+		
+		private void drain()
+		{
+			if(this.wip.getAndIncrement() != 0)
+			{
+				return;
+			}
+			
+			do
+			{
+				if(this.cancelled)
+				{
+					this.items.clear();
+				}
+				else if(this.error != null)
+				{
+					this.terminate();
+					this.subscriber.onError(this.error);
+				}
+				else
+				{
+					this.deliver();
+					
+					if(this.completed && this.items.isEmpty())
+					{
+						this.terminate();
+						this.subscriber.onComplete();
+					}
+				}
+			}
+			while(this.wip.decrementAndGet() != 0);
+		}
+		
+		private void deliver()
+		{
+			while(!this.cancelled && this.requested.get() > 0)
+			{
+				byte[] item = this.items.poll();
+				
+				if(item == null)
+				{
+					return;
+				}
+				
+				this.size.decrementAndGet();
+				
+				if(this.requested.get() != Long.MAX_VALUE)
+				{
+					this.requested.decrementAndGet();
+				}
+				
+				try
+				{
+					this.subscriber.onNext(item);
+				}
+				catch(RuntimeException e)
+				{
+					String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, this.subscriber.getClass().getName());
+					
+					LOGGER.error(errorMessage, e);
+					
+					this.error = e;
+					
+					return;
+				}
+			}
+		}
+		
+		private void terminate()
+		{
+			this.cancelled = true;
+			this.items.clear();
+			
+			DataPublisher.this.subscriptions.remove(this);
+		}
+	}
+	
+	/**
+	 * Publishes the data or the frames received, ignoring the other events.
+	 */
+	private final class ListenerAdapter implements DataListener, FrameListener
+	{
+		@Override
+		public void onFrameReceived(Instant instant, DataInterface dataInterface, byte[] frame)
+		{
+			DataPublisher.this.publish(frame);
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			DataPublisher.this.publish(data);
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+}
\ No newline at end of file
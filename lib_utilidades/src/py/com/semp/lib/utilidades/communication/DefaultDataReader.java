@@ -1,22 +1,41 @@
 package py.com.semp.lib.utilidades.communication;
 
+import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
 import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
 import py.com.semp.lib.utilidades.communication.interfaces.DataReceiver;
+import py.com.semp.lib.utilidades.communication.interfaces.ReadinessAwareDataReceiver;
 import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.communication.listeners.FrameListener;
 import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
 import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.data.CircularByteBuffer;
+import py.com.semp.lib.utilidades.data.FrameDecoder;
+import py.com.semp.lib.utilidades.data.IdleGapFramer;
 import py.com.semp.lib.utilidades.exceptions.CommunicationException;
 import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.exceptions.FrameTooLargeException;
 import py.com.semp.lib.utilidades.exceptions.ShutdownException;
 import py.com.semp.lib.utilidades.internal.MessageUtil;
 import py.com.semp.lib.utilidades.internal.Messages;
 import py.com.semp.lib.utilidades.log.Logger;
 import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.utilities.BackoffIdleStrategy;
+import py.com.semp.lib.utilidades.utilities.Deadline;
+import py.com.semp.lib.utilidades.utilities.HashedWheelTimer;
+import py.com.semp.lib.utilidades.utilities.LatencyRecorder;
 import py.com.semp.lib.utilidades.utilities.Utilities;
 
 /**
@@ -25,11 +44,61 @@ import py.com.semp.lib.utilidades.utilities.Utilities;
  * stop, pause, and managing data notifications to listeners. This class also implements connection event
  * listeners to react to connect/disconnect events.
  *
+ * <p>
+ * When a read returns no data, the reader waits according to its {@link IdleMode}: receivers that implement
+ * {@link ReadinessAwareDataReceiver} are waited on until they signal data, otherwise the reader backs off
+ * with a {@link BackoffIdleStrategy} or, if the strategy is removed, sleeps the poll delay. The poll delay is
+ * the ceiling of the wait in every mode. The time between the last empty read and the read that returns data
+ * is recorded in {@link #getReadLatency()}, and for the mode the reader was in, in {@link #getReadLatency(IdleMode)}.
+ * </p>
+ * <p>
+ * Receivers that override {@link DataReceiver#readData(byte[], int, int)} are read into a buffer owned by
+ * the reader and reused for every read, so reading doesn't allocate. Other receivers are read through
+ * {@link DataReceiver#readData()}.
+ * </p>
+ * <p>
+ * Receivers usually inform their {@link DataListener} instances themselves when they are read. Receivers
+ * that don't can let the reader do it with {@link #setNotifyDataListeners(boolean)}, then the data of each
+ * read is sent to the listeners of the receiver. When the read buffer is reused, the listeners receive a
+ * copy of the bytes read, and nothing is copied if the receiver has no listeners.
+ * </p>
+ * <p>
+ * If no data arrives within the {@link Values.VariableNames#READ_TIMEOUT_MS} of the configuration values,
+ * the receiving error listeners are informed once with a {@link CommunicationTimeoutException}. The timeout
+ * is armed in the shared {@link HashedWheelTimer} only when a read returns no data.
+ * </p>
+ * <p>
+ * With a {@link FrameDecoder}, the data read is also accumulated in a {@link CircularByteBuffer} owned by the
+ * reader, and only complete frames are sent to the {@link FrameListener} instances, however the data is split
+ * among the reads.
+ * </p>
+ *
  * @param <T> The type of the data receiver that this reader will interact with, which must implement
  *            both {@link DataReceiver} and {@link DataInterface}.
  */
 public class DefaultDataReader<T extends DataReceiver & DataInterface> implements DataReader, ConnectionEventListener
 {
+	/**
+	 * The ways the reader waits for data when a read returns no data.
+	 */
+	public enum IdleMode
+	{
+		/**
+		 * Sleeps the poll delay.
+		 */
+		SLEEP,
+		
+		/**
+		 * Spins, yields and parks with increasing times up to the poll delay.
+		 */
+		BACKOFF,
+		
+		/**
+		 * Waits for the receiver to signal data, up to the poll delay.
+		 */
+		READINESS
+	}
+	
 	private T dataReceiver;
 	
 	private int pollDelayMS = Values.Defaults.POLL_DELAY_MS;
@@ -38,6 +107,19 @@ public class DefaultDataReader<T extends DataReceiver & DataInterface> implement
 	private volatile boolean readingComplete = false;
 	private volatile boolean stopping = false;
 	private volatile AtomicBoolean threadNameUpdated  = new AtomicBoolean(false);
+	private volatile IdleGapFramer idleGapFramer;
+	private volatile FrameStage frameStage;
+	private final Set<FrameListener> frameListeners = new CopyOnWriteArraySet<>();
+	private volatile BackoffIdleStrategy idleStrategy = new BackoffIdleStrategy(Values.Defaults.BACKOFF_MAX_SPINS, Values.Defaults.BACKOFF_MAX_YIELDS, Values.Defaults.BACKOFF_MIN_PARK_NANOS, TimeUnit.MILLISECONDS.toNanos(Values.Defaults.POLL_DELAY_MS));
+	private final LatencyRecorder readLatency = new LatencyRecorder();
+	private final Map<IdleMode, LatencyRecorder> idleModeLatencies = createIdleModeLatencies();
+	private final boolean bufferedRead;
+	private byte[] readBuffer = new byte[Values.Defaults.READ_BUFFER_SIZE];
+	private byte[] readData = this.readBuffer;
+	private volatile Thread readerThread;
+	private volatile InterfaceMetrics metrics;
+	private volatile boolean notifyDataListeners = false;
+	private final Deadline readDeadline = new Deadline(this::wakeUpReader);
 	
 	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
 	
@@ -52,6 +134,31 @@ public class DefaultDataReader<T extends DataReceiver & DataInterface> implement
 		
 		this.dataReceiver = dataReceiver;
 		this.dataReceiver.addConnectionEventListeners(this);
+		this.bufferedRead = overridesBufferedRead(dataReceiver.getClass());
+	}
+	
+	/**
+	 * Checks if a receiver class implements the read into a destination array, instead of using the
+	 * default implementation that adapts {@link DataReceiver#readData()}.
+	 * 
+	 * @param receiverClass
+	 * - class of the receiver.
+	 * @return
+	 * <b>true</b> if the class overrides {@link DataReceiver#readData(byte[], int, int)}.<br>
+	 * <b>false</b> otherwise.
+	 */
+	private static boolean overridesBufferedRead(Class<?> receiverClass)
+	{
+		try
+		{
+			Method method = receiverClass.getMethod("readData", byte[].class, int.class, int.class);
+			
+			return !method.isDefault();
+		}
+		catch(NoSuchMethodException e)
+		{
+			return false;
+		}
 	}
 	
 	 /**
@@ -63,6 +170,7 @@ public class DefaultDataReader<T extends DataReceiver & DataInterface> implement
 		Integer readTimeoutMS = this.getConfiguration(Values.VariableNames.READ_TIMEOUT_MS, Values.Defaults.READ_TIMEOUT_MS);
 		long readTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(readTimeoutMS);
 		
+		this.readerThread = Thread.currentThread();
 		this.setThreadName();
 		
 		while(true)
@@ -130,44 +238,148 @@ public class DefaultDataReader<T extends DataReceiver & DataInterface> implement
 	}
 
 	/**
-	 * Attempts to read data with a specified timeout. If data is not received within the timeout period, 
-	 * a CommunicationTimeoutException is thrown. This method repeatedly tries to read data until it is successful 
-	 * or the timeout is exceeded.
+	 * Attempts to read data with a specified timeout. This method repeatedly tries to read data until it is
+	 * successful. If data is not received within the timeout period, the receiving error listeners are informed
+	 * once with a {@link CommunicationTimeoutException} and the reader keeps waiting for data.
+	 * <p>
+	 * The timeout is a {@link Deadline} armed in the shared {@link HashedWheelTimer} after the first empty read,
+	 * so reads that return data right away don't touch the timer, and the loop only checks a flag. The clock is
+	 * read once when the reader becomes idle and once when data arrives, not on every empty read.
+	 * </p>
 	 *
-	 * @param readTimeoutNanos the maximum time in nano seconds to wait for data to be read
-	 * @return the read data as a byte array
-	 * @throws CommunicationException if there is an issue with reading the data or a timeout occurs
+	 * @param readTimeoutNanos the maximum time in nano seconds to wait for data to be read, negative for no timeout
+	 * @return the amount of bytes read, stored at the start of {@link #readData}
+	 * @throws CommunicationException if there is an issue with reading the data
 	 */
-	private byte[] readWithTimeout(long readTimeoutNanos) throws CommunicationException
+	private int readWithTimeout(long readTimeoutNanos) throws CommunicationException
 	{
-		byte[] data = new byte[]{};
+		int count = 0;
 		
-		long start = System.nanoTime();
+		long idleStart = 0;
+		boolean timeoutInformed = false;
+		IdleMode idleMode = this.getIdleMode();
 		
-		while(!Thread.currentThread().isInterrupted())
+		BackoffIdleStrategy strategy = this.idleStrategy;
+		
+		if(strategy != null)
 		{
-			long current = System.nanoTime();
-			
-			if(readTimeoutNanos >= 0 && (current - start > readTimeoutNanos))
+			strategy.reset();
+		}
+		
+		try
+		{
+			while(!Thread.currentThread().isInterrupted())
 			{
-				String errorMessage = MessageUtil.getMessage(Messages.READING_TIMOUT_ERROR, this.getConfigurationValues().toString());
+				count = this.read();
 				
-				CommunicationTimeoutException exception = new CommunicationTimeoutException(errorMessage);
+				if(count != 0)
+				{
+					if(idleStart != 0)
+					{
+						long latency = System.nanoTime() - idleStart;
+						
+						this.readLatency.record(latency);
+						this.idleModeLatencies.get(idleMode).record(latency);
+					}
+					
+					InterfaceMetrics readMetrics = this.metrics;
+					long readNanos = (readMetrics != null) ? System.nanoTime() : 0;
+					IdleGapFramer framer = this.idleGapFramer;
+					
+					if(framer != null)
+					{
+						framer.append(this.readData, 0, count);
+						
+						this.checkIdleGap();
+					}
+					
+					FrameStage stage = this.frameStage;
+					
+					if(stage != null)
+					{
+						this.decodeFrames(stage, count);
+					}
+					
+					if(this.notifyDataListeners)
+					{
+						this.informOnDataReceived(count);
+					}
+					
+					if(readMetrics != null)
+					{
+						readMetrics.recordDeliveryLatency(System.nanoTime() - readNanos);
+					}
+					
+					break;
+				}
 				
-				this.dataReceiver.informOnReceivingError(exception);
-			}
-			
-			data = this.dataReceiver.readData();
-			
-			if(data.length != 0)
-			{
-				break;
+				if(idleStart == 0)
+				{
+					idleStart = System.nanoTime();
+					
+					this.readDeadline.arm(readTimeoutNanos, TimeUnit.NANOSECONDS);
+				}
+				else if(!timeoutInformed && this.readDeadline.isExpired())
+				{
+					timeoutInformed = true;
+					
+					this.informOnReadTimeout();
+				}
+				
+				this.checkIdleGap();
+				this.idleDelay(strategy);
 			}
+		}
+		finally
+		{
+			this.readDeadline.cancel();
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Unparks the reading thread when the read timeout expires, so it doesn't wait the rest of the idle delay.
+	 */
+	private void wakeUpReader()
+	{
+		Thread thread = this.readerThread;
+		
+		if(thread != null)
+		{
+			LockSupport.unpark(thread);
+		}
+	}
+	
+	/**
+	 * Informs the receiving error listeners that the read timeout expired.
+	 */
+	private void informOnReadTimeout()
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.READING_TIMOUT_ERROR, this.getReceiverString(this.dataReceiver));
+		
+		this.dataReceiver.informOnReceivingError(new CommunicationTimeoutException(errorMessage));
+	}
+	
+	/**
+	 * Reads once from the receiver. The data is stored at the start of {@link #readData}, which is
+	 * the reusable read buffer for receivers that support it, or the array returned by the receiver.
+	 * 
+	 * @return the amount of bytes read
+	 * @throws CommunicationException if there is an issue with reading the data
+	 */
+	private int read() throws CommunicationException
+	{
+		if(this.bufferedRead)
+		{
+			this.readData = this.readBuffer;
 			
-			this.pollDelay();
+			return this.dataReceiver.readData(this.readBuffer, 0, this.readBuffer.length);
 		}
 		
-		return data;
+		this.readData = this.dataReceiver.readData();
+		
+		return this.readData.length;
 	}
 	
 	/**
@@ -340,6 +552,556 @@ public class DefaultDataReader<T extends DataReceiver & DataInterface> implement
 		return this.pollDelayMS;
 	}
 	
+	/**
+	 * Sets the size of the buffer reused for the reads of receivers that override
+	 * {@link DataReceiver#readData(byte[], int, int)}. Should be set before the reader starts.
+	 * 
+	 * @param readBufferSize
+	 * - maximum amount of bytes of each read.
+	 * @throws IllegalArgumentException
+	 * if the size is not positive.
+	 */
+	public void setReadBufferSize(int readBufferSize)
+	{
+		if(readBufferSize <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "readBufferSize", readBufferSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.readBuffer = new byte[readBufferSize];
+	}
+	
+	public int getReadBufferSize()
+	{
+		return this.readBuffer.length;
+	}
+	
+	/**
+	 * Indicates if the receiver is read into the reusable buffer of the reader.
+	 * 
+	 * @return
+	 * <b>true</b> if the receiver overrides {@link DataReceiver#readData(byte[], int, int)}.<br>
+	 * <b>false</b> if it's read through {@link DataReceiver#readData()}.
+	 */
+	public boolean isBufferedRead()
+	{
+		return this.bufferedRead;
+	}
+	
+	/**
+	 * Sets if the reader sends the data of each read to the {@link DataListener} instances of the receiver.
+	 * It's disabled by default, since a receiver that informs its listeners when it's read would deliver
+	 * the data twice.
+	 * 
+	 * @param notifyDataListeners
+	 * - <b>true</b> to send the data read to the listeners of the receiver.
+	 * @return
+	 * - this reader.
+	 * @author Sergio Morel
+	 */
+	public DefaultDataReader<T> setNotifyDataListeners(boolean notifyDataListeners)
+	{
+		this.notifyDataListeners = notifyDataListeners;
+		
+		return this;
+	}
+	
+	/**
+	 * Indicates if the reader sends the data of each read to the {@link DataListener} instances of the receiver.
+	 * 
+	 * @return
+	 * <b>true</b> if the reader informs the listeners of the receiver.<br>
+	 * <b>false</b> if the receiver is expected to inform them.
+	 */
+	public boolean isNotifyDataListeners()
+	{
+		return this.notifyDataListeners;
+	}
+	
+	/**
+	 * Sets the strategy used to back off when a read returns no data. The poll delay remains the ceiling of
+	 * each wait. Receivers that implement {@link ReadinessAwareDataReceiver} are waited on instead.
+	 * 
+	 * @param idleStrategy
+	 * - the strategy, or <b>null</b> to sleep the poll delay after each empty read.
+	 */
+	public void setIdleStrategy(BackoffIdleStrategy idleStrategy)
+	{
+		this.idleStrategy = idleStrategy;
+	}
+	
+	public BackoffIdleStrategy getIdleStrategy()
+	{
+		return this.idleStrategy;
+	}
+	
+	/**
+	 * Gets the way the reader waits when a read returns no data.
+	 * 
+	 * @return
+	 * - the {@link IdleMode} in use.
+	 */
+	public IdleMode getIdleMode()
+	{
+		if(this.dataReceiver instanceof ReadinessAwareDataReceiver)
+		{
+			return IdleMode.READINESS;
+		}
+		
+		return (this.idleStrategy != null) ? IdleMode.BACKOFF : IdleMode.SLEEP;
+	}
+	
+	/**
+	 * Gets the latency of the reads, measured from the first read that returned no data to the read
+	 * that returned data, which is the time the reader waited idle in the current {@link IdleMode}.
+	 * 
+	 * @return
+	 * - the recorded latencies.
+	 */
+	public LatencyRecorder getReadLatency()
+	{
+		return this.readLatency;
+	}
+	
+	/**
+	 * Gets the latency of the reads made while the reader was in an {@link IdleMode}, measured like
+	 * {@link #getReadLatency()}, to compare the modes on the same receiver.
+	 * 
+	 * @param idleMode
+	 * - the mode.
+	 * @return
+	 * - the latencies recorded in that mode.
+	 */
+	public LatencyRecorder getReadLatency(IdleMode idleMode)
+	{
+		if(idleMode == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[idleMode] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::getReadLatency(IdleMode idleMode)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		return this.idleModeLatencies.get(idleMode);
+	}
+	
+	private static Map<IdleMode, LatencyRecorder> createIdleModeLatencies()
+	{
+		Map<IdleMode, LatencyRecorder> latencies = new EnumMap<>(IdleMode.class);
+		
+		for(IdleMode idleMode : IdleMode.values())
+		{
+			latencies.put(idleMode, new LatencyRecorder());
+		}
+		
+		return latencies;
+	}
+	
+	/**
+	 * Sets the metrics where the reader records the time from the return of each read until the
+	 * {@link DataListener} instances of the receiver completed. Usually set by {@link MetricsRegistry#instrument(DataInterface)}.
+	 * 
+	 * @param metrics
+	 * - the metrics, or <b>null</b> to stop recording.
+	 * @return
+	 * - this reader.
+	 * @author Sergio Morel
+	 */
+	public DefaultDataReader<T> setMetrics(InterfaceMetrics metrics)
+	{
+		this.metrics = metrics;
+		
+		return this;
+	}
+	
+	public InterfaceMetrics getMetrics()
+	{
+		return this.metrics;
+	}
+	
+	/**
+	 * Sets the framer used to delimit frames by periods of silence. The data read is appended to the framer
+	 * and the completed frames are sent to the {@link FrameListener} instances. A frame is completed when a
+	 * read returns no data after the gap, or when data arrives after the gap without an empty read in between.
+	 * 
+	 * @param idleGapFramer
+	 * - the framer, or <b>null</b> to disable the idle gap framing.
+	 */
+	public void setIdleGapFramer(IdleGapFramer idleGapFramer)
+	{
+		this.idleGapFramer = idleGapFramer;
+	}
+	
+	public IdleGapFramer getIdleGapFramer()
+	{
+		return this.idleGapFramer;
+	}
+	
+	/**
+	 * Adds frame listeners.
+	 * 
+	 * @param listeners
+	 * - Frame listeners to add.
+	 * @return
+	 * - A reference to this {@link DefaultDataReader} instance.
+	 */
+	public DefaultDataReader<T> addFrameListeners(FrameListener... listeners)
+	{
+		for(FrameListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.frameListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Removes frame listeners.
+	 * 
+	 * @param listeners
+	 * - Frame listeners to remove.
+	 * @return
+	 * - A reference to this {@link DefaultDataReader} instance.
+	 */
+	public DefaultDataReader<T> removeFrameListeners(FrameListener... listeners)
+	{
+		for(FrameListener listener : listeners)
+		{
+			this.frameListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	public Set<FrameListener> getFrameListeners()
+	{
+		return Collections.unmodifiableSet(this.frameListeners);
+	}
+	
+	/**
+	 * Sets the decoder that splits the data read into frames, with a buffer of the default size.
+	 * 
+	 * @param frameDecoder
+	 * - the decoder, or <b>null</b> to disable the frame decoding.
+	 * @see #setFrameDecoder(FrameDecoder, int)
+	 */
+	public void setFrameDecoder(FrameDecoder frameDecoder)
+	{
+		this.setFrameDecoder(frameDecoder, Values.Defaults.FRAME_BUFFER_SIZE);
+	}
+	
+	/**
+	 * Sets the decoder that splits the data read into frames. The data of each read is added to a buffer
+	 * owned by the reader, and every complete frame extracted by the decoder is sent to the {@link FrameListener}
+	 * instances. If the buffer fills up without forming a frame, or the decoder can't frame the data, the
+	 * data buffered is discarded and the error is logged. A frame rejected with a {@link FrameTooLargeException}
+	 * is skipped entirely, including the bytes that arrive later. Should be set before the reader starts.
+	 * 
+	 * @param frameDecoder
+	 * - the decoder, or <b>null</b> to disable the frame decoding.
+	 * @param bufferCapacity
+	 * - capacity of the buffer, which limits the size of a frame.
+	 * @throws IllegalArgumentException
+	 * if the capacity is not positive.
+	 */
+	public void setFrameDecoder(FrameDecoder frameDecoder, int bufferCapacity)
+	{
+		if(bufferCapacity <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "bufferCapacity", bufferCapacity);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.frameStage = (frameDecoder == null) ? null : new FrameStage(frameDecoder, new CircularByteBuffer(bufferCapacity));
+	}
+	
+	public FrameDecoder getFrameDecoder()
+	{
+		FrameStage stage = this.frameStage;
+		
+		return (stage == null) ? null : stage.decoder;
+	}
+	
+	/**
+	 * Gets the buffer where the data waits to form frames.
+	 * 
+	 * @return
+	 * - the buffer, or <b>null</b> if there is no frame decoder.
+	 */
+	public CircularByteBuffer getFrameBuffer()
+	{
+		FrameStage stage = this.frameStage;
+		
+		return (stage == null) ? null : stage.buffer;
+	}
+	
+	/**
+	 * Adds the data read to the buffer of the frame stage and sends the complete frames to the frame listeners.
+	 * The data is added in pieces that fit in the free space, so frames are extracted before older data
+	 * is overwritten. The bytes of a frame rejected by the decoder that arrive after it are skipped.
+	 * 
+	 * @param stage
+	 * - the frame stage.
+	 * @param count
+	 * - amount of bytes read, at the start of {@link #readData}.
+	 */
+	private void decodeFrames(FrameStage stage, int count)
+	{
+		CircularByteBuffer buffer = stage.buffer;
+		int capacity = buffer.getBufferCapacity();
+		int from = 0;
+		
+		while(from < count)
+		{
+			if(stage.skipLength > 0)
+			{
+				int skipped = (int)Math.min(stage.skipLength, count - from);
+				
+				stage.skipLength -= skipped;
+				from += skipped;
+				
+				continue;
+			}
+			
+			int free = capacity - buffer.getDataSize();
+			
+			if(free == 0)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.FRAME_TOO_LARGE_ERROR, buffer.getDataSize() + count - from, capacity);
+				
+				LOGGER.warning(errorMessage);
+				
+				stage.discard();
+				
+				free = capacity;
+			}
+			
+			int to = from + Math.min(free, count - from);
+			
+			buffer.add(this.readData, from, to);
+			
+			from = to;
+			
+			this.drainFrames(stage);
+		}
+	}
+	
+	/**
+	 * Sends every complete frame in the buffer of the frame stage to the frame listeners.
+	 * 
+	 * @param stage
+	 * - the frame stage.
+	 */
+	private void drainFrames(FrameStage stage)
+	{
+		while(true)
+		{
+			byte[] frame;
+			
+			try
+			{
+				frame = stage.decoder.decode(stage.buffer);
+			}
+			catch(FrameTooLargeException e)
+			{
+				LOGGER.warning(e);
+				
+				stage.skipLength = e.getRemainingLength();
+				
+				continue;
+			}
+			catch(IllegalStateException e)
+			{
+				LOGGER.warning(e);
+				
+				stage.discard();
+				
+				return;
+			}
+			
+			if(frame == null)
+			{
+				return;
+			}
+			
+			this.informOnFrameReceived(frame);
+		}
+	}
+	
+	/**
+	 * Decoder and buffer of the frame stage, replaced together so the reader never sees a decoder with
+	 * the buffer of another one.
+	 */
+	private static final class FrameStage
+	{
+		private final FrameDecoder decoder;
+		private final CircularByteBuffer buffer;
+		
+		/**
+		 * Amount of bytes of a rejected frame that are still to be skipped from the data read.
+		 */
+		private long skipLength = 0;
+		
+		private FrameStage(FrameDecoder decoder, CircularByteBuffer buffer)
+		{
+			this.decoder = decoder;
+			this.buffer = buffer;
+		}
+		
+		/**
+		 * Discards the data buffered and the state of the decoder.
+		 */
+		private void discard()
+		{
+			this.buffer.clear();
+			this.decoder.reset();
+			
+			this.skipLength = 0;
+		}
+	}
+	
+	/**
+	 * Emits the frames completed by the idle gap framer, and the frame in progress if the gap has passed.
+	 */
+	private void checkIdleGap()
+	{
+		IdleGapFramer framer = this.idleGapFramer;
+		
+		if(framer == null)
+		{
+			return;
+		}
+		
+		byte[] frame;
+		
+		while((frame = framer.poll()) != null)
+		{
+			this.informOnFrameReceived(frame);
+		}
+	}
+	
+	/**
+	 * Sends a frame to the frame listeners. Exceptions thrown by a listener are logged and don't
+	 * prevent the other listeners from receiving the frame.
+	 * 
+	 * @param frame
+	 * - the frame.
+	 */
+	protected void informOnFrameReceived(byte[] frame)
+	{
+		Instant instant = Instant.now();
+		
+		for(FrameListener listener : this.frameListeners)
+		{
+			try
+			{
+				listener.onFrameReceived(instant, this.dataReceiver, frame);
+			}
+			catch(RuntimeException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+		}
+	}
+	
+	/**
+	 * Sends the data of the last read to the data listeners of the receiver.
+	 * 
+	 * @param count
+	 * - the amount of bytes read, stored at the start of {@link #readData}.
+	 */
+	private void informOnDataReceived(int count)
+	{
+		Set<DataListener> listeners = this.dataReceiver.getDataListeners();
+		
+		if(listeners == null || listeners.isEmpty())
+		{
+			return;
+		}
+		
+		byte[] data = (this.readData != this.readBuffer && this.readData.length == count) ? this.readData : Arrays.copyOf(this.readData, count);
+		
+		this.informOnDataReceived(data);
+	}
+	
+	/**
+	 * Sends data to the data listeners of the receiver. Exceptions thrown by a listener are logged
+	 * and don't prevent the other listeners from receiving the data.
+	 * 
+	 * @param data
+	 * - the data.
+	 */
+	protected void informOnDataReceived(byte[] data)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataReceiver.getDataListeners())
+		{
+			try
+			{
+				listener.onDataReceived(instant, this.dataReceiver, data);
+			}
+			catch(RuntimeException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+		}
+	}
+	
+	/**
+	 * Waits before the next read according to the {@link IdleMode}. The wait is limited by the poll delay
+	 * and, if a frame is in progress, by the end of its gap.
+	 * 
+	 * @param strategy
+	 * - the backoff strategy of the current read, or <b>null</b> if it was removed.
+	 * @throws CommunicationException
+	 * if there was a communication exception while waiting for the receiver.
+	 */
+	private void idleDelay(BackoffIdleStrategy strategy) throws CommunicationException
+	{
+		long pollDelayNanos = TimeUnit.MILLISECONDS.toNanos(this.pollDelayMS);
+		long maxWaitNanos = pollDelayNanos;
+		
+		IdleGapFramer framer = this.idleGapFramer;
+		
+		if(framer != null && framer.hasPendingData())
+		{
+			maxWaitNanos = Math.min(maxWaitNanos, framer.getNanosUntilFlush());
+		}
+		
+		if(this.dataReceiver instanceof ReadinessAwareDataReceiver)
+		{
+			((ReadinessAwareDataReceiver)this.dataReceiver).awaitData(maxWaitNanos);
+		}
+		else if(strategy != null)
+		{
+			strategy.idle(maxWaitNanos);
+		}
+		else if(maxWaitNanos < pollDelayNanos)
+		{
+			LockSupport.parkNanos(maxWaitNanos);
+		}
+		else
+		{
+			this.pollDelay();
+		}
+	}
+	
 	private void pollDelay()
 	{
 		try
@@ -0,0 +1,425 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.utilities.LogLinearHistogram;
+
+/**
+ * I/O metrics of a {@link DataInterface}: bytes and operations received and sent, errors, timeouts and
+ * connection events, counted as a {@link DataListener} and {@link ConnectionEventListener} of the interface,
+ * and the time from the return of each read until its listeners completed, recorded by the
+ * {@link DefaultDataReader} of the interface. The metrics are usually created and attached by a
+ * {@link MetricsRegistry}.
+ * <p>
+ * The counters are atomic and the latencies are kept in a {@link LogLinearHistogram}, so recording doesn't
+ * lock nor allocate. {@link #snapshot()} exports the values with the rates since the creation or the last
+ * reset.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class InterfaceMetrics implements DataListener, ConnectionEventListener
+{
+	private final String identifier;
+	private final AtomicLong bytesReceived = new AtomicLong();
+	private final AtomicLong bytesSent = new AtomicLong();
+	private final AtomicLong receiveCount = new AtomicLong();
+	private final AtomicLong sendCount = new AtomicLong();
+	private final AtomicLong receivingErrorCount = new AtomicLong();
+	private final AtomicLong sendingErrorCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong connectCount = new AtomicLong();
+	private final AtomicLong disconnectCount = new AtomicLong();
+	private final AtomicLong connectErrorCount = new AtomicLong();
+	private final LogLinearHistogram deliveryLatency = new LogLinearHistogram();
+	private volatile long startNanos = System.nanoTime();
+	
+	/**
+	 * Creates the metrics of an interface.
+	 *
+	 * @param identifier
+	 * - stable identifier of the interface.
+	 * @author Sergio Morel
+	 */
+	public InterfaceMetrics(String identifier)
+	{
+		super();
+		
+		this.identifier = identifier;
+	}
+	
+	/**
+	 * Records the time from the return of a read until the listeners of the data completed.
+	 *
+	 * @param nanos
+	 * - the latency in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public void recordDeliveryLatency(long nanos)
+	{
+		this.deliveryLatency.record(nanos);
+	}
+	
+	@Override
+	public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.receiveCount.incrementAndGet();
+		this.bytesReceived.addAndGet(data.length);
+	}
+	
+	@Override
+	public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.sendCount.incrementAndGet();
+		this.bytesSent.addAndGet(data.length);
+	}
+	
+	@Override
+	public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+		if(throwable instanceof CommunicationTimeoutException)
+		{
+			this.timeoutCount.incrementAndGet();
+		}
+		else
+		{
+			this.receivingErrorCount.incrementAndGet();
+		}
+	}
+	
+	@Override
+	public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+	{
+		if(throwable instanceof CommunicationTimeoutException)
+		{
+			this.timeoutCount.incrementAndGet();
+		}
+		else
+		{
+			this.sendingErrorCount.incrementAndGet();
+		}
+	}
+	
+	@Override
+	public void onConnect(Instant instant, DataInterface dataInterface)
+	{
+		this.connectCount.incrementAndGet();
+	}
+	
+	@Override
+	public void onDisconnect(Instant instant, DataInterface dataInterface)
+	{
+		this.disconnectCount.incrementAndGet();
+	}
+	
+	@Override
+	public void onConnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+		this.connectErrorCount.incrementAndGet();
+	}
+	
+	@Override
+	public void onDisconnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+	}
+	
+	/**
+	 * Takes a snapshot of the metrics.
+	 *
+	 * @return
+	 * - the current values, with the rates since the creation or the last reset.
+	 * @author Sergio Morel
+	 */
+	public Snapshot snapshot()
+	{
+		return new Snapshot(this);
+	}
+	
+	/**
+	 * Resets the counters and the latencies. Values recorded while resetting may be partially discarded.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void reset()
+	{
+		this.bytesReceived.set(0);
+		this.bytesSent.set(0);
+		this.receiveCount.set(0);
+		this.sendCount.set(0);
+		this.receivingErrorCount.set(0);
+		this.sendingErrorCount.set(0);
+		this.timeoutCount.set(0);
+		this.connectCount.set(0);
+		this.disconnectCount.set(0);
+		this.connectErrorCount.set(0);
+		this.deliveryLatency.reset();
+		this.startNanos = System.nanoTime();
+	}
+	
+	public String getIdentifier()
+	{
+		return this.identifier;
+	}
+	
+	public long getBytesReceived()
+	{
+		return this.bytesReceived.get();
+	}
+	
+	public long getBytesSent()
+	{
+		return this.bytesSent.get();
+	}
+	
+	public long getReceiveCount()
+	{
+		return this.receiveCount.get();
+	}
+	
+	public long getSendCount()
+	{
+		return this.sendCount.get();
+	}
+	
+	public long getReceivingErrorCount()
+	{
+		return this.receivingErrorCount.get();
+	}
+	
+	public long getSendingErrorCount()
+	{
+		return this.sendingErrorCount.get();
+	}
+	
+	/**
+	 * Gets the amount of {@link CommunicationTimeoutException} informed, while receiving or sending.
+	 *
+	 * @return
+	 * - the amount of timeouts.
+	 * @author Sergio Morel
+	 */
+	public long getTimeoutCount()
+	{
+		return this.timeoutCount.get();
+	}
+	
+	public long getConnectCount()
+	{
+		return this.connectCount.get();
+	}
+	
+	public long getDisconnectCount()
+	{
+		return this.disconnectCount.get();
+	}
+	
+	public long getConnectErrorCount()
+	{
+		return this.connectErrorCount.get();
+	}
+	
+	/**
+	 * Gets the histogram of the time from the return of each read until its listeners completed.
+	 *
+	 * @return
+	 * - the histogram, in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public LogLinearHistogram getDeliveryLatency()
+	{
+		return this.deliveryLatency;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.snapshot().toString();
+	}
+	
+	/**
+	 * Values of an {@link InterfaceMetrics} at a point in time.
+	 *
+	 * @author Sergio Morel
+	 */
+	public static final class Snapshot
+	{
+		private final String identifier;
+		private final long elapsedNanos;
+		private final long bytesReceived;
+		private final long bytesSent;
+		private final long receiveCount;
+		private final long sendCount;
+		private final long receivingErrorCount;
+		private final long sendingErrorCount;
+		private final long timeoutCount;
+		private final long connectCount;
+		private final long disconnectCount;
+		private final long connectErrorCount;
+		private final LogLinearHistogram deliveryLatency;
+		
+		private Snapshot(InterfaceMetrics metrics)
+		{
+			this.identifier = metrics.identifier;
+			this.elapsedNanos = System.nanoTime() - metrics.startNanos;
+			this.bytesReceived = metrics.getBytesReceived();
+			this.bytesSent = metrics.getBytesSent();
+			this.receiveCount = metrics.getReceiveCount();
+			this.sendCount = metrics.getSendCount();
+			this.receivingErrorCount = metrics.getReceivingErrorCount();
+			this.sendingErrorCount = metrics.getSendingErrorCount();
+			this.timeoutCount = metrics.getTimeoutCount();
+			this.connectCount = metrics.getConnectCount();
+			this.disconnectCount = metrics.getDisconnectCount();
+			this.connectErrorCount = metrics.getConnectErrorCount();
+			this.deliveryLatency = metrics.deliveryLatency.copy();
+		}
+		
+		private double perSecond(long count)
+		{
+			return (this.elapsedNanos <= 0) ? 0 : count * (double)TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+		}
+		
+		public String getIdentifier()
+		{
+			return this.identifier;
+		}
+		
+		/**
+		 * Gets the time elapsed since the creation or the last reset of the metrics.
+		 *
+		 * @return
+		 * - the elapsed time in nanoseconds.
+		 * @author Sergio Morel
+		 */
+		public long getElapsedNanos()
+		{
+			return this.elapsedNanos;
+		}
+		
+		public long getBytesReceived()
+		{
+			return this.bytesReceived;
+		}
+		
+		public long getBytesSent()
+		{
+			return this.bytesSent;
+		}
+		
+		public long getReceiveCount()
+		{
+			return this.receiveCount;
+		}
+		
+		public long getSendCount()
+		{
+			return this.sendCount;
+		}
+		
+		public long getReceivingErrorCount()
+		{
+			return this.receivingErrorCount;
+		}
+		
+		public long getSendingErrorCount()
+		{
+			return this.sendingErrorCount;
+		}
+		
+		public long getTimeoutCount()
+		{
+			return this.timeoutCount;
+		}
+		
+		public long getConnectCount()
+		{
+			return this.connectCount;
+		}
+		
+		public long getDisconnectCount()
+		{
+			return this.disconnectCount;
+		}
+		
+		public long getConnectErrorCount()
+		{
+			return this.connectErrorCount;
+		}
+		
+		public LogLinearHistogram getDeliveryLatency()
+		{
+			return this.deliveryLatency;
+		}
+		
+		public double getBytesReceivedPerSecond()
+		{
+			return this.perSecond(this.bytesReceived);
+		}
+		
+		public double getBytesSentPerSecond()
+		{
+			return this.perSecond(this.bytesSent);
+		}
+		
+		public double getReceivesPerSecond()
+		{
+			return this.perSecond(this.receiveCount);
+		}
+		
+		public double getSendsPerSecond()
+		{
+			return this.perSecond(this.sendCount);
+		}
+		
+		/**
+		 * Gets the errors per operation, including the timeouts.
+		 *
+		 * @return
+		 * - the ratio of errors to receives and sends, 0 if there were no operations.
+		 * @author Sergio Morel
+		 */
+		public double getErrorRate()
+		{
+			long operations = this.receiveCount + this.sendCount;
+			long errors = this.receivingErrorCount + this.sendingErrorCount + this.timeoutCount;
+			
+			return (operations == 0) ? ((errors == 0) ? 0 : 1) : errors / (double)operations;
+		}
+		
+		@Override
+		public String toString()
+		{
+			StringBuilder sb = new StringBuilder();
+			
+			sb.append("Interface: ").append(this.identifier);
+			sb.append("\nElapsed (ms): ").append(TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos));
+			sb.append("\nReceived (bytes): ").append(this.bytesReceived);
+			sb.append("\nReceived (bytes/s): ").append(Math.round(this.getBytesReceivedPerSecond()));
+			sb.append("\nReceives: ").append(this.receiveCount);
+			sb.append("\nReceives/s: ").append(Math.round(this.getReceivesPerSecond()));
+			sb.append("\nSent (bytes): ").append(this.bytesSent);
+			sb.append("\nSent (bytes/s): ").append(Math.round(this.getBytesSentPerSecond()));
+			sb.append("\nSends: ").append(this.sendCount);
+			sb.append("\nSends/s: ").append(Math.round(this.getSendsPerSecond()));
+			sb.append("\nReceiving errors: ").append(this.receivingErrorCount);
+			sb.append("\nSending errors: ").append(this.sendingErrorCount);
+			sb.append("\nTimeouts: ").append(this.timeoutCount);
+			sb.append("\nError rate: ").append(this.getErrorRate());
+			sb.append("\nConnects: ").append(this.connectCount);
+			sb.append("\nDisconnects: ").append(this.disconnectCount);
+			sb.append("\nConnect errors: ").append(this.connectErrorCount);
+			sb.append("\nDelivery latency (ns) p50: ").append(this.deliveryLatency.getValueAtPercentile(50));
+			sb.append("\nDelivery latency (ns) p99: ").append(this.deliveryLatency.getValueAtPercentile(99));
+			sb.append("\nDelivery latency (ns) p99.9: ").append(this.deliveryLatency.getValueAtPercentile(99.9));
+			sb.append("\nDelivery latency (ns) max: ").append(this.deliveryLatency.getMaxValue());
+			
+			return sb.toString();
+		}
+	}
+}
\ No newline at end of file
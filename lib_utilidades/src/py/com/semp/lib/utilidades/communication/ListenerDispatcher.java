@@ -0,0 +1,957 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.BatchDataListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataEntry;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.HashedWheelTimer;
+import py.com.semp.lib.utilidades.utilities.LatencyRecorder;
+import py.com.semp.lib.utilidades.utilities.NamedThreadFactory;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Listener that dispatches the events it receives to other listeners asynchronously, so a slow listener
+ * doesn't stall the thread that reads or sends the data.
+ * <p>
+ * Each registered listener has its own bounded queue, drained by the threads of a shared pool. The events
+ * of a listener are delivered in the order they were dispatched and never concurrently, while different
+ * listeners are delivered in parallel. When the queue of a listener is full, the {@link OverflowPolicy}
+ * determines what happens with the new event.
+ * </p>
+ * <p>
+ * The default policy is {@link OverflowPolicy#BLOCK}, which never loses events but keeps the back-pressure
+ * of synchronous listeners: once a listener falls {@link Values.Defaults#LISTENER_QUEUE_CAPACITY} events
+ * behind, the reading thread stalls again at its pace. The dispatcher only absorbs bursts up to the capacity
+ * of the queues; to never stall the reader, create it with {@link OverflowPolicy#DROP_NEWEST},
+ * {@link OverflowPolicy#DROP_OLDEST} or {@link OverflowPolicy#REJECT} and watch the dropped events in the metrics.
+ * </p>
+ * <p>
+ * The dispatcher is registered as the only listener of a receiver or transmitter, and the actual listeners
+ * are registered in the dispatcher:
+ * </p>
+ * <pre>
+ * ListenerDispatcher dispatcher = new ListenerDispatcher();
+ * dispatcher.addDataListeners(databaseWriter, logger);
+ * receiver.addDataListeners(dispatcher);
+ * </pre>
+ * <p>
+ * A {@link BatchDataListener} receives the data in batches, collected in its queue until the batch reaches
+ * its maximum size or the time window of its first entry passes. The queued events are passed as the entries
+ * of the batch, so batching doesn't copy the data. The time window is armed in the shared {@link HashedWheelTimer},
+ * so collecting a batch doesn't keep a pool thread; when the window passes, the batch is delivered by a pool
+ * thread within a tick of the timer.
+ * </p>
+ * <p>
+ * Note: The byte arrays are passed to the listeners without copying them, so the caller must not
+ * modify them after the event is dispatched. The same array is shared by the events and batches of all
+ * the listeners, so the listeners must treat it as read-only and copy it before modifying it.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class ListenerDispatcher implements DataListener, ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	/**
+	 * Maximum amount of events delivered by a pool thread before giving the turn to other listeners.
+	 */
+	private static final int DRAIN_LIMIT = 64;
+	
+	/**
+	 * Behavior when the queue of a listener is full.
+	 *
+	 * @author Sergio Morel
+	 */
+	public enum OverflowPolicy
+	{
+		/**
+		 * The dispatching thread waits until there is space in the queue, slowing the reader down
+		 * to the pace of the slowest listener without losing events.
+		 */
+		BLOCK,
+		
+		/**
+		 * The new event is discarded.
+		 */
+		DROP_NEWEST,
+		
+		/**
+		 * The oldest event in the queue is discarded to make space for the new one.
+		 */
+		DROP_OLDEST,
+		
+		/**
+		 * The new event is discarded and a {@link RejectedExecutionException} is thrown to the dispatching thread.
+		 */
+		REJECT
+	}
+	
+	private enum EventType
+	{
+		DATA_SENT,
+		DATA_RECEIVED,
+		SENDING_ERROR,
+		RECEIVING_ERROR
+	}
+	
+	private final ExecutorService executor;
+	private final HashedWheelTimer timer = HashedWheelTimer.getDefault();
+	private final int queueCapacity;
+	private final OverflowPolicy overflowPolicy;
+	private final Map<DataListener, ListenerQueue> queues = new ConcurrentHashMap<>();
+	private volatile boolean shuttingDown = false;
+	
+	/**
+	 * Creates a dispatcher with {@link Values.Constants#LISTENERS_THREAD_POOL_SIZE} threads, queues of
+	 * {@link Values.Defaults#LISTENER_QUEUE_CAPACITY} events and the {@link OverflowPolicy#BLOCK} policy, so
+	 * the dispatching thread still waits for a listener whose queue is full.
+	 *
+	 * @author Sergio Morel
+	 */
+	public ListenerDispatcher()
+	{
+		this(Values.Constants.LISTENERS_THREAD_POOL_SIZE, Values.Defaults.LISTENER_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+	}
+	
+	/**
+	 * Creates a dispatcher.
+	 *
+	 * @param threadCount
+	 * - amount of threads of the shared pool.
+	 * @param queueCapacity
+	 * - maximum amount of pending events of each listener.
+	 * @param overflowPolicy
+	 * - behavior when the queue of a listener is full.
+	 * @throws IllegalArgumentException
+	 * if the amount of threads or the capacity are not positive.
+	 * @throws NullPointerException
+	 * if the policy is null.
+	 * @author Sergio Morel
+	 */
+	public ListenerDispatcher(int threadCount, int queueCapacity, OverflowPolicy overflowPolicy)
+	{
+		super();
+		
+		if(threadCount <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "threadCount", threadCount);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(queueCapacity <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "queueCapacity", queueCapacity);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(overflowPolicy == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[overflowPolicy] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::ListenerDispatcher(int threadCount, int queueCapacity, OverflowPolicy overflowPolicy)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.executor = Executors.newFixedThreadPool(threadCount, new NamedThreadFactory(this.getClass().getSimpleName()));
+	}
+	
+	/**
+	 * Registers listeners. Listeners already registered are ignored. Batch listeners are registered with
+	 * batches of {@link Values.Defaults#BATCH_SIZE} entries and a window of {@link Values.Defaults#BATCH_WINDOW_MS}.
+	 *
+	 * @param listeners
+	 * - the listeners.
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public ListenerDispatcher addDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			if(listener == null)
+			{
+				StringBuilder methodName = new StringBuilder();
+				
+				methodName.append("[listeners] ");
+				methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+				methodName.append("::addDataListeners(DataListener... listeners)");
+				
+				String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+				
+				throw new NullPointerException(errorMessage);
+			}
+			
+			if(listener instanceof BatchDataListener)
+			{
+				this.addBatchDataListener((BatchDataListener)listener, Values.Defaults.BATCH_SIZE, Values.Defaults.BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+			}
+			else
+			{
+				this.queues.computeIfAbsent(listener, key -> new ListenerQueue(key, 0, 0));
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Registers a batch listener. If the listener is already registered it's ignored.
+	 *
+	 * @param listener
+	 * - the listener.
+	 * @param maxBatchSize
+	 * - maximum amount of entries of a batch.
+	 * @param maxDelay
+	 * - maximum time that the first entry of a batch waits for the batch to be delivered.
+	 * @param unit
+	 * - unit of the delay.
+	 * @return
+	 * - the same instance.
+	 * @throws IllegalArgumentException
+	 * if the size is not positive or the delay is negative.
+	 * @author Sergio Morel
+	 */
+	public ListenerDispatcher addBatchDataListener(BatchDataListener listener, int maxBatchSize, long maxDelay, TimeUnit unit)
+	{
+		if(listener == null || unit == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append(listener == null ? "[listener] " : "[unit] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::addBatchDataListener(BatchDataListener listener, int maxBatchSize, long maxDelay, TimeUnit unit)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(maxBatchSize <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "maxBatchSize", maxBatchSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(maxDelay < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "maxDelay", maxDelay);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		long maxDelayNanos = unit.toNanos(maxDelay);
+		
+		this.queues.computeIfAbsent(listener, key -> new ListenerQueue(key, maxBatchSize, maxDelayNanos));
+		
+		return this;
+	}
+	
+	/**
+	 * Unregisters listeners. The events already queued for them are still delivered.
+	 *
+	 * @param listeners
+	 * - the listeners.
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public ListenerDispatcher removeDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			this.queues.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	public Set<DataListener> getDataListeners()
+	{
+		return Collections.unmodifiableSet(this.queues.keySet());
+	}
+	
+	/**
+	 * Gets the metrics of a listener.
+	 *
+	 * @param listener
+	 * - the listener.
+	 * @return
+	 * - the metrics of the listener.<br>
+	 * - <b>null</b> if the listener is not registered.
+	 * @author Sergio Morel
+	 */
+	public ListenerMetrics getMetrics(DataListener listener)
+	{
+		ListenerQueue queue = this.queues.get(listener);
+		
+		return (queue == null) ? null : queue.metrics;
+	}
+	
+	public int getQueueCapacity()
+	{
+		return this.queueCapacity;
+	}
+	
+	public OverflowPolicy getOverflowPolicy()
+	{
+		return this.overflowPolicy;
+	}
+	
+	@Override
+	public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.dispatch(new ListenerEvent(EventType.DATA_SENT, instant, dataInterface, data, null));
+	}
+	
+	@Override
+	public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.dispatch(new ListenerEvent(EventType.DATA_RECEIVED, instant, dataInterface, data, null));
+	}
+	
+	@Override
+	public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+	{
+		this.dispatch(new ListenerEvent(EventType.SENDING_ERROR, instant, dataInterface, data, throwable));
+	}
+	
+	@Override
+	public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+		this.dispatch(new ListenerEvent(EventType.RECEIVING_ERROR, instant, dataInterface, null, throwable));
+	}
+	
+	/**
+	 * Queues an event for all the listeners. The same event instance is shared by all the queues.
+	 *
+	 * @param event
+	 * - the event.
+	 * @throws RejectedExecutionException
+	 * if the dispatcher is shutting down, or a queue is full and the policy is {@link OverflowPolicy#REJECT}.
+	 */
+	private void dispatch(ListenerEvent event)
+	{
+		if(this.shuttingDown)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+			
+			throw new RejectedExecutionException(errorMessage);
+		}
+		
+		RejectedExecutionException rejection = null;
+		
+		for(ListenerQueue queue : this.queues.values())
+		{
+			try
+			{
+				queue.offer(event);
+			}
+			catch(RejectedExecutionException e)
+			{
+				rejection = e;
+			}
+		}
+		
+		if(rejection != null)
+		{
+			throw rejection;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation rejects new events and lets the pool deliver the events already queued,
+	 * waiting for {@link Values.Constants#TERMINATION_TIMOUT_MS} before interrupting the pool threads.
+	 * </p>
+	 */
+	@Override
+	public ListenerDispatcher shutdown()
+	{
+		this.shuttingDown = true;
+		
+		try
+		{
+			if(!this.awaitTermination(Values.Constants.TERMINATION_TIMOUT_MS, TimeUnit.MILLISECONDS))
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.TERMINATION_TIMEOUT_ERROR, this.getClass().getSimpleName());
+				
+				LOGGER.warning(errorMessage);
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		
+		this.executor.shutdownNow();
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	/**
+	 * Waits until the queued events are delivered or the time passes. New events can still be
+	 * dispatched unless the dispatcher is shutting down.
+	 *
+	 * @param timeout
+	 * - maximum time to wait.
+	 * @param unit
+	 * - unit of the timeout.
+	 * @return
+	 * <b>true</b> if all the queues are empty and idle.<br>
+	 * <b>false</b> if the time passed.
+	 * @throws InterruptedException
+	 * if the current thread is interrupted while waiting.
+	 * @author Sergio Morel
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		
+		while(!this.isIdle())
+		{
+			if(System.nanoTime() - deadline >= 0)
+			{
+				return false;
+			}
+			
+			if(Thread.interrupted())
+			{
+				throw new InterruptedException();
+			}
+			
+			TimeUnit.MILLISECONDS.sleep(1);
+		}
+		
+		return true;
+	}
+	
+	private boolean isIdle()
+	{
+		for(ListenerQueue queue : this.queues.values())
+		{
+			if(queue.scheduled.get() || queue.batchPending || !queue.events.isEmpty())
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Event shared by the queues of all the listeners. It's also the entry passed in the batches.
+	 */
+	private static final class ListenerEvent implements DataEntry
+	{
+		private final EventType type;
+		private final Instant instant;
+		private final DataInterface dataInterface;
+		private final byte[] data;
+		private final Throwable throwable;
+		private final long dispatchNanos = System.nanoTime();
+		
+		private ListenerEvent(EventType type, Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+			this.type = type;
+			this.instant = instant;
+			this.dataInterface = dataInterface;
+			this.data = data;
+			this.throwable = throwable;
+		}
+		
+		@Override
+		public Instant getInstant()
+		{
+			return this.instant;
+		}
+		
+		@Override
+		public DataInterface getDataInterface()
+		{
+			return this.dataInterface;
+		}
+		
+		@Override
+		public byte[] getData()
+		{
+			return this.data;
+		}
+	}
+	
+	/**
+	 * Queue of a listener. It's drained by at most one pool thread at a time, which keeps
+	 * the order of the events.
+	 */
+	private final class ListenerQueue implements Runnable
+	{
+		private final DataListener listener;
+		private final BlockingQueue<ListenerEvent> events;
+		private final AtomicBoolean scheduled = new AtomicBoolean(false);
+		private final ListenerMetrics metrics;
+		
+		/**
+		 * Maximum amount of entries of a batch, 0 if the listener doesn't receive batches.
+		 */
+		private final int maxBatchSize;
+		private final long maxBatchDelayNanos;
+		private final List<ListenerEvent> batch;
+		private final List<ListenerEvent> batchView;
+		
+		/**
+		 * Timeout armed for the window of the first entry of the batch.
+		 */
+		private HashedWheelTimer.Timeout batchTimeout;
+		
+		/**
+		 * Indicates if the batch has entries, so the dispatcher is not idle while the window passes.
+		 */
+		private volatile boolean batchPending = false;
+		
+		/**
+		 * Indicates if the window of the batch expired since the last run, so it must run again.
+		 */
+		private volatile boolean batchFlushRequested = false;
+		
+		private ListenerQueue(DataListener listener, int maxBatchSize, long maxBatchDelayNanos)
+		{
+			this.listener = listener;
+			this.events = new ArrayBlockingQueue<>(ListenerDispatcher.this.queueCapacity);
+			this.metrics = new ListenerMetrics(this.events);
+			this.maxBatchSize = maxBatchSize;
+			this.maxBatchDelayNanos = maxBatchDelayNanos;
+			this.batch = (maxBatchSize > 0) ? new ArrayList<>(maxBatchSize) : null;
+			this.batchView = (maxBatchSize > 0) ? Collections.unmodifiableList(this.batch) : null;
+		}
+		
+		private void offer(ListenerEvent event)
+		{
+			switch(ListenerDispatcher.this.overflowPolicy)
+			{
+				case BLOCK:
+				{
+					try
+					{
+						this.events.put(event);
+					}
+					catch(InterruptedException e)
+					{
+						Thread.currentThread().interrupt();
+						
+						this.metrics.droppedCount.incrementAndGet();
+						
+						return;
+					}
+					
+					break;
+				}
+				case DROP_NEWEST:
+				{
+					if(!this.events.offer(event))
+					{
+						this.metrics.droppedCount.incrementAndGet();
+						
+						return;
+					}
+					
+					break;
+				}
+				case DROP_OLDEST:
+				{
+					while(!this.events.offer(event))
+					{
+						if(this.events.poll() != null)
+						{
+							this.metrics.droppedCount.incrementAndGet();
+						}
+					}
+					
+					break;
+				}
+				case REJECT:
+				{
+					if(!this.events.offer(event))
+					{
+						this.metrics.droppedCount.incrementAndGet();
+						
+						String errorMessage = MessageUtil.getMessage(Messages.LISTENER_QUEUE_FULL_ERROR, this.listener.getClass().getName());
+						
+						throw new RejectedExecutionException(errorMessage);
+					}
+					
+					break;
+				}
+			}
+			
+			this.metrics.updateMaxBacklog();
+			this.schedule();
+		}
+		
+		private void schedule()
+		{
+			if(!this.scheduled.compareAndSet(false, true))
+			{
+				return;
+			}
+			
+			try
+			{
+				ListenerDispatcher.this.executor.execute(this);
+			}
+			catch(RejectedExecutionException e)
+			{
+				this.scheduled.set(false);
+				
+				String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, ListenerDispatcher.this.getClass().getSimpleName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+		}
+		
+		@Override
+		public void run()
+		{
+			this.batchFlushRequested = false;
+			
+			int count = 0;
+			ListenerEvent event;
+			
+			while(count < DRAIN_LIMIT && (event = this.events.poll()) != null)
+			{
+				this.deliver(event);
+				
+				count++;
+			}
+			
+			if(this.batch != null)
+			{
+				this.scheduleBatchFlush();
+			}
+			
+			this.scheduled.set(false);
+			
+			// The timeout of the batch may have expired while the queue was still scheduled.
+			if(!this.events.isEmpty() || this.batchFlushRequested)
+			{
+				this.schedule();
+			}
+		}
+		
+		/**
+		 * Delivers the batch if the window of its first entry passed, or arms a timeout that schedules
+		 * the queue again when it passes, so the pool thread is released while the batch is collected.
+		 */
+		private void scheduleBatchFlush()
+		{
+			if(this.batch.isEmpty())
+			{
+				return;
+			}
+			
+			long remaining = this.batch.get(0).dispatchNanos + this.maxBatchDelayNanos - System.nanoTime();
+			
+			if(remaining <= 0)
+			{
+				this.flushBatch();
+				
+				return;
+			}
+			
+			if(this.batchTimeout == null || this.batchTimeout.isExpired())
+			{
+				this.batchTimeout = ListenerDispatcher.this.timer.newTimeout(this::requestBatchFlush, remaining, TimeUnit.NANOSECONDS);
+			}
+		}
+		
+		/**
+		 * Schedules the queue when the window of the batch expires. Executed on the thread of the timer.
+		 */
+		private void requestBatchFlush()
+		{
+			this.batchFlushRequested = true;
+			
+			this.schedule();
+		}
+		
+		private void flushBatch()
+		{
+			if(this.batch.isEmpty())
+			{
+				return;
+			}
+			
+			if(this.batchTimeout != null)
+			{
+				this.batchTimeout.cancel();
+				
+				this.batchTimeout = null;
+			}
+			
+			try
+			{
+				((BatchDataListener)this.listener).onDataReceived(this.batchView);
+			}
+			catch(RuntimeException e)
+			{
+				this.metrics.failedCount.addAndGet(this.batch.size());
+				
+				String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, this.listener.getClass().getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+			finally
+			{
+				long now = System.nanoTime();
+				
+				for(ListenerEvent entry : this.batch)
+				{
+					this.metrics.latency.record(now - entry.dispatchNanos);
+				}
+				
+				this.metrics.deliveredCount.addAndGet(this.batch.size());
+				this.metrics.batchCount.incrementAndGet();
+				this.batch.clear();
+				
+				this.batchPending = false;
+			}
+		}
+		
+		private void deliver(ListenerEvent event)
+		{
+			if(this.batch != null)
+			{
+				if(event.type == EventType.DATA_RECEIVED)
+				{
+					this.batch.add(event);
+					this.batchPending = true;
+					
+					if(this.batch.size() >= this.maxBatchSize)
+					{
+						this.flushBatch();
+					}
+					
+					return;
+				}
+				
+				this.flushBatch();
+			}
+			
+			try
+			{
+				switch(event.type)
+				{
+					case DATA_SENT:
+					{
+						this.listener.onDataSent(event.instant, event.dataInterface, event.data);
+						
+						break;
+					}
+					case DATA_RECEIVED:
+					{
+						this.listener.onDataReceived(event.instant, event.dataInterface, event.data);
+						
+						break;
+					}
+					case SENDING_ERROR:
+					{
+						this.listener.onSendingError(event.instant, event.dataInterface, event.data, event.throwable);
+						
+						break;
+					}
+					case RECEIVING_ERROR:
+					{
+						this.listener.onReceivingError(event.instant, event.dataInterface, event.throwable);
+						
+						break;
+					}
+				}
+			}
+			catch(RuntimeException e)
+			{
+				this.metrics.failedCount.incrementAndGet();
+				
+				String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, this.listener.getClass().getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+			finally
+			{
+				this.metrics.deliveredCount.incrementAndGet();
+				this.metrics.latency.record(System.nanoTime() - event.dispatchNanos);
+			}
+		}
+	}
+	
+	/**
+	 * Metrics of a listener registered in a {@link ListenerDispatcher}.
+	 *
+	 * @author Sergio Morel
+	 */
+	public static final class ListenerMetrics
+	{
+		private final BlockingQueue<?> events;
+		private final LatencyRecorder latency = new LatencyRecorder();
+		private final AtomicLong deliveredCount = new AtomicLong();
+		private final AtomicLong droppedCount = new AtomicLong();
+		private final AtomicLong failedCount = new AtomicLong();
+		private final AtomicLong batchCount = new AtomicLong();
+		private volatile int maxBacklog;
+		
+		private ListenerMetrics(BlockingQueue<?> events)
+		{
+			this.events = events;
+		}
+		
+		private void updateMaxBacklog()
+		{
+			int backlog = this.events.size();
+			
+			if(backlog > this.maxBacklog)
+			{
+				this.maxBacklog = backlog;
+			}
+		}
+		
+		/**
+		 * Gets the time from the dispatch of each event until the listener returned, which includes
+		 * the time the event waited in the queue.
+		 *
+		 * @return
+		 * - the latency recorder.
+		 * @author Sergio Morel
+		 */
+		public LatencyRecorder getLatency()
+		{
+			return this.latency;
+		}
+		
+		/**
+		 * Gets the amount of events waiting in the queue.
+		 *
+		 * @return
+		 * - the current backlog.
+		 * @author Sergio Morel
+		 */
+		public int getBacklog()
+		{
+			return this.events.size();
+		}
+		
+		/**
+		 * Gets the maximum amount of events observed waiting in the queue.
+		 *
+		 * @return
+		 * - the maximum backlog.
+		 * @author Sergio Morel
+		 */
+		public int getMaxBacklog()
+		{
+			return this.maxBacklog;
+		}
+		
+		/**
+		 * Gets the amount of events delivered to the listener, including the entries of the batches
+		 * and the deliveries that threw an exception.
+		 *
+		 * @return
+		 * - the amount of events delivered.
+		 * @author Sergio Morel
+		 */
+		public long getDeliveredCount()
+		{
+			return this.deliveredCount.get();
+		}
+		
+		/**
+		 * Gets the amount of events discarded because the queue was full.
+		 *
+		 * @return
+		 * - the amount of events discarded.
+		 * @author Sergio Morel
+		 */
+		public long getDroppedCount()
+		{
+			return this.droppedCount.get();
+		}
+		
+		/**
+		 * Gets the amount of events whose delivery threw an exception.
+		 *
+		 * @return
+		 * - the amount of failed deliveries.
+		 * @author Sergio Morel
+		 */
+		public long getFailedCount()
+		{
+			return this.failedCount.get();
+		}
+		
+		/**
+		 * Gets the amount of batches delivered, if the listener is a {@link BatchDataListener}.
+		 *
+		 * @return
+		 * - the amount of batches delivered.
+		 * @author Sergio Morel
+		 */
+		public long getBatchCount()
+		{
+			return this.batchCount.get();
+		}
+		
+		@Override
+		public String toString()
+		{
+			StringBuilder sb = new StringBuilder();
+			
+			sb.append("Backlog: ").append(this.getBacklog());
+			sb.append("\nMax backlog: ").append(this.maxBacklog);
+			sb.append("\nDelivered: ").append(this.getDeliveredCount());
+			sb.append("\nDropped: ").append(this.getDroppedCount());
+			sb.append("\nFailed: ").append(this.getFailedCount());
+			sb.append("\nBatches: ").append(this.getBatchCount());
+			sb.append("\n").append(this.latency);
+			
+			return sb.toString();
+		}
+	}
+}
\ No newline at end of file
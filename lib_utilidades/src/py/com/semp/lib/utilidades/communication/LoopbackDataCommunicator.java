@@ -0,0 +1,1037 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataCommunicator;
+import py.com.semp.lib.utilidades.communication.interfaces.ReadinessAwareDataReceiver;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.data.Pair;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * In-process {@link DataCommunicator} where the data sent by an endpoint is received by its peer, without
+ * sockets nor hardware. An endpoint created alone is its own peer, and {@link #pair(String, String)} creates
+ * two connected endpoints. It's meant to test and benchmark the readers, listeners and framers of the library.
+ * <p>
+ * The data sent by an endpoint can be impaired to simulate a real link:
+ * </p>
+ * <ul>
+ * <li>Latency: the data can't be read until the latency passes.</li>
+ * <li>Bandwidth: the data is serialized on the link, so each chunk is ready after the previous one plus its
+ * transmission time.</li>
+ * <li>Chunking: the data is split into chunks, and each read returns at most one chunk.</li>
+ * <li>Loss: each chunk is dropped with a probability.</li>
+ * <li>Disconnection: {@link #injectDisconnect()} drops both endpoints, and {@link #failNextConnects(int)}
+ * makes the next connection attempts fail.</li>
+ * </ul>
+ * <p>
+ * The data pending to be read is limited by the capacity of the receiving endpoint. When it's full the
+ * sender blocks, like a socket with a full buffer. Receiving endpoints signal the arrival of data, so a
+ * {@link DefaultDataReader} waits for it instead of polling.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class LoopbackDataCommunicator implements DataCommunicator, ReadinessAwareDataReceiver
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final String name;
+	private final int capacity;
+	private final Set<DataListener> dataListeners = new CopyOnWriteArraySet<>();
+	private final Set<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArraySet<>();
+	private final DefaultDataReader<LoopbackDataCommunicator> dataReader;
+	private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notFull = this.lock.newCondition();
+	private final ReadinessSignal readinessSignal = new ReadinessSignal();
+	private final AtomicBoolean connected = new AtomicBoolean(false);
+	private final AtomicInteger failingConnects = new AtomicInteger();
+	private final AtomicLong sentBytes = new AtomicLong();
+	private final AtomicLong receivedBytes = new AtomicLong();
+	private final AtomicLong lostChunks = new AtomicLong();
+	private final Object sendLock = new Object();
+	private LoopbackDataCommunicator peer = this;
+	private ConfigurationValues configurationValues;
+	private int pendingBytes = 0;
+	private volatile boolean shuttingDown = false;
+	private volatile boolean stopping = false;
+	private volatile long latencyNanos = 0;
+	private volatile long bytesPerSecond = 0;
+	private volatile int chunkSize = 0;
+	private volatile double lossProbability = 0;
+	
+	/**
+	 * Time when the link of the data sent by this endpoint is free, guarded by {@link #sendLock}.
+	 */
+	private long linkFreeNanos = 0;
+	
+	/**
+	 * Creates an endpoint that is its own peer, with the default capacity.
+	 *
+	 * @param name
+	 * - name of the endpoint, used as its identifier.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator(String name)
+	{
+		this(name, Values.Defaults.CONNECTION_BUFFER_CAPACITY);
+	}
+	
+	/**
+	 * Creates an endpoint that is its own peer.
+	 *
+	 * @param name
+	 * - name of the endpoint, used as its identifier.
+	 * @param capacity
+	 * - maximum amount of bytes pending to be read, before the senders block.
+	 * @throws IllegalArgumentException
+	 * if the capacity is not positive.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator(String name, int capacity)
+	{
+		super();
+		
+		if(name == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[name] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::LoopbackDataCommunicator(String name, int capacity)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(capacity <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "capacity", capacity);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.name = name;
+		this.capacity = capacity;
+		this.dataReader = new DefaultDataReader<>(this).setNotifyDataListeners(true);
+	}
+	
+	/**
+	 * Creates two endpoints, each one the peer of the other.
+	 *
+	 * @param firstName
+	 * - name of the first endpoint.
+	 * @param secondName
+	 * - name of the second endpoint.
+	 * @return
+	 * - the endpoints.
+	 * @author Sergio Morel
+	 */
+	public static Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair(String firstName, String secondName)
+	{
+		LoopbackDataCommunicator first = new LoopbackDataCommunicator(firstName);
+		LoopbackDataCommunicator second = new LoopbackDataCommunicator(secondName);
+		
+		first.peer = second;
+		second.peer = first;
+		
+		return new Pair<>(first, second);
+	}
+	
+	public LoopbackDataCommunicator getPeer()
+	{
+		return this.peer;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator connect() throws CommunicationException
+	{
+		if(this.failingConnects.getAndUpdate(count -> Math.max(0, count - 1)) > 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_ERROR, this.name);
+			
+			CommunicationException exception = new CommunicationException(errorMessage);
+			
+			this.informOnConnectError(exception);
+			
+			throw exception;
+		}
+		
+		if(this.connected.compareAndSet(false, true))
+		{
+			Instant instant = Instant.now();
+			
+			for(ConnectionEventListener listener : this.connectionEventListeners)
+			{
+				try
+				{
+					listener.onConnect(instant, this);
+				}
+				catch(RuntimeException e)
+				{
+					this.logListenerException(listener, e);
+				}
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator connect(ConfigurationValues configurationValues) throws CommunicationException
+	{
+		this.setConfigurationValues(configurationValues);
+		
+		return this.connect();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The data pending to be read is discarded, and the senders blocked on this endpoint fail.
+	 * The peer remains connected. The connection event listeners are informed while {@link #isStopping()}
+	 * returns <b>true</b>, unlike a disconnection by {@link #injectDisconnect()}.
+	 * </p>
+	 */
+	@Override
+	public LoopbackDataCommunicator disconnect()
+	{
+		this.stopping = true;
+		
+		try
+		{
+			this.closeConnection();
+		}
+		finally
+		{
+			this.stopping = false;
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Discards the pending data and informs the connection event listeners. Does nothing if it's not connected.
+	 */
+	private void closeConnection()
+	{
+		if(!this.connected.compareAndSet(true, false))
+		{
+			return;
+		}
+		
+		this.lock.lock();
+		
+		try
+		{
+			this.segments.clear();
+			this.pendingBytes = 0;
+			this.notFull.signalAll();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		this.readinessSignal.signal();
+		
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onDisconnect(instant, this);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+	}
+	
+	/**
+	 * Simulates the loss of the link, disconnecting this endpoint and its peer.
+	 *
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator injectDisconnect()
+	{
+		this.closeConnection();
+		this.peer.closeConnection();
+		
+		return this;
+	}
+	
+	/**
+	 * Makes the next connection attempts fail, informing the connection error to the listeners.
+	 *
+	 * @param count
+	 * - amount of attempts that fail.
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator failNextConnects(int count)
+	{
+		this.failingConnects.set(Math.max(0, count));
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator requestReconnect() throws CommunicationException
+	{
+		this.disconnect();
+		
+		return this.connect();
+	}
+	
+	@Override
+	public LoopbackDataCommunicator setConfigurationValues(ConfigurationValues configurationValues)
+	{
+		this.configurationValues = configurationValues;
+		
+		return this;
+	}
+	
+	@Override
+	public ConfigurationValues getConfigurationValues()
+	{
+		return this.configurationValues;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The data is copied, split into chunks and added to the peer, impaired according to the settings of
+	 * this endpoint. Blocks while the peer is full.
+	 * </p>
+	 *
+	 * @throws ConnectionClosedException
+	 * if this endpoint or its peer are not connected.
+	 */
+	@Override
+	public LoopbackDataCommunicator sendData(byte[] data) throws CommunicationException
+	{
+		try
+		{
+			if(!this.connected.get())
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.name);
+				
+				throw new ConnectionClosedException(errorMessage);
+			}
+			
+			this.transmit(Arrays.copyOf(data, data.length));
+		}
+		catch(CommunicationException e)
+		{
+			this.informOnSendingError(data, e);
+			
+			throw e;
+		}
+		
+		this.sentBytes.addAndGet(data.length);
+		
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onDataSent(instant, this, data);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Splits the data into chunks and adds them to the peer, applying the loss, bandwidth and latency.
+	 */
+	private void transmit(byte[] data) throws CommunicationException
+	{
+		int size = (this.chunkSize > 0) ? this.chunkSize : Math.max(1, data.length);
+		double loss = this.lossProbability;
+		long latency = this.latencyNanos;
+		long bandwidth = this.bytesPerSecond;
+		
+		synchronized(this.sendLock)
+		{
+			for(int offset = 0; offset < data.length; offset += size)
+			{
+				int length = Math.min(size, data.length - offset);
+				
+				if(loss > 0 && ThreadLocalRandom.current().nextDouble() < loss)
+				{
+					this.lostChunks.incrementAndGet();
+					
+					continue;
+				}
+				
+				long readyNanos = System.nanoTime();
+				
+				if(bandwidth > 0)
+				{
+					this.linkFreeNanos = Math.max(readyNanos, this.linkFreeNanos) + length * TimeUnit.SECONDS.toNanos(1) / bandwidth;
+					
+					readyNanos = this.linkFreeNanos;
+				}
+				
+				this.peer.enqueue(new Segment(data, offset, length, readyNanos + latency));
+			}
+		}
+	}
+	
+	/**
+	 * Adds a segment to the data pending to be read, waiting while the endpoint is full.
+	 */
+	private void enqueue(Segment segment) throws CommunicationException
+	{
+		this.lock.lock();
+		
+		try
+		{
+			while(this.connected.get() && this.pendingBytes > 0 && this.pendingBytes + segment.length > this.capacity)
+			{
+				this.notFull.await();
+			}
+			
+			if(!this.connected.get())
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.name);
+				
+				throw new ConnectionClosedException(errorMessage);
+			}
+			
+			this.segments.add(segment);
+			this.pendingBytes += segment.length;
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			
+			String errorMessage = MessageUtil.getMessage(Messages.WRITING_ERROR, this.name);
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		this.readinessSignal.signal();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the rest of the next chunk whose latency passed, or an empty array if there is none.
+	 * </p>
+	 */
+	@Override
+	public byte[] readData() throws CommunicationException
+	{
+		this.lock.lock();
+		
+		try
+		{
+			Segment segment = this.nextReadySegment();
+			
+			if(segment == null)
+			{
+				return new byte[0];
+			}
+			
+			return this.consume(segment, null, 0, segment.length);
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Copies as much as fits of the next chunk whose latency passed, so a read never returns data of two chunks.
+	 * </p>
+	 */
+	@Override
+	public int readData(byte[] destination, int offset, int length) throws CommunicationException
+	{
+		if(offset < 0 || length < 0 || length > destination.length - offset)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, offset, offset + length, destination.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		this.lock.lock();
+		
+		try
+		{
+			Segment segment = this.nextReadySegment();
+			
+			if(segment == null || length == 0)
+			{
+				return 0;
+			}
+			
+			int count = Math.min(length, segment.length);
+			
+			this.consume(segment, destination, offset, count);
+			
+			return count;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the first segment if its latency passed. Must be called holding the lock.
+	 *
+	 * @throws ConnectionClosedException
+	 * if the endpoint is not connected.
+	 */
+	private Segment nextReadySegment() throws ConnectionClosedException
+	{
+		if(!this.connected.get())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.name);
+			
+			throw new ConnectionClosedException(errorMessage);
+		}
+		
+		Segment segment = this.segments.peek();
+		
+		if(segment == null || segment.readyNanos - System.nanoTime() > 0)
+		{
+			return null;
+		}
+		
+		return segment;
+	}
+	
+	/**
+	 * Takes bytes from the start of a segment, copying them to the destination or to a new array if
+	 * the destination is <b>null</b>. Must be called holding the lock.
+	 */
+	private byte[] consume(Segment segment, byte[] destination, int offset, int count)
+	{
+		byte[] result = destination;
+		
+		if(result == null)
+		{
+			result = Arrays.copyOfRange(segment.data, segment.offset, segment.offset + count);
+		}
+		else
+		{
+			System.arraycopy(segment.data, segment.offset, destination, offset, count);
+		}
+		
+		segment.offset += count;
+		segment.length -= count;
+		
+		if(segment.length == 0)
+		{
+			this.segments.poll();
+		}
+		
+		this.pendingBytes -= count;
+		this.receivedBytes.addAndGet(count);
+		this.notFull.signalAll();
+		
+		return result;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Waits until a chunk is ready to be read, which is when its latency passes.
+	 * </p>
+	 */
+	@Override
+	public boolean awaitData(long timeoutNanos) throws CommunicationException
+	{
+		long deadline = System.nanoTime() + timeoutNanos;
+		
+		while(true)
+		{
+			long waitNanos = deadline - System.nanoTime();
+			
+			this.lock.lock();
+			
+			try
+			{
+				Segment segment = this.segments.peek();
+				
+				if(!this.connected.get())
+				{
+					return false;
+				}
+				
+				if(segment != null)
+				{
+					long untilReady = segment.readyNanos - System.nanoTime();
+					
+					if(untilReady <= 0)
+					{
+						return true;
+					}
+					
+					waitNanos = Math.min(waitNanos, untilReady);
+				}
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			if(deadline - System.nanoTime() <= 0 || Thread.currentThread().isInterrupted())
+			{
+				return false;
+			}
+			
+			this.readinessSignal.await(waitNanos);
+		}
+	}
+	
+	/**
+	 * Sets the time that the data sent by this endpoint takes to be ready at the peer.
+	 *
+	 * @param latency
+	 * - the latency.
+	 * @param unit
+	 * - unit of the latency.
+	 * @return
+	 * - the same instance.
+	 * @throws IllegalArgumentException
+	 * if the latency is negative.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator setLatency(long latency, TimeUnit unit)
+	{
+		if(latency < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "latency", latency);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.latencyNanos = unit.toNanos(latency);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the bandwidth of the link of the data sent by this endpoint.
+	 *
+	 * @param bytesPerSecond
+	 * - the bandwidth, or 0 for an unlimited bandwidth.
+	 * @return
+	 * - the same instance.
+	 * @throws IllegalArgumentException
+	 * if the bandwidth is negative.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator setBandwidth(long bytesPerSecond)
+	{
+		if(bytesPerSecond < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "bytesPerSecond", bytesPerSecond);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.bytesPerSecond = bytesPerSecond;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the size of the chunks into which the data sent by this endpoint is split.
+	 *
+	 * @param chunkSize
+	 * - the maximum size of a chunk, or 0 to send the data of each send as a single chunk.
+	 * @return
+	 * - the same instance.
+	 * @throws IllegalArgumentException
+	 * if the size is negative.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator setChunkSize(int chunkSize)
+	{
+		if(chunkSize < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "chunkSize", chunkSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.chunkSize = chunkSize;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the probability that a chunk sent by this endpoint is lost.
+	 *
+	 * @param lossProbability
+	 * - the probability, between 0 and 1.
+	 * @return
+	 * - the same instance.
+	 * @throws IllegalArgumentException
+	 * if the probability is not between 0 and 1.
+	 * @author Sergio Morel
+	 */
+	public LoopbackDataCommunicator setLossProbability(double lossProbability)
+	{
+		if(!(lossProbability >= 0 && lossProbability <= 1))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "lossProbability", lossProbability);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.lossProbability = lossProbability;
+		
+		return this;
+	}
+	
+	public long getLatencyNanos()
+	{
+		return this.latencyNanos;
+	}
+	
+	public long getBandwidth()
+	{
+		return this.bytesPerSecond;
+	}
+	
+	public int getChunkSize()
+	{
+		return this.chunkSize;
+	}
+	
+	public double getLossProbability()
+	{
+		return this.lossProbability;
+	}
+	
+	public int getCapacity()
+	{
+		return this.capacity;
+	}
+	
+	/**
+	 * Gets the amount of bytes pending to be read, including the ones whose latency didn't pass.
+	 *
+	 * @return
+	 * - the amount of pending bytes.
+	 * @author Sergio Morel
+	 */
+	public int getPendingBytes()
+	{
+		this.lock.lock();
+		
+		try
+		{
+			return this.pendingBytes;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	public long getSentBytes()
+	{
+		return this.sentBytes.get();
+	}
+	
+	public long getReceivedBytes()
+	{
+		return this.receivedBytes.get();
+	}
+	
+	/**
+	 * Gets the amount of chunks sent by this endpoint that were lost.
+	 *
+	 * @return
+	 * - the amount of lost chunks.
+	 * @author Sergio Morel
+	 */
+	public long getLostChunkCount()
+	{
+		return this.lostChunks.get();
+	}
+	
+	@Override
+	public LoopbackDataCommunicator addDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.dataListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator removeDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			this.dataListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator removeAllDataListeners()
+	{
+		this.dataListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<DataListener> getDataListeners()
+	{
+		return Collections.unmodifiableSet(this.dataListeners);
+	}
+	
+	@Override
+	public LoopbackDataCommunicator informOnSendingError(byte[] data, Throwable throwable)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onSendingError(instant, this, data, throwable);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator informOnReceivingError(Throwable throwable)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onReceivingError(instant, this, throwable);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public DefaultDataReader<LoopbackDataCommunicator> getDataReader()
+	{
+		return this.dataReader;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator addConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		for(ConnectionEventListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.connectionEventListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator removeConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		for(ConnectionEventListener listener : listeners)
+		{
+			this.connectionEventListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator removeAllConnectionEventListeners()
+	{
+		this.connectionEventListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<ConnectionEventListener> getConnectionEventListeners()
+	{
+		return Collections.unmodifiableSet(this.connectionEventListeners);
+	}
+	
+	@Override
+	public LoopbackDataCommunicator informOnConnectError(Throwable e)
+	{
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onConnectError(instant, this, e);
+			}
+			catch(RuntimeException exception)
+			{
+				this.logListenerException(listener, exception);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator informOnDisconnectError(Throwable e)
+	{
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onDisconnectError(instant, this, e);
+			}
+			catch(RuntimeException exception)
+			{
+				this.logListenerException(listener, exception);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public String getStableStringIdentifier()
+	{
+		return this.name;
+	}
+	
+	@Override
+	public String getDynamicStringIdentifier()
+	{
+		return this.name + "->" + this.peer.name;
+	}
+	
+	@Override
+	public LoopbackDataCommunicator shutdown()
+	{
+		this.shuttingDown = true;
+		
+		this.disconnect();
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isStopping()
+	{
+		return this.stopping || this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isConnected()
+	{
+		return this.connected.get();
+	}
+	
+	private void logListenerException(Object listener, RuntimeException e)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+		
+		LOGGER.error(errorMessage, e);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.getDynamicStringIdentifier();
+	}
+	
+	/**
+	 * Chunk of data pending to be read.
+	 */
+	private static final class Segment
+	{
+		private final byte[] data;
+		private final long readyNanos;
+		private int offset;
+		private int length;
+		
+		private Segment(byte[] data, int offset, int length, long readyNanos)
+		{
+			this.data = data;
+			this.offset = offset;
+			this.length = length;
+			this.readyNanos = readyNanos;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReceiver;
+import py.com.semp.lib.utilidades.communication.interfaces.DataTransmitter;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Registry of the {@link InterfaceMetrics} of several interfaces, keyed by their
+ * {@link DataInterface#getStableStringIdentifier()}. Instrumenting an interface attaches its metrics as a
+ * listener of the interface and, if it's a {@link DataReceiver} read by a {@link DefaultDataReader}, to the
+ * reader, so the interface itself is not wrapped nor changed. Interfaces with the same identifier share
+ * their metrics.
+ *
+ * @author Sergio Morel
+ */
+public class MetricsRegistry
+{
+	private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+	
+	private final Map<String, InterfaceMetrics> metrics = new ConcurrentHashMap<>();
+	
+	public MetricsRegistry()
+	{
+		super();
+	}
+	
+	/**
+	 * Gets the registry shared by the application.
+	 *
+	 * @return
+	 * - the shared registry.
+	 * @author Sergio Morel
+	 */
+	public static MetricsRegistry getDefault()
+	{
+		return DEFAULT;
+	}
+	
+	/**
+	 * Instruments an interface, creating its metrics if there are none with its identifier.
+	 *
+	 * @param dataInterface
+	 * - the interface.
+	 * @return
+	 * - the metrics of the interface.
+	 * @throws NullPointerException
+	 * if the interface is null.
+	 * @author Sergio Morel
+	 */
+	public InterfaceMetrics instrument(DataInterface dataInterface)
+	{
+		this.checkNotNull(dataInterface, "instrument(DataInterface dataInterface)");
+		
+		InterfaceMetrics interfaceMetrics = this.metrics.computeIfAbsent(dataInterface.getStableStringIdentifier(), InterfaceMetrics::new);
+		
+		dataInterface.addConnectionEventListeners(interfaceMetrics);
+		
+		if(dataInterface instanceof DataReceiver)
+		{
+			DataReceiver receiver = (DataReceiver)dataInterface;
+			
+			receiver.addDataListeners(interfaceMetrics);
+			
+			DataReader reader = receiver.getDataReader();
+			
+			if(reader instanceof DefaultDataReader)
+			{
+				((DefaultDataReader<?>)reader).setMetrics(interfaceMetrics);
+			}
+		}
+		
+		if(dataInterface instanceof DataTransmitter)
+		{
+			((DataTransmitter)dataInterface).addDataListeners(interfaceMetrics);
+		}
+		
+		return interfaceMetrics;
+	}
+	
+	/**
+	 * Detaches the metrics from an interface and removes them from the registry.
+	 *
+	 * @param dataInterface
+	 * - the interface.
+	 * @return
+	 * - the metrics removed, or <b>null</b> if the interface was not instrumented.
+	 * @throws NullPointerException
+	 * if the interface is null.
+	 * @author Sergio Morel
+	 */
+	public InterfaceMetrics remove(DataInterface dataInterface)
+	{
+		this.checkNotNull(dataInterface, "remove(DataInterface dataInterface)");
+		
+		InterfaceMetrics interfaceMetrics = this.metrics.remove(dataInterface.getStableStringIdentifier());
+		
+		if(interfaceMetrics == null)
+		{
+			return null;
+		}
+		
+		dataInterface.removeConnectionEventListeners(interfaceMetrics);
+		
+		if(dataInterface instanceof DataReceiver)
+		{
+			DataReceiver receiver = (DataReceiver)dataInterface;
+			
+			receiver.removeDataListeners(interfaceMetrics);
+			
+			DataReader reader = receiver.getDataReader();
+			
+			if(reader instanceof DefaultDataReader && ((DefaultDataReader<?>)reader).getMetrics() == interfaceMetrics)
+			{
+				((DefaultDataReader<?>)reader).setMetrics(null);
+			}
+		}
+		
+		if(dataInterface instanceof DataTransmitter)
+		{
+			((DataTransmitter)dataInterface).removeDataListeners(interfaceMetrics);
+		}
+		
+		return interfaceMetrics;
+	}
+	
+	private void checkNotNull(DataInterface dataInterface, String method)
+	{
+		if(dataInterface == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[dataInterface] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::").append(method);
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+	}
+	
+	/**
+	 * Gets the metrics of an interface.
+	 *
+	 * @param identifier
+	 * - stable identifier of the interface.
+	 * @return
+	 * - the metrics, or <b>null</b> if there is no interface instrumented with the identifier.
+	 * @author Sergio Morel
+	 */
+	public InterfaceMetrics getMetrics(String identifier)
+	{
+		return this.metrics.get(identifier);
+	}
+	
+	/**
+	 * Takes a snapshot of the metrics of every interface.
+	 *
+	 * @return
+	 * - unmodifiable map of the snapshots, sorted by identifier.
+	 * @author Sergio Morel
+	 */
+	public Map<String, InterfaceMetrics.Snapshot> snapshot()
+	{
+		Map<String, InterfaceMetrics.Snapshot> snapshots = new TreeMap<>();
+		
+		for(Map.Entry<String, InterfaceMetrics> entry : this.metrics.entrySet())
+		{
+			snapshots.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		
+		return Collections.unmodifiableMap(snapshots);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,549 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataCommunicator;
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.FrameListener;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.HashedWheelTimer;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Client that sends requests through a {@link DataCommunicator} without waiting for the response of
+ * the previous one, up to a maximum amount of requests in flight, and matches each response frame to
+ * its request with a correlation extracted from the frames. Each request returns a {@link CompletableFuture}
+ * that completes with the response frame, or exceptionally if the request times out, can't be sent or
+ * the communicator disconnects.
+ * <p>
+ * The client receives the frames as a {@link FrameListener}. It's added to the frame listeners of the
+ * communicator's reader if it's a {@link DefaultDataReader}; otherwise the frames must be passed to
+ * {@link #onFrameReceived(Instant, DataInterface, byte[])}. The futures are completed on the thread that
+ * delivers the frames, so long dependent actions should use the asynchronous methods of the future.
+ * </p>
+ * <p>
+ * The timeouts are armed in the shared {@link HashedWheelTimer}. Frames whose correlation doesn't match a
+ * pending request are counted and passed to the unmatched frame listener, if any.
+ * </p>
+ *
+ * @param <K> Type of the correlation.
+ * @author Sergio Morel
+ */
+public class PipelinedRequestClient<K> implements FrameListener, ConnectionEventListener, ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final DataCommunicator communicator;
+	private final Function<byte[], K> correlationExtractor;
+	private final int maxInFlight;
+	private final Semaphore slots;
+	private final Map<K, PendingRequest<K>> pending = new ConcurrentHashMap<>();
+	private final HashedWheelTimer timer = HashedWheelTimer.getDefault();
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong responseCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong unmatchedCount = new AtomicLong();
+	private volatile long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Values.Defaults.REQUEST_TIMEOUT_MS);
+	private volatile FrameListener unmatchedFrameListener;
+	private volatile boolean shuttingDown = false;
+	
+	/**
+	 * Creates a client with the default maximum amount of requests in flight.
+	 *
+	 * @param communicator
+	 * - communicator that sends the requests and receives the responses.
+	 * @param correlationExtractor
+	 * - function that extracts the correlation of a request or a response frame. It may return <b>null</b>
+	 * for frames that are not responses.
+	 * @author Sergio Morel
+	 */
+	public PipelinedRequestClient(DataCommunicator communicator, Function<byte[], K> correlationExtractor)
+	{
+		this(communicator, correlationExtractor, Values.Defaults.MAX_REQUESTS_IN_FLIGHT);
+	}
+	
+	/**
+	 * Creates a client.
+	 *
+	 * @param communicator
+	 * - communicator that sends the requests and receives the responses.
+	 * @param correlationExtractor
+	 * - function that extracts the correlation of a request or a response frame. It may return <b>null</b>
+	 * for frames that are not responses.
+	 * @param maxInFlight
+	 * - maximum amount of requests waiting for their response.
+	 * @throws NullPointerException
+	 * if the communicator or the extractor are null.
+	 * @throws IllegalArgumentException
+	 * if the maximum amount is not positive.
+	 * @author Sergio Morel
+	 */
+	public PipelinedRequestClient(DataCommunicator communicator, Function<byte[], K> correlationExtractor, int maxInFlight)
+	{
+		super();
+		
+		if(communicator == null || correlationExtractor == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append(communicator == null ? "[communicator] " : "[correlationExtractor] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::PipelinedRequestClient(DataCommunicator communicator, Function<byte[], K> correlationExtractor, int maxInFlight)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(maxInFlight <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "maxInFlight", maxInFlight);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.communicator = communicator;
+		this.correlationExtractor = correlationExtractor;
+		this.maxInFlight = maxInFlight;
+		this.slots = new Semaphore(maxInFlight);
+		
+		this.communicator.addConnectionEventListeners(this);
+		
+		DataReader reader = this.communicator.getDataReader();
+		
+		if(reader instanceof DefaultDataReader)
+		{
+			((DefaultDataReader<?>)reader).addFrameListeners(this);
+		}
+	}
+	
+	/**
+	 * Sends a request with the default timeout. The correlation is extracted from the request.
+	 *
+	 * @param request
+	 * - the request.
+	 * @return
+	 * - a future that completes with the response frame.
+	 * @throws RejectedExecutionException
+	 * if the client is shutting down, or the thread was interrupted while waiting for a request to complete.
+	 * @author Sergio Morel
+	 */
+	public CompletableFuture<byte[]> request(byte[] request)
+	{
+		K correlation = (request == null) ? null : this.correlationExtractor.apply(request);
+		
+		return this.request(correlation, request, this.timeoutNanos, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Sends a request, waiting for a request in flight to complete if the maximum amount is reached.
+	 *
+	 * @param correlation
+	 * - correlation of the response of the request.
+	 * @param request
+	 * - the request.
+	 * @param timeout
+	 * - time to wait for the response after the request is sent, negative to wait without timeout.
+	 * @param unit
+	 * - unit of the timeout.
+	 * @return
+	 * - a future that completes with the response frame, or exceptionally with a {@link CommunicationTimeoutException}
+	 * if the timeout expires, a {@link CommunicationException} if the request can't be sent or the communicator
+	 * disconnects, or an {@link IllegalStateException} if a request with the same correlation is pending.
+	 * @throws NullPointerException
+	 * if a parameter is null.
+	 * @throws RejectedExecutionException
+	 * if the client is shutting down, or the thread was interrupted while waiting for a request to complete.
+	 * @author Sergio Morel
+	 */
+	public CompletableFuture<byte[]> request(K correlation, byte[] request, long timeout, TimeUnit unit)
+	{
+		if(correlation == null || request == null || unit == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append(request == null ? "[request] " : (correlation == null ? "[correlation] " : "[unit] "));
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::request(K correlation, byte[] request, long timeout, TimeUnit unit)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		this.acquireSlot();
+		
+		PendingRequest<K> pendingRequest = new PendingRequest<>(correlation);
+		
+		if(this.pending.putIfAbsent(correlation, pendingRequest) != null)
+		{
+			this.slots.release();
+			
+			String errorMessage = MessageUtil.getMessage(Messages.DUPLICATE_CORRELATION_ERROR, correlation);
+			
+			pendingRequest.future.completeExceptionally(new IllegalStateException(errorMessage));
+			
+			return pendingRequest.future;
+		}
+		
+		this.requestCount.incrementAndGet();
+		
+		try
+		{
+			this.communicator.sendData(request);
+		}
+		catch(CommunicationException e)
+		{
+			this.complete(pendingRequest, null, e, null);
+			
+			return pendingRequest.future;
+		}
+		catch(RuntimeException e)
+		{
+			this.complete(pendingRequest, null, e, null);
+			
+			throw e;
+		}
+		
+		if(timeout >= 0)
+		{
+			pendingRequest.timeout = this.timer.newTimeout(() -> this.expire(pendingRequest), timeout, unit);
+			
+			// The response may have arrived before the timeout was armed, when completing it could not cancel it.
+			if(this.pending.get(correlation) != pendingRequest)
+			{
+				pendingRequest.timeout.cancel();
+			}
+		}
+		
+		return pendingRequest.future;
+	}
+	
+	/**
+	 * Waits for a request in flight to complete if the maximum amount is reached.
+	 */
+	private void acquireSlot()
+	{
+		this.checkShutdown();
+		
+		try
+		{
+			while(!this.slots.tryAcquire(Values.Defaults.POLL_DELAY_MS, TimeUnit.MILLISECONDS))
+			{
+				this.checkShutdown();
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			
+			String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+			
+			throw new RejectedExecutionException(errorMessage, e);
+		}
+		
+		if(this.shuttingDown)
+		{
+			this.slots.release();
+			
+			this.checkShutdown();
+		}
+	}
+	
+	private void checkShutdown()
+	{
+		if(!this.shuttingDown)
+		{
+			return;
+		}
+		
+		String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+		
+		throw new RejectedExecutionException(errorMessage);
+	}
+	
+	/**
+	 * Completes a pending request once, releasing its slot. The counter is incremented before the future
+	 * is completed, so the code that waits for the future sees it updated.
+	 *
+	 * @return
+	 * <b>true</b> if the request was pending.<br>
+	 * <b>false</b> if it was already completed.
+	 */
+	private boolean complete(PendingRequest<K> pendingRequest, byte[] response, Throwable throwable, AtomicLong counter)
+	{
+		if(!this.pending.remove(pendingRequest.correlation, pendingRequest))
+		{
+			return false;
+		}
+		
+		HashedWheelTimer.Timeout timeout = pendingRequest.timeout;
+		
+		if(timeout != null)
+		{
+			timeout.cancel();
+		}
+		
+		this.slots.release();
+		
+		if(counter != null)
+		{
+			counter.incrementAndGet();
+		}
+		
+		if(throwable == null)
+		{
+			pendingRequest.future.complete(response);
+		}
+		else
+		{
+			pendingRequest.future.completeExceptionally(throwable);
+		}
+		
+		return true;
+	}
+	
+	private void expire(PendingRequest<K> pendingRequest)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.REQUEST_TIMEOUT_ERROR, pendingRequest.correlation);
+		
+		this.complete(pendingRequest, null, new CommunicationTimeoutException(errorMessage), this.timeoutCount);
+	}
+	
+	/**
+	 * Completes the pending requests exceptionally.
+	 *
+	 * @param throwable
+	 * - the exception of the requests.
+	 * @author Sergio Morel
+	 */
+	public void failAll(Throwable throwable)
+	{
+		for(PendingRequest<K> pendingRequest : this.pending.values())
+		{
+			this.complete(pendingRequest, null, throwable, null);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Completes the request whose correlation matches the frame.
+	 * </p>
+	 */
+	@Override
+	public void onFrameReceived(Instant instant, DataInterface dataInterface, byte[] frame)
+	{
+		K correlation = null;
+		
+		try
+		{
+			correlation = this.correlationExtractor.apply(frame);
+		}
+		catch(RuntimeException e)
+		{
+			LOGGER.debug(e);
+		}
+		
+		PendingRequest<K> pendingRequest = (correlation == null) ? null : this.pending.get(correlation);
+		
+		if(pendingRequest != null && this.complete(pendingRequest, frame, null, this.responseCount))
+		{
+			return;
+		}
+		
+		this.unmatchedCount.incrementAndGet();
+		
+		FrameListener listener = this.unmatchedFrameListener;
+		
+		if(listener != null)
+		{
+			try
+			{
+				listener.onFrameReceived(instant, dataInterface, frame);
+			}
+			catch(RuntimeException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Fails the pending requests with a {@link ConnectionClosedException}.
+	 * </p>
+	 */
+	@Override
+	public void onDisconnect(Instant instant, DataInterface dataInterface)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, dataInterface.getStableStringIdentifier());
+		
+		this.failAll(new ConnectionClosedException(errorMessage));
+	}
+	
+	@Override
+	public void onConnect(Instant instant, DataInterface dataInterface) {}
+	
+	@Override
+	public void onConnectError(Instant instant, DataInterface dataInterface, Throwable throwable) {}
+	
+	@Override
+	public void onDisconnectError(Instant instant, DataInterface dataInterface, Throwable throwable) {}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Detaches the client from the communicator and fails the pending requests. The communicator is not shut down.
+	 * </p>
+	 */
+	@Override
+	public PipelinedRequestClient<K> shutdown()
+	{
+		this.shuttingDown = true;
+		
+		this.communicator.removeConnectionEventListeners(this);
+		
+		DataReader reader = this.communicator.getDataReader();
+		
+		if(reader instanceof DefaultDataReader)
+		{
+			((DefaultDataReader<?>)reader).removeFrameListeners(this);
+		}
+		
+		String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+		
+		this.failAll(new CommunicationException(errorMessage));
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	/**
+	 * Sets the timeout of the requests sent without one.
+	 *
+	 * @param timeout
+	 * - time to wait for the response, negative to wait without timeout.
+	 * @param unit
+	 * - unit of the timeout.
+	 * @return
+	 * - this client.
+	 * @author Sergio Morel
+	 */
+	public PipelinedRequestClient<K> setTimeout(long timeout, TimeUnit unit)
+	{
+		this.timeoutNanos = (timeout < 0) ? -1 : unit.toNanos(timeout);
+		
+		return this;
+	}
+	
+	public long getTimeoutNanos()
+	{
+		return this.timeoutNanos;
+	}
+	
+	/**
+	 * Sets the listener of the frames that don't match a pending request, such as late responses or
+	 * unsolicited messages.
+	 *
+	 * @param listener
+	 * - the listener, or <b>null</b> to discard them.
+	 * @return
+	 * - this client.
+	 * @author Sergio Morel
+	 */
+	public PipelinedRequestClient<K> setUnmatchedFrameListener(FrameListener listener)
+	{
+		this.unmatchedFrameListener = listener;
+		
+		return this;
+	}
+	
+	public FrameListener getUnmatchedFrameListener()
+	{
+		return this.unmatchedFrameListener;
+	}
+	
+	public DataCommunicator getCommunicator()
+	{
+		return this.communicator;
+	}
+	
+	public int getMaxInFlight()
+	{
+		return this.maxInFlight;
+	}
+	
+	public int getInFlightCount()
+	{
+		return this.pending.size();
+	}
+	
+	public long getRequestCount()
+	{
+		return this.requestCount.get();
+	}
+	
+	public long getResponseCount()
+	{
+		return this.responseCount.get();
+	}
+	
+	public long getTimeoutCount()
+	{
+		return this.timeoutCount.get();
+	}
+	
+	/**
+	 * Gets the amount of frames that didn't match a pending request.
+	 *
+	 * @return
+	 * - the amount of unmatched frames.
+	 * @author Sergio Morel
+	 */
+	public long getUnmatchedCount()
+	{
+		return this.unmatchedCount.get();
+	}
+	
+	/**
+	 * Request waiting for its response.
+	 */
+	private static final class PendingRequest<K>
+	{
+		private final K correlation;
+		private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+		private volatile HashedWheelTimer.Timeout timeout;
+		
+		private PendingRequest(K correlation)
+		{
+			this.correlation = correlation;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,327 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.NamedThreadFactory;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Executor that runs each {@link DataReader} on its own thread, so thousands of readers can be
+ * executed without a thread pool sized for them.
+ * <p>
+ * When the runtime supports virtual threads (Java 21 or later), the readers are executed on
+ * virtual threads, obtained by reflection so the library still runs on Java 17, where platform
+ * threads created by a {@link NamedThreadFactory} are used instead. The readers may rename their
+ * thread as {@link DefaultDataReader} does, and {@link #interrupt(DataReader)} and {@link #shutdown()}
+ * interrupt the thread of the reader, as with a dedicated thread.
+ * </p>
+ * <p>
+ * Note: The waits of {@link DefaultDataReader} park the thread without holding monitors, so they don't
+ * pin the carrier thread of a virtual thread. Receivers should also avoid blocking inside
+ * <b>synchronized</b> blocks in {@code readData()}, using {@link java.util.concurrent.locks.ReentrantLock}
+ * instead, or the carrier thread remains blocked while they wait.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class ReaderExecutor implements ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final String name;
+	private final ThreadFactory threadFactory;
+	private final boolean virtual;
+	private final Map<DataReader, Thread> readers = new ConcurrentHashMap<>();
+	private final Object stateLock = new Object();
+	private volatile boolean shuttingDown = false;
+	
+	/**
+	 * Creates an executor named after the class.
+	 *
+	 * @author Sergio Morel
+	 */
+	public ReaderExecutor()
+	{
+		this(ReaderExecutor.class.getSimpleName());
+	}
+	
+	/**
+	 * Creates an executor.
+	 *
+	 * @param name
+	 * - prefix for the names of the threads.
+	 * @author Sergio Morel
+	 */
+	public ReaderExecutor(String name)
+	{
+		this(name, true);
+	}
+	
+	/**
+	 * Creates an executor.
+	 *
+	 * @param name
+	 * - prefix for the names of the threads.
+	 * @param preferVirtualThreads
+	 * - <b>true</b> to use virtual threads when the runtime supports them, <b>false</b> to always use platform threads.
+	 * @author Sergio Morel
+	 */
+	public ReaderExecutor(String name, boolean preferVirtualThreads)
+	{
+		super();
+		
+		ThreadFactory virtualThreadFactory = preferVirtualThreads ? createVirtualThreadFactory(name) : null;
+		
+		this.name = name;
+		this.virtual = virtualThreadFactory != null;
+		this.threadFactory = this.virtual ? virtualThreadFactory : new NamedThreadFactory(name);
+	}
+	
+	/**
+	 * Starts executing a reader on a new thread.
+	 *
+	 * @param reader
+	 * - the reader.
+	 * @return
+	 * - the thread executing the reader.
+	 * @throws NullPointerException
+	 * if the reader is null.
+	 * @throws IllegalStateException
+	 * if the reader is already running in this executor.
+	 * @throws RejectedExecutionException
+	 * if the executor is shutting down.
+	 * @author Sergio Morel
+	 */
+	public Thread execute(DataReader reader)
+	{
+		if(reader == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[reader] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::execute(DataReader reader)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		Thread thread = this.threadFactory.newThread(() -> this.run(reader));
+		
+		// The thread is registered and started under the lock, so a shutdown either rejects it or interrupts it.
+		synchronized(this.stateLock)
+		{
+			if(this.shuttingDown)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.EXECUTOR_SHUTDOWN_ERROR, this.name);
+				
+				throw new RejectedExecutionException(errorMessage);
+			}
+			
+			if(this.readers.putIfAbsent(reader, thread) != null)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.READER_ALREADY_RUNNING_ERROR, reader);
+				
+				throw new IllegalStateException(errorMessage);
+			}
+			
+			thread.start();
+		}
+		
+		return thread;
+	}
+	
+	private void run(DataReader reader)
+	{
+		try
+		{
+			reader.run();
+		}
+		catch(RuntimeException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, reader);
+			
+			LOGGER.error(errorMessage, e);
+		}
+		finally
+		{
+			this.readers.remove(reader);
+		}
+	}
+	
+	/**
+	 * Interrupts the thread of a reader.
+	 *
+	 * @param reader
+	 * - the reader.
+	 * @return
+	 * <b>true</b> if the reader was running in this executor.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean interrupt(DataReader reader)
+	{
+		Thread thread = this.readers.get(reader);
+		
+		if(thread == null)
+		{
+			return false;
+		}
+		
+		thread.interrupt();
+		
+		return true;
+	}
+	
+	/**
+	 * Gets the amount of readers running.
+	 *
+	 * @return
+	 * - the amount of readers whose {@code run()} method has not returned.
+	 * @author Sergio Morel
+	 */
+	public int getLiveReaderCount()
+	{
+		return this.readers.size();
+	}
+	
+	/**
+	 * Gets the readers running.
+	 *
+	 * @return
+	 * - an unmodifiable view of the readers whose {@code run()} method has not returned.
+	 * @author Sergio Morel
+	 */
+	public Set<DataReader> getReaders()
+	{
+		return Collections.unmodifiableSet(this.readers.keySet());
+	}
+	
+	/**
+	 * Indicates if the readers are executed on virtual threads.
+	 *
+	 * @return
+	 * <b>true</b> if virtual threads are used.<br>
+	 * <b>false</b> if platform threads are used.
+	 * @author Sergio Morel
+	 */
+	public boolean isVirtual()
+	{
+		return this.virtual;
+	}
+	
+	/**
+	 * Gets the name of the executor.
+	 *
+	 * @return
+	 * - the prefix for the names of the threads.
+	 * @author Sergio Morel
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation rejects new readers and interrupts the threads of the readers running.
+	 * </p>
+	 */
+	@Override
+	public ReaderExecutor shutdown()
+	{
+		synchronized(this.stateLock)
+		{
+			this.shuttingDown = true;
+			
+			for(Thread thread : this.readers.values())
+			{
+				thread.interrupt();
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	/**
+	 * Waits until all the readers have finished or the time passes.
+	 *
+	 * @param timeout
+	 * - maximum time to wait.
+	 * @param unit
+	 * - unit of the timeout.
+	 * @return
+	 * <b>true</b> if all the readers finished.<br>
+	 * <b>false</b> if the time passed.
+	 * @throws InterruptedException
+	 * if the current thread is interrupted while waiting.
+	 * @author Sergio Morel
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		
+		for(Thread thread : this.readers.values())
+		{
+			long remaining = deadline - System.nanoTime();
+			
+			if(remaining <= 0)
+			{
+				break;
+			}
+			
+			TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+		}
+		
+		return this.readers.isEmpty();
+	}
+	
+	/**
+	 * Creates a factory of virtual threads through reflection, since the API is not available in Java 17.
+	 *
+	 * @param name
+	 * - prefix for the names of the threads.
+	 * @return
+	 * - the factory.<br>
+	 * - <b>null</b> if the runtime doesn't support virtual threads.
+	 */
+	private static ThreadFactory createVirtualThreadFactory(String name)
+	{
+		try
+		{
+			Method ofVirtual = Thread.class.getMethod("ofVirtual");
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			
+			Object builder = ofVirtual.invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "_", 0L);
+			
+			return (ThreadFactory)builderClass.getMethod("factory").invoke(builder);
+		}
+		catch(ReflectiveOperationException | RuntimeException e)
+		{
+			return null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Signal of data availability, for {@link py.com.semp.lib.utilidades.communication.interfaces.ReadinessAwareDataReceiver}
+ * implementations that are notified by a callback when data arrives. The callback calls {@link #signal()}
+ * and the reading thread waits in {@link #await(long)} instead of sleeping a fixed delay.
+ * <p>
+ * Note: Only one thread may wait on the signal at a time.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class ReadinessSignal
+{
+	private final AtomicBoolean signaled = new AtomicBoolean(false);
+	
+	private volatile Thread waiter;
+	
+	public ReadinessSignal()
+	{
+		super();
+	}
+	
+	/**
+	 * Signals that data is available, waking up the waiting thread.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void signal()
+	{
+		this.signaled.set(true);
+		
+		Thread thread = this.waiter;
+		
+		if(thread != null)
+		{
+			LockSupport.unpark(thread);
+		}
+	}
+	
+	/**
+	 * Waits until the signal is received or the time passes, and consumes the signal.
+	 *
+	 * @param timeoutNanos
+	 * - maximum time to wait, in nanoseconds.
+	 * @return
+	 * <b>true</b> if the signal was received.<br>
+	 * <b>false</b> if the time passed or the thread was interrupted.
+	 * @author Sergio Morel
+	 */
+	public boolean await(long timeoutNanos)
+	{
+		if(this.signaled.getAndSet(false))
+		{
+			return true;
+		}
+		
+		long deadline = System.nanoTime() + timeoutNanos;
+		
+		this.waiter = Thread.currentThread();
+		
+		try
+		{
+			while(true)
+			{
+				if(this.signaled.getAndSet(false))
+				{
+					return true;
+				}
+				
+				long remaining = deadline - System.nanoTime();
+				
+				if(remaining <= 0 || Thread.currentThread().isInterrupted())
+				{
+					return false;
+				}
+				
+				LockSupport.parkNanos(this, remaining);
+			}
+		}
+		finally
+		{
+			this.waiter = null;
+		}
+	}
+	
+	/**
+	 * Indicates if the signal was received and not consumed yet.
+	 *
+	 * @return
+	 * <b>true</b> if there is a pending signal.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean isSignaled()
+	{
+		return this.signaled.get();
+	}
+	
+	/**
+	 * Discards a pending signal.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void clear()
+	{
+		this.signaled.set(false);
+	}
+}
\ No newline at end of file
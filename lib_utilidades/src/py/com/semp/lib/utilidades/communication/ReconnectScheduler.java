@@ -0,0 +1,725 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.HashedWheelTimer;
+import py.com.semp.lib.utilidades.utilities.NamedThreadFactory;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Schedules the reconnection of data interfaces after they disconnect or fail to connect,
+ * calling {@link DataInterface#requestReconnect()} with a policy that avoids reconnect storms
+ * when many connections drop at the same time:
+ * <ul>
+ * <li>Exponential backoff with full jitter: the delay of each attempt is random between 0 and
+ * a ceiling that doubles on each failed attempt, up to a maximum, so the retries spread out.</li>
+ * <li>A maximum rate of attempts per host: attempts over the rate are deferred.</li>
+ * <li>A circuit breaker per host: after a number of consecutive failed attempts the circuit opens
+ * and no attempts are made until the open time passes; then a single trial attempt is made, which
+ * closes the circuit if it succeeds or opens it again if it fails.</li>
+ * </ul>
+ * <p>
+ * All the delays are armed in a single {@link HashedWheelTimer}, and the attempts are executed in
+ * a small pool of threads, so thousands of interfaces are handled without a thread or timer each.
+ * The hosts are identified by {@link DataInterface#getStableStringIdentifier()} unless another
+ * function is set with {@link #setHostKeyFunction(Function)}.
+ * </p>
+ * <p>
+ * Disconnections requested through {@link DataInterface#disconnect()} or {@link DataInterface#shutdown()}
+ * are not reconnected: the interface reports them with {@link DataInterface#isStopping()} or
+ * {@link DataInterface#isShuttingDown()} while it informs the disconnection.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class ReconnectScheduler implements ConnectionEventListener, ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	/**
+	 * State of the circuit breaker of a host.
+	 *
+	 * @author Sergio Morel
+	 */
+	public enum CircuitState
+	{
+		/**
+		 * Attempts are allowed.
+		 */
+		CLOSED,
+		
+		/**
+		 * Attempts are not allowed until the open time passes.
+		 */
+		OPEN,
+		
+		/**
+		 * A single trial attempt is allowed.
+		 */
+		HALF_OPEN
+	}
+	
+	private final HashedWheelTimer timer;
+	private final ExecutorService executor;
+	private final Map<DataInterface, Reconnection> reconnections = new ConcurrentHashMap<>();
+	private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+	private final AtomicLong attemptCount = new AtomicLong();
+	private final AtomicLong successCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private final AtomicLong deferredCount = new AtomicLong();
+	private final AtomicLong circuitOpenCount = new AtomicLong();
+	private volatile Function<DataInterface, String> hostKeyFunction = DataInterface::getStableStringIdentifier;
+	private volatile long baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(Values.Defaults.RECONNECT_BASE_DELAY_MS);
+	private volatile long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Values.Defaults.RECONNECT_MAX_DELAY_MS);
+	private volatile double maxAttemptsPerSecond = Values.Defaults.RECONNECT_MAX_ATTEMPTS_PER_SECOND;
+	private volatile int failureThreshold = Values.Defaults.CIRCUIT_FAILURE_THRESHOLD;
+	private volatile long openNanos = TimeUnit.MILLISECONDS.toNanos(Values.Defaults.CIRCUIT_OPEN_MS);
+	private volatile boolean shuttingDown = false;
+	
+	/**
+	 * Creates a scheduler that uses the shared {@link HashedWheelTimer} and the default policy.
+	 *
+	 * @author Sergio Morel
+	 */
+	public ReconnectScheduler()
+	{
+		this(HashedWheelTimer.getDefault(), Values.Defaults.RECONNECT_THREADS);
+	}
+	
+	/**
+	 * Creates a scheduler with the default policy.
+	 *
+	 * @param timer
+	 * - timer where the delays are armed.
+	 * @param threadCount
+	 * - amount of threads that execute the attempts.
+	 * @throws IllegalArgumentException
+	 * if the amount of threads is not positive.
+	 * @author Sergio Morel
+	 */
+	public ReconnectScheduler(HashedWheelTimer timer, int threadCount)
+	{
+		super();
+		
+		if(timer == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[timer] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::ReconnectScheduler(HashedWheelTimer timer, int threadCount)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(threadCount <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "threadCount", threadCount);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.timer = timer;
+		this.executor = Executors.newFixedThreadPool(threadCount, new NamedThreadFactory(this.getClass().getSimpleName()));
+	}
+	
+	/**
+	 * Registers data interfaces, so they are reconnected when they disconnect or fail to connect.
+	 *
+	 * @param dataInterfaces
+	 * - the data interfaces.
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public ReconnectScheduler register(DataInterface... dataInterfaces)
+	{
+		for(DataInterface dataInterface : dataInterfaces)
+		{
+			if(dataInterface == null)
+			{
+				StringBuilder methodName = new StringBuilder();
+				
+				methodName.append("[dataInterfaces] ");
+				methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+				methodName.append("::register(DataInterface... dataInterfaces)");
+				
+				String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+				
+				throw new NullPointerException(errorMessage);
+			}
+			
+			if(this.reconnections.putIfAbsent(dataInterface, new Reconnection(dataInterface)) == null)
+			{
+				dataInterface.addConnectionEventListeners(this);
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Unregisters data interfaces, cancelling their pending reconnections.
+	 *
+	 * @param dataInterfaces
+	 * - the data interfaces.
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public ReconnectScheduler unregister(DataInterface... dataInterfaces)
+	{
+		for(DataInterface dataInterface : dataInterfaces)
+		{
+			Reconnection reconnection = this.reconnections.remove(dataInterface);
+			
+			if(reconnection != null)
+			{
+				reconnection.cancel();
+				
+				dataInterface.removeConnectionEventListeners(this);
+			}
+		}
+		
+		return this;
+	}
+	
+	public Set<DataInterface> getDataInterfaces()
+	{
+		return Collections.unmodifiableSet(this.reconnections.keySet());
+	}
+	
+	@Override
+	public void onDisconnect(Instant instant, DataInterface dataInterface)
+	{
+		if(dataInterface.isStopping() || dataInterface.isShuttingDown())
+		{
+			return;
+		}
+		
+		this.schedule(dataInterface);
+	}
+	
+	@Override
+	public void onConnect(Instant instant, DataInterface dataInterface)
+	{
+		Reconnection reconnection = this.reconnections.get(dataInterface);
+		
+		if(reconnection != null)
+		{
+			reconnection.attempt = 0;
+			
+			this.getHostState(dataInterface).onSuccess();
+		}
+	}
+	
+	@Override
+	public void onConnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+		this.schedule(dataInterface);
+	}
+	
+	@Override
+	public void onDisconnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+	}
+	
+	/**
+	 * Schedules the reconnection of a data interface, unless one is already scheduled or in progress.
+	 *
+	 * @param dataInterface
+	 * - the data interface, which must be registered.
+	 * @return
+	 * <b>true</b> if a reconnection was scheduled.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean schedule(DataInterface dataInterface)
+	{
+		Reconnection reconnection = this.reconnections.get(dataInterface);
+		
+		if(reconnection == null || this.shuttingDown || !reconnection.scheduled.compareAndSet(false, true))
+		{
+			return false;
+		}
+		
+		reconnection.arm(this.nextDelayNanos(reconnection.attempt));
+		
+		return true;
+	}
+	
+	/**
+	 * Calculates the delay of an attempt with full jitter.
+	 */
+	private long nextDelayNanos(int attempt)
+	{
+		long ceiling = this.baseDelayNanos << Math.min(attempt, 30);
+		
+		if(ceiling <= 0 || ceiling > this.maxDelayNanos)
+		{
+			ceiling = this.maxDelayNanos;
+		}
+		
+		return ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+	
+	private HostState getHostState(DataInterface dataInterface)
+	{
+		String host = Utilities.coalesce(this.hostKeyFunction.apply(dataInterface), Values.Constants.NULL_VALUE_STRING);
+		
+		return this.hosts.computeIfAbsent(host, key -> new HostState());
+	}
+	
+	/**
+	 * Executes an attempt, or defers it if the circuit of the host is open or its rate is exceeded.
+	 */
+	private void attempt(Reconnection reconnection)
+	{
+		if(this.shuttingDown || this.reconnections.get(reconnection.dataInterface) != reconnection || reconnection.dataInterface.isShuttingDown())
+		{
+			reconnection.scheduled.set(false);
+			
+			return;
+		}
+		
+		HostState host = this.getHostState(reconnection.dataInterface);
+		long waitNanos = host.acquire(System.nanoTime());
+		
+		if(waitNanos > 0)
+		{
+			this.deferredCount.incrementAndGet();
+			
+			reconnection.arm(waitNanos + ThreadLocalRandom.current().nextLong(this.timer.getTickNanos() + 1));
+			
+			return;
+		}
+		
+		this.attemptCount.incrementAndGet();
+		
+		boolean connected = false;
+		
+		try
+		{
+			reconnection.dataInterface.requestReconnect();
+			
+			connected = reconnection.dataInterface.isConnected();
+		}
+		catch(CommunicationException | RuntimeException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.RECONNECT_ERROR, reconnection.dataInterface.getStableStringIdentifier());
+			
+			LOGGER.debug(errorMessage, e);
+		}
+		
+		if(connected)
+		{
+			this.successCount.incrementAndGet();
+			
+			host.onSuccess();
+			
+			reconnection.attempt = 0;
+			reconnection.scheduled.set(false);
+			
+			return;
+		}
+		
+		this.failureCount.incrementAndGet();
+		
+		if(host.onFailure(System.nanoTime()))
+		{
+			this.circuitOpenCount.incrementAndGet();
+		}
+		
+		reconnection.attempt++;
+		reconnection.arm(this.nextDelayNanos(reconnection.attempt));
+	}
+	
+	/**
+	 * Sets the backoff of the attempts.
+	 *
+	 * @param baseDelay
+	 * - ceiling of the delay of the first attempt, which doubles on each failed attempt.
+	 * @param maxDelay
+	 * - maximum ceiling of the delay.
+	 * @param unit
+	 * - unit of the delays.
+	 * @throws IllegalArgumentException
+	 * if the base delay is not positive or the maximum delay is less than the base delay.
+	 * @author Sergio Morel
+	 */
+	public void setBackoff(long baseDelay, long maxDelay, TimeUnit unit)
+	{
+		checkArgument(baseDelay > 0, "baseDelay", baseDelay);
+		checkArgument(maxDelay >= baseDelay, "maxDelay", maxDelay);
+		
+		this.baseDelayNanos = unit.toNanos(baseDelay);
+		this.maxDelayNanos = unit.toNanos(maxDelay);
+	}
+	
+	/**
+	 * Sets the maximum rate of attempts per host. Short bursts of up to one second worth of attempts are allowed.
+	 *
+	 * @param maxAttemptsPerSecond
+	 * - maximum amount of attempts per second to the same host.
+	 * @throws IllegalArgumentException
+	 * if the rate is not positive.
+	 * @author Sergio Morel
+	 */
+	public void setMaxAttemptRate(double maxAttemptsPerSecond)
+	{
+		if(!(maxAttemptsPerSecond > 0))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "maxAttemptsPerSecond", maxAttemptsPerSecond);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.maxAttemptsPerSecond = maxAttemptsPerSecond;
+	}
+	
+	/**
+	 * Sets the circuit breaker of the hosts.
+	 *
+	 * @param failureThreshold
+	 * - amount of consecutive failed attempts that opens the circuit.
+	 * @param openTime
+	 * - time that the circuit remains open before a trial attempt.
+	 * @param unit
+	 * - unit of the open time.
+	 * @throws IllegalArgumentException
+	 * if the threshold or the open time are not positive.
+	 * @author Sergio Morel
+	 */
+	public void setCircuitBreaker(int failureThreshold, long openTime, TimeUnit unit)
+	{
+		checkArgument(failureThreshold > 0, "failureThreshold", failureThreshold);
+		checkArgument(openTime > 0, "openTime", openTime);
+		
+		this.failureThreshold = failureThreshold;
+		this.openNanos = unit.toNanos(openTime);
+	}
+	
+	/**
+	 * Sets the function that obtains the host of a data interface, for the rate and the circuit breaker.
+	 *
+	 * @param hostKeyFunction
+	 * - the function.
+	 * @author Sergio Morel
+	 */
+	public void setHostKeyFunction(Function<DataInterface, String> hostKeyFunction)
+	{
+		if(hostKeyFunction == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[hostKeyFunction] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::setHostKeyFunction(Function<DataInterface, String> hostKeyFunction)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		this.hostKeyFunction = hostKeyFunction;
+	}
+	
+	/**
+	 * Gets the state of the circuit breaker of a host.
+	 *
+	 * @param host
+	 * - the host.
+	 * @return
+	 * - the state of the circuit, {@link CircuitState#CLOSED} if there were no attempts to the host.
+	 * @author Sergio Morel
+	 */
+	public CircuitState getCircuitState(String host)
+	{
+		HostState hostState = this.hosts.get(host);
+		
+		return (hostState == null) ? CircuitState.CLOSED : hostState.getState(System.nanoTime());
+	}
+	
+	/**
+	 * Gets the amount of reconnections scheduled or in progress.
+	 *
+	 * @return
+	 * - the amount of pending reconnections.
+	 * @author Sergio Morel
+	 */
+	public int getPendingCount()
+	{
+		int count = 0;
+		
+		for(Reconnection reconnection : this.reconnections.values())
+		{
+			if(reconnection.scheduled.get())
+			{
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	public long getAttemptCount()
+	{
+		return this.attemptCount.get();
+	}
+	
+	public long getSuccessCount()
+	{
+		return this.successCount.get();
+	}
+	
+	public long getFailureCount()
+	{
+		return this.failureCount.get();
+	}
+	
+	/**
+	 * Gets the amount of attempts deferred because the circuit of the host was open or its rate was exceeded.
+	 *
+	 * @return
+	 * - the amount of deferred attempts.
+	 * @author Sergio Morel
+	 */
+	public long getDeferredCount()
+	{
+		return this.deferredCount.get();
+	}
+	
+	/**
+	 * Gets the amount of times that a circuit was opened.
+	 *
+	 * @return
+	 * - the amount of circuit openings.
+	 * @author Sergio Morel
+	 */
+	public long getCircuitOpenCount()
+	{
+		return this.circuitOpenCount.get();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation cancels the pending reconnections, unregisters from the data interfaces
+	 * and stops the threads that execute the attempts. The timer is not stopped, since it may be shared.
+	 * </p>
+	 */
+	@Override
+	public ReconnectScheduler shutdown()
+	{
+		this.shuttingDown = true;
+		
+		for(DataInterface dataInterface : this.reconnections.keySet())
+		{
+			this.unregister(dataInterface);
+		}
+		
+		this.executor.shutdownNow();
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	private static void checkArgument(boolean valid, String name, long value)
+	{
+		if(!valid)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, name, value);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+	
+	/**
+	 * Reconnection state of a data interface.
+	 */
+	private final class Reconnection
+	{
+		private final DataInterface dataInterface;
+		
+		/**
+		 * Indicates if an attempt is scheduled or in progress.
+		 */
+		private final AtomicBoolean scheduled = new AtomicBoolean(false);
+		private volatile int attempt = 0;
+		private volatile HashedWheelTimer.Timeout timeout;
+		
+		private Reconnection(DataInterface dataInterface)
+		{
+			this.dataInterface = dataInterface;
+		}
+		
+		private void arm(long delayNanos)
+		{
+			this.timeout = ReconnectScheduler.this.timer.newTimeout(this::submit, delayNanos, TimeUnit.NANOSECONDS);
+		}
+		
+		/**
+		 * Hands the attempt over to the executor, since it may block.
+		 */
+		private void submit()
+		{
+			try
+			{
+				ReconnectScheduler.this.executor.execute(() -> ReconnectScheduler.this.attempt(this));
+			}
+			catch(RejectedExecutionException e)
+			{
+				this.scheduled.set(false);
+			}
+		}
+		
+		private void cancel()
+		{
+			HashedWheelTimer.Timeout timeout = this.timeout;
+			
+			if(timeout != null)
+			{
+				timeout.cancel();
+			}
+			
+			this.scheduled.set(false);
+		}
+	}
+	
+	/**
+	 * Rate limiter and circuit breaker of a host.
+	 */
+	private final class HostState
+	{
+		private CircuitState state = CircuitState.CLOSED;
+		private int consecutiveFailures = 0;
+		private long openedNanos;
+		private boolean trialInProgress = false;
+		private double tokens = -1;
+		private long refillNanos;
+		
+		/**
+		 * Acquires permission for an attempt.
+		 *
+		 * @return
+		 * - 0 if the attempt is allowed, or the time to wait before trying again.
+		 */
+		private synchronized long acquire(long now)
+		{
+			CircuitState currentState = this.getState(now);
+			
+			if(currentState == CircuitState.OPEN)
+			{
+				return Math.max(1, this.openedNanos + ReconnectScheduler.this.openNanos - now);
+			}
+			
+			if(currentState == CircuitState.HALF_OPEN)
+			{
+				if(this.trialInProgress)
+				{
+					return ReconnectScheduler.this.openNanos;
+				}
+				
+				this.state = CircuitState.HALF_OPEN;
+				this.trialInProgress = true;
+			}
+			
+			double rate = ReconnectScheduler.this.maxAttemptsPerSecond;
+			double capacity = Math.max(1, rate);
+			
+			if(this.tokens < 0)
+			{
+				this.tokens = capacity;
+			}
+			else
+			{
+				this.tokens = Math.min(capacity, this.tokens + (now - this.refillNanos) * rate / TimeUnit.SECONDS.toNanos(1));
+			}
+			
+			this.refillNanos = now;
+			
+			if(this.tokens < 1)
+			{
+				if(currentState == CircuitState.HALF_OPEN)
+				{
+					this.trialInProgress = false;
+				}
+				
+				return Math.max(1, (long)((1 - this.tokens) * TimeUnit.SECONDS.toNanos(1) / rate));
+			}
+			
+			this.tokens--;
+			
+			return 0;
+		}
+		
+		private synchronized CircuitState getState(long now)
+		{
+			if(this.state == CircuitState.OPEN && now - this.openedNanos >= ReconnectScheduler.this.openNanos)
+			{
+				return CircuitState.HALF_OPEN;
+			}
+			
+			return this.state;
+		}
+		
+		private synchronized void onSuccess()
+		{
+			this.state = CircuitState.CLOSED;
+			this.consecutiveFailures = 0;
+			this.trialInProgress = false;
+		}
+		
+		/**
+		 * Records a failed attempt.
+		 *
+		 * @return
+		 * <b>true</b> if the circuit was opened.<br>
+		 * <b>false</b> otherwise.
+		 */
+		private synchronized boolean onFailure(long now)
+		{
+			this.consecutiveFailures++;
+			
+			boolean open = this.state == CircuitState.HALF_OPEN || (this.state == CircuitState.CLOSED && this.consecutiveFailures >= ReconnectScheduler.this.failureThreshold);
+			
+			this.trialInProgress = false;
+			
+			if(open)
+			{
+				this.state = CircuitState.OPEN;
+				this.openedNanos = now;
+			}
+			
+			return open;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,674 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import py.com.semp.lib.utilidades.communication.interfaces.ChannelDataReceiver;
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.data.CircularByteBuffer;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.ShutdownException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.NamedThreadFactory;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Reader that multiplexes many {@link ChannelDataReceiver} instances over a small fixed set of
+ * event loop threads, each with its own {@link Selector}, instead of one thread per receiver.
+ * <p>
+ * Each registered receiver gets a {@link ChannelReader}, the {@link DataReader} that controls its
+ * life cycle. The bytes read from a channel are added to the {@link CircularByteBuffer} of its
+ * reader and then sent to the {@link DataListener} instances of the receiver. The listeners are
+ * called from the event loop thread, so they may extract frames from the buffer of the reader
+ * during the call, but they should not block.
+ * </p>
+ * <p>
+ * The listeners receive a copy of the bytes read, since the read buffer of the event loop is reused
+ * by the next read. The copy is not made if the receiver has no listeners.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class SelectorDataReader implements ShutdownCapable
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final EventLoop[] eventLoops;
+	private final int bufferCapacity;
+	private final AtomicInteger nextEventLoop = new AtomicInteger();
+	private final Set<ChannelReader> readers = ConcurrentHashMap.newKeySet();
+	private volatile boolean shuttingDown = false;
+	
+	/**
+	 * Creates a reader with the default amount of event loops and buffer sizes.
+	 *
+	 * @throws CommunicationException
+	 * if a selector can't be opened.
+	 * @author Sergio Morel
+	 */
+	public SelectorDataReader() throws CommunicationException
+	{
+		this(Values.Defaults.SELECTOR_EVENT_LOOPS, Values.Defaults.READ_BUFFER_SIZE, Values.Defaults.CONNECTION_BUFFER_CAPACITY);
+	}
+	
+	/**
+	 * Creates a reader.
+	 *
+	 * @param eventLoopCount
+	 * - amount of event loop threads.
+	 * @param readBufferSize
+	 * - size of the buffer of each event loop, used for each read from a channel.
+	 * @param bufferCapacity
+	 * - capacity of the {@link CircularByteBuffer} of each receiver.
+	 * @throws IllegalArgumentException
+	 * if a value is not positive.
+	 * @throws CommunicationException
+	 * if a selector can't be opened.
+	 * @author Sergio Morel
+	 */
+	public SelectorDataReader(int eventLoopCount, int readBufferSize, int bufferCapacity) throws CommunicationException
+	{
+		super();
+		
+		checkPositive("eventLoopCount", eventLoopCount);
+		checkPositive("readBufferSize", readBufferSize);
+		checkPositive("bufferCapacity", bufferCapacity);
+		
+		this.bufferCapacity = bufferCapacity;
+		this.eventLoops = new EventLoop[eventLoopCount];
+		
+		NamedThreadFactory threadFactory = new NamedThreadFactory(this.getClass().getSimpleName());
+		
+		for(int i = 0; i < eventLoopCount; i++)
+		{
+			this.eventLoops[i] = new EventLoop(readBufferSize);
+		}
+		
+		for(EventLoop eventLoop : this.eventLoops)
+		{
+			eventLoop.thread = threadFactory.newThread(eventLoop);
+			eventLoop.thread.start();
+		}
+	}
+	
+	/**
+	 * Registers a receiver. Its channel is configured in non-blocking mode and read by one of the event loops.
+	 *
+	 * @param receiver
+	 * - the receiver.
+	 * @return
+	 * - the reader that controls the life cycle of the reading.
+	 * @throws NullPointerException
+	 * if the receiver is null.
+	 * @throws IllegalArgumentException
+	 * if the channel of the receiver is not readable.
+	 * @throws RejectedExecutionException
+	 * if this reader is shutting down.
+	 * @throws CommunicationException
+	 * if the channel can't be configured in non-blocking mode.
+	 * @author Sergio Morel
+	 */
+	public ChannelReader register(ChannelDataReceiver receiver) throws CommunicationException
+	{
+		if(receiver == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[receiver] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::register(ChannelDataReceiver receiver)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(this.shuttingDown)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.EXECUTOR_SHUTDOWN_ERROR, this.getClass().getSimpleName());
+			
+			throw new RejectedExecutionException(errorMessage);
+		}
+		
+		SelectableChannel channel = receiver.getChannel();
+		
+		if(!(channel instanceof ReadableByteChannel))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "channel", channel);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		try
+		{
+			channel.configureBlocking(false);
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_ERROR, receiver.getDynamicStringIdentifier());
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+		
+		int index = Math.floorMod(this.nextEventLoop.getAndIncrement(), this.eventLoops.length);
+		
+		ChannelReader reader = new ChannelReader(receiver, this.eventLoops[index], new CircularByteBuffer(this.bufferCapacity));
+		
+		this.readers.add(reader);
+		
+		receiver.addConnectionEventListeners(reader);
+		
+		reader.eventLoop.submit(reader::register);
+		
+		return reader;
+	}
+	
+	/**
+	 * Gets the amount of receivers being read.
+	 *
+	 * @return
+	 * - the amount of readers that have not completed.
+	 * @author Sergio Morel
+	 */
+	public int getConnectionCount()
+	{
+		return this.readers.size();
+	}
+	
+	public Set<ChannelReader> getReaders()
+	{
+		return Collections.unmodifiableSet(this.readers);
+	}
+	
+	public int getEventLoopCount()
+	{
+		return this.eventLoops.length;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation rejects new receivers and stops the event loops, which stop
+	 * reading all the registered receivers and close their selectors.
+	 * </p>
+	 */
+	@Override
+	public SelectorDataReader shutdown()
+	{
+		this.shuttingDown = true;
+		
+		for(EventLoop eventLoop : this.eventLoops)
+		{
+			eventLoop.stop();
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	/**
+	 * Waits until the event loops have finished or the time passes.
+	 *
+	 * @param timeout
+	 * - maximum time to wait.
+	 * @param unit
+	 * - unit of the timeout.
+	 * @return
+	 * <b>true</b> if the event loops finished.<br>
+	 * <b>false</b> if the time passed.
+	 * @throws InterruptedException
+	 * if the current thread is interrupted while waiting.
+	 * @author Sergio Morel
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		
+		for(EventLoop eventLoop : this.eventLoops)
+		{
+			long remaining = deadline - System.nanoTime();
+			
+			if(remaining <= 0)
+			{
+				break;
+			}
+			
+			TimeUnit.NANOSECONDS.timedJoin(eventLoop.thread, remaining);
+		}
+		
+		for(EventLoop eventLoop : this.eventLoops)
+		{
+			if(!eventLoop.terminated)
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private static void checkPositive(String name, int value)
+	{
+		if(value <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, name, value);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+	
+	/**
+	 * Thread with a {@link Selector} that reads the channels registered on it. The changes of the
+	 * registrations are submitted as tasks and executed by the thread of the loop.
+	 */
+	private final class EventLoop implements Runnable
+	{
+		private final Selector selector;
+		private final ByteBuffer readBuffer;
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		private Thread thread;
+		private volatile boolean running = true;
+		private volatile boolean terminated = false;
+		
+		private EventLoop(int readBufferSize) throws CommunicationException
+		{
+			try
+			{
+				this.selector = Selector.open();
+			}
+			catch(IOException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_ERROR, SelectorDataReader.class.getSimpleName());
+				
+				throw new CommunicationException(errorMessage, e);
+			}
+			
+			this.readBuffer = ByteBuffer.allocate(readBufferSize);
+		}
+		
+		private void submit(Runnable task)
+		{
+			this.tasks.add(task);
+			this.selector.wakeup();
+		}
+		
+		private void stop()
+		{
+			this.running = false;
+			this.selector.wakeup();
+		}
+		
+		@Override
+		public void run()
+		{
+			try
+			{
+				while(this.running)
+				{
+					this.selector.select(this::onSelected);
+					this.runTasks();
+				}
+			}
+			catch(IOException | RuntimeException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, this.thread.getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+			finally
+			{
+				this.close();
+			}
+		}
+		
+		private void onSelected(SelectionKey key)
+		{
+			if(key.isValid() && key.isReadable())
+			{
+				((ChannelReader)key.attachment()).onReadable(this.readBuffer);
+			}
+		}
+		
+		private void runTasks()
+		{
+			Runnable task;
+			
+			while((task = this.tasks.poll()) != null)
+			{
+				task.run();
+			}
+		}
+		
+		private void close()
+		{
+			this.runTasks();
+			
+			for(SelectionKey key : this.selector.keys())
+			{
+				((ChannelReader)key.attachment()).close(true);
+			}
+			
+			try
+			{
+				this.selector.close();
+			}
+			catch(IOException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.SHUTDOWN_ERROR, this.thread.getName());
+				
+				LOGGER.error(errorMessage, e);
+			}
+			finally
+			{
+				this.terminated = true;
+			}
+		}
+	}
+	
+	/**
+	 * Controls the reading of a receiver registered in a {@link SelectorDataReader}. The reading starts when
+	 * the receiver is registered, {@link #run()} has nothing to execute since the event loop reads the channel.
+	 *
+	 * @author Sergio Morel
+	 */
+	public final class ChannelReader implements DataReader, ConnectionEventListener
+	{
+		private final ChannelDataReceiver receiver;
+		private final EventLoop eventLoop;
+		private final CircularByteBuffer buffer;
+		private SelectionKey key;
+		private volatile boolean pauseReading = false;
+		private volatile boolean readingComplete = false;
+		private volatile long bytesRead;
+		
+		private ChannelReader(ChannelDataReceiver receiver, EventLoop eventLoop, CircularByteBuffer buffer)
+		{
+			super();
+			
+			this.receiver = receiver;
+			this.eventLoop = eventLoop;
+			this.buffer = buffer;
+		}
+		
+		@Override
+		public void run()
+		{
+			this.startReading();
+		}
+		
+		private void register()
+		{
+			if(this.readingComplete)
+			{
+				return;
+			}
+			
+			try
+			{
+				int interestOps = this.pauseReading ? 0 : SelectionKey.OP_READ;
+				
+				this.key = this.receiver.getChannel().register(this.eventLoop.selector, interestOps, this);
+			}
+			catch(ClosedChannelException e)
+			{
+				this.close(false);
+			}
+		}
+		
+		private void updateInterest()
+		{
+			if(this.key != null && this.key.isValid())
+			{
+				this.key.interestOps(this.pauseReading ? 0 : SelectionKey.OP_READ);
+			}
+		}
+		
+		/**
+		 * Reads the channel once. Reading once per selection keeps the event loop fair between the
+		 * channels, the remaining data is read on the next selection. The key may still be selected after
+		 * pausing, until the event loop runs the task that updates its interest, so the pause is checked here too.
+		 */
+		private void onReadable(ByteBuffer readBuffer)
+		{
+			if(this.pauseReading)
+			{
+				return;
+			}
+			
+			ReadableByteChannel channel = (ReadableByteChannel)this.receiver.getChannel();
+			
+			try
+			{
+				readBuffer.clear();
+				
+				int count = channel.read(readBuffer);
+				
+				if(count < 0)
+				{
+					this.close(true);
+					
+					return;
+				}
+				
+				if(count == 0)
+				{
+					return;
+				}
+				
+				byte[] array = readBuffer.array();
+				
+				this.buffer.add(array, count);
+				this.bytesRead += count;
+				
+				if(!this.receiver.getDataListeners().isEmpty())
+				{
+					this.informOnDataReceived(Arrays.copyOf(array, count));
+				}
+			}
+			catch(IOException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, this.receiver.getDynamicStringIdentifier());
+				
+				this.receiver.informOnReceivingError(new CommunicationException(errorMessage, e));
+				
+				this.close(true);
+			}
+		}
+		
+		private void informOnDataReceived(byte[] data)
+		{
+			Instant instant = Instant.now();
+			
+			for(DataListener listener : this.receiver.getDataListeners())
+			{
+				try
+				{
+					listener.onDataReceived(instant, this.receiver, data);
+				}
+				catch(RuntimeException e)
+				{
+					String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+					
+					LOGGER.error(errorMessage, e);
+				}
+			}
+		}
+		
+		/**
+		 * Stops reading the channel and stops listening to the connection events of the receiver.
+		 * Must be called from the event loop thread.
+		 *
+		 * @param disconnect
+		 * - <b>true</b> to disconnect the receiver.
+		 */
+		private void close(boolean disconnect)
+		{
+			if(this.readingComplete)
+			{
+				return;
+			}
+			
+			this.readingComplete = true;
+			
+			if(this.key != null)
+			{
+				this.key.cancel();
+			}
+			
+			SelectorDataReader.this.readers.remove(this);
+			
+			if(disconnect)
+			{
+				try
+				{
+					this.receiver.disconnect();
+				}
+				catch(CommunicationException e)
+				{
+					String errorMessage = MessageUtil.getMessage(Messages.DISCONNECTION_ERROR, this.receiver.getDynamicStringIdentifier());
+					
+					LOGGER.error(errorMessage, e);
+				}
+			}
+			
+			this.receiver.removeConnectionEventListeners(this);
+		}
+		
+		@Override
+		public void startReading()
+		{
+			this.pauseReading = false;
+			
+			this.eventLoop.submit(this::updateInterest);
+		}
+		
+		@Override
+		public void pauseReading()
+		{
+			this.pauseReading = true;
+			
+			this.eventLoop.submit(this::updateInterest);
+		}
+		
+		@Override
+		public void stopReading()
+		{
+			this.eventLoop.submit(() -> this.close(true));
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * This implementation shuts down the receiver and stops reading its channel without disconnecting it.
+		 * </p>
+		 */
+		@Override
+		public ChannelReader shutdown()
+		{
+			try
+			{
+				this.receiver.shutdown();
+			}
+			catch(ShutdownException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.SHUTDOWN_ERROR, this.receiver.getDynamicStringIdentifier());
+				
+				LOGGER.error(errorMessage, e);
+			}
+			finally
+			{
+				this.eventLoop.submit(() -> this.close(false));
+			}
+			
+			return this;
+		}
+		
+		@Override
+		public boolean isShuttingDown()
+		{
+			return this.receiver.isShuttingDown();
+		}
+		
+		@Override
+		public boolean isReading()
+		{
+			return !this.pauseReading && !this.readingComplete;
+		}
+		
+		@Override
+		public boolean isReadingComplete()
+		{
+			return this.readingComplete;
+		}
+		
+		@Override
+		public void onDisconnect(Instant instant, DataInterface dataInterface)
+		{
+			this.eventLoop.submit(() -> this.close(false));
+		}
+		
+		@Override
+		public void onConnect(Instant instant, DataInterface dataInterface) {}
+		
+		@Override
+		public void onConnectError(Instant instant, DataInterface dataInterface, Throwable throwable) {}
+		
+		@Override
+		public void onDisconnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.DISCONNECTION_ERROR, dataInterface.getDynamicStringIdentifier());
+			
+			LOGGER.debug(errorMessage, throwable);
+		}
+		
+		/**
+		 * Gets the buffer where the bytes read are added. It's written by the event loop thread,
+		 * so it should only be accessed from the {@link DataListener} instances of the receiver.
+		 *
+		 * @return
+		 * - the buffer of the receiver.
+		 */
+		public CircularByteBuffer getBuffer()
+		{
+			return this.buffer;
+		}
+		
+		public ChannelDataReceiver getReceiver()
+		{
+			return this.receiver;
+		}
+		
+		public long getBytesRead()
+		{
+			return this.bytesRead;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1215 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import py.com.semp.lib.utilidades.communication.interfaces.ChannelDataReceiver;
+import py.com.semp.lib.utilidades.communication.interfaces.ChannelDataTransmitter;
+import py.com.semp.lib.utilidades.communication.interfaces.DataCommunicator;
+import py.com.semp.lib.utilidades.communication.interfaces.ReadinessAwareDataReceiver;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.utilities.Deadline;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * {@link DataCommunicator} over a non-blocking {@link SocketChannel}, connected to a TCP address or to a
+ * Unix-domain socket.
+ * <p>
+ * The connection is established without blocking the channel, waiting up to the
+ * {@link Values.VariableNames#CONNECTION_TIMEOUT_MS} of the configuration values, and the socket options
+ * set with {@link #setOption(SocketOption, Object)} are applied to each new channel. The options that
+ * the channel doesn't support, like the TCP options of a Unix-domain socket, are ignored.
+ * </p>
+ * <p>
+ * The reads never block: they return no data if none is available, and the communicator waits for data
+ * with a selector, so its {@link DefaultDataReader} doesn't poll. Data is read into a direct buffer and
+ * copied to the destination of the read; to receive frames instead of the data of each read, set a
+ * {@link py.com.semp.lib.utilidades.data.FrameDecoder} on the reader. Writes wait for the channel to
+ * accept the data up to the {@link Values.VariableNames#WRITE_TIMEOUT_MS} of the configuration values,
+ * and small writes are copied to a direct buffer before being written.
+ * The connect and write timeouts are {@link Deadline} instances armed in the shared timer, which wake up
+ * the selector when they expire; a write only arms its timeout when the channel doesn't accept all the data.
+ * </p>
+ * <p>
+ * The channel can also be read by a {@link SelectorDataReader} instead of the {@link DefaultDataReader}.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class SocketDataCommunicator implements DataCommunicator, ChannelDataReceiver, ChannelDataTransmitter, ReadinessAwareDataReceiver
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final SocketAddress address;
+	private final Map<SocketOption<?>, Object> options = new LinkedHashMap<>();
+	private final Set<DataListener> dataListeners = new CopyOnWriteArraySet<>();
+	private final Set<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArraySet<>();
+	private final DefaultDataReader<SocketDataCommunicator> dataReader;
+	private final ByteBuffer readBuffer;
+	private final ByteBuffer writeBuffer;
+	private final AtomicBoolean connected = new AtomicBoolean(false);
+	private final AtomicLong bytesRead = new AtomicLong();
+	private final AtomicLong bytesWritten = new AtomicLong();
+	private final Object connectionLock = new Object();
+	private final Object writeLock = new Object();
+	private volatile SocketChannel channel;
+	private volatile Selector readSelector;
+	private volatile Selector writeSelector;
+	private final Deadline writeDeadline = new Deadline(this::wakeUpWriter);
+	private volatile ConfigurationValues configurationValues;
+	private volatile boolean shuttingDown = false;
+	private volatile boolean stopping = false;
+	
+	/**
+	 * Creates a communicator with the default buffer sizes.
+	 *
+	 * @param address
+	 * - address to connect to, an {@link InetSocketAddress} or a {@link UnixDomainSocketAddress}.
+	 * Unresolved addresses are resolved on each connection.
+	 * @author Sergio Morel
+	 */
+	public SocketDataCommunicator(SocketAddress address)
+	{
+		this(address, Values.Defaults.READ_BUFFER_SIZE, Values.Defaults.WRITE_BUFFER_SIZE);
+	}
+	
+	/**
+	 * Creates a communicator.
+	 *
+	 * @param address
+	 * - address to connect to, an {@link InetSocketAddress} or a {@link UnixDomainSocketAddress}.
+	 * Unresolved addresses are resolved on each connection.
+	 * @param readBufferSize
+	 * - size of the direct buffer of each read.
+	 * @param writeBufferSize
+	 * - size of the direct buffer where smaller writes are copied.
+	 * @throws IllegalArgumentException
+	 * if a size is not positive.
+	 * @author Sergio Morel
+	 */
+	public SocketDataCommunicator(SocketAddress address, int readBufferSize, int writeBufferSize)
+	{
+		super();
+		
+		if(address == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[address] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::SocketDataCommunicator(SocketAddress address, int readBufferSize, int writeBufferSize)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		checkSize("readBufferSize", readBufferSize);
+		checkSize("writeBufferSize", writeBufferSize);
+		
+		this.address = address;
+		this.readBuffer = ByteBuffer.allocateDirect(readBufferSize);
+		this.writeBuffer = ByteBuffer.allocateDirect(writeBufferSize);
+		this.dataReader = new DefaultDataReader<>(this).setNotifyDataListeners(true);
+	}
+	
+	/**
+	 * Creates a communicator that connects to a TCP address.
+	 *
+	 * @param host
+	 * - host name or address, resolved on each connection.
+	 * @param port
+	 * - port.
+	 * @return
+	 * - the communicator.
+	 * @author Sergio Morel
+	 */
+	public static SocketDataCommunicator tcp(String host, int port)
+	{
+		return new SocketDataCommunicator(InetSocketAddress.createUnresolved(host, port));
+	}
+	
+	/**
+	 * Creates a communicator that connects to a Unix-domain socket.
+	 *
+	 * @param path
+	 * - path of the socket.
+	 * @return
+	 * - the communicator.
+	 * @author Sergio Morel
+	 */
+	public static SocketDataCommunicator unixDomain(Path path)
+	{
+		return new SocketDataCommunicator(UnixDomainSocketAddress.of(path));
+	}
+	
+	private static void checkSize(String name, int size)
+	{
+		if(size <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, name, size);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+	
+	/**
+	 * Sets a socket option, applied to the channel of each connection and to the current one if connected.
+	 *
+	 * @param <T>
+	 * - type of the value of the option.
+	 * @param option
+	 * - the option, usually one of {@link StandardSocketOptions}.
+	 * @param value
+	 * - the value, or <b>null</b> to use the default value of the channel on the next connection.
+	 * @return
+	 * - the same instance.
+	 * @throws CommunicationException
+	 * if the option can't be applied to the current channel.
+	 * @author Sergio Morel
+	 */
+	public <T> SocketDataCommunicator setOption(SocketOption<T> option, T value) throws CommunicationException
+	{
+		synchronized(this.options)
+		{
+			if(value == null)
+			{
+				this.options.remove(option);
+			}
+			else
+			{
+				this.options.put(option, value);
+			}
+		}
+		
+		SocketChannel channel = this.channel;
+		
+		if(channel != null && value != null && channel.supportedOptions().contains(option))
+		{
+			try
+			{
+				channel.setOption(option, value);
+			}
+			catch(IOException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, option.name(), value);
+				
+				throw new CommunicationException(errorMessage, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Gets the value of a socket option, from the channel if connected.
+	 *
+	 * @param <T>
+	 * - type of the value of the option.
+	 * @param option
+	 * - the option.
+	 * @return
+	 * - the value, or <b>null</b> if it's not connected and the option was not set.
+	 * @throws CommunicationException
+	 * if the option can't be read from the channel.
+	 * @author Sergio Morel
+	 */
+	public <T> T getOption(SocketOption<T> option) throws CommunicationException
+	{
+		SocketChannel channel = this.channel;
+		
+		if(channel != null && channel.supportedOptions().contains(option))
+		{
+			try
+			{
+				return channel.getOption(option);
+			}
+			catch(IOException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, option.name());
+				
+				throw new CommunicationException(errorMessage, e);
+			}
+		}
+		
+		synchronized(this.options)
+		{
+			return option.type().cast(this.options.get(option));
+		}
+	}
+	
+	public SocketDataCommunicator setTcpNoDelay(boolean tcpNoDelay) throws CommunicationException
+	{
+		return this.setOption(StandardSocketOptions.TCP_NODELAY, tcpNoDelay);
+	}
+	
+	public SocketDataCommunicator setKeepAlive(boolean keepAlive) throws CommunicationException
+	{
+		return this.setOption(StandardSocketOptions.SO_KEEPALIVE, keepAlive);
+	}
+	
+	public SocketDataCommunicator setReceiveBufferSize(int receiveBufferSize) throws CommunicationException
+	{
+		return this.setOption(StandardSocketOptions.SO_RCVBUF, receiveBufferSize);
+	}
+	
+	public SocketDataCommunicator setSendBufferSize(int sendBufferSize) throws CommunicationException
+	{
+		return this.setOption(StandardSocketOptions.SO_SNDBUF, sendBufferSize);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void applyOptions(SocketChannel channel) throws IOException
+	{
+		synchronized(this.options)
+		{
+			for(Map.Entry<SocketOption<?>, Object> entry : this.options.entrySet())
+			{
+				if(channel.supportedOptions().contains(entry.getKey()))
+				{
+					channel.setOption((SocketOption<Object>)entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Opens a new channel and connects it without blocking, waiting up to the connection timeout.
+	 * Does nothing if it's already connected.
+	 * </p>
+	 *
+	 * @throws CommunicationTimeoutException
+	 * if the connection timeout passes.
+	 */
+	@Override
+	public SocketDataCommunicator connect() throws CommunicationException
+	{
+		synchronized(this.connectionLock)
+		{
+			if(this.connected.get())
+			{
+				return this;
+			}
+			
+			SocketChannel channel = null;
+			Selector readSelector = null;
+			Selector writeSelector = null;
+			
+			try
+			{
+				SocketAddress target = this.resolveAddress();
+				
+				channel = (target instanceof UnixDomainSocketAddress) ? SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open();
+				channel.configureBlocking(false);
+				
+				this.applyOptions(channel);
+				
+				writeSelector = Selector.open();
+				
+				if(!channel.connect(target))
+				{
+					this.finishConnect(channel, writeSelector);
+				}
+				
+				readSelector = Selector.open();
+				
+				channel.register(readSelector, SelectionKey.OP_READ);
+				channel.register(writeSelector, 0);
+			}
+			catch(IOException | CommunicationException | RuntimeException e)
+			{
+				closeQuietly(channel, readSelector, writeSelector);
+				
+				CommunicationException exception;
+				
+				if(e instanceof CommunicationException)
+				{
+					exception = (CommunicationException)e;
+				}
+				else
+				{
+					String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_ERROR, this.getStableStringIdentifier());
+					
+					exception = new CommunicationException(errorMessage, e);
+				}
+				
+				this.informOnConnectError(exception);
+				
+				throw exception;
+			}
+			
+			this.channel = channel;
+			this.readSelector = readSelector;
+			this.writeSelector = writeSelector;
+			this.connected.set(true);
+		}
+		
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onConnect(instant, this);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	private SocketAddress resolveAddress()
+	{
+		if(this.address instanceof InetSocketAddress)
+		{
+			InetSocketAddress inetAddress = (InetSocketAddress)this.address;
+			
+			if(inetAddress.isUnresolved())
+			{
+				return new InetSocketAddress(inetAddress.getHostString(), inetAddress.getPort());
+			}
+		}
+		
+		return this.address;
+	}
+	
+	/**
+	 * Waits for a pending connection to be established.
+	 */
+	private void finishConnect(SocketChannel channel, Selector selector) throws IOException, CommunicationException
+	{
+		Integer timeoutMS = this.getConfiguration(Values.VariableNames.CONNECTION_TIMEOUT_MS, Values.Defaults.CONNECTION_TIMEOUT_MS);
+		Deadline deadline = new Deadline(selector::wakeup);
+		SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT);
+		
+		deadline.arm(timeoutMS, TimeUnit.MILLISECONDS);
+		
+		try
+		{
+			while(!channel.finishConnect())
+			{
+				if(!select(selector, deadline))
+				{
+					String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_TIMEOUT_ERROR, this.getStableStringIdentifier());
+					
+					throw new CommunicationTimeoutException(errorMessage);
+				}
+			}
+		}
+		finally
+		{
+			deadline.cancel();
+		}
+		
+		key.interestOps(0);
+	}
+	
+	/**
+	 * Selects once, up to the poll delay. The deadline wakes up the selector when it expires.
+	 *
+	 * @return
+	 * <b>false</b> if the deadline expired.<br>
+	 * <b>true</b> otherwise.
+	 */
+	private static boolean select(Selector selector, Deadline deadline) throws IOException
+	{
+		if(deadline.isExpired())
+		{
+			return false;
+		}
+		
+		selector.select(Values.Defaults.POLL_DELAY_MS);
+		selector.selectedKeys().clear();
+		
+		return true;
+	}
+	
+	/**
+	 * Wakes up the write selector when the write timeout expires.
+	 */
+	private void wakeUpWriter()
+	{
+		Selector selector = this.writeSelector;
+		
+		if(selector != null)
+		{
+			selector.wakeup();
+		}
+	}
+	
+	private <C> C getConfiguration(String name, C defaultValue)
+	{
+		ConfigurationValues configurationValues = this.configurationValues;
+		
+		if(configurationValues == null)
+		{
+			return defaultValue;
+		}
+		
+		return configurationValues.getValue(name, defaultValue);
+	}
+	
+	@Override
+	public SocketDataCommunicator connect(ConfigurationValues configurationValues) throws CommunicationException
+	{
+		this.setConfigurationValues(configurationValues);
+		
+		return this.connect();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Closes the channel. Does nothing if it's not connected. The connection event listeners are informed
+	 * while {@link #isStopping()} returns <b>true</b>, to tell the requested disconnection from a lost connection.
+	 * </p>
+	 */
+	@Override
+	public SocketDataCommunicator disconnect()
+	{
+		this.stopping = true;
+		
+		try
+		{
+			this.closeConnection();
+		}
+		finally
+		{
+			this.stopping = false;
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Closes the channel and the selectors and informs the connection event listeners. Each one is closed
+	 * even if a previous one fails, and the first exception is informed as a disconnection error.
+	 * Does nothing if it's not connected.
+	 */
+	private void closeConnection()
+	{
+		synchronized(this.connectionLock)
+		{
+			if(!this.connected.compareAndSet(true, false))
+			{
+				return;
+			}
+			
+			IOException error = close(this.channel, null);
+			
+			error = close(this.readSelector, error);
+			error = close(this.writeSelector, error);
+			
+			this.channel = null;
+			
+			if(error != null)
+			{
+				this.informOnDisconnectError(error);
+			}
+		}
+		
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onDisconnect(instant, this);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+	}
+	
+	/**
+	 * Closes a resource even if a previous one failed to close, keeping the first exception.
+	 *
+	 * @param closeable
+	 * - the resource.
+	 * @param error
+	 * - the exception of the previous resources, or <b>null</b>.
+	 * @return
+	 * - the first exception, with the following ones added as suppressed.<br>
+	 * - <b>null</b> if no resource failed to close.
+	 */
+	private static IOException close(Closeable closeable, IOException error)
+	{
+		try
+		{
+			closeable.close();
+		}
+		catch(IOException e)
+		{
+			if(error == null)
+			{
+				return e;
+			}
+			
+			error.addSuppressed(e);
+		}
+		
+		return error;
+	}
+	
+	private static void closeQuietly(AutoCloseable... closeables)
+	{
+		for(AutoCloseable closeable : closeables)
+		{
+			if(closeable != null)
+			{
+				try
+				{
+					closeable.close();
+				}
+				catch(Exception e)
+				{
+					LOGGER.debug(e);
+				}
+			}
+		}
+	}
+	
+	@Override
+	public SocketDataCommunicator requestReconnect() throws CommunicationException
+	{
+		this.disconnect();
+		
+		return this.connect();
+	}
+	
+	@Override
+	public SocketDataCommunicator setConfigurationValues(ConfigurationValues configurationValues)
+	{
+		this.configurationValues = configurationValues;
+		
+		return this;
+	}
+	
+	@Override
+	public ConfigurationValues getConfigurationValues()
+	{
+		return this.configurationValues;
+	}
+	
+	private SocketChannel getConnectedChannel() throws ConnectionClosedException
+	{
+		SocketChannel channel = this.channel;
+		
+		if(channel == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.getStableStringIdentifier());
+			
+			throw new ConnectionClosedException(errorMessage);
+		}
+		
+		return channel;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Reads the data available without blocking, up to the size of the read buffer.
+	 * </p>
+	 *
+	 * @throws ConnectionClosedException
+	 * if it's not connected or the peer closed the connection, in which case it disconnects.
+	 */
+	@Override
+	public int readData(byte[] destination, int offset, int length) throws CommunicationException
+	{
+		if(offset < 0 || length < 0 || length > destination.length - offset)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, offset, offset + length, destination.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		SocketChannel channel = this.getConnectedChannel();
+		ByteBuffer buffer = this.readBuffer;
+		
+		buffer.clear();
+		buffer.limit(Math.min(length, buffer.capacity()));
+		
+		int count;
+		
+		try
+		{
+			count = channel.read(buffer);
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, this.getStableStringIdentifier());
+			
+			this.closeConnection();
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+		
+		if(count < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.getStableStringIdentifier());
+			
+			this.closeConnection();
+			
+			throw new ConnectionClosedException(errorMessage);
+		}
+		
+		if(count > 0)
+		{
+			buffer.flip();
+			buffer.get(destination, offset, count);
+			
+			this.bytesRead.addAndGet(count);
+		}
+		
+		return count;
+	}
+	
+	@Override
+	public byte[] readData() throws CommunicationException
+	{
+		byte[] data = new byte[this.readBuffer.capacity()];
+		
+		int count = this.readData(data, 0, data.length);
+		
+		return (count == data.length) ? data : Arrays.copyOf(data, count);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Waits on a selector until the channel is readable.
+	 * </p>
+	 */
+	@Override
+	public boolean awaitData(long timeoutNanos) throws CommunicationException
+	{
+		Selector selector = this.readSelector;
+		
+		if(selector == null || !this.connected.get())
+		{
+			return false;
+		}
+		
+		try
+		{
+			int count;
+			
+			if(timeoutNanos <= 0)
+			{
+				count = selector.selectNow();
+			}
+			else
+			{
+				count = selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+			}
+			
+			selector.selectedKeys().clear();
+			
+			return count > 0;
+		}
+		catch(ClosedSelectorException e)
+		{
+			return false;
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, this.getStableStringIdentifier());
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Data that fits in the write buffer is copied to it, which is direct, before being written.
+	 * </p>
+	 */
+	@Override
+	public SocketDataCommunicator sendData(byte[] data) throws CommunicationException
+	{
+		try
+		{
+			synchronized(this.writeLock)
+			{
+				if(data.length <= this.writeBuffer.capacity())
+				{
+					this.writeBuffer.clear();
+					this.writeBuffer.put(data);
+					this.writeBuffer.flip();
+					
+					this.write(this.writeBuffer);
+				}
+				else
+				{
+					this.write(ByteBuffer.wrap(data));
+				}
+			}
+		}
+		catch(CommunicationException e)
+		{
+			this.informOnSendingError(data, e);
+			
+			throw e;
+		}
+		
+		this.informOnDataSent(data);
+		
+		return this;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The buffers are written with gathering writes, waiting for the channel to accept them.
+	 * </p>
+	 */
+	@Override
+	public SocketDataCommunicator sendData(ByteBuffer... buffers) throws CommunicationException
+	{
+		byte[] data = null;
+		
+		if(!this.dataListeners.isEmpty())
+		{
+			data = join(buffers);
+		}
+		
+		try
+		{
+			synchronized(this.writeLock)
+			{
+				this.write(buffers);
+			}
+		}
+		catch(CommunicationException e)
+		{
+			this.informOnSendingError(data, e);
+			
+			throw e;
+		}
+		
+		if(data != null)
+		{
+			this.informOnDataSent(data);
+		}
+		
+		return this;
+	}
+	
+	private static byte[] join(ByteBuffer... buffers)
+	{
+		int size = 0;
+		
+		for(ByteBuffer buffer : buffers)
+		{
+			size += buffer.remaining();
+		}
+		
+		byte[] data = new byte[size];
+		int offset = 0;
+		
+		for(ByteBuffer buffer : buffers)
+		{
+			int remaining = buffer.remaining();
+			
+			buffer.duplicate().get(data, offset, remaining);
+			
+			offset += remaining;
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * Writes all the buffers, waiting for the channel to be writable up to the write timeout.
+	 * Must be called holding the write lock.
+	 */
+	private void write(ByteBuffer... buffers) throws CommunicationException
+	{
+		SocketChannel channel = this.getConnectedChannel();
+		Selector selector = this.writeSelector;
+		Integer timeoutMS = this.getConfiguration(Values.VariableNames.WRITE_TIMEOUT_MS, Values.Defaults.WRITE_TIMEOUT_MS);
+		boolean armed = false;
+		int offset = 0;
+		
+		try
+		{
+			while(offset < buffers.length)
+			{
+				if(!buffers[offset].hasRemaining())
+				{
+					offset++;
+					
+					continue;
+				}
+				
+				long count = channel.write(buffers, offset, buffers.length - offset);
+				
+				this.bytesWritten.addAndGet(count);
+				
+				if(count == 0)
+				{
+					SelectionKey key = channel.keyFor(selector);
+					
+					if(key == null)
+					{
+						String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.getStableStringIdentifier());
+						
+						throw new ConnectionClosedException(errorMessage);
+					}
+					
+					if(!armed)
+					{
+						armed = true;
+						
+						this.writeDeadline.arm(timeoutMS, TimeUnit.MILLISECONDS);
+					}
+					
+					key.interestOps(SelectionKey.OP_WRITE);
+					
+					boolean waited = select(selector, this.writeDeadline);
+					
+					key.interestOps(0);
+					
+					if(!waited)
+					{
+						String errorMessage = MessageUtil.getMessage(Messages.WRITING_TIMEOUT_ERROR, this.getStableStringIdentifier());
+						
+						throw new CommunicationTimeoutException(errorMessage);
+					}
+				}
+			}
+		}
+		catch(IOException | ClosedSelectorException | CancelledKeyException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.WRITING_ERROR, this.getStableStringIdentifier());
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+		finally
+		{
+			if(armed)
+			{
+				this.writeDeadline.cancel();
+			}
+		}
+	}
+	
+	@Override
+	public SelectableChannel getChannel()
+	{
+		return this.channel;
+	}
+	
+	@Override
+	public GatheringByteChannel getGatheringChannel()
+	{
+		return this.channel;
+	}
+	
+	public SocketAddress getAddress()
+	{
+		return this.address;
+	}
+	
+	public long getBytesRead()
+	{
+		return this.bytesRead.get();
+	}
+	
+	public long getBytesWritten()
+	{
+		return this.bytesWritten.get();
+	}
+	
+	private void informOnDataSent(byte[] data)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onDataSent(instant, this, data);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+	}
+	
+	@Override
+	public SocketDataCommunicator addDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.dataListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketDataCommunicator removeDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			this.dataListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketDataCommunicator removeAllDataListeners()
+	{
+		this.dataListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<DataListener> getDataListeners()
+	{
+		return Collections.unmodifiableSet(this.dataListeners);
+	}
+	
+	@Override
+	public SocketDataCommunicator informOnSendingError(byte[] data, Throwable throwable)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onSendingError(instant, this, data, throwable);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketDataCommunicator informOnReceivingError(Throwable throwable)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onReceivingError(instant, this, throwable);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public DefaultDataReader<SocketDataCommunicator> getDataReader()
+	{
+		return this.dataReader;
+	}
+	
+	@Override
+	public SocketDataCommunicator addConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		for(ConnectionEventListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.connectionEventListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketDataCommunicator removeConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		for(ConnectionEventListener listener : listeners)
+		{
+			this.connectionEventListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketDataCommunicator removeAllConnectionEventListeners()
+	{
+		this.connectionEventListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<ConnectionEventListener> getConnectionEventListeners()
+	{
+		return Collections.unmodifiableSet(this.connectionEventListeners);
+	}
+	
+	@Override
+	public SocketDataCommunicator informOnConnectError(Throwable e)
+	{
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onConnectError(instant, this, e);
+			}
+			catch(RuntimeException exception)
+			{
+				this.logListenerException(listener, exception);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketDataCommunicator informOnDisconnectError(Throwable e)
+	{
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onDisconnectError(instant, this, e);
+			}
+			catch(RuntimeException exception)
+			{
+				this.logListenerException(listener, exception);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public String getStableStringIdentifier()
+	{
+		return this.address.toString();
+	}
+	
+	@Override
+	public String getDynamicStringIdentifier()
+	{
+		SocketChannel channel = this.channel;
+		
+		if(channel != null)
+		{
+			try
+			{
+				return channel.getLocalAddress() + "->" + channel.getRemoteAddress();
+			}
+			catch(IOException e)
+			{
+				LOGGER.debug(e);
+			}
+		}
+		
+		return this.getStableStringIdentifier();
+	}
+	
+	@Override
+	public SocketDataCommunicator shutdown()
+	{
+		this.shuttingDown = true;
+		
+		this.disconnect();
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isStopping()
+	{
+		return this.stopping || this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isConnected()
+	{
+		return this.connected.get();
+	}
+	
+	private void logListenerException(Object listener, RuntimeException e)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+		
+		LOGGER.error(errorMessage, e);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.getDynamicStringIdentifier();
+	}
+}
\ No newline at end of file
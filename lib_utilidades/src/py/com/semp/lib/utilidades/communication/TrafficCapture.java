@@ -0,0 +1,370 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.shutdown.ShutdownCapable;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * {@link DataListener} that records the data received and sent by the interfaces it listens to in an
+ * append-only binary file, to reproduce the traffic later with a {@link TrafficReplay}.
+ * <p>
+ * The file is written through memory mapped regions of {@link Values.Defaults#CAPTURE_SEGMENT_SIZE} bytes,
+ * so recording an event is a copy to memory under a lock, and the reading thread that informs the listener
+ * only makes a system call when a region is full and the next one is mapped. The operating system writes
+ * the regions to the file, which survives a crash of the application.
+ * </p>
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: a magic number, the version of the format
+ * and the wall clock time of the start of the capture in milliseconds. Each event is a record with the
+ * nanoseconds since the start of the capture, the {@link Direction} code, the length and the data, in big
+ * endian. A record with a direction code of 0 marks the end of the capture. Errors are not recorded.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class TrafficCapture implements DataListener, ShutdownCapable
+{
+	/**
+	 * Magic number at the start of a capture file.
+	 */
+	static final int MAGIC = 0x53434150;
+	
+	/**
+	 * Version of the format of the file.
+	 */
+	static final int VERSION = 1;
+	
+	/**
+	 * Size of the header of the file.
+	 */
+	static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+	
+	/**
+	 * Size of the header of a record: timestamp, direction and length.
+	 */
+	static final int RECORD_HEADER_SIZE = Long.BYTES + Byte.BYTES + Integer.BYTES;
+	
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final Path path;
+	private final int segmentSize;
+	private final FileChannel channel;
+	private final long startNanos;
+	private final Instant startInstant;
+	private final AtomicLong recordCount = new AtomicLong();
+	private final AtomicLong capturedBytes = new AtomicLong();
+	private MappedByteBuffer segment;
+	
+	/**
+	 * Position in the file where the current segment starts.
+	 */
+	private long segmentStart = 0;
+	private volatile boolean shuttingDown = false;
+	
+	/**
+	 * Direction of the data of a record.
+	 *
+	 * @author Sergio Morel
+	 */
+	public enum Direction
+	{
+		RECEIVED((byte)1),
+		SENT((byte)2);
+		
+		private final byte code;
+		
+		private Direction(byte code)
+		{
+			this.code = code;
+		}
+		
+		public byte getCode()
+		{
+			return this.code;
+		}
+		
+		/**
+		 * Gets the direction of a code.
+		 *
+		 * @param code
+		 * - the code.
+		 * @return
+		 * - the direction, or <b>null</b> if the code doesn't belong to a direction.
+		 * @author Sergio Morel
+		 */
+		public static Direction fromCode(byte code)
+		{
+			for(Direction direction : values())
+			{
+				if(direction.code == code)
+				{
+					return direction;
+				}
+			}
+			
+			return null;
+		}
+	}
+	
+	/**
+	 * Creates a capture with regions of the default size, replacing the file if it exists.
+	 *
+	 * @param path
+	 * - the file.
+	 * @throws IOException
+	 * if the file can't be created.
+	 * @author Sergio Morel
+	 */
+	public TrafficCapture(Path path) throws IOException
+	{
+		this(path, Values.Defaults.CAPTURE_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * Creates a capture, replacing the file if it exists.
+	 *
+	 * @param path
+	 * - the file.
+	 * @param segmentSize
+	 * - size of the regions of the file that are mapped at a time. A record larger than a region gets a region of its size.
+	 * @throws IOException
+	 * if the file can't be created.
+	 * @throws IllegalArgumentException
+	 * if the size of the regions is smaller than the header of the file.
+	 * @author Sergio Morel
+	 */
+	public TrafficCapture(Path path, int segmentSize) throws IOException
+	{
+		super();
+		
+		if(path == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[path] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::TrafficCapture(Path path, int segmentSize)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(segmentSize < HEADER_SIZE + RECORD_HEADER_SIZE)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "segmentSize", segmentSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.path = path;
+		this.segmentSize = segmentSize;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.startInstant = Instant.now();
+		this.startNanos = System.nanoTime();
+		
+		try
+		{
+			this.map(0, segmentSize);
+		}
+		catch(IOException e)
+		{
+			this.channel.close();
+			
+			throw e;
+		}
+		
+		this.segment.putInt(MAGIC);
+		this.segment.putInt(VERSION);
+		this.segment.putLong(this.startInstant.toEpochMilli());
+	}
+	
+	/**
+	 * Maps a region of the file, which grows to contain it.
+	 */
+	private void map(long start, int size) throws IOException
+	{
+		this.segment = this.channel.map(FileChannel.MapMode.READ_WRITE, start, size);
+		this.segment.order(ByteOrder.BIG_ENDIAN);
+		this.segmentStart = start;
+	}
+	
+	@Override
+	public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.record(Direction.RECEIVED, data);
+	}
+	
+	@Override
+	public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.record(Direction.SENT, data);
+	}
+	
+	@Override
+	public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+	{
+	}
+	
+	@Override
+	public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+	{
+	}
+	
+	/**
+	 * Appends a record, timestamped when it takes the lock of the capture, so the timestamps of the records
+	 * never go back even when several interfaces record at the same time. There is always room left after
+	 * a record for the end of the capture.
+	 *
+	 * @param direction
+	 * - direction of the data.
+	 * @param data
+	 * - the data.
+	 * @return
+	 * <b>true</b> if the record was appended.<br>
+	 * <b>false</b> if the capture is shut down or failed.
+	 * @author Sergio Morel
+	 */
+	public boolean record(Direction direction, byte[] data)
+	{
+		if(data == null || direction == null)
+		{
+			return false;
+		}
+		
+		synchronized(this)
+		{
+			if(this.shuttingDown)
+			{
+				return false;
+			}
+			
+			long timestamp = System.nanoTime() - this.startNanos;
+			int recordSize = RECORD_HEADER_SIZE + data.length;
+			
+			try
+			{
+				if(this.segment.remaining() < recordSize + Byte.BYTES)
+				{
+					this.map(this.getPosition(), Math.max(this.segmentSize, recordSize + Byte.BYTES));
+				}
+			}
+			catch(IOException | RuntimeException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.CAPTURE_ERROR, this.path);
+				
+				LOGGER.error(errorMessage, e);
+				
+				this.shutdown();
+				
+				return false;
+			}
+			
+			this.segment.putLong(timestamp);
+			this.segment.put(direction.getCode());
+			this.segment.putInt(data.length);
+			this.segment.put(data);
+		}
+		
+		this.recordCount.incrementAndGet();
+		this.capturedBytes.addAndGet(data.length);
+		
+		return true;
+	}
+	
+	/**
+	 * Gets the position in the file where the next record is appended. Must be called holding the lock.
+	 */
+	private long getPosition()
+	{
+		return this.segmentStart + this.segment.position();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Stops recording and writes the end of the capture. The file is not truncated to the data recorded,
+	 * since the mapped regions are only released when they are garbage collected and some platforms don't
+	 * allow truncating a file while it's mapped. The rest of the last region is left filled with zeros after
+	 * the end marker, and {@link TrafficReplay} stops reading at the marker.
+	 * </p>
+	 */
+	@Override
+	public synchronized TrafficCapture shutdown()
+	{
+		if(this.shuttingDown)
+		{
+			return this;
+		}
+		
+		this.shuttingDown = true;
+		
+		try
+		{
+			this.segment.put((byte)0);
+			this.segment.force();
+		}
+		catch(RuntimeException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CAPTURE_ERROR, this.path);
+			
+			LOGGER.error(errorMessage, e);
+		}
+		finally
+		{
+			try
+			{
+				this.channel.close();
+			}
+			catch(IOException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.CAPTURE_ERROR, this.path);
+				
+				LOGGER.error(errorMessage, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	public Path getPath()
+	{
+		return this.path;
+	}
+	
+	public Instant getStartInstant()
+	{
+		return this.startInstant;
+	}
+	
+	public long getRecordCount()
+	{
+		return this.recordCount.get();
+	}
+	
+	public long getCapturedBytes()
+	{
+		return this.capturedBytes.get();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,922 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import py.com.semp.lib.utilidades.communication.TrafficCapture.Direction;
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.interfaces.ReadinessAwareDataReceiver;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Receiver that plays back a file recorded by a {@link TrafficCapture}, to benchmark the readers, framers and
+ * listeners with real traffic. Each read returns at most the data of one record, once it's due: records keep
+ * the intervals of the capture divided by the speed, so {@link #ORIGINAL_SPEED} reproduces the original timing
+ * and {@link #FLAT_OUT} returns the records as fast as they are read.
+ * <p>
+ * Only the records of one {@link Direction} are played back, {@link Direction#RECEIVED} by default. The file is
+ * read through memory mapped regions, so records are not copied until they are read. Connecting starts the
+ * playback from the beginning, and the replay disconnects itself at the end of the capture, which stops its
+ * {@link DefaultDataReader}. The replay signals when a record is due, so the reader waits for it instead of
+ * polling.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class TrafficReplay implements ReadinessAwareDataReceiver, DataInterface
+{
+	/**
+	 * Speed that reproduces the timing of the capture.
+	 */
+	public static final double ORIGINAL_SPEED = 1.0;
+	
+	/**
+	 * Speed that ignores the timing of the capture.
+	 */
+	public static final double FLAT_OUT = Double.POSITIVE_INFINITY;
+	
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	private final Path path;
+	private final int segmentSize;
+	private final FileChannel channel;
+	private final long fileSize;
+	private final Instant captureStart;
+	private final Set<DataListener> dataListeners = new CopyOnWriteArraySet<>();
+	private final Set<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArraySet<>();
+	private final DefaultDataReader<TrafficReplay> dataReader;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ReadinessSignal readinessSignal = new ReadinessSignal();
+	private final AtomicBoolean connected = new AtomicBoolean(false);
+	private final AtomicLong replayedRecords = new AtomicLong();
+	private final AtomicLong replayedBytes = new AtomicLong();
+	private ConfigurationValues configurationValues;
+	private volatile boolean shuttingDown = false;
+	private volatile boolean finished = false;
+	private volatile double speed = ORIGINAL_SPEED;
+	private volatile Direction direction = Direction.RECEIVED;
+	
+	/**
+	 * Mapped region of the file, guarded by {@link #lock}, as the rest of the state of the playback.
+	 */
+	private MappedByteBuffer window;
+	private long windowStart = 0;
+	
+	/**
+	 * Position in the file of the next record to load.
+	 */
+	private long position;
+	private long replayStartNanos;
+	private long firstTimestamp;
+	private Record record;
+	
+	/**
+	 * Opens a capture, reading it through regions of the default size.
+	 *
+	 * @param path
+	 * - the file of the capture.
+	 * @throws IOException
+	 * if the file can't be read or is not a capture.
+	 * @author Sergio Morel
+	 */
+	public TrafficReplay(Path path) throws IOException
+	{
+		this(path, Values.Defaults.CAPTURE_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * Opens a capture.
+	 *
+	 * @param path
+	 * - the file of the capture.
+	 * @param segmentSize
+	 * - size of the regions of the file that are mapped at a time. A record larger than a region gets a region of its size.
+	 * @throws IOException
+	 * if the file can't be read or is not a capture.
+	 * @throws IllegalArgumentException
+	 * if the size of the regions is not positive.
+	 * @author Sergio Morel
+	 */
+	public TrafficReplay(Path path, int segmentSize) throws IOException
+	{
+		super();
+		
+		if(path == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[path] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::TrafficReplay(Path path, int segmentSize)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(segmentSize <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "segmentSize", segmentSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.path = path;
+		this.segmentSize = segmentSize;
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		
+		try
+		{
+			this.fileSize = this.channel.size();
+			
+			if(this.fileSize < TrafficCapture.HEADER_SIZE || !this.map(0, TrafficCapture.HEADER_SIZE))
+			{
+				throw this.invalidCapture();
+			}
+			
+			if(this.window.getInt(0) != TrafficCapture.MAGIC || this.window.getInt(Integer.BYTES) != TrafficCapture.VERSION)
+			{
+				throw this.invalidCapture();
+			}
+			
+			this.captureStart = Instant.ofEpochMilli(this.window.getLong(Integer.BYTES + Integer.BYTES));
+		}
+		catch(IOException e)
+		{
+			this.channel.close();
+			
+			throw e;
+		}
+		
+		this.position = TrafficCapture.HEADER_SIZE;
+		this.dataReader = new DefaultDataReader<>(this).setNotifyDataListeners(true);
+	}
+	
+	private IOException invalidCapture()
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.INVALID_CAPTURE_ERROR, this.path);
+		
+		return new IOException(errorMessage);
+	}
+	
+	/**
+	 * Maps the region of the file that contains a range, unless the current region contains it.
+	 *
+	 * @return
+	 * <b>true</b> if the range is inside the file.<br>
+	 * <b>false</b> otherwise.
+	 */
+	private boolean map(long start, int size) throws IOException
+	{
+		if(size < 0 || start + size > this.fileSize)
+		{
+			return false;
+		}
+		
+		if(this.window != null && start >= this.windowStart && start + size <= this.windowStart + this.window.capacity())
+		{
+			return true;
+		}
+		
+		long mapSize = Math.min(Math.max(this.segmentSize, size), this.fileSize - start);
+		
+		this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, mapSize);
+		this.window.order(ByteOrder.BIG_ENDIAN);
+		this.windowStart = start;
+		
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Starts the playback from the beginning of the capture.
+	 * </p>
+	 *
+	 * @throws ConnectionClosedException
+	 * if the replay is shut down.
+	 */
+	@Override
+	public TrafficReplay connect() throws CommunicationException
+	{
+		if(this.shuttingDown)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.getStableStringIdentifier());
+			
+			throw new ConnectionClosedException(errorMessage);
+		}
+		
+		if(!this.connected.compareAndSet(false, true))
+		{
+			return this;
+		}
+		
+		this.lock.lock();
+		
+		try
+		{
+			this.position = TrafficCapture.HEADER_SIZE;
+			this.record = null;
+			this.firstTimestamp = -1;
+			this.replayStartNanos = System.nanoTime();
+			this.finished = false;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onConnect(instant, this);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay connect(ConfigurationValues configurationValues) throws CommunicationException
+	{
+		this.setConfigurationValues(configurationValues);
+		
+		return this.connect();
+	}
+	
+	@Override
+	public TrafficReplay disconnect()
+	{
+		if(!this.connected.compareAndSet(true, false))
+		{
+			return this;
+		}
+		
+		this.readinessSignal.signal();
+		
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onDisconnect(instant, this);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay requestReconnect() throws CommunicationException
+	{
+		this.disconnect();
+		
+		return this.connect();
+	}
+	
+	@Override
+	public TrafficReplay setConfigurationValues(ConfigurationValues configurationValues)
+	{
+		this.configurationValues = configurationValues;
+		
+		return this;
+	}
+	
+	@Override
+	public ConfigurationValues getConfigurationValues()
+	{
+		return this.configurationValues;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the rest of the current record if it's due, or an empty array if it's not.
+	 * </p>
+	 */
+	@Override
+	public byte[] readData() throws CommunicationException
+	{
+		byte[] data = null;
+		
+		this.lock.lock();
+		
+		try
+		{
+			Record dueRecord = this.nextDueRecord();
+			
+			if(dueRecord != null)
+			{
+				data = new byte[dueRecord.length];
+				
+				this.consume(dueRecord, data, 0, data.length);
+			}
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		return this.endIfFinished(data == null ? new byte[0] : data);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Copies as much as fits of the current record if it's due, so a read never returns data of two records.
+	 * </p>
+	 */
+	@Override
+	public int readData(byte[] destination, int offset, int length) throws CommunicationException
+	{
+		if(offset < 0 || length < 0 || length > destination.length - offset)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, offset, offset + length, destination.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		int count = 0;
+		
+		this.lock.lock();
+		
+		try
+		{
+			Record dueRecord = this.nextDueRecord();
+			
+			if(dueRecord != null && length > 0)
+			{
+				count = Math.min(length, dueRecord.length);
+				
+				this.consume(dueRecord, destination, offset, count);
+			}
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		this.endIfFinished(null);
+		
+		return count;
+	}
+	
+	/**
+	 * Disconnects the replay if the capture ended, outside the lock since the listeners are informed.
+	 */
+	private byte[] endIfFinished(byte[] data)
+	{
+		if(this.finished)
+		{
+			this.disconnect();
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * Gets the current record if it's due. Must be called holding the lock.
+	 *
+	 * @throws ConnectionClosedException
+	 * if the replay is not connected.
+	 */
+	private Record nextDueRecord() throws CommunicationException
+	{
+		if(!this.connected.get())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_CLOSED_ERROR, this.getStableStringIdentifier());
+			
+			throw new ConnectionClosedException(errorMessage);
+		}
+		
+		Record nextRecord = this.loadRecord();
+		
+		if(nextRecord == null || nextRecord.dueNanos - System.nanoTime() > 0)
+		{
+			return null;
+		}
+		
+		return nextRecord;
+	}
+	
+	/**
+	 * Loads the next record of the direction played back, unless there is one loaded. Must be called holding the lock.
+	 *
+	 * @return
+	 * - the record, or <b>null</b> if the capture ended.
+	 */
+	private Record loadRecord() throws CommunicationException
+	{
+		if(this.record != null || this.finished)
+		{
+			return this.record;
+		}
+		
+		Direction played = this.direction;
+		
+		try
+		{
+			while(this.map(this.position, TrafficCapture.RECORD_HEADER_SIZE))
+			{
+				int index = (int)(this.position - this.windowStart);
+				long timestamp = this.window.getLong(index);
+				Direction recordDirection = Direction.fromCode(this.window.get(index + Long.BYTES));
+				int length = this.window.getInt(index + Long.BYTES + Byte.BYTES);
+				long dataPosition = this.position + TrafficCapture.RECORD_HEADER_SIZE;
+				
+				if(recordDirection == null || !this.map(dataPosition, length))
+				{
+					break;
+				}
+				
+				this.position = dataPosition + length;
+				
+				if(played != null && recordDirection != played)
+				{
+					continue;
+				}
+				
+				if(this.firstTimestamp < 0)
+				{
+					this.firstTimestamp = timestamp;
+				}
+				
+				double offsetNanos = (timestamp - this.firstTimestamp) / this.speed;
+				
+				this.record = new Record(dataPosition, length, this.replayStartNanos + (long)offsetNanos);
+				
+				return this.record;
+			}
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, this.getStableStringIdentifier());
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+		
+		this.finished = true;
+		
+		return null;
+	}
+	
+	/**
+	 * Takes bytes from the start of a record. Must be called holding the lock.
+	 */
+	private void consume(Record dueRecord, byte[] destination, int offset, int count) throws CommunicationException
+	{
+		try
+		{
+			this.map(dueRecord.position, count);
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.READING_ERROR, this.getStableStringIdentifier());
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+		
+		this.window.get((int)(dueRecord.position - this.windowStart), destination, offset, count);
+		
+		dueRecord.position += count;
+		dueRecord.length -= count;
+		
+		if(dueRecord.length == 0)
+		{
+			this.record = null;
+			this.replayedRecords.incrementAndGet();
+		}
+		
+		this.replayedBytes.addAndGet(count);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Waits until the current record is due, or the capture ends.
+	 * </p>
+	 */
+	@Override
+	public boolean awaitData(long timeoutNanos) throws CommunicationException
+	{
+		long deadline = System.nanoTime() + timeoutNanos;
+		
+		while(true)
+		{
+			long waitNanos = deadline - System.nanoTime();
+			
+			this.lock.lock();
+			
+			try
+			{
+				if(!this.connected.get())
+				{
+					return false;
+				}
+				
+				Record nextRecord = this.loadRecord();
+				
+				if(nextRecord == null)
+				{
+					return true;
+				}
+				
+				long untilDue = nextRecord.dueNanos - System.nanoTime();
+				
+				if(untilDue <= 0)
+				{
+					return true;
+				}
+				
+				waitNanos = Math.min(waitNanos, untilDue);
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			if(deadline - System.nanoTime() <= 0 || Thread.currentThread().isInterrupted())
+			{
+				return false;
+			}
+			
+			this.readinessSignal.await(waitNanos);
+		}
+	}
+	
+	/**
+	 * Sets the speed of the playback relative to the capture. Should be set before connecting.
+	 *
+	 * @param speed
+	 * - the speed, {@link #ORIGINAL_SPEED}, a multiple of it or {@link #FLAT_OUT}.
+	 * @return
+	 * - the same instance.
+	 * @throws IllegalArgumentException
+	 * if the speed is not positive.
+	 * @author Sergio Morel
+	 */
+	public TrafficReplay setSpeed(double speed)
+	{
+		if(!(speed > 0))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "speed", speed);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.speed = speed;
+		
+		return this;
+	}
+	
+	/**
+	 * Gets the speed of the playback relative to the capture.
+	 *
+	 * @return
+	 * - the speed, {@link #ORIGINAL_SPEED}, a multiple of it or {@link #FLAT_OUT}.
+	 * @author Sergio Morel
+	 */
+	public double getSpeed()
+	{
+		return this.speed;
+	}
+	
+	/**
+	 * Sets the direction of the records played back. Should be set before connecting.
+	 *
+	 * @param direction
+	 * - the direction, or <b>null</b> to play back the records of both directions.
+	 * @return
+	 * - the same instance.
+	 * @author Sergio Morel
+	 */
+	public TrafficReplay setDirection(Direction direction)
+	{
+		this.direction = direction;
+		
+		return this;
+	}
+	
+	/**
+	 * Gets the direction of the records played back.
+	 *
+	 * @return
+	 * - the direction, or <b>null</b> if the records of both directions are played back.
+	 * @author Sergio Morel
+	 */
+	public Direction getDirection()
+	{
+		return this.direction;
+	}
+	
+	/**
+	 * Gets the capture file played back.
+	 *
+	 * @return
+	 * - the path of the file.
+	 * @author Sergio Morel
+	 */
+	public Path getPath()
+	{
+		return this.path;
+	}
+	
+	/**
+	 * Gets the start of the capture, read from the header of the file.
+	 *
+	 * @return
+	 * - the wall clock time when the capture started, with millisecond precision.
+	 * @author Sergio Morel
+	 */
+	public Instant getCaptureStart()
+	{
+		return this.captureStart;
+	}
+	
+	/**
+	 * Indicates if the playback reached the end of the capture.
+	 *
+	 * @return
+	 * <b>true</b> if the capture ended.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean isFinished()
+	{
+		return this.finished;
+	}
+	
+	public long getReplayedRecords()
+	{
+		return this.replayedRecords.get();
+	}
+	
+	public long getReplayedBytes()
+	{
+		return this.replayedBytes.get();
+	}
+	
+	@Override
+	public TrafficReplay addDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.dataListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay removeDataListeners(DataListener... listeners)
+	{
+		for(DataListener listener : listeners)
+		{
+			this.dataListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay removeAllDataListeners()
+	{
+		this.dataListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<DataListener> getDataListeners()
+	{
+		return Collections.unmodifiableSet(this.dataListeners);
+	}
+	
+	@Override
+	public TrafficReplay informOnReceivingError(Throwable throwable)
+	{
+		Instant instant = Instant.now();
+		
+		for(DataListener listener : this.dataListeners)
+		{
+			try
+			{
+				listener.onReceivingError(instant, this, throwable);
+			}
+			catch(RuntimeException e)
+			{
+				this.logListenerException(listener, e);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public DefaultDataReader<TrafficReplay> getDataReader()
+	{
+		return this.dataReader;
+	}
+	
+	@Override
+	public TrafficReplay addConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		for(ConnectionEventListener listener : listeners)
+		{
+			if(listener != null)
+			{
+				this.connectionEventListeners.add(listener);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay removeConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		for(ConnectionEventListener listener : listeners)
+		{
+			this.connectionEventListeners.remove(listener);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay removeAllConnectionEventListeners()
+	{
+		this.connectionEventListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<ConnectionEventListener> getConnectionEventListeners()
+	{
+		return Collections.unmodifiableSet(this.connectionEventListeners);
+	}
+	
+	@Override
+	public TrafficReplay informOnConnectError(Throwable e)
+	{
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onConnectError(instant, this, e);
+			}
+			catch(RuntimeException exception)
+			{
+				this.logListenerException(listener, exception);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public TrafficReplay informOnDisconnectError(Throwable e)
+	{
+		Instant instant = Instant.now();
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			try
+			{
+				listener.onDisconnectError(instant, this, e);
+			}
+			catch(RuntimeException exception)
+			{
+				this.logListenerException(listener, exception);
+			}
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public String getStableStringIdentifier()
+	{
+		return this.path.toString();
+	}
+	
+	@Override
+	public String getDynamicStringIdentifier()
+	{
+		return this.path.toString();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Disconnects the replay and closes the file.
+	 * </p>
+	 */
+	@Override
+	public TrafficReplay shutdown()
+	{
+		this.shuttingDown = true;
+		
+		this.disconnect();
+		
+		try
+		{
+			this.channel.close();
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.SHUTDOWN_ERROR, this.getStableStringIdentifier());
+			
+			LOGGER.error(errorMessage, e);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isStopping()
+	{
+		return this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isConnected()
+	{
+		return this.connected.get();
+	}
+	
+	private void logListenerException(Object listener, RuntimeException e)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.LISTENER_THROWN_EXCEPTION_ERROR, listener.getClass().getName());
+		
+		LOGGER.error(errorMessage, e);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.getDynamicStringIdentifier();
+	}
+	
+	/**
+	 * Record being played back.
+	 */
+	private static final class Record
+	{
+		private final long dueNanos;
+		private long position;
+		private int length;
+		
+		private Record(long position, int length, long dueNanos)
+		{
+			this.position = position;
+			this.length = length;
+			this.dueNanos = dueNanos;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package py.com.semp.lib.utilidades.communication.interfaces;
+
+import java.nio.channels.SelectableChannel;
+
+/**
+ * Interface for data receivers backed by a {@link SelectableChannel}, whose data can be read
+ * by a multiplexed reader instead of a thread per receiver calling {@link #readData()}.
+ *
+ * @author Sergio Morel
+ */
+public interface ChannelDataReceiver extends DataReceiver, DataInterface
+{
+	/**
+	 * Gets the channel from which the data is received. The channel must also be a
+	 * {@link java.nio.channels.ReadableByteChannel}, and it's configured in non-blocking
+	 * mode when registered in a multiplexed reader.
+	 *
+	 * @return
+	 * - The channel of this receiver.
+	 */
+	public SelectableChannel getChannel();
+}
\ No newline at end of file
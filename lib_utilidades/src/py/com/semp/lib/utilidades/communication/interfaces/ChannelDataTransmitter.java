@@ -0,0 +1,161 @@
+package py.com.semp.lib.utilidades.communication.interfaces;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.BackoffIdleStrategy;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Interface for data transmitters backed by a {@link GatheringByteChannel}, whose buffers are
+ * written with a gathering write, so the parts of a frame leave the process without being
+ * concatenated first.
+ *
+ * @author Sergio Morel
+ */
+public interface ChannelDataTransmitter extends DataTransmitter
+{
+	/**
+	 * Gets the channel where the data is written.
+	 *
+	 * @return
+	 * - The channel of this transmitter.
+	 */
+	public GatheringByteChannel getGatheringChannel();
+	
+	/**
+	 * Gets the maximum time that {@link #sendData(ByteBuffer...)} waits for a non-blocking channel to
+	 * accept the data.
+	 * <p>
+	 * The default implementation reads the {@link Values.VariableNames#WRITE_TIMEOUT_MS} of the configuration
+	 * values if the transmitter is also a {@link DataInterface}, otherwise it uses {@link Values.Defaults#WRITE_TIMEOUT_MS}.
+	 * </p>
+	 *
+	 * @return
+	 * - the timeout in milliseconds, negative to wait without limit.
+	 */
+	default public int getWriteTimeoutMS()
+	{
+		if(this instanceof DataInterface)
+		{
+			ConfigurationValues configurationValues = ((DataInterface)this).getConfigurationValues();
+			
+			if(configurationValues != null)
+			{
+				return configurationValues.getValue(Values.VariableNames.WRITE_TIMEOUT_MS, Values.Defaults.WRITE_TIMEOUT_MS);
+			}
+		}
+		
+		return Values.Defaults.WRITE_TIMEOUT_MS;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The default implementation wraps the data and writes it through {@link #sendData(ByteBuffer...)}.
+	 * </p>
+	 */
+	@Override
+	default public ChannelDataTransmitter sendData(byte[] data) throws CommunicationException
+	{
+		return this.sendData(ByteBuffer.wrap(data));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The default implementation writes the buffers to the channel with gathering writes until all
+	 * of them are consumed. If the channel is in non-blocking mode, the thread backs off with a
+	 * {@link BackoffIdleStrategy} while the channel doesn't accept data, up to the {@link #getWriteTimeoutMS()}
+	 * counted from the first write that wrote nothing. The listeners are not informed by the default implementation.
+	 * </p>
+	 *
+	 * @throws CommunicationTimeoutException
+	 * if the channel doesn't accept all the data within the write timeout.
+	 */
+	@Override
+	default public ChannelDataTransmitter sendData(ByteBuffer... buffers) throws CommunicationException
+	{
+		if(buffers == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[buffers] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::sendData(ByteBuffer... buffers)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		GatheringByteChannel channel = this.getGatheringChannel();
+		BackoffIdleStrategy strategy = null;
+		long deadline = 0;
+		int offset = 0;
+		
+		try
+		{
+			while(true)
+			{
+				while(offset < buffers.length && !buffers[offset].hasRemaining())
+				{
+					offset++;
+				}
+				
+				if(offset == buffers.length)
+				{
+					return this;
+				}
+				
+				if(channel.write(buffers, offset, buffers.length - offset) != 0)
+				{
+					if(strategy != null)
+					{
+						strategy.reset();
+					}
+					
+					continue;
+				}
+				
+				long waitNanos = Long.MAX_VALUE;
+				
+				if(strategy == null)
+				{
+					int timeoutMS = this.getWriteTimeoutMS();
+					
+					strategy = new BackoffIdleStrategy(Values.Defaults.BACKOFF_MAX_SPINS, Values.Defaults.BACKOFF_MAX_YIELDS, Values.Defaults.BACKOFF_MIN_PARK_NANOS, TimeUnit.MILLISECONDS.toNanos(Values.Defaults.POLL_DELAY_MS));
+					deadline = (timeoutMS < 0) ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMS);
+				}
+				
+				if(deadline != 0)
+				{
+					waitNanos = deadline - System.nanoTime();
+					
+					if(waitNanos <= 0)
+					{
+						String errorMessage = MessageUtil.getMessage(Messages.WRITING_TIMEOUT_ERROR, channel);
+						
+						throw new CommunicationTimeoutException(errorMessage);
+					}
+				}
+				
+				strategy.idle(waitNanos);
+			}
+		}
+		catch(IOException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.WRITING_ERROR, channel);
+			
+			throw new CommunicationException(errorMessage, e);
+		}
+	}
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package py.com.semp.lib.utilidades.communication.interfaces;
 
+import java.nio.ByteBuffer;
 import java.util.Set;
 
 import py.com.semp.lib.utilidades.communication.listeners.DataListener;
 import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
 
 /**
  * Interface for data receivers.
@@ -79,4 +82,68 @@ public interface DataReceiver
 	 * if there was a communication exception while reading data.
 	 */
 	public byte[] readData() throws CommunicationException;
+	
+	/**
+	 * Reads data into an array provided by the caller, so reading doesn't allocate.
+	 * <p>
+	 * The default implementation adapts {@link #readData()}, copying the data read into the
+	 * destination. The bytes that don't fit are kept and returned by the next read, before calling
+	 * {@link #readData()} again. Receivers should override it to read directly into the destination
+	 * without reading more than {@code length} bytes from the source.
+	 * </p>
+	 * 
+	 * @param destination
+	 * - array where the data is written.
+	 * @param offset
+	 * - index of the destination where the data starts.
+	 * @param length
+	 * - maximum amount of bytes to read.
+	 * @return
+	 * - The amount of bytes read, 0 if there was no data.
+	 * @throws CommunicationException
+	 * if there was a communication exception while reading data.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not valid for the destination.
+	 */
+	default public int readData(byte[] destination, int offset, int length) throws CommunicationException
+	{
+		if(offset < 0 || length < 0 || length > destination.length - offset)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, offset, offset + length, destination.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		return PendingReadData.read(this, ByteBuffer.wrap(destination, offset, length));
+	}
+	
+	/**
+	 * Reads data into a buffer provided by the caller, from its position up to its limit.
+	 * The position of the buffer is advanced by the amount of bytes read.
+	 * <p>
+	 * The default implementation reads through {@link #readData(byte[], int, int)} when the buffer
+	 * is backed by an array, and through {@link #readData()} otherwise, keeping the bytes that don't
+	 * fit for the next read.
+	 * </p>
+	 * 
+	 * @param target
+	 * - buffer where the data is written.
+	 * @return
+	 * - The amount of bytes read, 0 if there was no data.
+	 * @throws CommunicationException
+	 * if there was a communication exception while reading data.
+	 */
+	default public int readData(ByteBuffer target) throws CommunicationException
+	{
+		if(target.hasArray())
+		{
+			int count = this.readData(target.array(), target.arrayOffset() + target.position(), target.remaining());
+			
+			target.position(target.position() + count);
+			
+			return count;
+		}
+		
+		return PendingReadData.read(this, target);
+	}
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package py.com.semp.lib.utilidades.communication.interfaces;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 
 import py.com.semp.lib.utilidades.communication.listeners.DataListener;
 import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.Utilities;
 
 public interface DataTransmitter
 {
@@ -71,7 +77,7 @@ public interface DataTransmitter
 	public DataTransmitter sendData(byte[] data) throws CommunicationException;
 	
 	/**
-	 * Sends data.
+	 * Sends data encoded in UTF-8.
 	 * 
 	 * @return
 	 * - A reference to this {@link DataTransmitter} instance.
@@ -81,7 +87,95 @@ public interface DataTransmitter
 	 */
 	default public DataTransmitter sendData(String data) throws CommunicationException
 	{
-		this.sendData(data.getBytes());
+		return this.sendData(data, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Sends data encoded in a charset.
+	 * 
+	 * @param data
+	 * - The data.
+	 * @param charset
+	 * - The charset used to encode the data.
+	 * 
+	 * @return
+	 * - A reference to this {@link DataTransmitter} instance.
+	 * 
+	 * @throws CommunicationException
+	 * if there was a communication exception while sending data.
+	 */
+	default public DataTransmitter sendData(String data, Charset charset) throws CommunicationException
+	{
+		this.sendData(data.getBytes(charset));
+		
+		return this;
+	}
+	
+	/**
+	 * Sends the remaining bytes of several buffers as a single piece of data, in order, such as
+	 * the header, payload and trailer of a frame, without concatenating them first. The positions
+	 * of the buffers are advanced to their limits.
+	 * <p>
+	 * The default implementation joins the buffers into an array and sends it through
+	 * {@link #sendData(byte[])}. A single buffer that wraps a whole array is sent without copying.
+	 * Transmitters backed by a channel should write the buffers with a gathering write instead.
+	 * </p>
+	 * 
+	 * @param buffers
+	 * - The buffers, which may be direct.
+	 * 
+	 * @return
+	 * - A reference to this {@link DataTransmitter} instance.
+	 * 
+	 * @throws CommunicationException
+	 * if there was a communication exception while sending data.
+	 */
+	default public DataTransmitter sendData(ByteBuffer... buffers) throws CommunicationException
+	{
+		if(buffers == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[buffers] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::sendData(ByteBuffer... buffers)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(buffers.length == 1 && buffers[0].hasArray() && buffers[0].arrayOffset() == 0 && buffers[0].position() == 0 && buffers[0].limit() == buffers[0].array().length)
+		{
+			ByteBuffer buffer = buffers[0];
+			
+			this.sendData(buffer.array());
+			
+			buffer.position(buffer.limit());
+			
+			return this;
+		}
+		
+		int length = 0;
+		
+		for(ByteBuffer buffer : buffers)
+		{
+			length += buffer.remaining();
+		}
+		
+		byte[] data = new byte[length];
+		int position = 0;
+		
+		for(ByteBuffer buffer : buffers)
+		{
+			int remaining = buffer.remaining();
+			
+			buffer.get(data, position, remaining);
+			
+			position += remaining;
+		}
+		
+		this.sendData(data);
 		
 		return this;
 	}
@@ -0,0 +1,68 @@
+package py.com.semp.lib.utilidades.communication.interfaces;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+
+/**
+ * Keeps the bytes returned by {@link DataReceiver#readData()} that didn't fit in the destination
+ * of the default implementations of the allocation-free reads, so they are returned by the next read
+ * of the same receiver instead of being lost.
+ * <p>
+ * The receivers are referenced weakly, so the data pending of a discarded receiver doesn't prevent
+ * it from being garbage collected.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+final class PendingReadData
+{
+	/**
+	 * Remaining bytes of the last read of each receiver, positioned at the first byte not returned yet.
+	 */
+	private static final Map<DataReceiver, ByteBuffer> PENDING = Collections.synchronizedMap(new WeakHashMap<>());
+	
+	private PendingReadData()
+	{
+		super();
+	}
+	
+	/**
+	 * Writes into the target the bytes pending of the receiver or, if there are none, the bytes
+	 * returned by {@link DataReceiver#readData()}, up to the remaining space of the target. The
+	 * bytes that don't fit are kept for the next read.
+	 *
+	 * @param receiver
+	 * - the receiver.
+	 * @param target
+	 * - buffer where the data is written.
+	 * @return
+	 * - The amount of bytes written, 0 if there was no data.
+	 * @throws CommunicationException
+	 * if there was a communication exception while reading data.
+	 */
+	static int read(DataReceiver receiver, ByteBuffer target) throws CommunicationException
+	{
+		ByteBuffer pending = PENDING.remove(receiver);
+		
+		if(pending == null)
+		{
+			pending = ByteBuffer.wrap(receiver.readData());
+		}
+		
+		int count = Math.min(target.remaining(), pending.remaining());
+		
+		target.put(pending.array(), pending.position(), count);
+		pending.position(pending.position() + count);
+		
+		if(pending.hasRemaining())
+		{
+			PENDING.put(receiver, pending);
+		}
+		
+		return count;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package py.com.semp.lib.utilidades.communication.interfaces;
+
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+
+/**
+ * Interface for data receivers that can signal when data is available, so the reader
+ * waits for the data instead of polling {@link #readData()} with a fixed delay.
+ * <p>
+ * Receivers notified by a callback can implement {@link #awaitData(long)} with a
+ * {@link py.com.semp.lib.utilidades.communication.ReadinessSignal}, and receivers with
+ * a blocking read can wait on the underlying source with the timeout received.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public interface ReadinessAwareDataReceiver extends DataReceiver
+{
+	/**
+	 * Waits until data is available to be read or the time passes.
+	 *
+	 * @param timeoutNanos
+	 * - maximum time to wait, in nanoseconds.
+	 * @return
+	 * - <b>true</b> if data may be available.<br>
+	 * - <b>false</b> if the time passed without data.
+	 * @throws CommunicationException
+	 * if there was a communication exception while waiting.
+	 */
+	public boolean awaitData(long timeoutNanos) throws CommunicationException;
+}
\ No newline at end of file
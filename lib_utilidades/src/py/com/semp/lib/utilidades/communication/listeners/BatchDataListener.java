@@ -0,0 +1,44 @@
+package py.com.semp.lib.utilidades.communication.listeners;
+
+import java.time.Instant;
+import java.util.List;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+
+/**
+ * Listens to the data communication receiving the data in batches, which amortizes the cost
+ * of each delivery for listeners that write to sinks where batching is cheaper.
+ * <p>
+ * When registered in a {@link py.com.semp.lib.utilidades.communication.ListenerDispatcher}, the
+ * received data is collected until the batch reaches its maximum size or the time window of its
+ * first entry passes. The other events are delivered individually, after the data collected
+ * before them, so the order is kept.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public interface BatchDataListener extends DataListener
+{
+	/**
+	 * Receives a batch of data when data is received.
+	 * <p>
+	 * Note: The list is only valid during the call, since it may be reused for the next batch.
+	 * The entries may be retained.
+	 * </p>
+	 * 
+	 * @param batch  Entries received, in the order they were received.
+	 */
+	void onDataReceived(List<? extends DataEntry> batch);
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This implementation delivers the data as a batch of one entry.
+	 * </p>
+	 */
+	@Override
+	default void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		this.onDataReceived(List.of(DataEntry.of(instant, dataInterface, data)));
+	}
+}
\ No newline at end of file
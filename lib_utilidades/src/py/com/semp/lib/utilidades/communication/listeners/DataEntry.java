@@ -0,0 +1,70 @@
+package py.com.semp.lib.utilidades.communication.listeners;
+
+import java.time.Instant;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+
+/**
+ * Data received at a given instant, as delivered in a batch to a {@link BatchDataListener}.
+ *
+ * @author Sergio Morel
+ */
+public interface DataEntry
+{
+	/**
+	 * Gets the instant at which the data was received.
+	 *
+	 * @return
+	 * - the instant.
+	 */
+	Instant getInstant();
+	
+	/**
+	 * Gets the data source from which the data was received.
+	 *
+	 * @return
+	 * - the data source.
+	 */
+	DataInterface getDataInterface();
+	
+	/**
+	 * Gets the data received. The array is not copied, so it must not be modified.
+	 *
+	 * @return
+	 * - the data.
+	 */
+	byte[] getData();
+	
+	/**
+	 * Creates an entry.
+	 *
+	 * @param instant        Instant at which the data was received.
+	 * @param dataInterface  Data source from which the data was received.
+	 * @param data           Data that was received.
+	 * @return
+	 * - the entry.
+	 */
+	static DataEntry of(Instant instant, DataInterface dataInterface, byte[] data)
+	{
+		return new DataEntry()
+		{
+			@Override
+			public Instant getInstant()
+			{
+				return instant;
+			}
+			
+			@Override
+			public DataInterface getDataInterface()
+			{
+				return dataInterface;
+			}
+			
+			@Override
+			public byte[] getData()
+			{
+				return data;
+			}
+		};
+	}
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package py.com.semp.lib.utilidades.communication.listeners;
+
+import java.time.Instant;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+
+/**
+ * Listens to the frames delimited by a data reader.
+ *
+ * @author Sergio Morel
+ */
+public interface FrameListener
+{
+	/**
+	 * Receives a complete frame.
+	 *
+	 * @param instant        Instant at which the frame was completed.
+	 * @param dataInterface  Data source from which the frame was received.
+	 * @param frame          The frame.
+	 */
+	void onFrameReceived(Instant instant, DataInterface dataInterface, byte[] frame);
+}
\ No newline at end of file
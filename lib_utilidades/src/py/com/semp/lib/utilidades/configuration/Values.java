@@ -69,6 +69,16 @@ public interface Values
 		 * The time communication will be blocked during a read operation before throwing an exception.<br>
 		 */
 		public static final String READ_TIMEOUT_MS = "readTimeoutMS";
+		
+		/**
+		 * The maximum time a connection attempt waits for the connection to be established.<br>
+		 */
+		public static final String CONNECTION_TIMEOUT_MS = "connectionTimeoutMS";
+		
+		/**
+		 * The maximum time a write waits for the data to be accepted by the connection.<br>
+		 */
+		public static final String WRITE_TIMEOUT_MS = "writeTimeoutMS";
 	}
 	
 	/**
@@ -87,6 +97,131 @@ public interface Values
 		 * Default time delay for polls.
 		 */
 		public static final int POLL_DELAY_MS = 50;
+		
+		/**
+		 * Default amount of empty polls that spin before yielding, in a backoff idle strategy.
+		 */
+		public static final int BACKOFF_MAX_SPINS = 100;
+		
+		/**
+		 * Default amount of empty polls that yield before parking, in a backoff idle strategy.
+		 */
+		public static final int BACKOFF_MAX_YIELDS = 10;
+		
+		/**
+		 * Default initial park time of a backoff idle strategy.
+		 */
+		public static final long BACKOFF_MIN_PARK_NANOS = 10_000L;
+		
+		/**
+		 * Default size of the chunks of a chunked buffer.
+		 */
+		public static final int CHUNK_SIZE = 64 * 1024;
+		
+		/**
+		 * Default amount of event loop threads of a multiplexed reader.
+		 */
+		public static final int SELECTOR_EVENT_LOOPS = 2;
+		
+		/**
+		 * Default size of the buffer used for each read from a channel.
+		 */
+		public static final int READ_BUFFER_SIZE = 8 * 1024;
+		
+		/**
+		 * Default size of the buffer where the data of small writes is copied before being written to a channel.
+		 */
+		public static final int WRITE_BUFFER_SIZE = 8 * 1024;
+		
+		/**
+		 * Default capacity of the buffer where a reader accumulates the data until it forms complete frames.
+		 */
+		public static final int FRAME_BUFFER_SIZE = 64 * 1024;
+		
+		/**
+		 * Default size of the regions of a capture file that are memory mapped at a time.
+		 */
+		public static final int CAPTURE_SEGMENT_SIZE = 16 * 1024 * 1024;
+		
+		/**
+		 * Default capacity of the buffer where the data of a connection is accumulated.
+		 */
+		public static final int CONNECTION_BUFFER_CAPACITY = 64 * 1024;
+		
+		/**
+		 * Default capacity of the queue of each listener of an asynchronous dispatcher.
+		 */
+		public static final int LISTENER_QUEUE_CAPACITY = 1024;
+		
+		/**
+		 * Default maximum amount of entries of a batch delivered to a batch listener.
+		 */
+		public static final int BATCH_SIZE = 256;
+		
+		/**
+		 * Default maximum time in milliseconds that the first entry of a batch waits for the batch to be delivered.
+		 */
+		public static final int BATCH_WINDOW_MS = 10;
+		
+		/**
+		 * Default maximum amount of pending writes of an asynchronous transmitter.
+		 */
+		public static final int WRITE_QUEUE_CAPACITY = 1024;
+		
+		/**
+		 * Default maximum amount of bytes of the pending writes coalesced into a single write.
+		 */
+		public static final int WRITE_COALESCING_BYTES = 64 * 1024;
+		
+		/**
+		 * Default maximum time in microseconds that a pending write waits for other writes to be coalesced with it.
+		 */
+		public static final int WRITE_COALESCING_DELAY_MICROS = 200;
+		
+		/**
+		 * Default maximum amount of items buffered for a subscriber without demand of a publisher.
+		 */
+		public static final int PUBLISHER_BUFFER_CAPACITY = 256;
+		
+		/**
+		 * Default ceiling in milliseconds of the first reconnect delay, which doubles on each failed attempt.
+		 */
+		public static final int RECONNECT_BASE_DELAY_MS = 1000;
+		
+		/**
+		 * Default maximum reconnect delay in milliseconds.
+		 */
+		public static final int RECONNECT_MAX_DELAY_MS = 60_000;
+		
+		/**
+		 * Default maximum amount of reconnect attempts per second to the same host.
+		 */
+		public static final double RECONNECT_MAX_ATTEMPTS_PER_SECOND = 10.0;
+		
+		/**
+		 * Default amount of consecutive failed reconnect attempts to a host that opens its circuit.
+		 */
+		public static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+		
+		/**
+		 * Default time in milliseconds that the circuit of a host remains open before a trial attempt.
+		 */
+		public static final int CIRCUIT_OPEN_MS = 30_000;
+		
+		/**
+		 * Default amount of threads that execute the reconnect attempts.
+		 */
+		public static final int RECONNECT_THREADS = 4;
+		
+		/**
+		 * Default maximum amount of requests waiting for their response in a pipelined request client.
+		 */
+		public static final int MAX_REQUESTS_IN_FLIGHT = 16;
+		
+		/**
+		 * Default time in milliseconds that a request waits for its response.
+		 */
+		public static final int REQUEST_TIMEOUT_MS = 5_000;
 	}
 	
 	/**
@@ -0,0 +1,880 @@
+package py.com.semp.lib.utilidades.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Unbounded byte buffer made of a chain of fixed size chunks, for streams
+ * that don't fit in a single {@link CircularByteBuffer}.
+ * <p>
+ * Data is always appended at the end and consumed from the start. Indexes are
+ * <b>long</b> values relative to the first byte of the data. When the data of a
+ * chunk is consumed, the chunk is released, so the memory used while streaming
+ * is proportional to the data that was not consumed yet.
+ * </p>
+ * <p>
+ * The extraction methods have the same semantics as the ones of {@link CircularByteBuffer}.
+ * </p>
+ * <p>
+ * Note: This implementation is not thread-safe by design to favor performance.
+ * If used in a multithreaded environment, users are responsible for handling
+ * synchronization externally.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class ChunkedByteBuffer
+{
+	/**
+	 * Initial capacity of the array of chunks. Must be a power of two.
+	 */
+	private static final int INITIAL_CHUNK_SLOTS = 4;
+	
+	/**
+	 * Maximum size of an array.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	
+	/**
+	 * Size of each chunk.
+	 */
+	private final int chunkSize;
+	
+	/**
+	 * Circular array with the chunks. Its length is always a power of two.
+	 */
+	private byte[][] chunks;
+	
+	/**
+	 * Position in the array of chunks of the first chunk.
+	 */
+	private int firstChunk;
+	
+	/**
+	 * Amount of chunks in use.
+	 */
+	private int chunkCount;
+	
+	/**
+	 * Offset of the first byte of the data inside the first chunk.
+	 */
+	private int head;
+	
+	/**
+	 * Amount of bytes written in the last chunk.
+	 */
+	private int tail;
+	
+	/**
+	 * Amount of chunks released since the creation of the buffer.
+	 */
+	private long releasedChunks;
+	
+	/**
+	 * Creates a buffer with chunks of the default size.
+	 *
+	 * @author Sergio Morel
+	 */
+	public ChunkedByteBuffer()
+	{
+		this(Values.Defaults.CHUNK_SIZE);
+	}
+	
+	/**
+	 * Creates a buffer.
+	 *
+	 * @param chunkSize
+	 * - size of each chunk.
+	 * @throws IllegalArgumentException
+	 * if the chunk size is less than 1.
+	 * @author Sergio Morel
+	 */
+	public ChunkedByteBuffer(int chunkSize)
+	{
+		super();
+		
+		if(chunkSize < 1)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "chunkSize", chunkSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.chunkSize = chunkSize;
+		this.chunks = new byte[INITIAL_CHUNK_SLOTS][];
+	}
+	
+	/**
+	 * Appends a byte to the end of the buffer.
+	 *
+	 * @param data
+	 * - the byte to append.
+	 * @author Sergio Morel
+	 */
+	public void add(byte data)
+	{
+		if(this.chunkCount == 0 || this.tail == this.chunkSize)
+		{
+			this.appendChunk();
+		}
+		
+		this.chunkAt(this.chunkCount - 1)[this.tail++] = data;
+	}
+	
+	/**
+	 * Appends the bytes to the end of the buffer.
+	 *
+	 * @param bytes
+	 * - the bytes to append.
+	 * @throws NullPointerException
+	 * if the array is null.
+	 * @author Sergio Morel
+	 */
+	public void add(byte[] bytes)
+	{
+		if(bytes == null)
+		{
+			this.throwNullBytes("::add(byte[] bytes)");
+		}
+		
+		this.add(bytes, 0, bytes.length);
+	}
+	
+	/**
+	 * Appends a range of bytes to the end of the buffer.
+	 *
+	 * @param bytes
+	 * - array with the bytes to append.
+	 * @param from
+	 * - index of the first byte to append.
+	 * @param length
+	 * - amount of bytes to append.
+	 * @throws NullPointerException
+	 * if the array is null.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not inside the array.
+	 * @author Sergio Morel
+	 */
+	public void add(byte[] bytes, int from, int length)
+	{
+		if(bytes == null)
+		{
+			this.throwNullBytes("::add(byte[] bytes, int from, int length)");
+		}
+		
+		if(from < 0 || length < 0 || from > bytes.length - length)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, from, from + length, bytes.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		while(length > 0)
+		{
+			if(this.chunkCount == 0 || this.tail == this.chunkSize)
+			{
+				this.appendChunk();
+			}
+			
+			int copySize = Math.min(length, this.chunkSize - this.tail);
+			
+			System.arraycopy(bytes, from, this.chunkAt(this.chunkCount - 1), this.tail, copySize);
+			
+			this.tail += copySize;
+			from += copySize;
+			length -= copySize;
+		}
+	}
+	
+	/**
+	 * Gets the byte in the index.
+	 *
+	 * @param index
+	 * - index of the byte relative to the start of the data.
+	 * @return
+	 * - the byte in the index.
+	 * @throws IndexOutOfBoundsException
+	 * if the index is out of bounds.
+	 * @author Sergio Morel
+	 */
+	public byte get(long index)
+	{
+		long dataSize = this.getDataSize();
+		
+		if(index < 0 || index >= dataSize)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INDEX_OUT_OF_BOUNDS, index, dataSize);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		long position = this.head + index;
+		
+		return this.chunkAt((int)(position / this.chunkSize))[(int)(position % this.chunkSize)];
+	}
+	
+	/**
+	 * Gets a new array with the data of the buffer.
+	 *
+	 * @return
+	 * - new array with the data of the buffer.
+	 * @throws IllegalStateException
+	 * if the data doesn't fit in an array.
+	 * @author Sergio Morel
+	 */
+	public byte[] getData()
+	{
+		if(this.isEmpty())
+		{
+			return new byte[]{};
+		}
+		
+		return this.getData(0, this.getDataSize() - 1);
+	}
+	
+	/**
+	 * Gets a new array with the data in the range defined by the indexes.
+	 *
+	 * @param start
+	 * - the first index of the range (inclusive).
+	 * @param end
+	 * - the last index of the range (inclusive).
+	 * @return
+	 * - new array with the data in the range.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not inside the data.
+	 * @throws IllegalStateException
+	 * if the range doesn't fit in an array.
+	 * @author Sergio Morel
+	 */
+	public byte[] getData(long start, long end)
+	{
+		long dataSize = this.getDataSize();
+		
+		if(start < 0 || start >= dataSize || end < 0 || end >= dataSize || start > end)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, start, end, dataSize);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		long segmentSize = end - start + 1;
+		
+		if(segmentSize > MAX_ARRAY_SIZE)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.SEGMENT_TOO_LARGE_ERROR, segmentSize);
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		byte[] segment = new byte[(int)segmentSize];
+		
+		this.copyTo(start, segment, 0, segment.length);
+		
+		return segment;
+	}
+	
+	/**
+	 * Copies data from the buffer into an array, without modifying the buffer.
+	 *
+	 * @param start
+	 * - index of the first byte to copy.
+	 * @param destination
+	 * - destination array.
+	 * @param offset
+	 * - position in the destination array.
+	 * @param length
+	 * - amount of bytes to copy.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not inside the data or the destination array.
+	 * @author Sergio Morel
+	 */
+	public void copyTo(long start, byte[] destination, int offset, int length)
+	{
+		long dataSize = this.getDataSize();
+		
+		if(start < 0 || length < 0 || start > dataSize - length || offset < 0 || offset > destination.length - length)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, start, start + length, dataSize);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		long position = this.head + start;
+		int chunkIndex = (int)(position / this.chunkSize);
+		int chunkOffset = (int)(position % this.chunkSize);
+		
+		while(length > 0)
+		{
+			int copySize = Math.min(length, this.chunkSize - chunkOffset);
+			
+			System.arraycopy(this.chunkAt(chunkIndex), chunkOffset, destination, offset, copySize);
+			
+			offset += copySize;
+			length -= copySize;
+			chunkIndex++;
+			chunkOffset = 0;
+		}
+	}
+	
+	/**
+	 * Removes bytes from the start of the data, releasing the chunks that were completely consumed.
+	 *
+	 * @param count
+	 * - amount of bytes to remove.
+	 * @throws IndexOutOfBoundsException
+	 * if the amount is negative or greater than the size of the data.
+	 * @author Sergio Morel
+	 */
+	public void trimStart(long count)
+	{
+		long dataSize = this.getDataSize();
+		
+		if(count < 0 || count > dataSize)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INDEX_OUT_OF_BOUNDS, count, dataSize);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		if(count == dataSize)
+		{
+			this.clear();
+			
+			return;
+		}
+		
+		long position = this.head + count;
+		int consumedChunks = (int)(position / this.chunkSize);
+		
+		for(int i = 0; i < consumedChunks; i++)
+		{
+			this.releaseFirstChunk();
+		}
+		
+		this.head = (int)(position % this.chunkSize);
+	}
+	
+	/**
+	 * Removes and returns the first byte of the data.
+	 *
+	 * @return
+	 * - the first byte.
+	 * @throws IllegalStateException
+	 * if the buffer is empty.
+	 * @author Sergio Morel
+	 */
+	public byte removeFirst()
+	{
+		if(this.isEmpty())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NO_DATA_AVAILABLE_ERROR);
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		byte data = this.chunkAt(0)[this.head];
+		
+		this.trimStart(1);
+		
+		return data;
+	}
+	
+	/**
+	 * Clears the data of the buffer, releasing all the chunks.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void clear()
+	{
+		while(this.chunkCount > 0)
+		{
+			this.releaseFirstChunk();
+		}
+		
+		this.firstChunk = 0;
+		this.head = 0;
+		this.tail = 0;
+	}
+	
+	/**
+	 * Gets the size of the data inside the buffer.
+	 *
+	 * @return
+	 * - size of the data.
+	 * @author Sergio Morel
+	 */
+	public long getDataSize()
+	{
+		if(this.chunkCount == 0)
+		{
+			return 0;
+		}
+		
+		return (long)(this.chunkCount - 1) * this.chunkSize + this.tail - this.head;
+	}
+	
+	/**
+	 * Verifies if the buffer is empty.
+	 *
+	 * @return
+	 * <b>true</b> if the buffer is empty.<br>
+	 * <b>false</b> if the buffer has any data.
+	 * @author Sergio Morel
+	 */
+	public boolean isEmpty()
+	{
+		return this.getDataSize() == 0;
+	}
+	
+	/**
+	 * Gets the size of each chunk.
+	 *
+	 * @return
+	 * - size of each chunk.
+	 * @author Sergio Morel
+	 */
+	public int getChunkSize()
+	{
+		return this.chunkSize;
+	}
+	
+	/**
+	 * Gets the amount of chunks currently allocated.
+	 *
+	 * @return
+	 * - amount of chunks in use.
+	 * @author Sergio Morel
+	 */
+	public int getChunkCount()
+	{
+		return this.chunkCount;
+	}
+	
+	/**
+	 * Gets the amount of chunks released since the creation of the buffer.
+	 *
+	 * @return
+	 * - amount of released chunks.
+	 * @author Sergio Morel
+	 */
+	public long getReleasedChunkCount()
+	{
+		return this.releasedChunks;
+	}
+	
+	/**
+	 * Creates an iterator over the data of the buffer. The iterator is no longer valid after data is removed from the buffer.
+	 *
+	 * @return
+	 * - a new iterator positioned before the first byte.
+	 * @author Sergio Morel
+	 */
+	public ChunkedByteBufferIterator iterator()
+	{
+		return new ChunkedByteBufferIterator(this);
+	}
+	
+	/**
+	 * Extracts from the buffer the first segment finalized by the end header.
+	 * The segment of data extracted includes the end header.
+	 *
+	 * @param endHeader
+	 * - The ending header in String format. Converted to bytes using UTF-8.
+	 * @return
+	 * - The first segment of data found, including the header.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne(String endHeader)
+	{
+		return this.extractOne(endHeader.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Extracts from the buffer the first segment finalized by the end header.
+	 * The segment of data extracted includes the end header.
+	 *
+	 * @param endHeader
+	 * - The ending header.
+	 * @return
+	 * - The first segment of data found, including the header.<br>
+	 * - An empty array if the end header was not found.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne(byte[] endHeader)
+	{
+		ChunkedByteBufferIterator iterator = this.iterator();
+		
+		while(iterator.hasNext())
+		{
+			iterator.goNext();
+			
+			// End header found
+			if(iterator.patternFound(endHeader))
+			{
+				long index = iterator.getIndex();
+				
+				byte[] segment = this.getData(0, index);
+				
+				this.trimStart(index + 1);
+				
+				return segment;
+			}
+		}
+		
+		return new byte[]{};
+	}
+	
+	/**
+	 * Extracts from the buffer all the data segments terminated by an ending header.
+	 * Each segment of data extracted includes the end header.
+	 *
+	 * @param endHeader
+	 * - The ending header in String format. Converted to bytes using UTF-8.
+	 * @return
+	 * - A list containing segments of data terminated by the end header, including the header.
+	 * @author Sergio Morel
+	 */
+	public List<byte[]> extractAll(String endHeader)
+	{
+		return this.extractAll(endHeader.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Extracts from the buffer all the data segments terminated by an ending header.
+	 * Each segment of data extracted includes the end header.
+	 *
+	 * @param endHeader
+	 * - The ending header.
+	 * @return
+	 * - A list containing segments of data terminated by the end header, including the header.
+	 * @author Sergio Morel
+	 */
+	public List<byte[]> extractAll(byte[] endHeader)
+	{
+		List<byte[]> extraction = new LinkedList<>();
+		
+		long segmentStart = 0;
+		
+		ChunkedByteBufferIterator iterator = this.iterator();
+		
+		while(iterator.hasNext())
+		{
+			iterator.goNext();
+			
+			// End header found
+			if(iterator.patternFound(endHeader))
+			{
+				long index = iterator.getIndex();
+				
+				extraction.add(this.getData(segmentStart, index));
+				
+				segmentStart = index + 1;
+				
+				iterator.setLowerBound(segmentStart);
+			}
+		}
+		
+		this.trimStart(segmentStart);
+		
+		return extraction;
+	}
+	
+	/**
+	 * Extracts from the buffer the first segment found between occurrences of the start header and end header.
+	 * The segment of data extracted includes both the start and end headers.
+	 *
+	 * @param startHeader
+	 * - The starting header in String format. Converted to bytes using UTF-8.
+	 * @param endHeader
+	 * - The ending header in String format. Converted to bytes using UTF-8.
+	 * @return
+	 * - The first segment of data found between the headers, including the headers.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne(String startHeader, String endHeader)
+	{
+		return this.extractOne(startHeader.getBytes(StandardCharsets.UTF_8), endHeader.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Extracts from the buffer the first segment found between occurrences of the start header and end header.
+	 * The segment of data extracted includes both the start and end headers. Data preceding the start header
+	 * is discarded.
+	 *
+	 * @param startHeader
+	 * - The starting header.
+	 * @param endHeader
+	 * - The ending header.
+	 * @return
+	 * - The first segment of data found between the headers, including the headers.<br>
+	 * - An empty array if no complete segment was found.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne(byte[] startHeader, byte[] endHeader)
+	{
+		return this.extractOne(startHeader, endHeader, 0);
+	}
+	
+	/**
+	 * Extracts from the buffer the first segment found between occurrences of the start header and end header plus some extra bytes.
+	 * The segment of data extracted includes both headers and the extra bytes after the end header.
+	 *
+	 * @param startHeader
+	 * - The starting header in String format. Converted to bytes using UTF-8.
+	 * @param endHeader
+	 * - The ending header in String format. Converted to bytes using UTF-8.
+	 * @param extraBytesAfter
+	 * - Extra bytes to be included after the end header.
+	 * @return
+	 * - The first segment of data found between the headers, including the headers and extra bytes.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne(String startHeader, String endHeader, int extraBytesAfter)
+	{
+		return this.extractOne(startHeader.getBytes(StandardCharsets.UTF_8), endHeader.getBytes(StandardCharsets.UTF_8), extraBytesAfter);
+	}
+	
+	/**
+	 * Extracts from the buffer the first segment found between occurrences of the start header and end header plus some extra bytes.
+	 * The segment of data extracted includes both headers and the extra bytes after the end header. Data preceding the
+	 * start header is discarded.
+	 *
+	 * @param startHeader
+	 * - The starting header.
+	 * @param endHeader
+	 * - The ending header.
+	 * @param extraBytesAfter
+	 * - Extra bytes to be included after the end header.
+	 * @return
+	 * - The first segment of data found between the headers, including the headers and extra bytes.<br>
+	 * - An empty array if no complete segment was found.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne(byte[] startHeader, byte[] endHeader, int extraBytesAfter)
+	{
+		boolean betweenHeaders = false;
+		
+		long segmentStart = 0;
+		
+		ChunkedByteBufferIterator iterator = this.iterator();
+		
+		while(iterator.hasNext())
+		{
+			iterator.goNext();
+			
+			// Start header found
+			if(iterator.patternFound(startHeader))
+			{
+				segmentStart = iterator.getIndex() - (startHeader.length - 1);
+				
+				iterator.setLowerBound(segmentStart);
+				
+				betweenHeaders = true;
+			}
+			
+			// End header found
+			if(iterator.patternFound(endHeader) && iterator.hasNext(extraBytesAfter))
+			{
+				long index = iterator.getIndex();
+				
+				if(betweenHeaders)
+				{
+					index += extraBytesAfter;
+					
+					byte[] segment = this.getData(segmentStart, index);
+					
+					this.trimStart(index + 1);
+					
+					return segment;
+				}
+				
+				segmentStart = index + 1;
+				
+				iterator.setLowerBound(segmentStart);
+				
+				betweenHeaders = false;
+			}
+		}
+		
+		this.trimStart(segmentStart);
+		
+		return new byte[]{};
+	}
+	
+	/**
+	 * Extracts from the buffer all the data segments found between occurrences of the start header and end header.
+	 * Each segment of data extracted includes both the start and end headers.
+	 *
+	 * @param startHeader
+	 * - The starting header in String format. Converted to bytes using UTF-8.
+	 * @param endHeader
+	 * - The ending header in String format. Converted to bytes using UTF-8.
+	 * @return
+	 * - A list containing segments of data found between the headers, including the headers.
+	 * @author Sergio Morel
+	 */
+	public List<byte[]> extractAll(String startHeader, String endHeader)
+	{
+		return this.extractAll
+		(
+			startHeader.getBytes(StandardCharsets.UTF_8),
+			endHeader.getBytes(StandardCharsets.UTF_8)
+		);
+	}
+	
+	/**
+	 * Extracts from the buffer all the data segments found between occurrences of the start header and end header.
+	 * Each segment of data extracted includes both the start and end headers.
+	 *
+	 * @param startHeader
+	 * - The starting header.
+	 * @param endHeader
+	 * - The ending header.
+	 * @return
+	 * - A list containing segments of data found between the headers, including the headers.
+	 * @author Sergio Morel
+	 */
+	public List<byte[]> extractAll(byte[] startHeader, byte[] endHeader)
+	{
+		List<byte[]> extraction = new LinkedList<>();
+		
+		boolean betweenHeaders = false;
+		
+		long segmentStart = 0;
+		
+		ChunkedByteBufferIterator iterator = this.iterator();
+		
+		while(iterator.hasNext())
+		{
+			iterator.goNext();
+			
+			// Start header found
+			if(iterator.patternFound(startHeader))
+			{
+				segmentStart = iterator.getIndex() - (startHeader.length - 1);
+				
+				iterator.setLowerBound(segmentStart);
+				
+				betweenHeaders = true;
+			}
+			
+			// End header found
+			if(iterator.patternFound(endHeader))
+			{
+				long index = iterator.getIndex();
+				
+				if(betweenHeaders)
+				{
+					extraction.add(this.getData(segmentStart, index));
+				}
+				
+				segmentStart = index + 1;
+				
+				iterator.setLowerBound(segmentStart);
+				
+				betweenHeaders = false;
+			}
+		}
+		
+		this.trimStart(segmentStart);
+		
+		return extraction;
+	}
+	
+	/**
+	 * Gets the chunk in the position relative to the first chunk.
+	 *
+	 * @param chunkIndex
+	 * - position of the chunk relative to the first chunk.
+	 * @return
+	 * - the chunk.
+	 * @author Sergio Morel
+	 */
+	byte[] chunkAt(int chunkIndex)
+	{
+		return this.chunks[(this.firstChunk + chunkIndex) & (this.chunks.length - 1)];
+	}
+	
+	/**
+	 * Gets the offset of the first byte of the data inside the first chunk.
+	 *
+	 * @return
+	 * - offset inside the first chunk.
+	 * @author Sergio Morel
+	 */
+	int getHead()
+	{
+		return this.head;
+	}
+	
+	/**
+	 * Allocates a new chunk at the end of the buffer, growing the array of chunks if needed.
+	 *
+	 * @author Sergio Morel
+	 */
+	private void appendChunk()
+	{
+		if(this.chunkCount == this.chunks.length)
+		{
+			byte[][] chunks = new byte[this.chunks.length * 2][];
+			
+			for(int i = 0; i < this.chunkCount; i++)
+			{
+				chunks[i] = this.chunkAt(i);
+			}
+			
+			this.chunks = chunks;
+			this.firstChunk = 0;
+		}
+		
+		this.chunks[(this.firstChunk + this.chunkCount) & (this.chunks.length - 1)] = new byte[this.chunkSize];
+		this.chunkCount++;
+		this.tail = 0;
+	}
+	
+	/**
+	 * Releases the first chunk so it can be garbage collected.
+	 *
+	 * @author Sergio Morel
+	 */
+	private void releaseFirstChunk()
+	{
+		this.chunks[this.firstChunk] = null;
+		this.firstChunk = (this.firstChunk + 1) & (this.chunks.length - 1);
+		this.chunkCount--;
+		this.head = 0;
+		this.releasedChunks++;
+	}
+	
+	private void throwNullBytes(String method)
+	{
+		StringBuilder methodName = new StringBuilder();
+		
+		methodName.append("[bytes] ");
+		methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+		methodName.append(method);
+		
+		String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+		
+		throw new NullPointerException(errorMessage);
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append("Data Size: ").append(this.getDataSize());
+		sb.append("\nChunk Size: ").append(this.chunkSize);
+		sb.append("\nChunks: ").append(this.chunkCount);
+		
+		return sb.toString();
+	}
+}
\ No newline at end of file
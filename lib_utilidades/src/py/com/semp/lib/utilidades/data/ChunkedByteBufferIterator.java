@@ -0,0 +1,374 @@
+package py.com.semp.lib.utilidades.data;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+
+/**
+ * Iterator for the {@link ChunkedByteBuffer}.
+ * <p>
+ * The iterator works as a cursor over the data. The index is <b>long</b> and refers to
+ * the position relative to the start of the data, being {@link Values.Constants#BUFFER_BOUNDARY}
+ * before the first byte. The current chunk is cached, so moving across the data only
+ * changes of chunk at the chunk boundaries.
+ * </p>
+ * <p>
+ * The iterator is no longer valid after data is removed from the buffer.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class ChunkedByteBufferIterator implements Iterator<Byte>
+{
+	/**
+	 * Value of index when not referring to a position in the buffer.
+	 */
+	private static final int BUFFER_BOUNDARY = Values.Constants.BUFFER_BOUNDARY;
+	
+	/**
+	 * The buffer being iterated.
+	 */
+	private final ChunkedByteBuffer buffer;
+	
+	/**
+	 * Current index relative to the start of the data.
+	 */
+	private long index;
+	
+	/**
+	 * Position of the current chunk relative to the first chunk.
+	 */
+	private int chunkIndex;
+	
+	/**
+	 * Offset of the current byte inside the current chunk.
+	 */
+	private int chunkOffset;
+	
+	/**
+	 * Current chunk.
+	 */
+	private byte[] chunk;
+	
+	/**
+	 * Lowest index considered when looking for patterns.
+	 */
+	private long lowerBound;
+	
+	/**
+	 * Creates an iterator positioned before the first byte of the buffer.
+	 *
+	 * @param buffer
+	 * - the buffer to iterate.
+	 * @author Sergio Morel
+	 */
+	public ChunkedByteBufferIterator(ChunkedByteBuffer buffer)
+	{
+		super();
+		
+		this.buffer = buffer;
+		
+		this.reset();
+	}
+	
+	/**
+	 * Moves the iterator before the first byte of the buffer.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void reset()
+	{
+		this.index = BUFFER_BOUNDARY;
+		this.chunk = null;
+		this.chunkIndex = 0;
+		this.chunkOffset = BUFFER_BOUNDARY;
+		this.lowerBound = 0;
+	}
+	
+	/**
+	 * Gets the current index relative to the start of the data.
+	 *
+	 * @return
+	 * - the current index, or {@link Values.Constants#BUFFER_BOUNDARY} if the iterator is before the first byte.
+	 * @author Sergio Morel
+	 */
+	public long getIndex()
+	{
+		return this.index;
+	}
+	
+	/**
+	 * Moves the iterator to the index.
+	 *
+	 * @param index
+	 * - index relative to the start of the data.
+	 * @throws IndexOutOfBoundsException
+	 * if the index is out of bounds.
+	 * @author Sergio Morel
+	 */
+	public void goTo(long index)
+	{
+		long dataSize = this.buffer.getDataSize();
+		
+		if(index < 0 || index >= dataSize)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INDEX_OUT_OF_BOUNDS, index, dataSize);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		int chunkSize = this.buffer.getChunkSize();
+		long position = this.buffer.getHead() + index;
+		
+		this.index = index;
+		this.chunkIndex = (int)(position / chunkSize);
+		this.chunkOffset = (int)(position % chunkSize);
+		this.chunk = this.buffer.chunkAt(this.chunkIndex);
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		return this.index + 1 < this.buffer.getDataSize();
+	}
+	
+	/**
+	 * Verifies if there are at least the given amount of bytes after the current index.
+	 *
+	 * @param remainingElements
+	 * - the amount of bytes.
+	 * @return
+	 * <b>true</b> if there are enough bytes after the current index.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean hasNext(long remainingElements)
+	{
+		return this.index + remainingElements < this.buffer.getDataSize();
+	}
+	
+	/**
+	 * Verifies if there is a byte before the current index.
+	 *
+	 * @return
+	 * <b>true</b> if there is a previous byte.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean hasPrevious()
+	{
+		return this.index > 0;
+	}
+	
+	@Override
+	public Byte next()
+	{
+		return this.nextByte();
+	}
+	
+	/**
+	 * Moves to the next byte and returns it.
+	 *
+	 * @return
+	 * - the next byte.
+	 * @throws NoSuchElementException
+	 * if there are no more bytes.
+	 * @author Sergio Morel
+	 */
+	public byte nextByte()
+	{
+		if(!this.hasNext())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NO_DATA_AVAILABLE_ERROR);
+			
+			throw new NoSuchElementException(errorMessage);
+		}
+		
+		this.goNext();
+		
+		return this.chunk[this.chunkOffset];
+	}
+	
+	/**
+	 * Moves to the previous byte and returns it.
+	 *
+	 * @return
+	 * - the previous byte.
+	 * @throws NoSuchElementException
+	 * if there is no previous byte.
+	 * @author Sergio Morel
+	 */
+	public byte previousByte()
+	{
+		if(!this.hasPrevious())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NO_DATA_AVAILABLE_ERROR);
+			
+			throw new NoSuchElementException(errorMessage);
+		}
+		
+		this.index--;
+		
+		if(this.chunkOffset == 0)
+		{
+			this.chunkIndex--;
+			this.chunk = this.buffer.chunkAt(this.chunkIndex);
+			this.chunkOffset = this.chunk.length;
+		}
+		
+		this.chunkOffset--;
+		
+		return this.chunk[this.chunkOffset];
+	}
+	
+	/**
+	 * Moves forward the amount of steps.
+	 *
+	 * @param steps
+	 * - amount of steps.
+	 * @author Sergio Morel
+	 */
+	public void forward(long steps)
+	{
+		if(this.index == BUFFER_BOUNDARY)
+		{
+			this.goTo(steps - 1);
+		}
+		else
+		{
+			this.goTo(this.index + steps);
+		}
+	}
+	
+	/**
+	 * Moves backwards the amount of steps.
+	 *
+	 * @param steps
+	 * - amount of steps.
+	 * @author Sergio Morel
+	 */
+	public void rewind(long steps)
+	{
+		this.goTo(this.index - steps);
+	}
+	
+	/**
+	 * Gets the byte in the current index.
+	 *
+	 * @return
+	 * - the current byte.
+	 * @throws IllegalStateException
+	 * if the iterator is before the first byte.
+	 * @author Sergio Morel
+	 */
+	public byte current()
+	{
+		if(this.index == BUFFER_BOUNDARY)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CALL_NEXT_OR_PREVIOUS_BEFORE_ERROR);
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		return this.chunk[this.chunkOffset];
+	}
+	
+	/**
+	 * Checks if the given pattern exists immediately preceding the current index in the buffer,
+	 * the byte in the current index included. The comparison starts from the end of the pattern
+	 * and stops as soon as a mismatch is found.
+	 *
+	 * @param pattern
+	 * - The pattern to search for.
+	 * @return
+	 * - <b>true</b> if the entire pattern is found immediately preceding the current index.<br>
+	 * - <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean patternFound(byte[] pattern)
+	{
+		if(this.index - this.lowerBound + 1 < pattern.length)
+		{
+			return false;
+		}
+		
+		byte[] chunk = this.chunk;
+		int chunkIndex = this.chunkIndex;
+		int chunkOffset = this.chunkOffset;
+		
+		for(int i = pattern.length - 1; i >= 0; i--)
+		{
+			if(chunkOffset < 0)
+			{
+				chunkIndex--;
+				chunk = this.buffer.chunkAt(chunkIndex);
+				chunkOffset = chunk.length - 1;
+			}
+			
+			if(chunk[chunkOffset] != pattern[i])
+			{
+				return false;
+			}
+			
+			chunkOffset--;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Sets the lowest index considered by {@link #patternFound(byte[])}, as if the data
+	 * before it was already removed.
+	 *
+	 * @param lowerBound
+	 * - the lowest index.
+	 * @author Sergio Morel
+	 */
+	void setLowerBound(long lowerBound)
+	{
+		this.lowerBound = lowerBound;
+	}
+	
+	/**
+	 * Moves to the next byte without verifying that it exists.
+	 *
+	 * @author Sergio Morel
+	 */
+	void goNext()
+	{
+		this.index++;
+		
+		if(this.chunk == null)
+		{
+			this.chunkIndex = 0;
+			this.chunkOffset = this.buffer.getHead();
+			this.chunk = this.buffer.chunkAt(0);
+			
+			return;
+		}
+		
+		this.chunkOffset++;
+		
+		if(this.chunkOffset == this.chunk.length)
+		{
+			this.chunkIndex++;
+			this.chunkOffset = 0;
+			this.chunk = this.buffer.chunkAt(this.chunkIndex);
+		}
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append("Data Index: ").append(this.index);
+		sb.append("\nChunk Index: ").append(this.chunkIndex);
+		sb.append("\nChunk Offset: ").append(this.chunkOffset);
+		
+		return sb.toString();
+	}
+}
\ No newline at end of file
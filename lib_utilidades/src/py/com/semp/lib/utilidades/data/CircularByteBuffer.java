@@ -1,5 +1,10 @@
 package py.com.semp.lib.utilidades.data;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,6 +19,7 @@ import java.util.function.IntPredicate;
 import py.com.semp.lib.utilidades.configuration.Values;
 import py.com.semp.lib.utilidades.internal.MessageUtil;
 import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.HexFormatter;
 import py.com.semp.lib.utilidades.utilities.Utilities;
 
 /**
@@ -28,13 +34,30 @@ import py.com.semp.lib.utilidades.utilities.Utilities;
  * 
  * @author Sergio Morel
  */
-public class CircularByteBuffer implements List<Byte>
+public class CircularByteBuffer implements List<Byte>, Comparable<CircularByteBuffer>
 {
 	/**
 	 * Value of index when not referring to a position in the buffer.
 	 */
 	private static final int BUFFER_BOUNDARY = Values.Constants.BUFFER_BOUNDARY;
 	
+	/**
+	 * Maximum amount of bytes of a variable length int.
+	 */
+	private static final int MAX_VARINT_BYTES = 5;
+	
+	/**
+	 * Maximum amount of bytes of a variable length long.
+	 */
+	private static final int MAX_VARLONG_BYTES = 10;
+	
+	private static final VarHandle SHORT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle SHORT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle INT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	
 	/**
 	 * Index for the first element of the buffer.
 	 */
@@ -50,6 +73,31 @@ public class CircularByteBuffer implements List<Byte>
 	 */
 	protected byte[] byteArray;
 	
+	/**
+	 * Amount of times the data had to be moved to start at index 0.
+	 */
+	private long linearizationCount;
+	
+	/**
+	 * Cached value of {@link #hashCode()}.
+	 */
+	private int cachedHash;
+	
+	/**
+	 * Start index when the hash was cached.
+	 */
+	private int cachedHashStart;
+	
+	/**
+	 * End index when the hash was cached.
+	 */
+	private int cachedHashEnd;
+	
+	/**
+	 * Indicates if the cached hash corresponds to the content of the underlying array.
+	 */
+	private boolean hashCached = false;
+	
 	/**
 	 * Constructor that initializes the buffer with a fixed size.
 	 * 
@@ -115,6 +163,7 @@ public class CircularByteBuffer implements List<Byte>
 		}
 		
 		this.byteArray = byteArray;
+		this.hashCached = false;
 		
 		this.start = 0;
 		this.end = byteArray.length - 1;
@@ -628,6 +677,7 @@ public class CircularByteBuffer implements List<Byte>
 		}
 		
 		this.byteArray[this.end] = data;
+		this.hashCached = false;
 		
 		return true;
 	}
@@ -746,8 +796,8 @@ public class CircularByteBuffer implements List<Byte>
 		
 		CircularByteBufferIterator iterator = this.iterator();
 		
-		int startIndex = iterator.forward(start, dataStart);
-		int endIndex = iterator.forward(end, dataStart);
+		int startIndex = iterator.forward(dataStart, start);
+		int endIndex = iterator.forward(dataStart, end);
 		
 		if(!this.inRange(startIndex, endIndex))
 		{
@@ -765,6 +815,456 @@ public class CircularByteBuffer implements List<Byte>
 		return extract(startIndex, endIndex);
 	}
 	
+	/**
+	 * Gets the byte at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the byte at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the offset is not inside the data.
+	 * @author Sergio Morel
+	 */
+	public byte peekByte(int offset)
+	{
+		return this.byteArray[this.peekIndex(offset, Byte.BYTES)];
+	}
+	
+	/**
+	 * Gets a big endian short at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public short peekShort(int offset)
+	{
+		return this.peekShort(offset, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Gets a short at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public short peekShort(int offset, ByteOrder byteOrder)
+	{
+		int index = this.peekIndex(offset, Short.BYTES);
+		
+		if(index <= this.byteArray.length - Short.BYTES)
+		{
+			VarHandle varHandle = (byteOrder == ByteOrder.BIG_ENDIAN) ? SHORT_BIG_ENDIAN : SHORT_LITTLE_ENDIAN;
+			
+			return (short)varHandle.get(this.byteArray, index);
+		}
+		
+		return (short)this.assemble(index, Short.BYTES, byteOrder);
+	}
+	
+	/**
+	 * Gets a big endian int at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public int peekInt(int offset)
+	{
+		return this.peekInt(offset, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Gets an int at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public int peekInt(int offset, ByteOrder byteOrder)
+	{
+		int index = this.peekIndex(offset, Integer.BYTES);
+		
+		if(index <= this.byteArray.length - Integer.BYTES)
+		{
+			VarHandle varHandle = (byteOrder == ByteOrder.BIG_ENDIAN) ? INT_BIG_ENDIAN : INT_LITTLE_ENDIAN;
+			
+			return (int)varHandle.get(this.byteArray, index);
+		}
+		
+		return (int)this.assemble(index, Integer.BYTES, byteOrder);
+	}
+	
+	/**
+	 * Gets a big endian long at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public long peekLong(int offset)
+	{
+		return this.peekLong(offset, ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Gets a long at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public long peekLong(int offset, ByteOrder byteOrder)
+	{
+		int index = this.peekIndex(offset, Long.BYTES);
+		
+		if(index <= this.byteArray.length - Long.BYTES)
+		{
+			VarHandle varHandle = (byteOrder == ByteOrder.BIG_ENDIAN) ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN;
+			
+			return (long)varHandle.get(this.byteArray, index);
+		}
+		
+		return this.assemble(index, Long.BYTES, byteOrder);
+	}
+	
+	/**
+	 * Gets a big endian float at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public float peekFloat(int offset)
+	{
+		return Float.intBitsToFloat(this.peekInt(offset, ByteOrder.BIG_ENDIAN));
+	}
+	
+	/**
+	 * Gets a float at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public float peekFloat(int offset, ByteOrder byteOrder)
+	{
+		return Float.intBitsToFloat(this.peekInt(offset, byteOrder));
+	}
+	
+	/**
+	 * Gets a big endian double at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public double peekDouble(int offset)
+	{
+		return Double.longBitsToDouble(this.peekLong(offset, ByteOrder.BIG_ENDIAN));
+	}
+	
+	/**
+	 * Gets a double at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @author Sergio Morel
+	 */
+	public double peekDouble(int offset, ByteOrder byteOrder)
+	{
+		return Double.longBitsToDouble(this.peekLong(offset, byteOrder));
+	}
+	
+	/**
+	 * Gets an unsigned variable length int (LEB128, as used by protocol buffers) at the offset
+	 * from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @throws IllegalStateException
+	 * if the value is longer than 5 bytes.
+	 * @author Sergio Morel
+	 */
+	public int peekVarInt(int offset)
+	{
+		return (int)this.peekVarLong(offset, MAX_VARINT_BYTES);
+	}
+	
+	/**
+	 * Gets an unsigned variable length long (LEB128, as used by protocol buffers) at the offset
+	 * from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @throws IllegalStateException
+	 * if the value is longer than 10 bytes.
+	 * @author Sergio Morel
+	 */
+	public long peekVarLong(int offset)
+	{
+		return this.peekVarLong(offset, MAX_VARLONG_BYTES);
+	}
+	
+	/**
+	 * Gets a zigzag encoded variable length int at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @throws IllegalStateException
+	 * if the value is longer than 5 bytes.
+	 * @author Sergio Morel
+	 */
+	public int peekZigZagInt(int offset)
+	{
+		int value = this.peekVarInt(offset);
+		
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Gets a zigzag encoded variable length long at the offset from the start of the data, without removing it.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the value at the offset.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @throws IllegalStateException
+	 * if the value is longer than 10 bytes.
+	 * @author Sergio Morel
+	 */
+	public long peekZigZagLong(int offset)
+	{
+		long value = this.peekVarLong(offset);
+		
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Gets the amount of bytes used by the variable length value at the offset from the start of the data.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the amount of bytes of the value.
+	 * @throws IndexOutOfBoundsException
+	 * if the value is not completely inside the data.
+	 * @throws IllegalStateException
+	 * if the value is longer than 10 bytes.
+	 * @author Sergio Morel
+	 */
+	public int peekVarLength(int offset)
+	{
+		int index = this.peekIndex(offset, Byte.BYTES);
+		int available = this.getDataSize() - offset;
+		
+		for(int i = 0; i < MAX_VARLONG_BYTES && i < available; i++)
+		{
+			if((this.byteArray[index] & 0x80) == 0)
+			{
+				return i + 1;
+			}
+			
+			index = (index + 1 == this.byteArray.length) ? 0 : index + 1;
+		}
+		
+		if(available < MAX_VARLONG_BYTES)
+		{
+			throw this.outOfBounds(offset, available + 1);
+		}
+		
+		String errorMessage = MessageUtil.getMessage(Messages.MALFORMED_VARINT_ERROR, offset);
+		
+		throw new IllegalStateException(errorMessage);
+	}
+	
+	/**
+	 * Decodes a variable length value.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param maxBytes
+	 * - maximum amount of bytes of the value.
+	 * @return
+	 * - the decoded value.
+	 * @author Sergio Morel
+	 */
+	private long peekVarLong(int offset, int maxBytes)
+	{
+		int index = this.peekIndex(offset, Byte.BYTES);
+		int available = this.getDataSize() - offset;
+		
+		long value = 0;
+		
+		for(int i = 0; i < maxBytes; i++)
+		{
+			if(i == available)
+			{
+				throw this.outOfBounds(offset, i + 1);
+			}
+			
+			int data = this.byteArray[index];
+			
+			value |= (long)(data & 0x7F) << (7 * i);
+			
+			if((data & 0x80) == 0)
+			{
+				return value;
+			}
+			
+			index = (index + 1 == this.byteArray.length) ? 0 : index + 1;
+		}
+		
+		String errorMessage = MessageUtil.getMessage(Messages.MALFORMED_VARINT_ERROR, offset);
+		
+		throw new IllegalStateException(errorMessage);
+	}
+	
+	/**
+	 * Validates that a value of the given size is inside the data and translates its offset into the internal index.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param size
+	 * - size of the value.
+	 * @return
+	 * - internal index of the first byte of the value.
+	 * @author Sergio Morel
+	 */
+	private int peekIndex(int offset, int size)
+	{
+		int dataSize = this.getDataSize();
+		
+		if(offset < 0 || offset > dataSize - size)
+		{
+			throw this.outOfBounds(offset, size);
+		}
+		
+		int index = this.start + offset;
+		
+		return (index >= this.byteArray.length) ? index - this.byteArray.length : index;
+	}
+	
+	/**
+	 * Creates the exception for a value that is not completely inside the data.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @param size
+	 * - size of the value.
+	 * @return
+	 * - the exception.
+	 * @author Sergio Morel
+	 */
+	private IndexOutOfBoundsException outOfBounds(int offset, int size)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.INVALID_INDEX_RANGE_ERROR, offset, offset + size - 1, this.getDataSize());
+		
+		return new IndexOutOfBoundsException(errorMessage);
+	}
+	
+	/**
+	 * Assembles a value byte by byte, for values that wrap around the end of the underlying array.
+	 * 
+	 * @param index
+	 * - internal index of the first byte.
+	 * @param size
+	 * - size of the value.
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the value.
+	 * @author Sergio Morel
+	 */
+	private long assemble(int index, int size, ByteOrder byteOrder)
+	{
+		long value = 0;
+		
+		for(int i = 0; i < size; i++)
+		{
+			long data = this.byteArray[index] & 0xFF;
+			
+			if(byteOrder == ByteOrder.BIG_ENDIAN)
+			{
+				value = (value << 8) | data;
+			}
+			else
+			{
+				value |= data << (8 * i);
+			}
+			
+			index = (index + 1 == this.byteArray.length) ? 0 : index + 1;
+		}
+		
+		return value;
+	}
+	
 	/**
 	 * Indicates if the range defined by the start and end indices is included
 	 * inside the range of data of the circular buffer.
@@ -868,6 +1368,120 @@ public class CircularByteBuffer implements List<Byte>
 		return this.start == BUFFER_BOUNDARY;
 	}
 	
+	/**
+	 * Verifies if the data wraps around the end of the underlying array, meaning
+	 * that it's stored in two separate segments.
+	 * 
+	 * @return
+	 * <b>true</b> if the data is wrapped.<br>
+	 * <b>false</b> if the data is contiguous or the buffer is empty.
+	 * @author Sergio Morel
+	 */
+	public boolean isWrapped()
+	{
+		return this.start > this.end;
+	}
+	
+	/**
+	 * Moves the data in place so it starts at index 0 of the underlying array.
+	 * Wrapped data is rotated with three reversals, so no additional array is allocated.<br>
+	 * Iterators created before calling this method are no longer valid if the data was moved.
+	 * 
+	 * @author Sergio Morel
+	 */
+	public void linearize()
+	{
+		if(this.isEmpty() || this.start == 0)
+		{
+			return;
+		}
+		
+		int dataSize = this.getDataSize();
+		
+		if(this.isWrapped())
+		{
+			int bufferCapacity = this.getBufferCapacity();
+			
+			this.reverse(0, this.start - 1);
+			this.reverse(this.start, bufferCapacity - 1);
+			this.reverse(0, bufferCapacity - 1);
+		}
+		else
+		{
+			System.arraycopy(this.byteArray, this.start, this.byteArray, 0, dataSize);
+		}
+		
+		this.start = 0;
+		this.end = dataSize - 1;
+		
+		this.linearizationCount++;
+	}
+	
+	/**
+	 * Reverses the elements of the underlying array between the indexes.
+	 * 
+	 * @param from
+	 * - first index (inclusive).
+	 * @param to
+	 * - last index (inclusive).
+	 * @author Sergio Morel
+	 */
+	private void reverse(int from, int to)
+	{
+		byte[] byteArray = this.byteArray;
+		
+		while(from < to)
+		{
+			byte temp = byteArray[from];
+			
+			byteArray[from] = byteArray[to];
+			byteArray[to] = temp;
+			
+			from++;
+			to--;
+		}
+	}
+	
+	/**
+	 * Gets the data of the buffer as a single contiguous region, without copying it.<br>
+	 * If the data is wrapped, it's linearized first; otherwise this method doesn't move any data.
+	 * The returned {@link ByteBuffer} is backed by the underlying array, its position is 0 and its limit
+	 * is the data size. {@link ByteBuffer#array()} and {@link ByteBuffer#arrayOffset()} can be used to obtain
+	 * the (byte[], offset, length) form.<br>
+	 * The view is only valid until the buffer is modified.
+	 * 
+	 * @return
+	 * - view over the data of the buffer.
+	 * @author Sergio Morel
+	 */
+	public ByteBuffer contiguousView()
+	{
+		if(this.isEmpty())
+		{
+			return ByteBuffer.wrap(this.byteArray, 0, 0).slice();
+		}
+		
+		if(this.isWrapped())
+		{
+			this.linearize();
+		}
+		
+		return ByteBuffer.wrap(this.byteArray, this.start, this.getDataSize()).slice();
+	}
+	
+	/**
+	 * Gets the amount of times the data had to be moved by {@link #linearize()},
+	 * including the calls made by {@link #contiguousView()}.
+	 * 
+	 * @return
+	 * - amount of linearizations.
+	 * @author Sergio Morel
+	 */
+	public long getLinearizationCount()
+	{
+		return this.linearizationCount;
+	}
+	
 	@Override
 	public boolean contains(Object compareObject)
 	{
@@ -1571,11 +2185,6 @@ public class CircularByteBuffer implements List<Byte>
 		return extraction;
 	}
 	
-	private String formatValue(byte value)
-	{
-		return String.format("%02X", value);
-	}
-	
 	@Override
 	public boolean equals(Object object)
 	{
@@ -1596,61 +2205,241 @@ public class CircularByteBuffer implements List<Byte>
 		
 		CircularByteBuffer byteBuffer = (CircularByteBuffer)object;
 		
-		int dataSize1 = this.getDataSize();
-		int dataSize2 = byteBuffer.getDataSize();
+		int dataSize = this.getDataSize();
 		
-		if(dataSize1 != dataSize2)
+		if(dataSize != byteBuffer.getDataSize())
 		{
 			return false;
 		}
 		
-		CircularByteBufferIterator iterator1 = this.iterator();
-		CircularByteBufferIterator iterator2 = byteBuffer.iterator();
-		
-		while(iterator1.hasNext())
+		if(this.isHashCached() && byteBuffer.isHashCached() && this.cachedHash != byteBuffer.cachedHash)
 		{
-			byte data1 = iterator1.nextByte();
-			byte data2 = iterator2.nextByte();
-			
-			if(data1 != data2)
-			{
-				return false;
-			}
+			return false;
 		}
 		
-		return true;
+		return this.mismatch(byteBuffer, dataSize) < 0;
 	}
 	
+	/**
+	 * Calculates the hash of the data, equal to {@link Arrays#hashCode(byte[])} of {@link #getData()}.
+	 * The data is hashed directly over the segments of the underlying array and the result is cached
+	 * until the buffer is modified.
+	 */
 	@Override
 	public int hashCode()
 	{
-		byte[] data = this.getData();
+		if(this.isHashCached())
+		{
+			return this.cachedHash;
+		}
+		
+		int hash = 1;
+		
+		if(!this.isEmpty())
+		{
+			if(this.isWrapped())
+			{
+				hash = hash(hash, this.byteArray, this.start, this.byteArray.length);
+				hash = hash(hash, this.byteArray, 0, this.end + 1);
+			}
+			else
+			{
+				hash = hash(hash, this.byteArray, this.start, this.end + 1);
+			}
+		}
+		
+		this.cachedHash = hash;
+		this.cachedHashStart = this.start;
+		this.cachedHashEnd = this.end;
+		this.hashCached = true;
 		
-		return Arrays.hashCode(data);
+		return hash;
 	}
 	
+	/**
+	 * Compares the data of the buffers lexicographically, with the same ordering as
+	 * {@link Arrays#compare(byte[], byte[])} (bytes compared as signed values, and a
+	 * proper prefix is less than the longer buffer).
+	 * 
+	 * @param byteBuffer
+	 * - buffer to compare.
+	 * @return
+	 * - 0 if the data of both buffers is equal, a negative value if this buffer is less
+	 * than the argument and a positive value otherwise.
+	 * @author Sergio Morel
+	 */
 	@Override
-	public String toString()
+	public int compareTo(CircularByteBuffer byteBuffer)
 	{
-		StringBuilder sb = new StringBuilder();
+		int dataSize1 = this.getDataSize();
+		int dataSize2 = byteBuffer.getDataSize();
 		
-		sb.append("[");
+		int index = this.mismatch(byteBuffer, Math.min(dataSize1, dataSize2));
 		
-		CircularByteBufferIterator iterator = this.iterator();
+		if(index >= 0)
+		{
+			return Byte.compare(this.peekByte(index), byteBuffer.peekByte(index));
+		}
 		
-		while(iterator.hasNext())
+		return dataSize1 - dataSize2;
+	}
+	
+	/**
+	 * Marks the cached hash as outdated. Called when the content of the underlying array is modified.
+	 * 
+	 * @author Sergio Morel
+	 */
+	void invalidateHash()
+	{
+		this.hashCached = false;
+	}
+	
+	private boolean isHashCached()
+	{
+		return this.hashCached && this.cachedHashStart == this.start && this.cachedHashEnd == this.end;
+	}
+	
+	/**
+	 * Finds the first position where the data of the buffers differ, comparing the contiguous
+	 * segments of both underlying arrays with {@link Arrays#mismatch(byte[], int, int, byte[], int, int)}.
+	 * 
+	 * @param byteBuffer
+	 * - buffer to compare.
+	 * @param length
+	 * - amount of bytes to compare, not greater than the data size of any of the buffers.
+	 * @return
+	 * - offset from the start of the data of the first mismatch.<br>
+	 * - -1 if there is no mismatch.
+	 * @author Sergio Morel
+	 */
+	private int mismatch(CircularByteBuffer byteBuffer, int length)
+	{
+		byte[] byteArray1 = this.byteArray;
+		byte[] byteArray2 = byteBuffer.byteArray;
+		
+		int index1 = this.start;
+		int index2 = byteBuffer.start;
+		int offset = 0;
+		
+		while(offset < length)
 		{
-			if(!iterator.isFirstIteration())
+			int segmentSize = Math.min(length - offset, Math.min(byteArray1.length - index1, byteArray2.length - index2));
+			
+			int mismatch = Arrays.mismatch(byteArray1, index1, index1 + segmentSize, byteArray2, index2, index2 + segmentSize);
+			
+			if(mismatch >= 0)
 			{
-				sb.append(", ");
+				return offset + mismatch;
 			}
 			
-			sb.append(this.formatValue(iterator.nextByte()));
+			offset += segmentSize;
+			index1 += segmentSize;
+			index2 += segmentSize;
+			
+			if(index1 == byteArray1.length)
+			{
+				index1 = 0;
+			}
+			
+			if(index2 == byteArray2.length)
+			{
+				index2 = 0;
+			}
 		}
 		
-		sb.append("]");
+		return -1;
+	}
+	
+	/**
+	 * Continues the polynomial hash of {@link Arrays#hashCode(byte[])} over a range of the array,
+	 * processing four bytes per step to shorten the dependency chain of the multiplications.
+	 * 
+	 * @param hash
+	 * - hash of the preceding data.
+	 * @param byteArray
+	 * - the array.
+	 * @param from
+	 * - first index (inclusive).
+	 * @param to
+	 * - last index (exclusive).
+	 * @return
+	 * - the hash including the range.
+	 * @author Sergio Morel
+	 */
+	private static int hash(int hash, byte[] byteArray, int from, int to)
+	{
+		int i = from;
 		
-		return sb.toString();
+		for(; i <= to - 4; i += 4)
+		{
+			hash = 923521 * hash + 29791 * byteArray[i] + 961 * byteArray[i + 1] + 31 * byteArray[i + 2] + byteArray[i + 3];
+		}
+		
+		for(; i < to; i++)
+		{
+			hash = 31 * hash + byteArray[i];
+		}
+		
+		return hash;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.toString(HexFormatter.UNLIMITED);
+	}
+	
+	/**
+	 * Returns a string with the data of the buffer in hexadecimal, limiting the amount
+	 * of bytes formatted. The bytes that exceed the limit are replaced by an ellipsis.
+	 * 
+	 * @param maxBytes
+	 * - maximum amount of bytes to format, or {@link HexFormatter#UNLIMITED}.
+	 * @return
+	 * - the String with the data of the buffer (for example: [A0, BD, ...]).
+	 * @author Sergio Morel
+	 */
+	public String toString(int maxBytes)
+	{
+		return this.appendTo(new StringBuilder(), maxBytes).toString();
+	}
+	
+	/**
+	 * Appends the data of the buffer in hexadecimal, with the format of {@link #toString(int)}.
+	 * 
+	 * @param sb
+	 * - where the data is appended.
+	 * @param maxBytes
+	 * - maximum amount of bytes to format, or {@link HexFormatter#UNLIMITED}.
+	 * @return
+	 * - the same {@link StringBuilder}.
+	 * @author Sergio Morel
+	 */
+	public StringBuilder appendTo(StringBuilder sb, int maxBytes)
+	{
+		return HexFormatter.appendHexaArray(sb, this.byteArray, this.getDataStart(), this.getDataSize(), maxBytes);
+	}
+	
+	/**
+	 * Appends a hexadecimal and ASCII dump of the data of the buffer, as described in
+	 * {@link HexFormatter#appendDump(Appendable, byte[], int, int, int)}.
+	 * 
+	 * @param out
+	 * - where the dump is appended.
+	 * @param maxBytes
+	 * - maximum amount of bytes to format, or {@link HexFormatter#UNLIMITED}.
+	 * @throws IOException
+	 * if the {@link Appendable} throws it.
+	 * @author Sergio Morel
+	 */
+	public void dump(Appendable out, int maxBytes) throws IOException
+	{
+		HexFormatter.appendDump(out, this.byteArray, this.getDataStart(), this.getDataSize(), maxBytes);
+	}
+	
+	private int getDataStart()
+	{
+		return this.isEmpty() ? 0 : this.start;
 	}
 	
 	/**
@@ -1663,7 +2452,7 @@ public class CircularByteBuffer implements List<Byte>
 	 */
 	public String stateToString()
 	{
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = new StringBuilder(this.byteArray.length * 4 + 6);
 		
 		sb.append("[");
 		
@@ -1684,7 +2473,7 @@ public class CircularByteBuffer implements List<Byte>
 				sb.append("(");
 			}
 			
-			sb.append(this.formatValue(this.byteArray[i]));
+			HexFormatter.appendHexa(sb, this.byteArray[i]);
 			
 			if(i == this.start)
 			{
@@ -1824,6 +2613,7 @@ public class CircularByteBuffer implements List<Byte>
 		byte previousValue = this.byteArray[internalIndex];
 		
 		this.byteArray[internalIndex] = element;
+		this.hashCached = false;
 		
 		return previousValue;
 	}
@@ -1,5 +1,7 @@
 package py.com.semp.lib.utilidades.data;
 
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
@@ -19,6 +21,16 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	 */
 	private static final int BUFFER_BOUNDARY = Values.Constants.BUFFER_BOUNDARY;
 	
+	/**
+	 * Maximum amount of patterns whose matching state is tracked by the iterator.
+	 */
+	private static final int MAX_PATTERN_MATCHERS = 4;
+	
+	/**
+	 * Empty array of pattern matchers.
+	 */
+	private static final PatternMatcher[] NO_PATTERN_MATCHERS = new PatternMatcher[]{};
+	
 	/**
 	 * Buffer to be iterated.
 	 */
@@ -44,6 +56,11 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	 */
 	private boolean firstIteration;
 	
+	/**
+	 * Matchers for the patterns checked with {@link #patternFound(byte[])}.
+	 */
+	private PatternMatcher[] patternMatchers = NO_PATTERN_MATCHERS;
+	
 	/**
 	 * Constructor with argument for the {@link CircularByteBuffer}.
 	 * 
@@ -68,6 +85,11 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		this.newElementsIndex = BUFFER_BOUNDARY;
 		this.lastAction = IterationAction.NONE;
 		this.firstIteration = true;
+		
+		for(PatternMatcher patternMatcher : this.patternMatchers)
+		{
+			patternMatcher.reset();
+		}
 	}
 	
 	/**
@@ -258,6 +280,346 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		return this.buffer.byteArray[this.index];
 	}
 	
+	/**
+	 * Retrieves the next big endian short from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next short in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public short nextShort()
+	{
+		return this.nextShort(ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Retrieves the next short from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the next short in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public short nextShort(ByteOrder byteOrder)
+	{
+		int offset = this.nextOffset(Short.BYTES);
+		
+		short value = this.buffer.peekShort(offset, byteOrder);
+		
+		this.consume(offset, Short.BYTES);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next big endian int from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next int in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public int nextInt()
+	{
+		return this.nextInt(ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Retrieves the next int from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the next int in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public int nextInt(ByteOrder byteOrder)
+	{
+		int offset = this.nextOffset(Integer.BYTES);
+		
+		int value = this.buffer.peekInt(offset, byteOrder);
+		
+		this.consume(offset, Integer.BYTES);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next big endian long from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next long in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public long nextLong()
+	{
+		return this.nextLong(ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Retrieves the next long from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the next long in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public long nextLong(ByteOrder byteOrder)
+	{
+		int offset = this.nextOffset(Long.BYTES);
+		
+		long value = this.buffer.peekLong(offset, byteOrder);
+		
+		this.consume(offset, Long.BYTES);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next big endian float from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next float in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public float nextFloat()
+	{
+		return this.nextFloat(ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Retrieves the next float from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the next float in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public float nextFloat(ByteOrder byteOrder)
+	{
+		int offset = this.nextOffset(Float.BYTES);
+		
+		float value = this.buffer.peekFloat(offset, byteOrder);
+		
+		this.consume(offset, Float.BYTES);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next big endian double from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next double in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public double nextDouble()
+	{
+		return this.nextDouble(ByteOrder.BIG_ENDIAN);
+	}
+	
+	/**
+	 * Retrieves the next double from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @param byteOrder
+	 * - byte order of the value.
+	 * @return
+	 * - the next double in the buffer.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	public double nextDouble(ByteOrder byteOrder)
+	{
+		int offset = this.nextOffset(Double.BYTES);
+		
+		double value = this.buffer.peekDouble(offset, byteOrder);
+		
+		this.consume(offset, Double.BYTES);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next unsigned variable length int from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next value in the buffer.
+	 * @throws NoSuchElementException
+	 * if the value is not complete in the buffer.
+	 * @throws IllegalStateException
+	 * if the value is malformed.
+	 * @author Sergio Morel
+	 */
+	public int nextVarInt()
+	{
+		int offset = this.nextOffset(Byte.BYTES);
+		int length = this.nextVarLength(offset);
+		
+		int value = this.buffer.peekVarInt(offset);
+		
+		this.consume(offset, length);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next unsigned variable length long from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next value in the buffer.
+	 * @throws NoSuchElementException
+	 * if the value is not complete in the buffer.
+	 * @throws IllegalStateException
+	 * if the value is malformed.
+	 * @author Sergio Morel
+	 */
+	public long nextVarLong()
+	{
+		int offset = this.nextOffset(Byte.BYTES);
+		int length = this.nextVarLength(offset);
+		
+		long value = this.buffer.peekVarLong(offset);
+		
+		this.consume(offset, length);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next zigzag encoded variable length int from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next value in the buffer.
+	 * @throws NoSuchElementException
+	 * if the value is not complete in the buffer.
+	 * @throws IllegalStateException
+	 * if the value is malformed.
+	 * @author Sergio Morel
+	 */
+	public int nextZigZagInt()
+	{
+		int offset = this.nextOffset(Byte.BYTES);
+		int length = this.nextVarLength(offset);
+		
+		int value = this.buffer.peekZigZagInt(offset);
+		
+		this.consume(offset, length);
+		
+		return value;
+	}
+	
+	/**
+	 * Retrieves the next zigzag encoded variable length long from the buffer, moving the iterator to its last byte.
+	 * 
+	 * @return
+	 * - the next value in the buffer.
+	 * @throws NoSuchElementException
+	 * if the value is not complete in the buffer.
+	 * @throws IllegalStateException
+	 * if the value is malformed.
+	 * @author Sergio Morel
+	 */
+	public long nextZigZagLong()
+	{
+		int offset = this.nextOffset(Byte.BYTES);
+		int length = this.nextVarLength(offset);
+		
+		long value = this.buffer.peekZigZagLong(offset);
+		
+		this.consume(offset, length);
+		
+		return value;
+	}
+	
+	/**
+	 * Gets the offset from the start of the data of the byte that would be returned by {@link #nextByte()},
+	 * verifying that there are enough bytes for a value of the given size.
+	 * 
+	 * @param size
+	 * - size of the value.
+	 * @return
+	 * - offset of the first byte of the value.
+	 * @throws NoSuchElementException
+	 * if there are not enough bytes in the buffer.
+	 * @author Sergio Morel
+	 */
+	private int nextOffset(int size)
+	{
+		int internalIndex = (this.lastAction == IterationAction.PREVIOUS) ? this.index : this.goNext(this.index);
+		int offset = this.getIndex(internalIndex);
+		
+		if(offset == BUFFER_BOUNDARY || offset > this.buffer.getDataSize() - size)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NO_DATA_AVAILABLE_ERROR);
+			
+			throw new NoSuchElementException(errorMessage);
+		}
+		
+		return offset;
+	}
+	
+	/**
+	 * Gets the amount of bytes of the variable length value at the offset.
+	 * 
+	 * @param offset
+	 * - offset from the start of the data.
+	 * @return
+	 * - the amount of bytes of the value.
+	 * @throws NoSuchElementException
+	 * if the value is not complete in the buffer.
+	 * @author Sergio Morel
+	 */
+	private int nextVarLength(int offset)
+	{
+		try
+		{
+			return this.buffer.peekVarLength(offset);
+		}
+		catch(IndexOutOfBoundsException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NO_DATA_AVAILABLE_ERROR);
+			
+			throw new NoSuchElementException(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * Moves the iterator to the last byte of a value that was read.
+	 * 
+	 * @param offset
+	 * - offset of the first byte of the value.
+	 * @param size
+	 * - size of the value.
+	 * @author Sergio Morel
+	 */
+	private void consume(int offset, int size)
+	{
+		this.index = this.forward(BUFFER_BOUNDARY, offset + size);
+		this.lastAction = IterationAction.NEXT;
+		this.firstIteration = false;
+	}
+	
 	@Override
 	public int nextIndex()
 	{
@@ -350,6 +712,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		
 		this.lastAction = IterationAction.REMOVE;
 		
+		this.modified();
+		
 		if(removeIndex == dataStart)
 		{
 			this.removeFirst();
@@ -432,6 +796,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 			return;
 		}
 		
+		this.modified();
+		
 		int dataStart = this.buffer.start;
 		int dataEnd = this.buffer.end;
 		int dataSize = this.buffer.getDataSize();
@@ -513,6 +879,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		
 		byte data = byteArray[dataStart];
 		
+		this.modified();
+		
 		if(dataStart == dataEnd)
 		{
 			this.buffer.clear();
@@ -556,6 +924,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		
 		byte data = byteArray[dataEnd];
 		
+		this.modified();
+		
 		if(dataStart == dataEnd)
 		{
 			this.buffer.clear();
@@ -578,9 +948,14 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	/**
 	 * Checks if the given pattern exists immediately preceding the current index in the buffer.
 	 * <p>
-	 * This method looks backward from the current index to determine if the pattern is present.
-	 * The search is done in reverse order, starting from the end of the pattern towards its beginning,
-	 * and it stops as soon as a mismatch is found or the pattern is fully matched.
+	 * The iterator keeps a rolling hash of the last bytes visited for each pattern checked
+	 * (up to a few different patterns, identified by their array reference). The hash is updated
+	 * in constant time every time the iterator moves forward, so this check is constant time and
+	 * the bytes are only compared when the hash matches. If the iterator jumped to another position
+	 * since the last check, the hash is recalculated from the buffer.
+	 * </p>
+	 * <p>
+	 * The content of the pattern array must not be modified while it is being used with this iterator.
 	 * </p>
 	 *
 	 * @param pattern The byte array pattern to search for within the buffer.
@@ -590,6 +965,42 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	 * - <b>false</b> otherwise or if the pattern is not fully matched.
 	 */
 	public boolean patternFound(byte[] pattern)
+	{
+		if(pattern.length == 0)
+		{
+			return true;
+		}
+		
+		PatternMatcher patternMatcher = this.getPatternMatcher(pattern);
+		
+		if(patternMatcher == null)
+		{
+			return this.comparePattern(pattern);
+		}
+		
+		if(patternMatcher.index != this.index)
+		{
+			patternMatcher.synchronize(this);
+		}
+		
+		if(!patternMatcher.hashMatches())
+		{
+			return false;
+		}
+		
+		return this.comparePattern(pattern);
+	}
+	
+	/**
+	 * Compares the pattern byte by byte against the data immediately preceding the current index.
+	 * 
+	 * @param pattern
+	 * - The pattern to compare.
+	 * @return
+	 * - <b>true</b> if the entire pattern is found immediately preceding the current index.<br>
+	 * - <b>false</b> otherwise.
+	 */
+	private boolean comparePattern(byte[] pattern)
 	{
 		byte[] byteArray = this.buffer.byteArray;
 		int index = this.index;
@@ -614,6 +1025,83 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		return false;
 	}
 	
+	/**
+	 * Gets the matcher for the pattern, registering a new one if the pattern is not tracked yet.
+	 * 
+	 * @param pattern
+	 * - The pattern.
+	 * @return
+	 * - The matcher for the pattern.<br>
+	 * - <b>null</b> if the maximum amount of tracked patterns was reached.
+	 */
+	private PatternMatcher getPatternMatcher(byte[] pattern)
+	{
+		PatternMatcher[] patternMatchers = this.patternMatchers;
+		
+		for(int i = 0; i < patternMatchers.length; i++)
+		{
+			if(patternMatchers[i].pattern == pattern)
+			{
+				return patternMatchers[i];
+			}
+		}
+		
+		if(patternMatchers.length >= MAX_PATTERN_MATCHERS)
+		{
+			return null;
+		}
+		
+		PatternMatcher patternMatcher = new PatternMatcher(pattern);
+		
+		this.patternMatchers = Arrays.copyOf(patternMatchers, patternMatchers.length + 1);
+		this.patternMatchers[patternMatchers.length] = patternMatcher;
+		
+		return patternMatcher;
+	}
+	
+	/**
+	 * Updates the rolling hashes after the iterator moved forward from the previous index.
+	 * 
+	 * @param previousIndex
+	 * - The index before moving forward.
+	 */
+	private void updatePatternMatchers(int previousIndex)
+	{
+		for(PatternMatcher patternMatcher : this.patternMatchers)
+		{
+			if(this.index == BUFFER_BOUNDARY)
+			{
+				patternMatcher.reset();
+			}
+			else if(patternMatcher.index == previousIndex)
+			{
+				patternMatcher.roll(this.buffer.byteArray, this.index);
+			}
+		}
+	}
+	
+	/**
+	 * Invalidates the state that depends on the content of the buffer.
+	 * Called when the buffer is modified through the iterator.
+	 */
+	private void modified()
+	{
+		this.invalidatePatternMatchers();
+		
+		this.buffer.invalidateHash();
+	}
+	
+	/**
+	 * Marks the rolling hashes as outdated, forcing them to be recalculated on the next check.
+	 */
+	private void invalidatePatternMatchers()
+	{
+		for(PatternMatcher patternMatcher : this.patternMatchers)
+		{
+			patternMatcher.invalidate();
+		}
+	}
+	
 	@Override
 	public void set(Byte element)
 	{
@@ -639,11 +1127,15 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		}
 		
 		this.buffer.byteArray[this.index] = element;
+		
+		this.modified();
 	}
 	
 	@Override
 	public void add(Byte element)
 	{
+		this.modified();
+		
 		int bufferCapacity = this.buffer.getBufferCapacity();
 		int dataSize = this.buffer.getDataSize();
 		int dataStart = this.buffer.start;
@@ -759,6 +1251,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	{
 		int insertIndex = 0;
 		
+		this.modified();
+		
 		if(this.buffer.isEmpty())
 		{
 			this.buffer.start = 0;
@@ -800,6 +1294,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	{
 		int insertIndex = 0;
 		
+		this.modified();
+		
 		if(this.buffer.isEmpty())
 		{
 			this.buffer.start = 0;
@@ -834,7 +1330,16 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	 */
 	protected int goNext()
 	{
-		return this.index = this.goNext(this.index);
+		int previousIndex = this.index;
+		
+		this.index = this.goNext(previousIndex);
+		
+		if(this.patternMatchers.length > 0)
+		{
+			this.updatePatternMatchers(previousIndex);
+		}
+		
+		return this.index;
 	}
 	
 	/**
@@ -1276,6 +1781,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	 */
 	protected void shiftToStart(int index)
 	{
+		this.modified();
+		
 		if(this.buffer.start <= this.buffer.end)
 		{
 			int bufferCapacity = this.buffer.getBufferCapacity();
@@ -1324,6 +1831,8 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 	 */
 	protected void shiftToEnd(int index)
 	{
+		this.modified();
+		
 		if(this.buffer.start <= this.buffer.end)
 		{
 			int bufferCapacity = this.buffer.getBufferCapacity();
@@ -1357,6 +1866,159 @@ public class CircularByteBufferIterator implements ListIterator<Byte>
 		}
 	}
 	
+	/**
+	 * Rabin-Karp rolling hash of the last bytes visited by the iterator, used to check
+	 * a pattern in constant time.
+	 * 
+	 * @author Sergio Morel
+	 */
+	private static final class PatternMatcher
+	{
+		/**
+		 * Base of the polynomial hash.
+		 */
+		private static final int BASE = 0x01000193;
+		
+		/**
+		 * Value of the index when the hash doesn't correspond to any position.
+		 */
+		private static final int INVALID_INDEX = Integer.MIN_VALUE;
+		
+		/**
+		 * The pattern to match.
+		 */
+		private final byte[] pattern;
+		
+		/**
+		 * Hash of the pattern.
+		 */
+		private final int patternHash;
+		
+		/**
+		 * Value of BASE^(pattern.length - 1), used to remove the oldest byte from the hash.
+		 */
+		private final int power;
+		
+		/**
+		 * Hash of the bytes in the window.
+		 */
+		private int hash;
+		
+		/**
+		 * Amount of bytes in the window.
+		 */
+		private int count;
+		
+		/**
+		 * Internal index of the last byte in the window.
+		 */
+		private int index;
+		
+		private PatternMatcher(byte[] pattern)
+		{
+			super();
+			
+			int patternHash = 0;
+			int power = 1;
+			
+			for(int i = 0; i < pattern.length; i++)
+			{
+				patternHash = patternHash * BASE + (pattern[i] & 0xFF);
+				
+				if(i > 0)
+				{
+					power *= BASE;
+				}
+			}
+			
+			this.pattern = pattern;
+			this.patternHash = patternHash;
+			this.power = power;
+			
+			this.invalidate();
+		}
+		
+		/**
+		 * Adds the byte at the new index to the window, removing the oldest one if the window is full.
+		 * 
+		 * @param byteArray
+		 * - The underlying array of the buffer.
+		 * @param newIndex
+		 * - The index of the byte that enters the window.
+		 */
+		private void roll(byte[] byteArray, int newIndex)
+		{
+			int hash = this.hash;
+			
+			if(this.count == this.pattern.length)
+			{
+				int oldestIndex = newIndex - this.count;
+				
+				if(oldestIndex < 0)
+				{
+					oldestIndex += byteArray.length;
+				}
+				
+				hash -= (byteArray[oldestIndex] & 0xFF) * this.power;
+			}
+			else
+			{
+				this.count++;
+			}
+			
+			this.hash = hash * BASE + (byteArray[newIndex] & 0xFF);
+			this.index = newIndex;
+		}
+		
+		/**
+		 * Recalculates the hash walking backwards from the current index of the iterator.
+		 * 
+		 * @param iterator
+		 * - The iterator.
+		 */
+		private void synchronize(CircularByteBufferIterator iterator)
+		{
+			byte[] byteArray = iterator.buffer.byteArray;
+			int length = this.pattern.length;
+			int hash = 0;
+			int power = 1;
+			int count = 0;
+			int index = iterator.index;
+			
+			while(count < length && index != BUFFER_BOUNDARY)
+			{
+				hash += (byteArray[index] & 0xFF) * power;
+				power *= BASE;
+				count++;
+				
+				index = iterator.goPrevious(index);
+			}
+			
+			this.hash = hash;
+			this.count = count;
+			this.index = iterator.index;
+		}
+		
+		private boolean hashMatches()
+		{
+			return this.count == this.pattern.length && this.hash == this.patternHash;
+		}
+		
+		private void reset()
+		{
+			this.hash = 0;
+			this.count = 0;
+			this.index = BUFFER_BOUNDARY;
+		}
+		
+		private void invalidate()
+		{
+			this.hash = 0;
+			this.count = 0;
+			this.index = INVALID_INDEX;
+		}
+	}
+	
 	@Override
 	public String toString()
 	{
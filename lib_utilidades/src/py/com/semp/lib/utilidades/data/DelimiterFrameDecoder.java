@@ -0,0 +1,173 @@
+package py.com.semp.lib.utilidades.data;
+
+import java.nio.charset.StandardCharsets;
+
+import py.com.semp.lib.utilidades.exceptions.FrameTooLargeException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * {@link FrameDecoder} of frames terminated by a delimiter. The decoder remembers how far it has
+ * already searched, so the bytes of an incomplete frame are not searched again when more data arrives.
+ * This implementation is not thread-safe.
+ *
+ * @author Sergio Morel
+ */
+public class DelimiterFrameDecoder implements FrameDecoder
+{
+	/**
+	 * Value of the maximum frame length when there is no limit.
+	 */
+	public static final int UNLIMITED = 0;
+	
+	private final byte[] delimiter;
+	private final boolean stripDelimiter;
+	private final int maxFrameLength;
+	
+	/**
+	 * Offset from the start of the data where the search continues.
+	 */
+	private int searchOffset = 0;
+	
+	/**
+	 * Creates a decoder that keeps the delimiter in the frames and doesn't limit their length.
+	 * 
+	 * @param delimiter
+	 * - the delimiter, encoded in UTF-8.
+	 * @author Sergio Morel
+	 */
+	public DelimiterFrameDecoder(String delimiter)
+	{
+		this(delimiter == null ? null : delimiter.getBytes(StandardCharsets.UTF_8), false, UNLIMITED);
+	}
+	
+	/**
+	 * Creates a decoder.
+	 * 
+	 * @param delimiter
+	 * - the delimiter.
+	 * @param stripDelimiter
+	 * - <b>true</b> to remove the delimiter from the frames.
+	 * @param maxFrameLength
+	 * - maximum length of a frame including its delimiter, or {@link #UNLIMITED}.
+	 * @throws NullPointerException
+	 * if the delimiter is null.
+	 * @throws IllegalArgumentException
+	 * if the delimiter is empty or the maximum length is negative.
+	 * @author Sergio Morel
+	 */
+	public DelimiterFrameDecoder(byte[] delimiter, boolean stripDelimiter, int maxFrameLength)
+	{
+		super();
+		
+		if(delimiter == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[delimiter] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::DelimiterFrameDecoder(byte[] delimiter, boolean stripDelimiter, int maxFrameLength)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(delimiter.length == 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "delimiter", "");
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(maxFrameLength < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "maxFrameLength", maxFrameLength);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.delimiter = delimiter.clone();
+		this.stripDelimiter = stripDelimiter;
+		this.maxFrameLength = maxFrameLength;
+	}
+	
+	@Override
+	public byte[] decode(CircularByteBuffer buffer)
+	{
+		int dataSize = buffer.getDataSize();
+		int last = dataSize - this.delimiter.length;
+		
+		for(int offset = this.searchOffset; offset <= last; offset++)
+		{
+			if(this.matches(buffer, offset))
+			{
+				int frameLength = offset + this.delimiter.length;
+				
+				this.searchOffset = 0;
+				
+				if(this.maxFrameLength != UNLIMITED && frameLength > this.maxFrameLength)
+				{
+					buffer.trimStart(frameLength);
+					
+					String errorMessage = MessageUtil.getMessage(Messages.FRAME_TOO_LARGE_ERROR, frameLength, this.maxFrameLength);
+					
+					throw new FrameTooLargeException(errorMessage, frameLength, 0);
+				}
+				
+				int length = this.stripDelimiter ? offset : frameLength;
+				byte[] frame = (length == 0) ? new byte[0] : buffer.getData(0, length - 1);
+				
+				buffer.trimStart(frameLength);
+				
+				return frame;
+			}
+		}
+		
+		this.searchOffset = Math.max(0, last + 1);
+		
+		if(this.maxFrameLength != UNLIMITED && dataSize > this.maxFrameLength)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.FRAME_TOO_LARGE_ERROR, dataSize, this.maxFrameLength);
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		return null;
+	}
+	
+	private boolean matches(CircularByteBuffer buffer, int offset)
+	{
+		for(int i = 0; i < this.delimiter.length; i++)
+		{
+			if(buffer.peekByte(offset + i) != this.delimiter[i])
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public void reset()
+	{
+		this.searchOffset = 0;
+	}
+	
+	public byte[] getDelimiter()
+	{
+		return this.delimiter.clone();
+	}
+	
+	public boolean isStripDelimiter()
+	{
+		return this.stripDelimiter;
+	}
+	
+	public int getMaxFrameLength()
+	{
+		return this.maxFrameLength;
+	}
+}
\ No newline at end of file
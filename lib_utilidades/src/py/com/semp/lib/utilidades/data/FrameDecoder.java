@@ -0,0 +1,44 @@
+package py.com.semp.lib.utilidades.data;
+
+import py.com.semp.lib.utilidades.exceptions.FrameTooLargeException;
+
+/**
+ * Extracts complete frames from the data accumulated in a {@link CircularByteBuffer}, for example
+ * frames terminated by a delimiter ({@link DelimiterFrameDecoder}) or preceded by their length
+ * ({@link LengthPrefixFrameDecoder}). Custom protocols can implement it with a lambda.
+ * <p>
+ * A decoder assumes it is the only consumer of the buffer, and may keep state about the data
+ * already examined. If the data is removed from the buffer by other means, {@link #reset()} should
+ * be called.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+@FunctionalInterface
+public interface FrameDecoder
+{
+	/**
+	 * Extracts the next complete frame, removing its bytes from the buffer.
+	 * 
+	 * @param buffer
+	 * - buffer with the data received.
+	 * @return
+	 * - the frame, or <b>null</b> if the buffer doesn't contain a complete frame.
+	 * @throws FrameTooLargeException
+	 * if a frame exceeds the maximum length or the capacity of the buffer. Its bytes were removed from
+	 * the buffer, and the remaining ones should be skipped from the data that follows.
+	 * @throws IllegalStateException
+	 * if the data can't be framed otherwise. The data buffered should be discarded and the decoder reset.
+	 * @author Sergio Morel
+	 */
+	public byte[] decode(CircularByteBuffer buffer);
+	
+	/**
+	 * Discards the state kept about the data already examined.
+	 * 
+	 * @author Sergio Morel
+	 */
+	default public void reset()
+	{
+	}
+}
\ No newline at end of file
@@ -0,0 +1,327 @@
+package py.com.semp.lib.utilidades.data;
+
+import java.util.ArrayDeque;
+import java.util.function.LongSupplier;
+
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.CachedNanoClock;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Time based framer for a {@link CircularByteBuffer}, for devices that don't send an end
+ * marker and delimit their frames with a period of silence (for example the 3.5 characters
+ * gap of Modbus RTU).
+ * <p>
+ * The arrival time is recorded once per append, and the accumulated bytes are emitted as
+ * a frame when {@link #poll()} is called after the configured gap has passed without new
+ * data. The time is taken from a {@link LongSupplier} returning nanoseconds, by default
+ * the shared {@link CachedNanoClock}, so the gap should be greater than the resolution of the clock.
+ * </p>
+ * <p>
+ * An append that arrives after the gap completes the frame in progress before starting a new one, even
+ * if {@link #poll()} was not called during the silence. The completed frames are kept until they are polled.
+ * </p>
+ * <p>
+ * Note: The framer assumes it is the only consumer of the buffer. If the data of a frame doesn't
+ * fit in the buffer, the oldest bytes are overwritten. This implementation is not thread-safe.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class IdleGapFramer
+{
+	/**
+	 * Buffer where the bytes of the frame are accumulated.
+	 */
+	private final CircularByteBuffer buffer;
+	
+	/**
+	 * Frames completed by an append after the gap that were not polled yet.
+	 */
+	private final ArrayDeque<byte[]> completedFrames = new ArrayDeque<>();
+	
+	/**
+	 * Clock used to record the arrival times.
+	 */
+	private final LongSupplier clock;
+	
+	/**
+	 * Period of silence that completes a frame.
+	 */
+	private long gapNanos;
+	
+	/**
+	 * Time of the last append.
+	 */
+	private long lastArrivalNanos;
+	
+	/**
+	 * Amount of frames emitted.
+	 */
+	private long frameCount;
+	
+	/**
+	 * Creates a framer that uses the shared {@link CachedNanoClock}.
+	 *
+	 * @param buffer
+	 * - buffer where the bytes of the frame are accumulated.
+	 * @param gapNanos
+	 * - period of silence that completes a frame, in nanoseconds.
+	 * @throws NullPointerException
+	 * if the buffer is null.
+	 * @throws IllegalArgumentException
+	 * if the gap is not positive.
+	 * @author Sergio Morel
+	 */
+	public IdleGapFramer(CircularByteBuffer buffer, long gapNanos)
+	{
+		this(buffer, gapNanos, CachedNanoClock.getDefault());
+	}
+	
+	/**
+	 * Creates a framer.
+	 *
+	 * @param buffer
+	 * - buffer where the bytes of the frame are accumulated.
+	 * @param gapNanos
+	 * - period of silence that completes a frame, in nanoseconds.
+	 * @param clock
+	 * - clock that returns the time in nanoseconds.
+	 * @throws NullPointerException
+	 * if the buffer or the clock are null.
+	 * @throws IllegalArgumentException
+	 * if the gap is not positive.
+	 * @author Sergio Morel
+	 */
+	public IdleGapFramer(CircularByteBuffer buffer, long gapNanos, LongSupplier clock)
+	{
+		super();
+		
+		if(buffer == null || clock == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append((buffer == null) ? "[buffer] " : "[clock] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::IdleGapFramer(CircularByteBuffer buffer, long gapNanos, LongSupplier clock)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		this.buffer = buffer;
+		this.clock = clock;
+		
+		this.setGapNanos(gapNanos);
+	}
+	
+	/**
+	 * Appends data to the current frame, recording its arrival time. If the gap has passed since the
+	 * last append, the frame in progress is completed first and the data starts a new frame.
+	 *
+	 * @param data
+	 * - the data received.
+	 * @author Sergio Morel
+	 */
+	public void append(byte[] data)
+	{
+		this.append(data, 0, data.length);
+	}
+	
+	/**
+	 * Appends a range of an array to the current frame, recording its arrival time. If the gap has passed
+	 * since the last append, the frame in progress is completed first and the data starts a new frame.
+	 *
+	 * @param data
+	 * - array with the data received.
+	 * @param offset
+	 * - index of the first byte.
+	 * @param length
+	 * - amount of bytes.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not valid for the array.
+	 * @author Sergio Morel
+	 */
+	public void append(byte[] data, int offset, int length)
+	{
+		if(length == 0)
+		{
+			return;
+		}
+		
+		long now = this.clock.getAsLong();
+		
+		if(!this.buffer.isEmpty() && now - this.lastArrivalNanos >= this.gapNanos)
+		{
+			this.completedFrames.add(this.takeFrame());
+		}
+		
+		this.buffer.add(data, offset, offset + length);
+		
+		this.lastArrivalNanos = now;
+	}
+	
+	/**
+	 * Emits the oldest completed frame, or the accumulated bytes as a frame if the gap has passed since the last append.
+	 *
+	 * @return
+	 * - the frame.<br>
+	 * - <b>null</b> if there is no data or the gap has not passed yet.
+	 * @author Sergio Morel
+	 */
+	public byte[] poll()
+	{
+		return this.poll(this.clock.getAsLong());
+	}
+	
+	/**
+	 * Emits the oldest completed frame, or the accumulated bytes as a frame if the gap has passed since the last append.
+	 *
+	 * @param nowNanos
+	 * - the current time, from the same clock used by the framer.
+	 * @return
+	 * - the frame.<br>
+	 * - <b>null</b> if there is no data or the gap has not passed yet.
+	 * @author Sergio Morel
+	 */
+	public byte[] poll(long nowNanos)
+	{
+		if(!this.completedFrames.isEmpty())
+		{
+			return this.completedFrames.poll();
+		}
+		
+		if(this.buffer.isEmpty() || nowNanos - this.lastArrivalNanos < this.gapNanos)
+		{
+			return null;
+		}
+		
+		return this.flush();
+	}
+	
+	/**
+	 * Emits the oldest completed frame, or the accumulated bytes as a frame without waiting for the gap.
+	 *
+	 * @return
+	 * - the frame.<br>
+	 * - <b>null</b> if there is no data.
+	 * @author Sergio Morel
+	 */
+	public byte[] flush()
+	{
+		if(!this.completedFrames.isEmpty())
+		{
+			return this.completedFrames.poll();
+		}
+		
+		if(this.buffer.isEmpty())
+		{
+			return null;
+		}
+		
+		return this.takeFrame();
+	}
+	
+	/**
+	 * Removes the accumulated bytes from the buffer as a frame.
+	 *
+	 * @return
+	 * - the frame.
+	 */
+	private byte[] takeFrame()
+	{
+		byte[] frame = this.buffer.getData();
+		
+		this.buffer.clear();
+		this.frameCount++;
+		
+		return frame;
+	}
+	
+	/**
+	 * Indicates if there are bytes waiting for the gap to complete a frame.
+	 *
+	 * @return
+	 * <b>true</b> if there is a frame in progress or a completed frame not polled yet.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean hasPendingData()
+	{
+		return !this.completedFrames.isEmpty() || !this.buffer.isEmpty();
+	}
+	
+	/**
+	 * Gets the time left until the current frame can be emitted.
+	 *
+	 * @return
+	 * - the time left in nanoseconds, 0 if the frame can be emitted already.<br>
+	 * - {@link Long#MAX_VALUE} if there is no frame in progress.
+	 * @author Sergio Morel
+	 */
+	public long getNanosUntilFlush()
+	{
+		if(!this.completedFrames.isEmpty())
+		{
+			return 0;
+		}
+		
+		if(this.buffer.isEmpty())
+		{
+			return Long.MAX_VALUE;
+		}
+		
+		long elapsed = this.clock.getAsLong() - this.lastArrivalNanos;
+		
+		return Math.max(0, this.gapNanos - elapsed);
+	}
+	
+	/**
+	 * Discards the frame in progress and the completed frames not polled yet.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void reset()
+	{
+		this.completedFrames.clear();
+		this.buffer.clear();
+	}
+	
+	public long getGapNanos()
+	{
+		return this.gapNanos;
+	}
+	
+	/**
+	 * Sets the period of silence that completes a frame.
+	 *
+	 * @param gapNanos
+	 * - period of silence in nanoseconds.
+	 * @throws IllegalArgumentException
+	 * if the gap is not positive.
+	 * @author Sergio Morel
+	 */
+	public void setGapNanos(long gapNanos)
+	{
+		if(gapNanos <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "gapNanos", gapNanos);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.gapNanos = gapNanos;
+	}
+	
+	public long getFrameCount()
+	{
+		return this.frameCount;
+	}
+	
+	public CircularByteBuffer getBuffer()
+	{
+		return this.buffer;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package py.com.semp.lib.utilidades.data;
+
+import java.nio.ByteOrder;
+
+import py.com.semp.lib.utilidades.exceptions.FrameTooLargeException;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+
+/**
+ * {@link FrameDecoder} of frames preceded by a header with the length of their body, as an unsigned
+ * integer of 1, 2 or 4 bytes. The length is read without removing the data, so incomplete frames are
+ * left in the buffer until the rest arrives. A frame that doesn't fit in the buffer is rejected as soon as
+ * its header is read, with a {@link FrameTooLargeException} that tells how many of its bytes are still to come.
+ *
+ * @author Sergio Morel
+ */
+public class LengthPrefixFrameDecoder implements FrameDecoder
+{
+	/**
+	 * Value of the maximum body length when there is no limit.
+	 */
+	public static final int UNLIMITED = 0;
+	
+	private final int lengthSize;
+	private final ByteOrder byteOrder;
+	private final boolean stripHeader;
+	private final int maxBodyLength;
+	
+	/**
+	 * Creates a decoder of big endian lengths that removes the header from the frames and doesn't limit their length.
+	 * 
+	 * @param lengthSize
+	 * - size of the length in bytes: 1, 2 or 4.
+	 * @author Sergio Morel
+	 */
+	public LengthPrefixFrameDecoder(int lengthSize)
+	{
+		this(lengthSize, ByteOrder.BIG_ENDIAN, true, UNLIMITED);
+	}
+	
+	/**
+	 * Creates a decoder.
+	 * 
+	 * @param lengthSize
+	 * - size of the length in bytes: 1, 2 or 4.
+	 * @param byteOrder
+	 * - byte order of the length.
+	 * @param stripHeader
+	 * - <b>true</b> to remove the header from the frames.
+	 * @param maxBodyLength
+	 * - maximum length of the body of a frame, or {@link #UNLIMITED}.
+	 * @throws IllegalArgumentException
+	 * if the size of the length is not valid or the maximum length is negative.
+	 * @author Sergio Morel
+	 */
+	public LengthPrefixFrameDecoder(int lengthSize, ByteOrder byteOrder, boolean stripHeader, int maxBodyLength)
+	{
+		super();
+		
+		if(lengthSize != Byte.BYTES && lengthSize != Short.BYTES && lengthSize != Integer.BYTES)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "lengthSize", lengthSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(maxBodyLength < 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "maxBodyLength", maxBodyLength);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.lengthSize = lengthSize;
+		this.byteOrder = (byteOrder == null) ? ByteOrder.BIG_ENDIAN : byteOrder;
+		this.stripHeader = stripHeader;
+		this.maxBodyLength = maxBodyLength;
+	}
+	
+	@Override
+	public byte[] decode(CircularByteBuffer buffer)
+	{
+		int dataSize = buffer.getDataSize();
+		
+		if(dataSize < this.lengthSize)
+		{
+			return null;
+		}
+		
+		long bodyLength = this.peekLength(buffer);
+		long limit = (this.maxBodyLength == UNLIMITED) ? Integer.MAX_VALUE - this.lengthSize : this.maxBodyLength;
+		
+		limit = Math.min(limit, buffer.getBufferCapacity() - this.lengthSize);
+		
+		if(bodyLength > limit)
+		{
+			long rejectedLength = this.lengthSize + bodyLength;
+			int bufferedLength = (int)Math.min(dataSize, rejectedLength);
+			
+			buffer.trimStart(bufferedLength);
+			
+			String errorMessage = MessageUtil.getMessage(Messages.FRAME_TOO_LARGE_ERROR, bodyLength, limit);
+			
+			throw new FrameTooLargeException(errorMessage, rejectedLength, rejectedLength - bufferedLength);
+		}
+		
+		int frameLength = this.lengthSize + (int)bodyLength;
+		
+		if(dataSize < frameLength)
+		{
+			return null;
+		}
+		
+		int start = this.stripHeader ? this.lengthSize : 0;
+		byte[] frame = (frameLength == start) ? new byte[0] : buffer.getData(start, frameLength - 1);
+		
+		buffer.trimStart(frameLength);
+		
+		return frame;
+	}
+	
+	private long peekLength(CircularByteBuffer buffer)
+	{
+		switch(this.lengthSize)
+		{
+			case Byte.BYTES:
+			{
+				return buffer.peekByte(0) & 0xFFL;
+			}
+			case Short.BYTES:
+			{
+				return buffer.peekShort(0, this.byteOrder) & 0xFFFFL;
+			}
+			default:
+			{
+				return buffer.peekInt(0, this.byteOrder) & 0xFFFFFFFFL;
+			}
+		}
+	}
+	
+	public int getLengthSize()
+	{
+		return this.lengthSize;
+	}
+	
+	public ByteOrder getByteOrder()
+	{
+		return this.byteOrder;
+	}
+	
+	public boolean isStripHeader()
+	{
+		return this.stripHeader;
+	}
+	
+	public int getMaxBodyLength()
+	{
+		return this.maxBodyLength;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,499 @@
+package py.com.semp.lib.utilidades.data;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.utilities.Utilities;
+
+/**
+ * Line oriented extractor for a {@link CircularByteBuffer}.
+ * <p>
+ * Lines may be terminated by {@code LF}, {@code CR} or {@code CRLF}, and the three
+ * terminators can be mixed in the same stream. The buffer is scanned directly over
+ * its underlying array one byte at a time, and the framer remembers how far it has
+ * already scanned, so bytes of an incomplete line are not scanned again when more
+ * data is appended.
+ * </p>
+ *
+ * <p>
+ * When a line ends with a {@code CR} that is the last byte available, the line is
+ * emitted right away and a {@code LF} arriving as the first byte of the next chunk
+ * is considered part of that terminator and dropped.
+ * </p>
+ *
+ * <p>
+ * If a maximum line length is set and a line grows beyond it, the buffered bytes are
+ * discarded and the framer enters a recovery mode in which everything is dropped
+ * until the next terminator is found.
+ * </p>
+ *
+ * <p>
+ * Note: The framer assumes it is the only consumer of the buffer. If data is removed
+ * from the buffer by other means (for example with {@link CircularByteBuffer#clear()}),
+ * {@link #reset()} should be called. This implementation is not thread-safe.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class LineFramer
+{
+	/**
+	 * Value of index when not referring to a position in the buffer.
+	 */
+	private static final int BUFFER_BOUNDARY = Values.Constants.BUFFER_BOUNDARY;
+	
+	/**
+	 * Line feed byte.
+	 */
+	private static final byte LF = '\n';
+	
+	/**
+	 * Carriage return byte.
+	 */
+	private static final byte CR = '\r';
+	
+	/**
+	 * Value of the maximum line length when there is no limit.
+	 */
+	public static final int UNLIMITED = 0;
+	
+	/**
+	 * Buffer from which the lines are extracted.
+	 */
+	private final CircularByteBuffer buffer;
+	
+	/**
+	 * Indicates if the terminators are removed from the extracted lines.
+	 */
+	private boolean stripTerminators;
+	
+	/**
+	 * Maximum length of a line, without its terminator.
+	 */
+	private int maxLineLength;
+	
+	/**
+	 * Amount of bytes from the start of the buffer already scanned without finding a terminator.
+	 */
+	private int scannedBytes;
+	
+	/**
+	 * Start index of the buffer when the scanned bytes were recorded.
+	 */
+	private int scanStart;
+	
+	/**
+	 * Indicates if the framer is discarding data until the next terminator.
+	 */
+	private boolean discarding;
+	
+	/**
+	 * Indicates if the last extracted line ended with a CR at the end of the data.
+	 */
+	private boolean skipLineFeed;
+	
+	/**
+	 * Amount of lines discarded for exceeding the maximum line length.
+	 */
+	private long discardedLines;
+	
+	/**
+	 * Amount of bytes discarded for exceeding the maximum line length.
+	 */
+	private long discardedBytes;
+	
+	/**
+	 * Creates a line framer that keeps the terminators and has no maximum line length.
+	 *
+	 * @param buffer
+	 * - buffer from which the lines are extracted.
+	 * @throws NullPointerException
+	 * if the buffer is null.
+	 * @author Sergio Morel
+	 */
+	public LineFramer(CircularByteBuffer buffer)
+	{
+		this(buffer, false, UNLIMITED);
+	}
+	
+	/**
+	 * Creates a line framer.
+	 *
+	 * @param buffer
+	 * - buffer from which the lines are extracted.
+	 * @param stripTerminators
+	 * - <b>true</b> to remove the terminators from the extracted lines.
+	 * @param maxLineLength
+	 * - maximum length of a line without its terminator, or {@link #UNLIMITED}.
+	 * @throws NullPointerException
+	 * if the buffer is null.
+	 * @throws IllegalArgumentException
+	 * if the maximum line length is negative.
+	 * @author Sergio Morel
+	 */
+	public LineFramer(CircularByteBuffer buffer, boolean stripTerminators, int maxLineLength)
+	{
+		super();
+		
+		if(buffer == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[buffer] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::LineFramer(CircularByteBuffer buffer, boolean stripTerminators, int maxLineLength)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		this.buffer = buffer;
+		this.stripTerminators = stripTerminators;
+		
+		this.setMaxLineLength(maxLineLength);
+		this.reset();
+	}
+	
+	/**
+	 * Extracts the first complete line from the buffer.
+	 *
+	 * @return
+	 * - the first complete line, with or without its terminator depending on the configuration.<br>
+	 * - <b>null</b> if there is no complete line in the buffer.
+	 * @author Sergio Morel
+	 */
+	public byte[] extractOne()
+	{
+		while(!this.buffer.isEmpty())
+		{
+			if(this.scanStart != this.buffer.start)
+			{
+				this.scannedBytes = 0;
+			}
+			
+			if(this.skipLineFeed)
+			{
+				this.skipLineFeed = false;
+				
+				if(this.buffer.byteArray[this.buffer.start] == LF)
+				{
+					this.buffer.trimStart(1);
+					this.scannedBytes = 0;
+					
+					continue;
+				}
+			}
+			
+			int dataSize = this.buffer.getDataSize();
+			
+			if(this.scannedBytes > dataSize)
+			{
+				this.scannedBytes = 0;
+			}
+			
+			int terminatorOffset = this.findTerminator(this.scannedBytes, dataSize);
+			
+			if(terminatorOffset == BUFFER_BOUNDARY)
+			{
+				this.scannedBytes = dataSize;
+				this.scanStart = this.buffer.start;
+				
+				if(this.discarding || this.exceedsMaxLength(dataSize))
+				{
+					this.discard(dataSize);
+				}
+				
+				return null;
+			}
+			
+			int terminatorLength = this.getTerminatorLength(terminatorOffset, dataSize);
+			int lineLength = terminatorOffset + terminatorLength;
+			
+			this.scannedBytes = 0;
+			
+			if(this.discarding || this.exceedsMaxLength(terminatorOffset))
+			{
+				this.discard(lineLength);
+				
+				this.discarding = false;
+				this.discardedLines++;
+				
+				continue;
+			}
+			
+			int copyLength = this.stripTerminators ? terminatorOffset : lineLength;
+			
+			byte[] line = this.copy(copyLength);
+			
+			this.buffer.trimStart(lineLength);
+			
+			return line;
+		}
+		
+		this.scannedBytes = 0;
+		
+		return null;
+	}
+	
+	/**
+	 * Extracts all the complete lines from the buffer.
+	 *
+	 * @return
+	 * - A list with the complete lines found, with or without their terminators
+	 * depending on the configuration. The list is empty if no complete line was found.
+	 * @author Sergio Morel
+	 */
+	public List<byte[]> extractAll()
+	{
+		List<byte[]> extraction = new LinkedList<>();
+		
+		byte[] line;
+		
+		while((line = this.extractOne()) != null)
+		{
+			extraction.add(line);
+		}
+		
+		return extraction;
+	}
+	
+	/**
+	 * Finds the first terminator byte in the buffer.
+	 *
+	 * @param from
+	 * - logical offset from which the search starts.
+	 * @param dataSize
+	 * - size of the data in the buffer.
+	 * @return
+	 * - the logical offset of the first terminator byte.<br>
+	 * - {@code BUFFER_BOUNDARY} if no terminator was found.
+	 */
+	private int findTerminator(int from, int dataSize)
+	{
+		byte[] byteArray = this.buffer.byteArray;
+		int bufferCapacity = byteArray.length;
+		int dataStart = this.buffer.start;
+		
+		int firstIndex = dataStart + from;
+		int firstSegmentEnd = Math.min(dataStart + dataSize, bufferCapacity);
+		
+		for(int i = firstIndex; i < firstSegmentEnd; i++)
+		{
+			byte data = byteArray[i];
+			
+			if(data == LF || data == CR)
+			{
+				return i - dataStart;
+			}
+		}
+		
+		int secondSegmentEnd = dataStart + dataSize - bufferCapacity;
+		
+		for(int i = Math.max(firstIndex - bufferCapacity, 0); i < secondSegmentEnd; i++)
+		{
+			byte data = byteArray[i];
+			
+			if(data == LF || data == CR)
+			{
+				return i + bufferCapacity - dataStart;
+			}
+		}
+		
+		return BUFFER_BOUNDARY;
+	}
+	
+	/**
+	 * Determines the length of the terminator found at the given offset.
+	 * If the terminator is a CR at the end of the data, the next LF will be skipped.
+	 *
+	 * @param terminatorOffset
+	 * - logical offset of the first terminator byte.
+	 * @param dataSize
+	 * - size of the data in the buffer.
+	 * @return
+	 * - 2 for CRLF, 1 otherwise.
+	 */
+	private int getTerminatorLength(int terminatorOffset, int dataSize)
+	{
+		if(this.getByte(terminatorOffset) != CR)
+		{
+			return 1;
+		}
+		
+		if(terminatorOffset + 1 == dataSize)
+		{
+			this.skipLineFeed = true;
+			
+			return 1;
+		}
+		
+		return this.getByte(terminatorOffset + 1) == LF ? 2 : 1;
+	}
+	
+	/**
+	 * Gets the byte at the logical offset of the buffer.
+	 *
+	 * @param offset
+	 * - logical offset.
+	 * @return
+	 * - the byte at the offset.
+	 */
+	private byte getByte(int offset)
+	{
+		int bufferCapacity = this.buffer.getBufferCapacity();
+		int index = this.buffer.start + offset;
+		
+		if(index >= bufferCapacity)
+		{
+			index -= bufferCapacity;
+		}
+		
+		return this.buffer.byteArray[index];
+	}
+	
+	/**
+	 * Copies the first bytes of the buffer without removing them.
+	 *
+	 * @param length
+	 * - amount of bytes to copy.
+	 * @return
+	 * - the copied bytes.
+	 */
+	private byte[] copy(int length)
+	{
+		if(length == 0)
+		{
+			return new byte[]{};
+		}
+		
+		int bufferCapacity = this.buffer.getBufferCapacity();
+		int dataStart = this.buffer.start;
+		int lastIndex = (dataStart + length - 1) % bufferCapacity;
+		
+		return this.buffer.extract(dataStart, lastIndex);
+	}
+	
+	/**
+	 * Discards the first bytes of the buffer, entering the recovery mode.
+	 *
+	 * @param length
+	 * - amount of bytes to discard.
+	 */
+	private void discard(int length)
+	{
+		this.buffer.trimStart(length);
+		
+		this.discarding = true;
+		this.discardedBytes += length;
+		this.scannedBytes = 0;
+	}
+	
+	private boolean exceedsMaxLength(int lineLength)
+	{
+		return this.maxLineLength != UNLIMITED && lineLength > this.maxLineLength;
+	}
+	
+	/**
+	 * Resets the scanning state of the framer. Must be called if the buffer
+	 * was consumed by other means than this framer.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void reset()
+	{
+		this.scannedBytes = 0;
+		this.scanStart = BUFFER_BOUNDARY;
+		this.discarding = false;
+		this.skipLineFeed = false;
+	}
+	
+	/**
+	 * Gets the buffer from which the lines are extracted.
+	 *
+	 * @return
+	 * - the buffer.
+	 */
+	public CircularByteBuffer getBuffer()
+	{
+		return this.buffer;
+	}
+	
+	public boolean isStripTerminators()
+	{
+		return this.stripTerminators;
+	}
+	
+	public void setStripTerminators(boolean stripTerminators)
+	{
+		this.stripTerminators = stripTerminators;
+	}
+	
+	public int getMaxLineLength()
+	{
+		return this.maxLineLength;
+	}
+	
+	/**
+	 * Sets the maximum length of a line, without its terminator.
+	 *
+	 * @param maxLineLength
+	 * - maximum length of a line, or {@link #UNLIMITED}.
+	 * @throws IllegalArgumentException
+	 * if the maximum line length is negative.
+	 */
+	public void setMaxLineLength(int maxLineLength)
+	{
+		if(maxLineLength < 0)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[maxLineLength] void ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::setMaxLineLength(int maxLineLength)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, methodName.toString(), maxLineLength);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.maxLineLength = maxLineLength;
+	}
+	
+	/**
+	 * Indicates if the framer is discarding data until the next terminator.
+	 *
+	 * @return
+	 * <b>true</b> if the framer is in recovery mode.<br>
+	 * <b>false</b> otherwise.
+	 */
+	public boolean isDiscarding()
+	{
+		return this.discarding;
+	}
+	
+	/**
+	 * Gets the amount of lines discarded for exceeding the maximum line length.
+	 *
+	 * @return
+	 * - the amount of discarded lines.
+	 */
+	public long getDiscardedLines()
+	{
+		return this.discardedLines;
+	}
+	
+	/**
+	 * Gets the amount of bytes discarded for exceeding the maximum line length.
+	 *
+	 * @return
+	 * - the amount of discarded bytes.
+	 */
+	public long getDiscardedBytes()
+	{
+		return this.discardedBytes;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package py.com.semp.lib.utilidades.exceptions;
+
+/**
+ * Exception thrown by a frame decoder when a frame exceeds the maximum length or the capacity of the buffer.
+ * The decoder has already removed the bytes of the frame that were in the buffer, and the data that follows
+ * them is still valid. If the frame was not complete, the next {@link #getRemainingLength()} bytes of the
+ * stream also belong to it and must be skipped to keep the framing.
+ *
+ * @author Sergio Morel
+ */
+public class FrameTooLargeException extends IllegalStateException
+{
+	private static final long serialVersionUID = 6410387755306221937L;
+	
+	private final long frameLength;
+	private final long remainingLength;
+	
+	/**
+	 * Creates the exception.
+	 *
+	 * @param message
+	 * - the detail message.
+	 * @param frameLength
+	 * - length of the rejected frame.
+	 * @param remainingLength
+	 * - amount of bytes of the frame that were not received yet.
+	 * @author Sergio Morel
+	 */
+	public FrameTooLargeException(String message, long frameLength, long remainingLength)
+	{
+		super(message);
+		
+		this.frameLength = frameLength;
+		this.remainingLength = remainingLength;
+	}
+	
+	public long getFrameLength()
+	{
+		return this.frameLength;
+	}
+	
+	public long getRemainingLength()
+	{
+		return this.remainingLength;
+	}
+}
\ No newline at end of file
@@ -40,7 +40,22 @@ public enum Messages implements MessageKey
 	VALUE_PARSE_ERROR,
 	VARIABLE_NOT_LOADED_ERROR,
 	VARIABLE_LOADED,
-	INVALID_VALUE_ERROR;
+	INVALID_VALUE_ERROR,
+	SEGMENT_TOO_LARGE_ERROR,
+	MALFORMED_VARINT_ERROR,
+	READER_ALREADY_RUNNING_ERROR,
+	EXECUTOR_SHUTDOWN_ERROR,
+	LISTENER_QUEUE_FULL_ERROR,
+	WRITING_ERROR,
+	TIMER_TASK_ERROR,
+	RECONNECT_ERROR,
+	CONNECTION_TIMEOUT_ERROR,
+	WRITING_TIMEOUT_ERROR,
+	REQUEST_TIMEOUT_ERROR,
+	DUPLICATE_CORRELATION_ERROR,
+	FRAME_TOO_LARGE_ERROR,
+	CAPTURE_ERROR,
+	INVALID_CAPTURE_ERROR;
 	
 	@Override
 	public String getMessageKey()
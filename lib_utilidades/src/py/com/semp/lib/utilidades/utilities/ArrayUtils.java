@@ -870,14 +870,9 @@ public final class ArrayUtils
 			return null;
 		}
 		
-		StringJoiner joiner = new StringJoiner(", ", "[", "]");
-		
-		for(byte b : bytes)
-		{
-			joiner.add(String.format("%02X", b));
-		}
+		StringBuilder sb = new StringBuilder(bytes.length * 4 + 2);
 		
-		return joiner.toString();
+		return HexFormatter.appendHexaArray(sb, bytes, 0, bytes.length, HexFormatter.UNLIMITED).toString();
 	}
 	
 	/**
@@ -925,16 +920,11 @@ public final class ArrayUtils
 			return null;
 		}
 		
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = new StringBuilder(bytes.length * 2 + 2);
 		
 		sb.append("0x");
 		
-		for(int i = 0; i < bytes.length; i++)
-		{
-			sb.append(String.format("%02X", bytes[i]));
-		}
-		
-		return sb.toString();
+		return HexFormatter.appendHexaString(sb, bytes, 0, bytes.length).toString();
 	}
 	
 	/**
@@ -0,0 +1,186 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import java.util.concurrent.locks.LockSupport;
+
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+
+/**
+ * Idle strategy for polling loops that backs off progressively while there is no work:
+ * first it spins, then it yields the processor and finally it parks the thread, doubling
+ * the park time on each call up to a ceiling. Calling {@link #reset()} when work is found
+ * restarts the sequence, so a busy link is polled with minimal latency and an idle link
+ * doesn't consume the processor.
+ * <p>
+ * Note: This implementation is not thread-safe, each polling thread should use its own instance.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class BackoffIdleStrategy
+{
+	/**
+	 * Maximum amount of calls that spin.
+	 */
+	private final int maxSpins;
+	
+	/**
+	 * Maximum amount of calls that yield, after spinning.
+	 */
+	private final int maxYields;
+	
+	/**
+	 * Initial park time.
+	 */
+	private final long minParkNanos;
+	
+	/**
+	 * Ceiling for the park time.
+	 */
+	private final long maxParkNanos;
+	
+	private int spins;
+	private int yields;
+	private long parkNanos;
+	
+	/**
+	 * Creates a strategy.
+	 *
+	 * @param maxSpins
+	 * - maximum amount of calls that spin.
+	 * @param maxYields
+	 * - maximum amount of calls that yield, after spinning.
+	 * @param minParkNanos
+	 * - initial park time, in nanoseconds.
+	 * @param maxParkNanos
+	 * - ceiling for the park time, in nanoseconds.
+	 * @throws IllegalArgumentException
+	 * if an amount is negative, the park times are not positive or the ceiling is less than the initial park time.
+	 * @author Sergio Morel
+	 */
+	public BackoffIdleStrategy(int maxSpins, int maxYields, long minParkNanos, long maxParkNanos)
+	{
+		super();
+		
+		checkArgument(maxSpins >= 0, "maxSpins", maxSpins);
+		checkArgument(maxYields >= 0, "maxYields", maxYields);
+		checkArgument(minParkNanos > 0, "minParkNanos", minParkNanos);
+		checkArgument(maxParkNanos >= minParkNanos, "maxParkNanos", maxParkNanos);
+		
+		this.maxSpins = maxSpins;
+		this.maxYields = maxYields;
+		this.minParkNanos = minParkNanos;
+		this.maxParkNanos = maxParkNanos;
+		
+		this.reset();
+	}
+	
+	/**
+	 * Waits according to the current step of the sequence, and advances to the next one.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void idle()
+	{
+		this.idle(Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Waits according to the current step of the sequence, and advances to the next one.
+	 *
+	 * @param maxWaitNanos
+	 * - maximum time to park in this call, in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public void idle(long maxWaitNanos)
+	{
+		if(this.spins < this.maxSpins)
+		{
+			this.spins++;
+			
+			Thread.onSpinWait();
+			
+			return;
+		}
+		
+		if(this.yields < this.maxYields)
+		{
+			this.yields++;
+			
+			Thread.yield();
+			
+			return;
+		}
+		
+		LockSupport.parkNanos(this, Math.min(this.parkNanos, maxWaitNanos));
+		
+		this.parkNanos = (this.parkNanos > this.maxParkNanos / 2) ? this.maxParkNanos : this.parkNanos * 2;
+	}
+	
+	/**
+	 * Restarts the sequence. Should be called when the polling loop finds work.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void reset()
+	{
+		this.spins = 0;
+		this.yields = 0;
+		this.parkNanos = this.minParkNanos;
+	}
+	
+	/**
+	 * Gets the time that the next call would park, if the spin and yield steps are exhausted.
+	 *
+	 * @return
+	 * - the park time in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public long getParkNanos()
+	{
+		return this.parkNanos;
+	}
+	
+	/**
+	 * Indicates if the spin and yield steps are exhausted and the next call parks the thread.
+	 *
+	 * @return
+	 * <b>true</b> if the next call parks.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean isParking()
+	{
+		return this.spins >= this.maxSpins && this.yields >= this.maxYields;
+	}
+	
+	public int getMaxSpins()
+	{
+		return this.maxSpins;
+	}
+	
+	public int getMaxYields()
+	{
+		return this.maxYields;
+	}
+	
+	public long getMinParkNanos()
+	{
+		return this.minParkNanos;
+	}
+	
+	public long getMaxParkNanos()
+	{
+		return this.maxParkNanos;
+	}
+	
+	private static void checkArgument(boolean valid, String name, long value)
+	{
+		if(!valid)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, name, value);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+	}
+}
\ No newline at end of file
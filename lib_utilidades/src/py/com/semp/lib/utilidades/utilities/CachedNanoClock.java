@@ -0,0 +1,296 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+
+/**
+ * Clock that returns a cached value of {@link System#nanoTime()}, refreshed by a daemon
+ * thread at a fixed resolution. Reading the clock is a couple of volatile reads, which makes
+ * it suitable for taking timestamps on every append in hot paths where the precision
+ * needed is coarser than the resolution.
+ * <p>
+ * The thread wakes up once per resolution while it runs, so it is only started by the first
+ * read and it stops by itself when the clock is not read for the idle timeout. The read that
+ * finds it stopped gets the actual value of {@link System#nanoTime()} and starts it again.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class CachedNanoClock implements LongSupplier
+{
+	/**
+	 * Default resolution of the clock.
+	 */
+	public static final long DEFAULT_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	
+	/**
+	 * Default time without reads after which the thread stops.
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+	
+	/**
+	 * Shared instance with the default resolution.
+	 */
+	private static volatile CachedNanoClock defaultClock;
+	
+	/**
+	 * Interval between updates.
+	 */
+	private final long resolutionNanos;
+	
+	/**
+	 * Number of updates without reads after which the thread stops.
+	 */
+	private final long idleTicks;
+	
+	/**
+	 * Thread that updates the cached value, while it runs.
+	 */
+	private volatile Thread ticker;
+	
+	/**
+	 * Indicates if the thread is running.
+	 */
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	
+	/**
+	 * Indicates if the clock was read since the last update.
+	 */
+	private volatile boolean read = false;
+	
+	/**
+	 * Cached value of {@link System#nanoTime()}.
+	 */
+	private volatile long nanoTime;
+	
+	/**
+	 * Indicates if the clock was stopped.
+	 */
+	private volatile boolean stopped = false;
+	
+	/**
+	 * Creates a clock with the default idle timeout. The thread starts with the first read.
+	 *
+	 * @param resolutionNanos
+	 * - interval between updates of the cached value, in nanoseconds.
+	 * @throws IllegalArgumentException
+	 * if the resolution is not positive.
+	 * @author Sergio Morel
+	 */
+	public CachedNanoClock(long resolutionNanos)
+	{
+		this(resolutionNanos, DEFAULT_IDLE_TIMEOUT_NANOS);
+	}
+	
+	/**
+	 * Creates a clock. The thread starts with the first read.
+	 *
+	 * @param resolutionNanos
+	 * - interval between updates of the cached value, in nanoseconds.
+	 * @param idleTimeoutNanos
+	 * - time without reads after which the thread stops, in nanoseconds. It is rounded up to the resolution.
+	 * @throws IllegalArgumentException
+	 * if the resolution or the idle timeout are not positive.
+	 * @author Sergio Morel
+	 */
+	public CachedNanoClock(long resolutionNanos, long idleTimeoutNanos)
+	{
+		super();
+		
+		if(resolutionNanos <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "resolutionNanos", resolutionNanos);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(idleTimeoutNanos <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "idleTimeoutNanos", idleTimeoutNanos);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.resolutionNanos = resolutionNanos;
+		this.idleTicks = Math.max(1, (idleTimeoutNanos + resolutionNanos - 1) / resolutionNanos);
+		this.nanoTime = System.nanoTime();
+	}
+	
+	/**
+	 * Gets the shared clock with the default resolution, creating it on the first call.
+	 *
+	 * @return
+	 * - the shared clock.
+	 * @author Sergio Morel
+	 */
+	public static CachedNanoClock getDefault()
+	{
+		CachedNanoClock clock = defaultClock;
+		
+		if(clock == null)
+		{
+			synchronized(CachedNanoClock.class)
+			{
+				clock = defaultClock;
+				
+				if(clock == null)
+				{
+					clock = new CachedNanoClock(DEFAULT_RESOLUTION_NANOS);
+					
+					defaultClock = clock;
+				}
+			}
+		}
+		
+		return clock;
+	}
+	
+	/**
+	 * Gets the cached value of {@link System#nanoTime()}. It may be behind the actual value by up to the resolution.
+	 *
+	 * @return
+	 * - the cached time in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public long nanoTime()
+	{
+		if(!this.read)
+		{
+			this.read = true;
+		}
+		
+		if(!this.running.get())
+		{
+			return this.start();
+		}
+		
+		return this.nanoTime;
+	}
+	
+	@Override
+	public long getAsLong()
+	{
+		return this.nanoTime();
+	}
+	
+	/**
+	 * Gets the interval between updates.
+	 *
+	 * @return
+	 * - the resolution in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public long getResolutionNanos()
+	{
+		return this.resolutionNanos;
+	}
+	
+	/**
+	 * Stops updating the cached value for good. Reads of a stopped clock get the actual value
+	 * of {@link System#nanoTime()}. The shared clock should not be stopped.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void stop()
+	{
+		this.stopped = true;
+		
+		Thread thread = this.ticker;
+		
+		if(thread != null)
+		{
+			LockSupport.unpark(thread);
+		}
+	}
+	
+	/**
+	 * Indicates if the clock was stopped.
+	 *
+	 * @return
+	 * <b>true</b> if the clock was stopped.<br>
+	 * <b>false</b> otherwise.
+	 * @author Sergio Morel
+	 */
+	public boolean isStopped()
+	{
+		return this.stopped;
+	}
+	
+	/**
+	 * Indicates if the thread that updates the cached value is running.
+	 *
+	 * @return
+	 * <b>true</b> if the thread is running.<br>
+	 * <b>false</b> if it was not started yet, it stopped for lack of reads or the clock was stopped.
+	 * @author Sergio Morel
+	 */
+	public boolean isTicking()
+	{
+		return this.running.get();
+	}
+	
+	/**
+	 * Refreshes the cached value and starts the thread if it isn't running and the clock was not stopped.
+	 *
+	 * @return
+	 * - the actual time in nanoseconds.
+	 */
+	private long start()
+	{
+		long now = System.nanoTime();
+		
+		this.nanoTime = now;
+		
+		if(!this.stopped && this.running.compareAndSet(false, true))
+		{
+			Thread thread = new Thread(this::tick);
+			
+			thread.setName(this.getClass().getSimpleName() + "_" + thread.getId());
+			thread.setDaemon(true);
+			
+			this.ticker = thread;
+			
+			thread.start();
+		}
+		
+		return now;
+	}
+	
+	private void tick()
+	{
+		long idle = 0;
+		
+		while(!this.stopped)
+		{
+			LockSupport.parkNanos(this, this.resolutionNanos);
+			
+			this.nanoTime = System.nanoTime();
+			
+			if(this.read)
+			{
+				this.read = false;
+				
+				idle = 0;
+			}
+			else if(++idle >= this.idleTicks)
+			{
+				this.running.set(false);
+				
+				// A read that found the thread running may have marked the clock after it was checked.
+				if(!this.read || !this.running.compareAndSet(false, true))
+				{
+					return;
+				}
+				
+				idle = 0;
+			}
+		}
+		
+		this.running.set(false);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of a blocking operation, such as a read, write or connect, armed in a {@link HashedWheelTimer}.
+ * Instead of comparing {@link System#nanoTime()} with the deadline on each iteration, the operation checks
+ * {@link #isExpired()}, which is a volatile read, and the timer marks the deadline as expired exactly once.
+ * Arming and cancelling are O(1), so the deadline can be armed only when the operation actually has to wait.
+ * <p>
+ * A deadline is armed and cancelled by the thread that runs the operation; only the expiration happens on
+ * the thread of the timer. An expiration of a previous arm is ignored, so a deadline can be reused for
+ * every operation. The wake up action, if any, is executed on the thread of the timer when the deadline
+ * expires, for example to wake up a selector or a parked thread, and must not block.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public final class Deadline
+{
+	private final HashedWheelTimer timer;
+	private final Runnable wakeUp;
+	private volatile long generation = 0;
+	
+	/**
+	 * Generation of the last arm that expired. A late expiration of a previous arm never matches the current generation.
+	 */
+	private volatile long expiredGeneration = -1;
+	private HashedWheelTimer.Timeout timeout;
+	
+	/**
+	 * Creates a deadline on the shared timer.
+	 *
+	 * @param wakeUp
+	 * - action executed when the deadline expires, or <b>null</b>.
+	 * @author Sergio Morel
+	 */
+	public Deadline(Runnable wakeUp)
+	{
+		this(HashedWheelTimer.getDefault(), wakeUp);
+	}
+	
+	/**
+	 * Creates a deadline.
+	 *
+	 * @param timer
+	 * - timer where the deadline is armed.
+	 * @param wakeUp
+	 * - action executed when the deadline expires, or <b>null</b>.
+	 * @author Sergio Morel
+	 */
+	public Deadline(HashedWheelTimer timer, Runnable wakeUp)
+	{
+		super();
+		
+		this.timer = timer;
+		this.wakeUp = wakeUp;
+	}
+	
+	/**
+	 * Arms the deadline, cancelling the previous arm. A negative delay means no timeout, and the deadline
+	 * is left disarmed.
+	 *
+	 * @param delay
+	 * - time until the deadline expires.
+	 * @param unit
+	 * - unit of the delay.
+	 * @return
+	 * <b>true</b> if the deadline was armed.<br>
+	 * <b>false</b> if the delay is negative.
+	 * @author Sergio Morel
+	 */
+	public boolean arm(long delay, TimeUnit unit)
+	{
+		this.cancel();
+		
+		if(delay < 0)
+		{
+			return false;
+		}
+		
+		this.timeout = this.timer.newTimeout(new Expiration(this, this.generation), delay, unit);
+		
+		return true;
+	}
+	
+	/**
+	 * Cancels the deadline and clears its expiration.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void cancel()
+	{
+		HashedWheelTimer.Timeout armed = this.timeout;
+		
+		if(armed != null)
+		{
+			armed.cancel();
+			
+			this.timeout = null;
+		}
+		
+		this.generation++;
+	}
+	
+	/**
+	 * Indicates if the current arm expired.
+	 *
+	 * @return
+	 * <b>true</b> if the deadline expired.<br>
+	 * <b>false</b> if it's not armed or didn't expire.
+	 * @author Sergio Morel
+	 */
+	public boolean isExpired()
+	{
+		return this.expiredGeneration == this.generation;
+	}
+	
+	public boolean isArmed()
+	{
+		return this.timeout != null;
+	}
+	
+	private void expire(long generation)
+	{
+		if(this.generation != generation)
+		{
+			return;
+		}
+		
+		this.expiredGeneration = generation;
+		
+		if(this.wakeUp != null)
+		{
+			this.wakeUp.run();
+		}
+	}
+	
+	/**
+	 * Task of the timer for one arm of the deadline.
+	 */
+	private static final class Expiration implements Runnable
+	{
+		private final Deadline deadline;
+		private final long generation;
+		
+		private Expiration(Deadline deadline, long generation)
+		{
+			this.deadline = deadline;
+			this.generation = generation;
+		}
+		
+		@Override
+		public void run()
+		{
+			this.deadline.expire(this.generation);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,503 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+
+/**
+ * Timer for large amounts of timeouts that are usually cancelled before they expire, such as
+ * read, write, connect and reconnect timeouts. The timeouts are kept in a wheel of buckets that
+ * a daemon thread advances once per tick, so arming and cancelling a timeout are O(1) and don't
+ * depend on the amount of timeouts, at the cost of a precision of one tick.
+ * <p>
+ * The tasks are executed on the thread of the timer, so they must be short and not block; longer
+ * work should be handed over to an executor.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class HashedWheelTimer
+{
+	private static final Logger LOGGER = LoggerManager.getLogger(Values.Constants.UTILITIES_CONTEXT);
+	
+	/**
+	 * Default duration of a tick.
+	 */
+	public static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+	
+	/**
+	 * Default amount of buckets of the wheel.
+	 */
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+	
+	/**
+	 * Maximum amount of new timeouts moved to the wheel per tick, so a burst doesn't delay the expirations.
+	 */
+	private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+	
+	private static final int STATE_INIT = 0;
+	private static final int STATE_CANCELLED = 1;
+	private static final int STATE_EXPIRED = 2;
+	
+	/**
+	 * Shared instance with the default tick and wheel size.
+	 */
+	private static volatile HashedWheelTimer defaultTimer;
+	
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+	private final AtomicLong pendingCount = new AtomicLong();
+	private final long startNanos;
+	private final Thread worker;
+	private volatile boolean stopped = false;
+	
+	/**
+	 * Amount of ticks elapsed, only accessed by the worker thread.
+	 */
+	private long tick;
+	
+	/**
+	 * Creates and starts a timer.
+	 *
+	 * @param tickDuration
+	 * - duration of a tick, which is the precision of the timer.
+	 * @param unit
+	 * - unit of the duration.
+	 * @param wheelSize
+	 * - amount of buckets of the wheel, rounded up to a power of two.
+	 * @throws IllegalArgumentException
+	 * if the duration or the size are not positive.
+	 * @author Sergio Morel
+	 */
+	public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize)
+	{
+		super();
+		
+		long tickNanos = unit.toNanos(tickDuration);
+		
+		if(tickNanos <= 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "tickDuration", tickDuration);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(wheelSize <= 0 || wheelSize > (1 << 30))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "wheelSize", wheelSize);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		int size = Integer.highestOneBit(wheelSize);
+		
+		if(size < wheelSize)
+		{
+			size <<= 1;
+		}
+		
+		this.tickNanos = tickNanos;
+		this.wheel = new Bucket[size];
+		this.mask = size - 1;
+		
+		for(int i = 0; i < size; i++)
+		{
+			this.wheel[i] = new Bucket();
+		}
+		
+		this.startNanos = System.nanoTime();
+		
+		this.worker = new Thread(this::run);
+		this.worker.setName(this.getClass().getSimpleName() + "_" + this.worker.getId());
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+	
+	/**
+	 * Gets the shared timer with the default tick and wheel size, starting it on the first call.
+	 *
+	 * @return
+	 * - the shared timer.
+	 * @author Sergio Morel
+	 */
+	public static HashedWheelTimer getDefault()
+	{
+		HashedWheelTimer timer = defaultTimer;
+		
+		if(timer == null)
+		{
+			synchronized(HashedWheelTimer.class)
+			{
+				timer = defaultTimer;
+				
+				if(timer == null)
+				{
+					timer = new HashedWheelTimer(DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_WHEEL_SIZE);
+					
+					defaultTimer = timer;
+				}
+			}
+		}
+		
+		return timer;
+	}
+	
+	/**
+	 * Arms a timeout.
+	 *
+	 * @param task
+	 * - task executed on the thread of the timer when the timeout expires.
+	 * @param delay
+	 * - time until the timeout expires. It expires within one tick after the delay.
+	 * @param unit
+	 * - unit of the delay.
+	 * @return
+	 * - the timeout, which can be cancelled.
+	 * @throws NullPointerException
+	 * if the task or the unit are null.
+	 * @throws IllegalStateException
+	 * if the timer was stopped.
+	 * @author Sergio Morel
+	 */
+	public Timeout newTimeout(Runnable task, long delay, TimeUnit unit)
+	{
+		if(task == null || unit == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append(task == null ? "[task] " : "[unit] ");
+			methodName.append(Utilities.coalesce(this.getClass().getCanonicalName(), this.getClass().getName()));
+			methodName.append("::newTimeout(Runnable task, long delay, TimeUnit unit)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		if(this.stopped)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.TASK_SHUTDOWN_ERROR, this.worker.getName());
+			
+			throw new IllegalStateException(errorMessage);
+		}
+		
+		long deadline = System.nanoTime() - this.startNanos + Math.max(0, unit.toNanos(delay));
+		
+		if(deadline < 0)
+		{
+			deadline = Long.MAX_VALUE;
+		}
+		
+		Timeout timeout = new Timeout(this, task, deadline);
+		
+		this.pendingCount.incrementAndGet();
+		this.newTimeouts.add(timeout);
+		
+		return timeout;
+	}
+	
+	/**
+	 * Gets the amount of timeouts armed that have not expired nor been cancelled.
+	 *
+	 * @return
+	 * - the amount of pending timeouts.
+	 * @author Sergio Morel
+	 */
+	public long getPendingCount()
+	{
+		return this.pendingCount.get();
+	}
+	
+	/**
+	 * Gets the duration of a tick.
+	 *
+	 * @return
+	 * - the duration in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public long getTickNanos()
+	{
+		return this.tickNanos;
+	}
+	
+	public int getWheelSize()
+	{
+		return this.wheel.length;
+	}
+	
+	/**
+	 * Stops the timer. The pending timeouts never expire. The shared timer should not be stopped.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void stop()
+	{
+		this.stopped = true;
+		
+		LockSupport.unpark(this.worker);
+	}
+	
+	public boolean isStopped()
+	{
+		return this.stopped;
+	}
+	
+	private void run()
+	{
+		while(!this.stopped)
+		{
+			this.waitForNextTick();
+			
+			if(this.stopped)
+			{
+				break;
+			}
+			
+			this.removeCancelled();
+			this.transferNewTimeouts();
+			this.wheel[(int)(this.tick & this.mask)].expire();
+			
+			this.tick++;
+		}
+	}
+	
+	/**
+	 * Waits until the end of the current tick.
+	 */
+	private void waitForNextTick()
+	{
+		long deadline = this.tickNanos * (this.tick + 1);
+		
+		while(!this.stopped)
+		{
+			long remaining = deadline - (System.nanoTime() - this.startNanos);
+			
+			if(remaining <= 0)
+			{
+				return;
+			}
+			
+			LockSupport.parkNanos(this, remaining);
+		}
+	}
+	
+	private void removeCancelled()
+	{
+		Timeout timeout;
+		
+		while((timeout = this.cancelledTimeouts.poll()) != null)
+		{
+			if(timeout.bucket != null)
+			{
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+	
+	private void transferNewTimeouts()
+	{
+		for(int i = 0; i < MAX_TRANSFERS_PER_TICK; i++)
+		{
+			Timeout timeout = this.newTimeouts.poll();
+			
+			if(timeout == null)
+			{
+				return;
+			}
+			
+			if(timeout.state.get() == STATE_CANCELLED)
+			{
+				continue;
+			}
+			
+			long calculated = timeout.deadline / this.tickNanos;
+			long ticks = Math.max(calculated, this.tick);
+			
+			timeout.remainingRounds = (calculated - this.tick) / this.wheel.length;
+			
+			this.wheel[(int)(ticks & this.mask)].add(timeout);
+		}
+	}
+	
+	/**
+	 * Timeout armed in a {@link HashedWheelTimer}.
+	 *
+	 * @author Sergio Morel
+	 */
+	public static final class Timeout
+	{
+		private final HashedWheelTimer timer;
+		private final Runnable task;
+		private final long deadline;
+		private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+		
+		/**
+		 * Fields only accessed by the worker thread.
+		 */
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout next;
+		private Timeout previous;
+		
+		private Timeout(HashedWheelTimer timer, Runnable task, long deadline)
+		{
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+		
+		/**
+		 * Cancels the timeout, so its task is not executed.
+		 *
+		 * @return
+		 * <b>true</b> if the timeout was cancelled.<br>
+		 * <b>false</b> if it already expired or was cancelled.
+		 * @author Sergio Morel
+		 */
+		public boolean cancel()
+		{
+			if(!this.state.compareAndSet(STATE_INIT, STATE_CANCELLED))
+			{
+				return false;
+			}
+			
+			this.timer.pendingCount.decrementAndGet();
+			this.timer.cancelledTimeouts.add(this);
+			
+			return true;
+		}
+		
+		public boolean isCancelled()
+		{
+			return this.state.get() == STATE_CANCELLED;
+		}
+		
+		public boolean isExpired()
+		{
+			return this.state.get() == STATE_EXPIRED;
+		}
+		
+		public Runnable getTask()
+		{
+			return this.task;
+		}
+		
+		private void expire()
+		{
+			if(!this.state.compareAndSet(STATE_INIT, STATE_EXPIRED))
+			{
+				return;
+			}
+			
+			this.timer.pendingCount.decrementAndGet();
+			
+			try
+			{
+				this.task.run();
+			}
+			catch(RuntimeException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.TIMER_TASK_ERROR, this.task);
+				
+				LOGGER.error(errorMessage, e);
+			}
+		}
+	}
+	
+	/**
+	 * Doubly linked list of the timeouts of a slot of the wheel.
+	 */
+	private static final class Bucket
+	{
+		private Timeout head;
+		private Timeout tail;
+		
+		private void add(Timeout timeout)
+		{
+			timeout.bucket = this;
+			
+			if(this.head == null)
+			{
+				this.head = timeout;
+				this.tail = timeout;
+			}
+			else
+			{
+				this.tail.next = timeout;
+				timeout.previous = this.tail;
+				this.tail = timeout;
+			}
+		}
+		
+		private void remove(Timeout timeout)
+		{
+			Timeout next = timeout.next;
+			
+			if(timeout.previous != null)
+			{
+				timeout.previous.next = next;
+			}
+			
+			if(next != null)
+			{
+				next.previous = timeout.previous;
+			}
+			
+			if(timeout == this.head)
+			{
+				this.head = next;
+			}
+			
+			if(timeout == this.tail)
+			{
+				this.tail = timeout.previous;
+			}
+			
+			timeout.previous = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+		
+		/**
+		 * Expires the timeouts of the current round, and counts down the rounds of the others.
+		 */
+		private void expire()
+		{
+			Timeout timeout = this.head;
+			
+			while(timeout != null)
+			{
+				Timeout next = timeout.next;
+				
+				if(timeout.remainingRounds <= 0)
+				{
+					this.remove(timeout);
+					
+					timeout.expire();
+				}
+				else if(timeout.isCancelled())
+				{
+					this.remove(timeout);
+				}
+				else
+				{
+					timeout.remainingRounds--;
+				}
+				
+				timeout = next;
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,345 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+
+/**
+ * Class with static methods to format bytes in hexadecimal.
+ * <p>
+ * The digits are taken from lookup tables and written directly into the
+ * {@link StringBuilder} or {@link Appendable} received, so formatting doesn't
+ * create intermediate strings. The ranges received may wrap around the end of the
+ * array, as the data of a circular buffer does.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public final class HexFormatter
+{
+	/**
+	 * Value for the maximum amount of bytes that formats the whole range.
+	 */
+	public static final int UNLIMITED = -1;
+	
+	/**
+	 * Amount of bytes in each line of a dump.
+	 */
+	public static final int DUMP_LINE_SIZE = 16;
+	
+	private static final String SEPARATOR = ", ";
+	private static final String ELLIPSIS = "...";
+	private static final char NON_PRINTABLE = '.';
+	
+	/**
+	 * Position where the text of a line of a dump starts: offset, two blocks of hexadecimal values and separator.
+	 */
+	private static final int DUMP_TEXT_POSITION = 8 + 1 + DUMP_LINE_SIZE * 3 + 1 + 3;
+	
+	/**
+	 * Length of a line of a dump: text, closing separator and line break.
+	 */
+	private static final int DUMP_LINE_LENGTH = DUMP_TEXT_POSITION + DUMP_LINE_SIZE + 2;
+	
+	private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+	private static final char[] HIGH_DIGITS = new char[256];
+	private static final char[] LOW_DIGITS = new char[256];
+	private static final char[] PRINTABLE = new char[256];
+	
+	static
+	{
+		for(int i = 0; i < 256; i++)
+		{
+			HIGH_DIGITS[i] = DIGITS[i >>> 4];
+			LOW_DIGITS[i] = DIGITS[i & 0x0F];
+			PRINTABLE[i] = (i >= 0x20 && i < 0x7F) ? (char)i : NON_PRINTABLE;
+		}
+	}
+	
+	private HexFormatter()
+	{
+		super();
+		
+		String errorMessage = MessageUtil.getMessage(Messages.DONT_INSTANTIATE, this.getClass().getName());
+		
+		throw new AssertionError(errorMessage);
+	}
+	
+	/**
+	 * Appends the two hexadecimal digits of a byte.
+	 *
+	 * @param sb
+	 * - where the digits are appended.
+	 * @param value
+	 * - the byte.
+	 * @return
+	 * - the same {@link StringBuilder}.
+	 * @author Sergio Morel
+	 */
+	public static StringBuilder appendHexa(StringBuilder sb, byte value)
+	{
+		int index = value & 0xFF;
+		
+		return sb.append(HIGH_DIGITS[index]).append(LOW_DIGITS[index]);
+	}
+	
+	/**
+	 * Appends the bytes as consecutive hexadecimal digits, without separators (for example: A0BD7801).
+	 *
+	 * @param sb
+	 * - where the digits are appended.
+	 * @param bytes
+	 * - the array.
+	 * @param offset
+	 * - index of the first byte.
+	 * @param length
+	 * - amount of bytes, continuing from the start of the array if the end is reached.
+	 * @return
+	 * - the same {@link StringBuilder}.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not valid for the array.
+	 * @author Sergio Morel
+	 */
+	public static StringBuilder appendHexaString(StringBuilder sb, byte[] bytes, int offset, int length)
+	{
+		checkRange(bytes, offset, length);
+		
+		sb.ensureCapacity(sb.length() + length * 2);
+		
+		int firstSegment = Math.min(length, bytes.length - offset);
+		
+		appendDigits(sb, bytes, offset, offset + firstSegment);
+		appendDigits(sb, bytes, 0, length - firstSegment);
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the bytes in array format, with each element in hexadecimal (for example: [A0, BD, 78, 01]).
+	 * If the amount of bytes exceeds the maximum, the remaining elements are replaced by an ellipsis
+	 * (for example: [A0, BD, ...]).
+	 *
+	 * @param sb
+	 * - where the elements are appended.
+	 * @param bytes
+	 * - the array.
+	 * @param offset
+	 * - index of the first byte.
+	 * @param length
+	 * - amount of bytes, continuing from the start of the array if the end is reached.
+	 * @param maxBytes
+	 * - maximum amount of bytes to format, or {@link #UNLIMITED}.
+	 * @return
+	 * - the same {@link StringBuilder}.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not valid for the array.
+	 * @author Sergio Morel
+	 */
+	public static StringBuilder appendHexaArray(StringBuilder sb, byte[] bytes, int offset, int length, int maxBytes)
+	{
+		checkRange(bytes, offset, length);
+		
+		int count = limit(length, maxBytes);
+		
+		sb.ensureCapacity(sb.length() + count * 4 + 2 + ((count < length) ? ELLIPSIS.length() + 2 : 0));
+		
+		sb.append('[');
+		
+		int firstSegment = Math.min(count, bytes.length - offset);
+		
+		appendElements(sb, bytes, offset, offset + firstSegment, false);
+		appendElements(sb, bytes, 0, count - firstSegment, firstSegment > 0);
+		
+		if(count < length)
+		{
+			if(count > 0)
+			{
+				sb.append(SEPARATOR);
+			}
+			
+			sb.append(ELLIPSIS);
+		}
+		
+		return sb.append(']');
+	}
+	
+	/**
+	 * Appends a dump of the bytes with {@value #DUMP_LINE_SIZE} bytes per line. Each line has the offset,
+	 * the bytes in hexadecimal and their printable ASCII characters, for example:
+	 * <pre>
+	 * 00000000  48 65 6C 6C 6F 2C 20 57  6F 72 6C 64 21 0A        |Hello, World!.|
+	 * </pre>
+	 * If the amount of bytes exceeds the maximum, a last line with an ellipsis is appended.
+	 *
+	 * @param out
+	 * - where the dump is appended.
+	 * @param bytes
+	 * - the array.
+	 * @param offset
+	 * - index of the first byte.
+	 * @param length
+	 * - amount of bytes, continuing from the start of the array if the end is reached.
+	 * @param maxBytes
+	 * - maximum amount of bytes to format, or {@link #UNLIMITED}.
+	 * @throws IOException
+	 * if the {@link Appendable} throws it.
+	 * @throws IndexOutOfBoundsException
+	 * if the range is not valid for the array.
+	 * @author Sergio Morel
+	 */
+	public static void appendDump(Appendable out, byte[] bytes, int offset, int length, int maxBytes) throws IOException
+	{
+		checkRange(bytes, offset, length);
+		
+		int count = limit(length, maxBytes);
+		
+		char[] line = new char[DUMP_LINE_LENGTH];
+		CharBuffer lineSequence = CharBuffer.wrap(line);
+		
+		int index = offset;
+		
+		for(int lineStart = 0; lineStart < count; lineStart += DUMP_LINE_SIZE)
+		{
+			int lineBytes = Math.min(DUMP_LINE_SIZE, count - lineStart);
+			int position = 0;
+			
+			for(int shift = 28; shift >= 0; shift -= 4)
+			{
+				line[position++] = DIGITS[(lineStart >>> shift) & 0x0F];
+			}
+			
+			line[position++] = ' ';
+			
+			int textPosition = DUMP_TEXT_POSITION;
+			
+			line[textPosition - 3] = ' ';
+			line[textPosition - 2] = ' ';
+			line[textPosition - 1] = '|';
+			
+			for(int i = 0; i < DUMP_LINE_SIZE; i++)
+			{
+				if(i == DUMP_LINE_SIZE / 2)
+				{
+					line[position++] = ' ';
+				}
+				
+				line[position++] = ' ';
+				
+				if(i < lineBytes)
+				{
+					int value = bytes[index] & 0xFF;
+					
+					line[position++] = HIGH_DIGITS[value];
+					line[position++] = LOW_DIGITS[value];
+					line[textPosition++] = PRINTABLE[value];
+					
+					if(++index == bytes.length)
+					{
+						index = 0;
+					}
+				}
+				else
+				{
+					line[position++] = ' ';
+					line[position++] = ' ';
+				}
+			}
+			
+			line[textPosition++] = '|';
+			line[textPosition++] = '\n';
+			
+			out.append(lineSequence, 0, textPosition);
+		}
+		
+		if(count < length)
+		{
+			out.append(ELLIPSIS).append('\n');
+		}
+	}
+	
+	/**
+	 * Creates a dump of the bytes as described in {@link #appendDump(Appendable, byte[], int, int, int)}.
+	 *
+	 * @param bytes
+	 * - the bytes.
+	 * @param maxBytes
+	 * - maximum amount of bytes to format, or {@link #UNLIMITED}.
+	 * @return
+	 * - the dump.<br>
+	 * - <b>null</b> if the array is null.
+	 * @author Sergio Morel
+	 */
+	public static String dump(byte[] bytes, int maxBytes)
+	{
+		if(bytes == null)
+		{
+			return null;
+		}
+		
+		int lines = (limit(bytes.length, maxBytes) + DUMP_LINE_SIZE - 1) / DUMP_LINE_SIZE;
+		
+		StringBuilder sb = new StringBuilder(lines * DUMP_LINE_LENGTH + ELLIPSIS.length() + 1);
+		
+		try
+		{
+			appendDump(sb, bytes, 0, bytes.length, maxBytes);
+		}
+		catch(IOException e)
+		{
+			throw new AssertionError(e);
+		}
+		
+		return sb.toString();
+	}
+	
+	private static void appendDigits(StringBuilder sb, byte[] bytes, int from, int to)
+	{
+		for(int i = from; i < to; i++)
+		{
+			int index = bytes[i] & 0xFF;
+			
+			sb.append(HIGH_DIGITS[index]).append(LOW_DIGITS[index]);
+		}
+	}
+	
+	private static void appendElements(StringBuilder sb, byte[] bytes, int from, int to, boolean separate)
+	{
+		for(int i = from; i < to; i++)
+		{
+			if(separate)
+			{
+				sb.append(SEPARATOR);
+			}
+			
+			int index = bytes[i] & 0xFF;
+			
+			sb.append(HIGH_DIGITS[index]).append(LOW_DIGITS[index]);
+			
+			separate = true;
+		}
+	}
+	
+	private static int limit(int length, int maxBytes)
+	{
+		return (maxBytes < 0) ? length : Math.min(length, maxBytes);
+	}
+	
+	private static void checkRange(byte[] bytes, int offset, int length)
+	{
+		if(length < 0 || length > bytes.length)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INDEX_OUT_OF_BOUNDS, length, bytes.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+		
+		if(offset < 0 || (offset >= bytes.length && length > 0))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INDEX_OUT_OF_BOUNDS, offset, bytes.length);
+			
+			throw new IndexOutOfBoundsException(errorMessage);
+		}
+	}
+}
\ No newline at end of file
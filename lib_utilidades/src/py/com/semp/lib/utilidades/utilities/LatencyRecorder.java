@@ -0,0 +1,115 @@
+package py.com.semp.lib.utilidades.utilities;
+
+/**
+ * Records latency samples in nanoseconds and keeps their count, total, minimum and maximum.
+ * Samples are recorded without allocating, so it can be used in hot paths.
+ *
+ * @author Sergio Morel
+ */
+public class LatencyRecorder
+{
+	private long count;
+	private long totalNanos;
+	private long minNanos = Long.MAX_VALUE;
+	private long maxNanos = Long.MIN_VALUE;
+	
+	public LatencyRecorder()
+	{
+		super();
+	}
+	
+	/**
+	 * Records a sample.
+	 *
+	 * @param nanos
+	 * - the latency in nanoseconds.
+	 * @author Sergio Morel
+	 */
+	public synchronized void record(long nanos)
+	{
+		this.count++;
+		this.totalNanos += nanos;
+		
+		if(nanos < this.minNanos)
+		{
+			this.minNanos = nanos;
+		}
+		
+		if(nanos > this.maxNanos)
+		{
+			this.maxNanos = nanos;
+		}
+	}
+	
+	/**
+	 * Discards the samples recorded.
+	 *
+	 * @author Sergio Morel
+	 */
+	public synchronized void reset()
+	{
+		this.count = 0;
+		this.totalNanos = 0;
+		this.minNanos = Long.MAX_VALUE;
+		this.maxNanos = Long.MIN_VALUE;
+	}
+	
+	public synchronized long getCount()
+	{
+		return this.count;
+	}
+	
+	public synchronized long getTotalNanos()
+	{
+		return this.totalNanos;
+	}
+	
+	/**
+	 * Gets the minimum latency recorded.
+	 *
+	 * @return
+	 * - the minimum latency in nanoseconds, 0 if there are no samples.
+	 * @author Sergio Morel
+	 */
+	public synchronized long getMinNanos()
+	{
+		return (this.count == 0) ? 0 : this.minNanos;
+	}
+	
+	/**
+	 * Gets the maximum latency recorded.
+	 *
+	 * @return
+	 * - the maximum latency in nanoseconds, 0 if there are no samples.
+	 * @author Sergio Morel
+	 */
+	public synchronized long getMaxNanos()
+	{
+		return (this.count == 0) ? 0 : this.maxNanos;
+	}
+	
+	/**
+	 * Gets the mean latency recorded.
+	 *
+	 * @return
+	 * - the mean latency in nanoseconds, 0 if there are no samples.
+	 * @author Sergio Morel
+	 */
+	public synchronized long getMeanNanos()
+	{
+		return (this.count == 0) ? 0 : this.totalNanos / this.count;
+	}
+	
+	@Override
+	public synchronized String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append("Count: ").append(this.count);
+		sb.append("\nMin (ns): ").append(this.getMinNanos());
+		sb.append("\nMean (ns): ").append(this.getMeanNanos());
+		sb.append("\nMax (ns): ").append(this.getMaxNanos());
+		
+		return sb.toString();
+	}
+}
\ No newline at end of file
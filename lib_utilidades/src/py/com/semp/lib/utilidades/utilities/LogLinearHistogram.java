@@ -0,0 +1,288 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import py.com.semp.lib.utilidades.internal.MessageUtil;
+import py.com.semp.lib.utilidades.internal.Messages;
+
+/**
+ * Histogram of non-negative values, such as latencies in nanoseconds, with buckets that grow
+ * logarithmically and are subdivided linearly, in the style of HdrHistogram. Values below
+ * 2<sup>precisionBits</sup> are counted exactly, and larger values with a relative error below
+ * 2<sup>1 - precisionBits</sup>, so the whole range of a long fits in a few thousand buckets.
+ * <p>
+ * Values are recorded with atomic increments, without locking nor allocating, so it can be used
+ * in hot paths from several threads. The queries read the buckets while values may still be recorded;
+ * {@link #copy()} takes a copy to query consistently.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public class LogLinearHistogram
+{
+	/**
+	 * Default precision, with a relative error below 1.6%.
+	 */
+	public static final int DEFAULT_PRECISION_BITS = 7;
+	
+	private final int precisionBits;
+	private final int subBucketCount;
+	private final int halfSubBucketCount;
+	private final AtomicLongArray counts;
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalValue = new AtomicLong();
+	private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong maxValue = new AtomicLong(Long.MIN_VALUE);
+	
+	public LogLinearHistogram()
+	{
+		this(DEFAULT_PRECISION_BITS);
+	}
+	
+	/**
+	 * Creates a histogram.
+	 *
+	 * @param precisionBits
+	 * - bits of each value that are kept, between 2 and 16.
+	 * @throws IllegalArgumentException
+	 * if the precision is out of range.
+	 * @author Sergio Morel
+	 */
+	public LogLinearHistogram(int precisionBits)
+	{
+		super();
+		
+		if(precisionBits < 2 || precisionBits > 16)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_VALUE_ERROR, "precisionBits", precisionBits);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		this.precisionBits = precisionBits;
+		this.subBucketCount = 1 << precisionBits;
+		this.halfSubBucketCount = this.subBucketCount >> 1;
+		this.counts = new AtomicLongArray(this.subBucketCount + (Long.SIZE - 1 - precisionBits) * this.halfSubBucketCount);
+	}
+	
+	/**
+	 * Records a value.
+	 *
+	 * @param value
+	 * - the value. Negative values are recorded as 0.
+	 * @author Sergio Morel
+	 */
+	public void record(long value)
+	{
+		if(value < 0)
+		{
+			value = 0;
+		}
+		
+		this.counts.incrementAndGet(this.indexOf(value));
+		this.totalCount.incrementAndGet();
+		this.totalValue.addAndGet(value);
+		
+		long min;
+		
+		while(value < (min = this.minValue.get()) && !this.minValue.compareAndSet(min, value))
+		{
+		}
+		
+		long max;
+		
+		while(value > (max = this.maxValue.get()) && !this.maxValue.compareAndSet(max, value))
+		{
+		}
+	}
+	
+	/**
+	 * Gets the index of the bucket of a value.
+	 */
+	private int indexOf(long value)
+	{
+		if(value < this.subBucketCount)
+		{
+			return (int)value;
+		}
+		
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (this.precisionBits - 1);
+		int subBucket = (int)(value >>> shift);
+		
+		return this.subBucketCount + (shift - 1) * this.halfSubBucketCount + (subBucket - this.halfSubBucketCount);
+	}
+	
+	/**
+	 * Gets the highest value counted in a bucket.
+	 */
+	private long highestValueOf(int index)
+	{
+		if(index < this.subBucketCount)
+		{
+			return index;
+		}
+		
+		int offset = index - this.subBucketCount;
+		int shift = offset / this.halfSubBucketCount + 1;
+		long subBucket = offset % this.halfSubBucketCount + this.halfSubBucketCount;
+		
+		return ((subBucket + 1) << shift) - 1;
+	}
+	
+	/**
+	 * Gets the value below which a percentage of the values fall.
+	 *
+	 * @param percentile
+	 * - the percentage, between 0 and 100.
+	 * @return
+	 * - the highest value of the bucket that contains the percentile, limited to the maximum recorded,
+	 * or 0 if there are no values.
+	 * @author Sergio Morel
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		long total = this.totalCount.get();
+		
+		if(total == 0)
+		{
+			return 0;
+		}
+		
+		long target = Math.max(1, (long)Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+		long cumulative = 0;
+		
+		for(int i = 0; i < this.counts.length(); i++)
+		{
+			cumulative += this.counts.get(i);
+			
+			if(cumulative >= target)
+			{
+				return Math.min(this.highestValueOf(i), this.getMaxValue());
+			}
+		}
+		
+		return this.getMaxValue();
+	}
+	
+	public long getCount()
+	{
+		return this.totalCount.get();
+	}
+	
+	public long getTotalValue()
+	{
+		return this.totalValue.get();
+	}
+	
+	/**
+	 * Gets the minimum value recorded.
+	 *
+	 * @return
+	 * - the minimum value, 0 if there are no values.
+	 * @author Sergio Morel
+	 */
+	public long getMinValue()
+	{
+		long min = this.minValue.get();
+		
+		return (min == Long.MAX_VALUE) ? 0 : min;
+	}
+	
+	/**
+	 * Gets the maximum value recorded.
+	 *
+	 * @return
+	 * - the maximum value, 0 if there are no values.
+	 * @author Sergio Morel
+	 */
+	public long getMaxValue()
+	{
+		long max = this.maxValue.get();
+		
+		return (max == Long.MIN_VALUE) ? 0 : max;
+	}
+	
+	/**
+	 * Gets the mean of the values recorded.
+	 *
+	 * @return
+	 * - the mean, 0 if there are no values.
+	 * @author Sergio Morel
+	 */
+	public long getMeanValue()
+	{
+		long count = this.totalCount.get();
+		
+		return (count == 0) ? 0 : this.totalValue.get() / count;
+	}
+	
+	public int getPrecisionBits()
+	{
+		return this.precisionBits;
+	}
+	
+	/**
+	 * Copies the histogram, to query values that don't change while being read.
+	 *
+	 * @return
+	 * - a new histogram with the values recorded.
+	 * @author Sergio Morel
+	 */
+	public LogLinearHistogram copy()
+	{
+		LogLinearHistogram copy = new LogLinearHistogram(this.precisionBits);
+		long count = 0;
+		
+		for(int i = 0; i < this.counts.length(); i++)
+		{
+			long bucketCount = this.counts.get(i);
+			
+			copy.counts.set(i, bucketCount);
+			
+			count += bucketCount;
+		}
+		
+		copy.totalCount.set(count);
+		copy.totalValue.set(this.totalValue.get());
+		copy.minValue.set(this.minValue.get());
+		copy.maxValue.set(this.maxValue.get());
+		
+		return copy;
+	}
+	
+	/**
+	 * Discards the values recorded. Values recorded while resetting may be partially discarded.
+	 *
+	 * @author Sergio Morel
+	 */
+	public void reset()
+	{
+		for(int i = 0; i < this.counts.length(); i++)
+		{
+			this.counts.set(i, 0);
+		}
+		
+		this.totalCount.set(0);
+		this.totalValue.set(0);
+		this.minValue.set(Long.MAX_VALUE);
+		this.maxValue.set(Long.MIN_VALUE);
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append("Count: ").append(this.getCount());
+		sb.append("\nMin: ").append(this.getMinValue());
+		sb.append("\nMean: ").append(this.getMeanValue());
+		sb.append("\np50: ").append(this.getValueAtPercentile(50));
+		sb.append("\np90: ").append(this.getValueAtPercentile(90));
+		sb.append("\np99: ").append(this.getValueAtPercentile(99));
+		sb.append("\np99.9: ").append(this.getValueAtPercentile(99.9));
+		sb.append("\nMax: ").append(this.getMaxValue());
+		
+		return sb.toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataTransmitter;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+
+class AsyncDataTransmitterTest
+{
+	private static final int SENDS = 200;
+	
+	@Test
+	void testSendsAreCoalescedInOrder() throws Exception
+	{
+		RecordingTransmitter transmitter = new RecordingTransmitter(1);
+		AsyncDataTransmitter async = new AsyncDataTransmitter(transmitter, 16, 1024, 5, TimeUnit.MILLISECONDS);
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		
+		for(int i = 0; i < SENDS; i++)
+		{
+			byte[] data = ("cmd" + i + ";").getBytes(StandardCharsets.UTF_8);
+			
+			expected.write(data);
+			futures.add(async.sendDataAsync(data));
+		}
+		
+		async.flush().get(10, TimeUnit.SECONDS);
+		
+		for(CompletableFuture<Void> future : futures)
+		{
+			assertTrue(future.isDone());
+		}
+		
+		assertArrayEquals(expected.toByteArray(), transmitter.getSent());
+		assertEquals(SENDS, async.getSendCount());
+		assertEquals(transmitter.writes.size(), async.getWriteCount());
+		assertTrue(async.getWriteCount() < SENDS);
+		assertTrue(transmitter.writes.stream().allMatch(write -> write.length <= 1024));
+		
+		async.shutdown();
+	}
+	
+	@Test
+	void testErrorsCompleteFuturesExceptionally() throws Exception
+	{
+		RecordingTransmitter transmitter = new RecordingTransmitter(0);
+		AsyncDataTransmitter async = new AsyncDataTransmitter(transmitter, 16, 1024, 0, TimeUnit.MILLISECONDS);
+		
+		transmitter.failing = true;
+		
+		CompletableFuture<Void> future = async.sendDataAsync("\u00f1and\u00fa");
+		
+		ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+		
+		assertTrue(e.getCause() instanceof CommunicationException);
+		
+		transmitter.failing = false;
+		
+		async.sendDataAsync("\u00f1and\u00fa").get(10, TimeUnit.SECONDS);
+		
+		assertArrayEquals("\u00f1and\u00fa".getBytes(StandardCharsets.UTF_8), transmitter.getSent());
+		
+		async.shutdown();
+	}
+	
+	@Test
+	void testShutdownDrainsPendingSends() throws Exception
+	{
+		RecordingTransmitter transmitter = new RecordingTransmitter(2);
+		AsyncDataTransmitter async = new AsyncDataTransmitter(transmitter, 64, 4, 0, TimeUnit.MILLISECONDS);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		
+		for(int i = 0; i < 20; i++)
+		{
+			futures.add(async.sendDataAsync(new byte[] {(byte)i}));
+		}
+		
+		async.shutdown();
+		
+		assertTrue(async.awaitTermination(1, TimeUnit.SECONDS));
+		assertTrue(async.isShuttingDown());
+		
+		for(CompletableFuture<Void> future : futures)
+		{
+			assertTrue(future.isDone() && !future.isCompletedExceptionally());
+		}
+		
+		assertEquals(20, transmitter.getSent().length);
+		assertThrows(RejectedExecutionException.class, () -> async.sendDataAsync(new byte[] {0}));
+		assertThrows(NullPointerException.class, () -> async.sendDataAsync((String)null));
+	}
+	
+	@Test
+	void testSendDataStringUsesUtf8()
+	{
+		RecordingTransmitter transmitter = new RecordingTransmitter(0);
+		
+		assertDoesNotThrow(() -> transmitter.sendData("a\u00f1o"));
+		assertArrayEquals("a\u00f1o".getBytes(StandardCharsets.UTF_8), transmitter.getSent());
+	}
+	
+	/**
+	 * Transmitter that records the writes, taking a fixed time for each one.
+	 */
+	private static class RecordingTransmitter implements DataTransmitter
+	{
+		private final long writeMillis;
+		private final List<byte[]> writes = new CopyOnWriteArrayList<>();
+		private volatile boolean failing = false;
+		
+		private RecordingTransmitter(long writeMillis)
+		{
+			this.writeMillis = writeMillis;
+		}
+		
+		private byte[] getSent()
+		{
+			ByteArrayOutputStream sent = new ByteArrayOutputStream();
+			
+			for(byte[] write : this.writes)
+			{
+				sent.writeBytes(write);
+			}
+			
+			return sent.toByteArray();
+		}
+		
+		@Override
+		public DataTransmitter sendData(byte[] data) throws CommunicationException
+		{
+			if(this.failing)
+			{
+				throw new CommunicationException("test");
+			}
+			
+			try
+			{
+				Thread.sleep(this.writeMillis);
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			
+			this.writes.add(data);
+			
+			return this;
+		}
+		
+		@Override
+		public DataTransmitter addDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataTransmitter removeDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataTransmitter removeAllDataListeners()
+		{
+			return this;
+		}
+		
+		@Override
+		public Set<DataListener> getDataListeners()
+		{
+			return Set.of();
+		}
+		
+		@Override
+		public DataTransmitter informOnSendingError(byte[] data, Throwable throwable)
+		{
+			return this;
+		}
+	}
+}
\ No newline at end of file
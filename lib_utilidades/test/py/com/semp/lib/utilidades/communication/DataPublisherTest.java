@@ -0,0 +1,280 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReceiver;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+
+class DataPublisherTest
+{
+	@Test
+	void testDemandPausesAndResumesReader()
+	{
+		PushReceiver receiver = new PushReceiver();
+		DataPublisher publisher = DataPublisher.ofData(receiver);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		
+		assertEquals(1, receiver.listeners.size());
+		
+		publisher.subscribe(subscriber);
+		
+		assertTrue(receiver.reader.paused);
+		assertTrue(publisher.isPaused());
+		
+		subscriber.subscription.request(2);
+		
+		assertFalse(receiver.reader.paused);
+		
+		receiver.push(new byte[] {1});
+		
+		assertFalse(receiver.reader.paused);
+		
+		receiver.push(new byte[] {2});
+		
+		assertTrue(receiver.reader.paused);
+		assertEquals(2, subscriber.items.size());
+		
+		receiver.push(new byte[] {3});
+		
+		assertEquals(2, subscriber.items.size());
+		
+		subscriber.subscription.request(1);
+		
+		assertEquals(3, subscriber.items.size());
+		assertEquals(3, subscriber.items.get(2)[0]);
+		assertTrue(receiver.reader.paused);
+		
+		subscriber.subscription.request(Long.MAX_VALUE);
+		
+		assertFalse(receiver.reader.paused);
+		
+		publisher.shutdown();
+		
+		assertTrue(subscriber.complete);
+		assertNull(subscriber.error);
+		assertEquals(0, receiver.listeners.size());
+		assertEquals(0, publisher.getSubscriberCount());
+	}
+	
+	@Test
+	void testSlowestSubscriberControlsReader()
+	{
+		PushReceiver receiver = new PushReceiver();
+		DataPublisher publisher = DataPublisher.ofData(receiver, 2);
+		RecordingSubscriber fast = new RecordingSubscriber();
+		RecordingSubscriber slow = new RecordingSubscriber();
+		
+		publisher.subscribe(fast);
+		publisher.subscribe(slow);
+		
+		fast.subscription.request(Long.MAX_VALUE);
+		
+		assertTrue(receiver.reader.paused);
+		
+		slow.subscription.request(1);
+		
+		assertFalse(receiver.reader.paused);
+		
+		receiver.push(new byte[] {1});
+		receiver.push(new byte[] {2});
+		receiver.push(new byte[] {3});
+		
+		assertEquals(3, fast.items.size());
+		assertEquals(1, slow.items.size());
+		assertNull(slow.error);
+		
+		receiver.push(new byte[] {4});
+		
+		assertTrue(slow.error instanceof IllegalStateException);
+		assertEquals(1, publisher.getSubscriberCount());
+		assertFalse(receiver.reader.paused);
+		
+		fast.subscription.cancel();
+		
+		assertEquals(0, publisher.getSubscriberCount());
+		
+		publisher.shutdown();
+		
+		assertFalse(fast.complete);
+	}
+	
+	@Test
+	void testInvalidRequest()
+	{
+		PushReceiver receiver = new PushReceiver();
+		DataPublisher publisher = DataPublisher.ofData(receiver);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+		
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertFalse(receiver.reader.paused);
+		
+		publisher.shutdown();
+		
+		RecordingSubscriber late = new RecordingSubscriber();
+		
+		publisher.subscribe(late);
+		
+		assertTrue(late.complete);
+	}
+	
+	private static class RecordingSubscriber implements Flow.Subscriber<byte[]>
+	{
+		private final List<byte[]> items = new CopyOnWriteArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean complete = false;
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription)
+		{
+			this.subscription = subscription;
+		}
+		
+		@Override
+		public void onNext(byte[] item)
+		{
+			this.items.add(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable)
+		{
+			this.error = throwable;
+		}
+		
+		@Override
+		public void onComplete()
+		{
+			this.complete = true;
+		}
+	}
+	
+	private static class PushReceiver implements DataReceiver
+	{
+		private final Set<DataListener> listeners = new CopyOnWriteArraySet<>();
+		private final RecordingReader reader = new RecordingReader();
+		
+		private void push(byte[] data)
+		{
+			for(DataListener listener : this.listeners)
+			{
+				listener.onDataReceived(Instant.now(), null, data);
+			}
+		}
+		
+		@Override
+		public byte[] readData()
+		{
+			return new byte[] {};
+		}
+		
+		@Override
+		public DataReceiver addDataListeners(DataListener... listeners)
+		{
+			this.listeners.addAll(Set.of(listeners));
+			
+			return this;
+		}
+		
+		@Override
+		public DataReceiver removeDataListeners(DataListener... listeners)
+		{
+			this.listeners.removeAll(Set.of(listeners));
+			
+			return this;
+		}
+		
+		@Override
+		public DataReceiver removeAllDataListeners()
+		{
+			this.listeners.clear();
+			
+			return this;
+		}
+		
+		@Override
+		public Set<DataListener> getDataListeners()
+		{
+			return this.listeners;
+		}
+		
+		@Override
+		public DataReceiver informOnReceivingError(Throwable throwable)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataReader getDataReader()
+		{
+			return this.reader;
+		}
+	}
+	
+	private static class RecordingReader implements DataReader
+	{
+		private volatile boolean paused = false;
+		
+		@Override
+		public void run()
+		{
+		}
+		
+		@Override
+		public void startReading()
+		{
+			this.paused = false;
+		}
+		
+		@Override
+		public void pauseReading()
+		{
+			this.paused = true;
+		}
+		
+		@Override
+		public void stopReading()
+		{
+		}
+		
+		@Override
+		public DataReader shutdown()
+		{
+			return this;
+		}
+		
+		@Override
+		public boolean isShuttingDown()
+		{
+			return false;
+		}
+		
+		@Override
+		public boolean isReading()
+		{
+			return !this.paused;
+		}
+		
+		@Override
+		public boolean isReadingComplete()
+		{
+			return false;
+		}
+	}
+}
\ No newline at end of file
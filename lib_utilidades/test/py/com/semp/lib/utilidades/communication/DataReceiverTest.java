@@ -0,0 +1,136 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReceiver;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+
+class DataReceiverTest
+{
+	@Test
+	void testDefaultArrayRead() throws CommunicationException
+	{
+		DataReceiver receiver = new QueueReceiver(new byte[]{1, 2, 3}, new byte[]{}, new byte[]{4, 5, 6, 7});
+		byte[] destination = new byte[6];
+		
+		assertEquals(3, receiver.readData(destination, 2, 4));
+		assertArrayEquals(new byte[]{0, 0, 1, 2, 3, 0}, destination);
+		assertEquals(0, receiver.readData(destination, 0, 6));
+		assertEquals(3, receiver.readData(destination, 0, 3));
+		assertArrayEquals(new byte[]{4, 5, 6, 2, 3, 0}, destination);
+		assertEquals(1, receiver.readData(destination, 5, 1));
+		assertEquals(7, destination[5]);
+		assertThrows(IndexOutOfBoundsException.class, () -> receiver.readData(destination, 4, 3));
+	}
+	
+	@Test
+	void testDefaultReadKeepsRemainingBytes() throws CommunicationException
+	{
+		DataReceiver receiver = new QueueReceiver(new byte[]{1, 2, 3, 4, 5, 6, 7}, new byte[]{8});
+		byte[] destination = new byte[4];
+		
+		assertEquals(4, receiver.readData(destination, 0, 4));
+		assertArrayEquals(new byte[]{1, 2, 3, 4}, destination);
+		assertEquals(3, receiver.readData(destination, 0, 4));
+		assertArrayEquals(new byte[]{5, 6, 7, 4}, destination);
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(4);
+		
+		assertEquals(1, receiver.readData(direct));
+		assertEquals(8, direct.get(0));
+		assertEquals(0, receiver.readData(direct));
+	}
+	
+	@Test
+	void testDefaultByteBufferRead() throws CommunicationException
+	{
+		DataReceiver receiver = new QueueReceiver(new byte[]{1, 2}, new byte[]{3}, new byte[]{4, 5});
+		
+		ByteBuffer heap = ByteBuffer.allocate(4);
+		heap.position(1);
+		
+		assertEquals(2, receiver.readData(heap));
+		assertEquals(3, heap.position());
+		
+		ByteBuffer direct = ByteBuffer.allocateDirect(1);
+		
+		assertEquals(1, receiver.readData(direct));
+		assertEquals(3, direct.get(0));
+		
+		ByteBuffer small = ByteBuffer.allocateDirect(1);
+		
+		assertEquals(1, receiver.readData(small));
+		assertEquals(4, small.get(0));
+		
+		heap.clear();
+		
+		assertEquals(1, receiver.readData(heap));
+		assertEquals(5, heap.get(0));
+	}
+	
+	private static class QueueReceiver implements DataReceiver
+	{
+		private final Deque<byte[]> reads = new ArrayDeque<>();
+		
+		private QueueReceiver(byte[]... reads)
+		{
+			Collections.addAll(this.reads, reads);
+		}
+		
+		@Override
+		public byte[] readData()
+		{
+			byte[] data = this.reads.poll();
+			
+			return (data == null) ? new byte[]{} : data;
+		}
+		
+		@Override
+		public DataReceiver addDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataReceiver removeDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataReceiver removeAllDataListeners()
+		{
+			return this;
+		}
+		
+		@Override
+		public Set<DataListener> getDataListeners()
+		{
+			return Set.of();
+		}
+		
+		@Override
+		public DataReceiver informOnReceivingError(Throwable throwable)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataReader getDataReader()
+		{
+			return null;
+		}
+	}
+}
\ No newline at end of file
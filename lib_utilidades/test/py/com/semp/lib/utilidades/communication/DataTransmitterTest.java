@@ -0,0 +1,194 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.ChannelDataTransmitter;
+import py.com.semp.lib.utilidades.communication.interfaces.DataTransmitter;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+
+class DataTransmitterTest
+{
+	@Test
+	void testDefaultGatheringSendJoins() throws CommunicationException
+	{
+		ListTransmitter transmitter = new ListTransmitter();
+		ByteBuffer header = ByteBuffer.wrap(new byte[]{9, 1, 2});
+		ByteBuffer payload = ByteBuffer.allocateDirect(3).put(new byte[]{3, 4, 5}).flip();
+		ByteBuffer trailer = ByteBuffer.wrap(new byte[]{6, 7, 9}, 0, 2);
+		
+		header.position(1);
+		
+		transmitter.sendData(header, payload, trailer);
+		
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7}, transmitter.sent.get(0));
+		assertFalse(header.hasRemaining() || payload.hasRemaining() || trailer.hasRemaining());
+		
+		byte[] whole = new byte[]{1, 2, 3};
+		
+		transmitter.sendData(ByteBuffer.wrap(whole));
+		
+		assertSame(whole, transmitter.sent.get(1));
+	}
+	
+	@Test
+	void testChannelGatheringSend() throws IOException, CommunicationException
+	{
+		Pipe pipe = Pipe.open();
+		ChannelDataTransmitter transmitter = new PipeTransmitter(pipe.sink());
+		ByteBuffer header = ByteBuffer.wrap(new byte[]{1, 2});
+		ByteBuffer empty = ByteBuffer.allocate(0);
+		ByteBuffer payload = ByteBuffer.allocateDirect(3).put(new byte[]{3, 4, 5}).flip();
+		
+		transmitter.sendData(header, empty, payload);
+		transmitter.sendData(new byte[]{6});
+		
+		assertFalse(header.hasRemaining() || payload.hasRemaining());
+		
+		ByteBuffer received = ByteBuffer.allocate(6);
+		
+		while(received.hasRemaining())
+		{
+			pipe.source().read(received);
+		}
+		
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, received.array());
+		assertEquals(6, received.position());
+		
+		pipe.sink().close();
+		pipe.source().close();
+	}
+	
+	@Test
+	void testChannelSendTimesOut() throws IOException
+	{
+		Pipe pipe = Pipe.open();
+		PipeTransmitter transmitter = new PipeTransmitter(pipe.sink());
+		ByteBuffer data = ByteBuffer.allocate(16 * 1024 * 1024);
+		
+		pipe.sink().configureBlocking(false);
+		transmitter.writeTimeoutMS = 50;
+		
+		long start = System.nanoTime();
+		
+		assertThrows(CommunicationTimeoutException.class, () -> transmitter.sendData(data));
+		assertTrue(data.hasRemaining());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+		
+		pipe.sink().close();
+		pipe.source().close();
+	}
+	
+	private static class ListTransmitter implements DataTransmitter
+	{
+		private final List<byte[]> sent = new ArrayList<>();
+		
+		@Override
+		public DataTransmitter sendData(byte[] data)
+		{
+			this.sent.add(data);
+			
+			return this;
+		}
+		
+		@Override
+		public DataTransmitter addDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataTransmitter removeDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public DataTransmitter removeAllDataListeners()
+		{
+			return this;
+		}
+		
+		@Override
+		public Set<DataListener> getDataListeners()
+		{
+			return Set.of();
+		}
+		
+		@Override
+		public DataTransmitter informOnSendingError(byte[] data, Throwable throwable)
+		{
+			return this;
+		}
+	}
+	
+	private static class PipeTransmitter implements ChannelDataTransmitter
+	{
+		private final GatheringByteChannel channel;
+		private int writeTimeoutMS = -1;
+		
+		private PipeTransmitter(GatheringByteChannel channel)
+		{
+			this.channel = channel;
+		}
+		
+		@Override
+		public GatheringByteChannel getGatheringChannel()
+		{
+			return this.channel;
+		}
+		
+		@Override
+		public int getWriteTimeoutMS()
+		{
+			return this.writeTimeoutMS;
+		}
+		
+		@Override
+		public Set<DataListener> getDataListeners()
+		{
+			return Set.of();
+		}
+		
+		@Override
+		public ChannelDataTransmitter addDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public ChannelDataTransmitter removeDataListeners(DataListener... listeners)
+		{
+			return this;
+		}
+		
+		@Override
+		public ChannelDataTransmitter removeAllDataListeners()
+		{
+			return this;
+		}
+		
+		@Override
+		public ChannelDataTransmitter informOnSendingError(byte[] data, Throwable throwable)
+		{
+			return this;
+		}
+	}
+}
\ No newline at end of file
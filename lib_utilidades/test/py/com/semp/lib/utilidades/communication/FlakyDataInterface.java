@@ -0,0 +1,217 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+
+/**
+ * Data interface that fails a given amount of connection attempts before connecting,
+ * informing its listeners like a real interface.
+ */
+class FlakyDataInterface implements DataInterface
+{
+	private final Set<ConnectionEventListener> listeners = new CopyOnWriteArraySet<>();
+	private final String host;
+	private final AtomicInteger failuresLeft;
+	private final AtomicInteger connectCount = new AtomicInteger();
+	private volatile boolean connected = false;
+	private volatile boolean stopping = false;
+	private volatile ConfigurationValues configurationValues;
+	
+	FlakyDataInterface(String host, int failures)
+	{
+		this.host = host;
+		this.failuresLeft = new AtomicInteger(failures);
+	}
+	
+	/**
+	 * Drops the connection, informing the listeners.
+	 */
+	void drop(int failures)
+	{
+		this.failuresLeft.set(failures);
+		this.connected = false;
+		
+		for(ConnectionEventListener listener : this.listeners)
+		{
+			listener.onDisconnect(Instant.now(), this);
+		}
+	}
+	
+	int getConnectCount()
+	{
+		return this.connectCount.get();
+	}
+	
+	@Override
+	public DataInterface connect() throws CommunicationException
+	{
+		this.connectCount.incrementAndGet();
+		
+		if(this.failuresLeft.getAndDecrement() > 0)
+		{
+			CommunicationException exception = new CommunicationException("Connection refused: " + this.host);
+			
+			this.informOnConnectError(exception);
+			
+			throw exception;
+		}
+		
+		this.connected = true;
+		
+		for(ConnectionEventListener listener : this.listeners)
+		{
+			listener.onConnect(Instant.now(), this);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public DataInterface connect(ConfigurationValues configurationValues) throws CommunicationException
+	{
+		this.configurationValues = configurationValues;
+		
+		return this.connect();
+	}
+	
+	@Override
+	public DataInterface disconnect()
+	{
+		if(!this.connected)
+		{
+			return this;
+		}
+		
+		this.connected = false;
+		this.stopping = true;
+		
+		for(ConnectionEventListener listener : this.listeners)
+		{
+			listener.onDisconnect(Instant.now(), this);
+		}
+		
+		this.stopping = false;
+		
+		return this;
+	}
+	
+	@Override
+	public DataInterface requestReconnect() throws CommunicationException
+	{
+		this.disconnect();
+		
+		return this.connect();
+	}
+	
+	@Override
+	public DataInterface setConfigurationValues(ConfigurationValues configurationValues)
+	{
+		this.configurationValues = configurationValues;
+		
+		return this;
+	}
+	
+	@Override
+	public ConfigurationValues getConfigurationValues()
+	{
+		return this.configurationValues;
+	}
+	
+	@Override
+	public DataInterface addConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		this.listeners.addAll(Set.of(listeners));
+		
+		return this;
+	}
+	
+	@Override
+	public DataInterface removeConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		this.listeners.removeAll(Set.of(listeners));
+		
+		return this;
+	}
+	
+	@Override
+	public DataInterface removeAllConnectionEventListeners()
+	{
+		this.listeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<ConnectionEventListener> getConnectionEventListeners()
+	{
+		return this.listeners;
+	}
+	
+	@Override
+	public DataInterface informOnConnectError(Throwable e)
+	{
+		for(ConnectionEventListener listener : this.listeners)
+		{
+			listener.onConnectError(Instant.now(), this, e);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public DataInterface informOnDisconnectError(Throwable e)
+	{
+		for(ConnectionEventListener listener : this.listeners)
+		{
+			listener.onDisconnectError(Instant.now(), this, e);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public String getStableStringIdentifier()
+	{
+		return this.host;
+	}
+	
+	@Override
+	public String getDynamicStringIdentifier()
+	{
+		return this.host + "_" + this.connectCount.get();
+	}
+	
+	@Override
+	public DataInterface shutdown()
+	{
+		this.listeners.clear();
+		this.connected = false;
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isStopping()
+	{
+		return this.stopping;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return false;
+	}
+	
+	@Override
+	public boolean isConnected()
+	{
+		return this.connected;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,367 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.ListenerDispatcher.ListenerMetrics;
+import py.com.semp.lib.utilidades.communication.ListenerDispatcher.OverflowPolicy;
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.BatchDataListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataEntry;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+
+class ListenerDispatcherTest
+{
+	private static final int EVENTS = 1000;
+	
+	@Test
+	void testOrderedDeliveryPerListener() throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher(4, 64, OverflowPolicy.BLOCK);
+		RecordingListener first = new RecordingListener(null);
+		RecordingListener second = new RecordingListener(null);
+		
+		dispatcher.addDataListeners(first, second);
+		
+		for(int i = 0; i < EVENTS; i++)
+		{
+			dispatcher.onDataReceived(Instant.now(), null, new byte[] {(byte)i});
+		}
+		
+		assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+		
+		for(RecordingListener listener : List.of(first, second))
+		{
+			assertEquals(EVENTS, listener.received.size());
+			
+			for(int i = 0; i < EVENTS; i++)
+			{
+				assertEquals((byte)i, listener.received.get(i)[0]);
+			}
+			
+			ListenerMetrics metrics = dispatcher.getMetrics(listener);
+			
+			assertEquals(EVENTS, metrics.getDeliveredCount());
+			assertEquals(EVENTS, metrics.getLatency().getCount());
+			assertEquals(0, metrics.getBacklog());
+			assertEquals(0, metrics.getDroppedCount());
+			assertTrue(metrics.getMaxBacklog() <= 64);
+		}
+		
+		dispatcher.shutdown();
+	}
+	
+	@Test
+	void testSlowListenerDoesNotStallOthers() throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher(2, 16, OverflowPolicy.DROP_NEWEST);
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingListener slow = new RecordingListener(release);
+		RecordingListener fast = new RecordingListener(null);
+		
+		dispatcher.addDataListeners(slow, fast);
+		
+		for(int i = 0; i < 10; i++)
+		{
+			dispatcher.onDataReceived(Instant.now(), null, new byte[] {(byte)i});
+		}
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		
+		while(fast.received.size() < 10 && System.nanoTime() < deadline)
+		{
+			Thread.sleep(1);
+		}
+		
+		assertEquals(10, fast.received.size());
+		assertTrue(slow.received.size() <= 1);
+		
+		release.countDown();
+		
+		assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(10, slow.received.size());
+		
+		dispatcher.shutdown();
+	}
+	
+	@Test
+	void testOverflowPolicies() throws InterruptedException
+	{
+		assertEquals(List.of(0, 1, 2, 3), this.overflow(OverflowPolicy.DROP_NEWEST));
+		assertEquals(List.of(0, 5, 6, 7), this.overflow(OverflowPolicy.DROP_OLDEST));
+		
+		ListenerDispatcher dispatcher = new ListenerDispatcher(1, 1, OverflowPolicy.REJECT);
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(release);
+		
+		dispatcher.addDataListeners(listener);
+		dispatcher.onDataReceived(Instant.now(), null, new byte[] {0});
+		
+		while(listener.received.isEmpty())
+		{
+			Thread.sleep(1);
+		}
+		
+		dispatcher.onDataReceived(Instant.now(), null, new byte[] {1});
+		
+		assertThrows(RejectedExecutionException.class, () -> dispatcher.onDataReceived(Instant.now(), null, new byte[] {2}));
+		assertEquals(1, dispatcher.getMetrics(listener).getDroppedCount());
+		
+		release.countDown();
+		dispatcher.shutdown();
+		
+		assertEquals(2, listener.received.size());
+		assertThrows(RejectedExecutionException.class, () -> dispatcher.onDataReceived(Instant.now(), null, new byte[] {3}));
+	}
+	
+	/**
+	 * Dispatches 8 events to a listener blocked on the first one, with a queue of 3 events.
+	 */
+	private List<Integer> overflow(OverflowPolicy policy) throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher(1, 3, policy);
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(release);
+		
+		dispatcher.addDataListeners(listener);
+		dispatcher.onDataReceived(Instant.now(), null, new byte[] {0});
+		
+		while(listener.received.isEmpty())
+		{
+			Thread.sleep(1);
+		}
+		
+		for(int i = 1; i < 8; i++)
+		{
+			dispatcher.onDataReceived(Instant.now(), null, new byte[] {(byte)i});
+		}
+		
+		ListenerMetrics metrics = dispatcher.getMetrics(listener);
+		
+		assertEquals(3, metrics.getBacklog());
+		assertEquals(3, metrics.getMaxBacklog());
+		assertEquals(4, metrics.getDroppedCount());
+		
+		release.countDown();
+		
+		assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+		
+		dispatcher.shutdown();
+		
+		return listener.received.stream().map(data -> (int)data[0]).toList();
+	}
+	
+	@Test
+	void testFailingListenerAndRemoval() throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher();
+		RecordingListener listener = new RecordingListener(null);
+		DataListener failing = new RecordingListener(null)
+		{
+			@Override
+			public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+			{
+				throw new IllegalStateException("test");
+			}
+		};
+		
+		dispatcher.addDataListeners(listener, failing);
+		dispatcher.onReceivingError(Instant.now(), null, new RuntimeException());
+		
+		assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(1, listener.errors.size());
+		assertEquals(1, dispatcher.getMetrics(failing).getFailedCount());
+		
+		dispatcher.removeDataListeners(failing);
+		
+		assertNull(dispatcher.getMetrics(failing));
+		assertEquals(1, dispatcher.getDataListeners().size());
+		
+		dispatcher.shutdown();
+	}
+	
+	@Test
+	void testBatchesBySizeAndWindow() throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher(2, 1024, OverflowPolicy.BLOCK);
+		BatchRecordingListener listener = new BatchRecordingListener();
+		
+		dispatcher.addBatchDataListener(listener, 100, 50, TimeUnit.MILLISECONDS);
+		
+		for(int i = 0; i < 250; i++)
+		{
+			dispatcher.onDataReceived(Instant.now(), null, new byte[] {(byte)i});
+		}
+		
+		assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+		
+		List<Integer> sizes = listener.batches.stream().map(List::size).toList();
+		
+		assertEquals(250, sizes.stream().mapToInt(Integer::intValue).sum());
+		assertTrue(sizes.stream().allMatch(size -> size <= 100));
+		assertTrue(sizes.size() < 250);
+		
+		for(int i = 0; i < 250; i++)
+		{
+			assertEquals((byte)i, listener.entries().get(i).getData()[0]);
+		}
+		
+		ListenerMetrics metrics = dispatcher.getMetrics(listener);
+		
+		assertEquals(250, metrics.getDeliveredCount());
+		assertEquals(sizes.size(), metrics.getBatchCount());
+		
+		dispatcher.shutdown();
+	}
+	
+	@Test
+	void testBatchWindowDoesNotKeepPoolThread() throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher(1, 64, OverflowPolicy.BLOCK);
+		BatchRecordingListener listener = new BatchRecordingListener();
+		RecordingListener other = new RecordingListener(null);
+		
+		dispatcher.addBatchDataListener(listener, 100, 2, TimeUnit.SECONDS);
+		dispatcher.addDataListeners(other);
+		
+		for(int i = 0; i < 3; i++)
+		{
+			dispatcher.onDataReceived(Instant.now(), null, new byte[] {(byte)i});
+		}
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+		
+		while(other.received.size() < 3 && System.nanoTime() < deadline)
+		{
+			Thread.sleep(1);
+		}
+		
+		assertEquals(3, other.received.size());
+		assertTrue(listener.batches.isEmpty());
+		assertTrue(dispatcher.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(1, listener.batches.size());
+		assertEquals(3, listener.batches.get(0).size());
+		
+		dispatcher.shutdown();
+	}
+	
+	@Test
+	void testBatchFlushedBeforeOtherEvents() throws InterruptedException
+	{
+		ListenerDispatcher dispatcher = new ListenerDispatcher(1, 64, OverflowPolicy.BLOCK);
+		BatchRecordingListener listener = new BatchRecordingListener();
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingListener blocker = new RecordingListener(release);
+		
+		dispatcher.addDataListeners(blocker);
+		dispatcher.addBatchDataListener(listener, 100, 10, TimeUnit.SECONDS);
+		dispatcher.onDataReceived(Instant.now(), null, new byte[] {0});
+		dispatcher.onDataReceived(Instant.now(), null, new byte[] {1});
+		dispatcher.onReceivingError(Instant.now(), null, new RuntimeException());
+		
+		release.countDown();
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		
+		while(listener.errors.isEmpty() && System.nanoTime() < deadline)
+		{
+			Thread.sleep(1);
+		}
+		
+		assertEquals(1, listener.errors.size());
+		assertEquals(1, listener.batches.size());
+		assertEquals(2, listener.batches.get(0).size());
+		
+		dispatcher.addDataListeners(new BatchRecordingListener());
+		
+		assertEquals(3, dispatcher.getDataListeners().size());
+		
+		dispatcher.removeDataListeners(blocker);
+		dispatcher.shutdown();
+	}
+	
+	private static class BatchRecordingListener extends RecordingListener implements BatchDataListener
+	{
+		private final List<List<DataEntry>> batches = new CopyOnWriteArrayList<>();
+		
+		private BatchRecordingListener()
+		{
+			super(null);
+		}
+		
+		@Override
+		public void onDataReceived(List<? extends DataEntry> batch)
+		{
+			this.batches.add(new ArrayList<>(batch));
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			BatchDataListener.super.onDataReceived(instant, dataInterface, data);
+		}
+		
+		private List<DataEntry> entries()
+		{
+			return this.batches.stream().flatMap(List::stream).toList();
+		}
+	}
+	
+	private static class RecordingListener implements DataListener
+	{
+		private final CountDownLatch release;
+		private final List<byte[]> received = new CopyOnWriteArrayList<>();
+		final List<Throwable> errors = new CopyOnWriteArrayList<>();
+		
+		private RecordingListener(CountDownLatch release)
+		{
+			this.release = release;
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.received.add(data);
+			
+			if(this.release != null)
+			{
+				try
+				{
+					this.release.await();
+				}
+				catch(InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+			this.errors.add(throwable);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,577 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.communication.listeners.FrameListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.data.LengthPrefixFrameDecoder;
+import py.com.semp.lib.utilidades.data.Pair;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+
+class LoopbackDataCommunicatorTest
+{
+	@Test
+	void testLoopbackSendAndRead() throws CommunicationException
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback");
+		
+		assertThrows(ConnectionClosedException.class, () -> loopback.sendData(new byte[] {1}));
+		
+		loopback.connect();
+		loopback.sendData(new byte[] {1, 2, 3});
+		
+		byte[] destination = new byte[8];
+		
+		assertEquals(3, loopback.readData(destination, 1, 7));
+		assertArrayEquals(new byte[] {0, 1, 2, 3, 0, 0, 0, 0}, destination);
+		assertEquals(0, loopback.readData(destination, 0, 8));
+		assertEquals(0, loopback.readData().length);
+		assertEquals(3, loopback.getSentBytes());
+		assertEquals(3, loopback.getReceivedBytes());
+		assertTrue(loopback.getDataReader().isBufferedRead());
+	}
+	
+	@Test
+	void testChunking() throws CommunicationException
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("client", "server");
+		LoopbackDataCommunicator client = pair.getFirst();
+		LoopbackDataCommunicator server = pair.getSecond();
+		
+		client.connect();
+		server.connect();
+		client.setChunkSize(3);
+		client.sendData(new byte[] {1, 2, 3, 4, 5, 6, 7});
+		
+		assertEquals(0, client.getPendingBytes());
+		assertEquals(7, server.getPendingBytes());
+		assertArrayEquals(new byte[] {1, 2, 3}, server.readData());
+		
+		byte[] destination = new byte[2];
+		
+		assertEquals(2, server.readData(destination, 0, 2));
+		assertArrayEquals(new byte[] {4, 5}, destination);
+		assertArrayEquals(new byte[] {6}, server.readData());
+		assertArrayEquals(new byte[] {7}, server.readData());
+		assertEquals("client->server", client.getDynamicStringIdentifier());
+	}
+	
+	@Test
+	void testLatencyAndBandwidth() throws CommunicationException
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback");
+		
+		loopback.connect();
+		loopback.setLatency(30, TimeUnit.MILLISECONDS);
+		
+		long start = System.nanoTime();
+		
+		loopback.sendData(new byte[] {1});
+		
+		assertEquals(0, loopback.readData().length);
+		assertTrue(loopback.awaitData(TimeUnit.SECONDS.toNanos(2)));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+		assertEquals(1, loopback.readData().length);
+		
+		loopback.setLatency(0, TimeUnit.MILLISECONDS);
+		loopback.setBandwidth(10_000);
+		loopback.setChunkSize(100);
+		
+		start = System.nanoTime();
+		
+		loopback.sendData(new byte[500]);
+		
+		int received = 0;
+		
+		while(received < 500)
+		{
+			assertTrue(loopback.awaitData(TimeUnit.SECONDS.toNanos(2)));
+			
+			received += loopback.readData().length;
+		}
+		
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+		assertFalse(loopback.awaitData(TimeUnit.MILLISECONDS.toNanos(5)));
+	}
+	
+	@Test
+	void testLoss() throws CommunicationException
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback");
+		
+		loopback.connect();
+		loopback.setChunkSize(10);
+		loopback.setLossProbability(1);
+		loopback.sendData(new byte[95]);
+		
+		assertEquals(10, loopback.getLostChunkCount());
+		assertEquals(0, loopback.getPendingBytes());
+		assertThrows(IllegalArgumentException.class, () -> loopback.setLossProbability(1.5));
+	}
+	
+	@Test
+	void testFullEndpointBlocksSender() throws Exception
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback", 4);
+		CountDownLatch sent = new CountDownLatch(1);
+		
+		loopback.connect();
+		loopback.sendData(new byte[] {1, 2, 3, 4});
+		
+		Thread sender = new Thread(() ->
+		{
+			try
+			{
+				loopback.sendData(new byte[] {5});
+				
+				sent.countDown();
+			}
+			catch(CommunicationException e)
+			{
+			}
+		});
+		
+		sender.start();
+		
+		assertFalse(sent.await(50, TimeUnit.MILLISECONDS));
+		assertEquals(4, loopback.readData().length);
+		assertTrue(sent.await(2, TimeUnit.SECONDS));
+		assertArrayEquals(new byte[] {5}, loopback.readData());
+		
+		sender.join();
+	}
+	
+	@Test
+	void testDisconnectInjection() throws CommunicationException
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("client", "server");
+		LoopbackDataCommunicator client = pair.getFirst();
+		LoopbackDataCommunicator server = pair.getSecond();
+		CountingConnectionListener listener = new CountingConnectionListener();
+		
+		client.addConnectionEventListeners(listener);
+		server.addConnectionEventListeners(listener);
+		client.connect();
+		server.connect();
+		
+		assertEquals(2, listener.connects.get());
+		
+		client.sendData(new byte[] {1});
+		client.injectDisconnect();
+		
+		assertEquals(2, listener.disconnects.get());
+		assertFalse(client.isConnected() || server.isConnected());
+		
+		client.connect();
+		
+		assertThrows(ConnectionClosedException.class, () -> client.sendData(new byte[] {1}));
+		
+		server.failNextConnects(2);
+		
+		assertThrows(CommunicationException.class, server::connect);
+		assertThrows(CommunicationException.class, server::connect);
+		
+		server.connect();
+		
+		assertEquals(2, listener.connectErrors.get());
+		assertEquals(0, server.getPendingBytes());
+		assertTrue(server.isConnected());
+	}
+	
+	@Test
+	void testReaderDeliversToListeners() throws Exception
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("client", "server");
+		LoopbackDataCommunicator client = pair.getFirst();
+		LoopbackDataCommunicator server = pair.getSecond();
+		CollectingListener listener = new CollectingListener(1000);
+		
+		server.addDataListeners(listener);
+		client.connect();
+		server.connect();
+		client.setChunkSize(7);
+		
+		DefaultDataReader<LoopbackDataCommunicator> reader = server.getDataReader();
+		Thread thread = new Thread(reader);
+		
+		thread.start();
+		
+		byte[] expected = new byte[1000];
+		
+		for(int i = 0; i < expected.length; i++)
+		{
+			expected[i] = (byte)i;
+		}
+		
+		client.sendData(expected);
+		
+		assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+		assertArrayEquals(expected, listener.received.toByteArray());
+		assertEquals(DefaultDataReader.IdleMode.READINESS, reader.getIdleMode());
+		assertEquals(reader.getReadLatency().getCount(), reader.getReadLatency(DefaultDataReader.IdleMode.READINESS).getCount());
+		assertEquals(0, reader.getReadLatency(DefaultDataReader.IdleMode.BACKOFF).getCount());
+		assertEquals(0, reader.getReadLatency(DefaultDataReader.IdleMode.SLEEP).getCount());
+		
+		server.injectDisconnect();
+		thread.join(5000);
+		
+		assertTrue(reader.isReadingComplete());
+	}
+	
+	@Test
+	void testReaderDeliversCompleteFrames() throws Exception
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("client", "server");
+		LoopbackDataCommunicator client = pair.getFirst();
+		LoopbackDataCommunicator server = pair.getSecond();
+		CollectingFrameListener listener = new CollectingFrameListener(3);
+		DefaultDataReader<LoopbackDataCommunicator> reader = server.getDataReader();
+		
+		reader.setFrameDecoder(new LengthPrefixFrameDecoder(1), 8);
+		reader.addFrameListeners(listener);
+		client.connect();
+		server.connect();
+		client.setChunkSize(3);
+		
+		Thread thread = new Thread(reader);
+		
+		thread.start();
+		
+		client.sendData(new byte[] {4, 1, 2, 3, 4, 0, 2, 5});
+		client.sendData(new byte[] {6});
+		
+		assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+		assertEquals(3, listener.frames.size());
+		assertArrayEquals(new byte[] {1, 2, 3, 4}, listener.frames.get(0));
+		assertArrayEquals(new byte[0], listener.frames.get(1));
+		assertArrayEquals(new byte[] {5, 6}, listener.frames.get(2));
+		assertTrue(reader.getFrameBuffer().isEmpty());
+		
+		server.injectDisconnect();
+		thread.join(5000);
+		
+		assertTrue(reader.isReadingComplete());
+	}
+	
+	@Test
+	void testReaderSkipsFrameLargerThanBuffer() throws Exception
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback");
+		CollectingFrameListener listener = new CollectingFrameListener(2);
+		DefaultDataReader<LoopbackDataCommunicator> reader = loopback.getDataReader();
+		byte[] large = new byte[21];
+		
+		large[0] = 20;
+		
+		for(int i = 1; i < large.length; i++)
+		{
+			large[i] = 2;
+		}
+		
+		reader.setFrameDecoder(new LengthPrefixFrameDecoder(1), 8);
+		reader.addFrameListeners(listener);
+		loopback.connect();
+		loopback.setChunkSize(3);
+		
+		Thread thread = new Thread(reader);
+		
+		thread.start();
+		
+		loopback.sendData(new byte[] {1, 9});
+		loopback.sendData(large);
+		loopback.sendData(new byte[] {2, 5, 6});
+		
+		assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+		assertEquals(2, listener.frames.size());
+		assertArrayEquals(new byte[] {9}, listener.frames.get(0));
+		assertArrayEquals(new byte[] {5, 6}, listener.frames.get(1));
+		assertTrue(reader.getFrameBuffer().isEmpty());
+		
+		loopback.injectDisconnect();
+		thread.join(5000);
+		
+		assertTrue(reader.isReadingComplete());
+	}
+	
+	@Test
+	void testReaderNotificationIsOptional() throws Exception
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback");
+		CollectingListener listener = new CollectingListener(1);
+		CollectingFrameListener frameListener = new CollectingFrameListener(1);
+		DefaultDataReader<LoopbackDataCommunicator> reader = loopback.getDataReader();
+		
+		assertTrue(reader.isNotifyDataListeners());
+		assertFalse(new DefaultDataReader<>(loopback).isNotifyDataListeners());
+		
+		reader.setNotifyDataListeners(false);
+		reader.setFrameDecoder(new LengthPrefixFrameDecoder(1), 8);
+		reader.addFrameListeners(frameListener);
+		loopback.addDataListeners(listener);
+		loopback.connect();
+		
+		Thread thread = new Thread(reader);
+		
+		thread.start();
+		
+		loopback.sendData(new byte[] {1, 7});
+		
+		assertTrue(frameListener.latch.await(5, TimeUnit.SECONDS));
+		assertEquals(0, listener.received.size());
+		
+		loopback.injectDisconnect();
+		thread.join(5000);
+		
+		assertTrue(reader.isReadingComplete());
+	}
+	
+	@Test
+	void testReaderReusesReadBuffer() throws Exception
+	{
+		RecordingLoopback loopback = new RecordingLoopback("loopback");
+		CollectingListener listener = new CollectingListener(9);
+		DefaultDataReader<LoopbackDataCommunicator> reader = loopback.getDataReader();
+		
+		loopback.addDataListeners(listener);
+		loopback.connect();
+		
+		Thread thread = new Thread(reader);
+		
+		thread.start();
+		
+		for(int i = 0; i < 3; i++)
+		{
+			loopback.sendData(new byte[] {(byte)i, (byte)i, (byte)i});
+			
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			
+			while(listener.latch.getCount() > 6 - i * 3 && System.nanoTime() < deadline)
+			{
+				Thread.sleep(1);
+			}
+		}
+		
+		assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+		assertArrayEquals(new byte[] {0, 0, 0, 1, 1, 1, 2, 2, 2}, listener.received.toByteArray());
+		assertTrue(loopback.destinations.size() >= 3);
+		
+		for(byte[] destination : loopback.destinations)
+		{
+			assertSame(loopback.destinations.get(0), destination);
+		}
+		
+		loopback.injectDisconnect();
+		thread.join(5000);
+		
+		assertTrue(reader.isReadingComplete());
+	}
+	
+	@Test
+	void testReadTimeoutInformedOnce() throws Exception
+	{
+		LoopbackDataCommunicator loopback = new LoopbackDataCommunicator("loopback");
+		TimeoutListener listener = new TimeoutListener();
+		TestConfigurationValues configurationValues = new TestConfigurationValues();
+		
+		configurationValues.setParameter(Integer.class, Values.VariableNames.READ_TIMEOUT_MS, 30);
+		loopback.addDataListeners(listener);
+		loopback.connect(configurationValues);
+		
+		Thread thread = new Thread(loopback.getDataReader());
+		
+		thread.start();
+		
+		Thread.sleep(200);
+		
+		assertEquals(1, listener.timeouts.get());
+		
+		loopback.sendData(new byte[] {1});
+		
+		assertTrue(listener.received.await(5, TimeUnit.SECONDS));
+		
+		Thread.sleep(200);
+		
+		assertEquals(2, listener.timeouts.get());
+		
+		loopback.injectDisconnect();
+		thread.join(5000);
+		
+		assertTrue(loopback.getDataReader().isReadingComplete());
+	}
+	
+	private static class CollectingListener implements DataListener
+	{
+		private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+		private final CountDownLatch latch;
+		
+		private CollectingListener(int expectedBytes)
+		{
+			this.latch = new CountDownLatch(expectedBytes);
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public synchronized void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.received.writeBytes(data);
+			
+			for(int i = 0; i < data.length; i++)
+			{
+				this.latch.countDown();
+			}
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+	
+	/**
+	 * Loopback that keeps the destination arrays passed to each read.
+	 */
+	private static class RecordingLoopback extends LoopbackDataCommunicator
+	{
+		private final List<byte[]> destinations = new CopyOnWriteArrayList<>();
+		
+		private RecordingLoopback(String name)
+		{
+			super(name);
+		}
+		
+		@Override
+		public int readData(byte[] destination, int offset, int length) throws CommunicationException
+		{
+			this.destinations.add(destination);
+			
+			return super.readData(destination, offset, length);
+		}
+	}
+	
+	private static class CollectingFrameListener implements FrameListener
+	{
+		private final List<byte[]> frames = new CopyOnWriteArrayList<>();
+		private final CountDownLatch latch;
+		
+		private CollectingFrameListener(int expectedFrames)
+		{
+			this.latch = new CountDownLatch(expectedFrames);
+		}
+		
+		@Override
+		public void onFrameReceived(Instant instant, DataInterface dataInterface, byte[] frame)
+		{
+			this.frames.add(frame);
+			this.latch.countDown();
+		}
+	}
+	
+	private static class TimeoutListener implements DataListener
+	{
+		private final AtomicInteger timeouts = new AtomicInteger();
+		private final CountDownLatch received = new CountDownLatch(1);
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.received.countDown();
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+			if(throwable instanceof CommunicationTimeoutException)
+			{
+				this.timeouts.incrementAndGet();
+			}
+		}
+	}
+	
+	private static class TestConfigurationValues extends ConfigurationValues
+	{
+		@Override
+		protected void setRequiredParameters()
+		{
+		}
+		
+		@Override
+		protected void setOptionalParameters()
+		{
+		}
+		
+		@Override
+		protected void setDefaultValues()
+		{
+		}
+	}
+	
+	private static class CountingConnectionListener implements ConnectionEventListener
+	{
+		private final AtomicInteger connects = new AtomicInteger();
+		private final AtomicInteger disconnects = new AtomicInteger();
+		private final AtomicInteger connectErrors = new AtomicInteger();
+		
+		@Override
+		public void onDisconnect(Instant instant, DataInterface dataInterface)
+		{
+			this.disconnects.incrementAndGet();
+		}
+		
+		@Override
+		public void onConnect(Instant instant, DataInterface dataInterface)
+		{
+			this.connects.incrementAndGet();
+		}
+		
+		@Override
+		public void onConnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+			this.connectErrors.incrementAndGet();
+		}
+		
+		@Override
+		public void onDisconnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+}
\ No newline at end of file
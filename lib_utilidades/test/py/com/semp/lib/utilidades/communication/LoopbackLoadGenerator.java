@@ -0,0 +1,174 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.data.Pair;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.utilities.LogLinearHistogram;
+
+/**
+ * Sends fixed size messages through a pair of {@link LoopbackDataCommunicator} endpoints and reports
+ * the messages per second and the percentiles of the latency from the send to the listener, measured
+ * through the {@link DefaultDataReader} of the receiving endpoint and, optionally, a {@link ListenerDispatcher}.
+ * Not part of the test suite.
+ * <p>
+ * Arguments: amount of messages (default 1000000), message size in bytes (default 64), link latency in
+ * microseconds (default 0), chunk size in bytes (default 0, no chunking) and <b>true</b> to deliver through
+ * a dispatcher (default false).
+ * </p>
+ */
+public class LoopbackLoadGenerator
+{
+	public static void main(String[] args) throws CommunicationException, InterruptedException
+	{
+		int messages = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+		int messageSize = (args.length > 1) ? Math.max(Long.BYTES, Integer.parseInt(args[1])) : 64;
+		long latencyMicros = (args.length > 2) ? Long.parseLong(args[2]) : 0;
+		int chunkSize = (args.length > 3) ? Integer.parseInt(args[3]) : 0;
+		boolean dispatched = (args.length > 4) && Boolean.parseBoolean(args[4]);
+		
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("generator", "sink");
+		LoopbackDataCommunicator generator = pair.getFirst();
+		LoopbackDataCommunicator sink = pair.getSecond();
+		MessageListener listener = new MessageListener(messages, messageSize);
+		ListenerDispatcher dispatcher = null;
+		
+		if(dispatched)
+		{
+			dispatcher = new ListenerDispatcher();
+			dispatcher.addDataListeners(listener);
+			sink.addDataListeners(dispatcher);
+		}
+		else
+		{
+			sink.addDataListeners(listener);
+		}
+		
+		generator.setLatency(latencyMicros, TimeUnit.MICROSECONDS);
+		generator.setChunkSize(chunkSize);
+		generator.connect();
+		sink.connect();
+		
+		Thread readerThread = new Thread(sink.getDataReader(), "sink");
+		
+		readerThread.start();
+		
+		byte[] message = new byte[messageSize];
+		ByteBuffer timestamp = ByteBuffer.wrap(message);
+		long start = System.nanoTime();
+		
+		for(int i = 0; i < messages; i++)
+		{
+			timestamp.putLong(0, System.nanoTime());
+			
+			generator.sendData(message);
+		}
+		
+		long sendNanos = System.nanoTime() - start;
+		boolean complete = listener.latch.await(60, TimeUnit.SECONDS);
+		long totalNanos = System.nanoTime() - start;
+		
+		sink.shutdown();
+		readerThread.join(5000);
+		
+		if(dispatcher != null)
+		{
+			dispatcher.shutdown();
+		}
+		
+		LogLinearHistogram latencies = listener.latencies;
+		
+		System.out.println("Messages: " + listener.count + "/" + messages + (complete ? "" : " (incomplete)"));
+		System.out.println("Message size (bytes): " + messageSize);
+		System.out.println("Dispatcher: " + dispatched);
+		System.out.println("Send rate (msg/s): " + perSecond(messages, sendNanos));
+		System.out.println("End to end rate (msg/s): " + perSecond(listener.count, totalNanos));
+		System.out.println("Throughput (MB/s): " + perSecond((long)listener.count * messageSize, totalNanos) / (1024 * 1024));
+		System.out.println("Latency p50 (us): " + percentile(latencies, 0.50));
+		System.out.println("Latency p90 (us): " + percentile(latencies, 0.90));
+		System.out.println("Latency p99 (us): " + percentile(latencies, 0.99));
+		System.out.println("Latency p99.9 (us): " + percentile(latencies, 0.999));
+		System.out.println("Latency max (us): " + percentile(latencies, 1.0));
+	}
+	
+	private static long perSecond(long count, long nanos)
+	{
+		return (nanos == 0) ? 0 : count * TimeUnit.SECONDS.toNanos(1) / nanos;
+	}
+	
+	private static long percentile(LogLinearHistogram histogram, double percentile)
+	{
+		return TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(percentile * 100));
+	}
+	
+	/**
+	 * Reassembles the messages from the data received, which may split or join them, and records
+	 * the latency of each one from its timestamp.
+	 */
+	private static class MessageListener implements DataListener
+	{
+		private final LogLinearHistogram latencies = new LogLinearHistogram();
+		private final byte[] partial;
+		private final ByteBuffer partialBuffer;
+		private final CountDownLatch latch;
+		private final int messages;
+		private int position = 0;
+		private int count = 0;
+		
+		private MessageListener(int messages, int messageSize)
+		{
+			this.messages = messages;
+			this.partial = new byte[messageSize];
+			this.partialBuffer = ByteBuffer.wrap(this.partial);
+			this.latch = new CountDownLatch(messages);
+		}
+		
+		@Override
+		public synchronized void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			int offset = 0;
+			
+			while(offset < data.length)
+			{
+				int length = Math.min(data.length - offset, this.partial.length - this.position);
+				
+				System.arraycopy(data, offset, this.partial, this.position, length);
+				
+				offset += length;
+				this.position += length;
+				
+				if(this.position == this.partial.length)
+				{
+					if(this.count < this.messages)
+					{
+						this.latencies.record(System.nanoTime() - this.partialBuffer.getLong(0));
+						this.count++;
+					}
+					
+					this.position = 0;
+					this.latch.countDown();
+				}
+			}
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.data.Pair;
+
+class MetricsRegistryTest
+{
+	@Test
+	void testInstrumentedLoopback() throws Exception
+	{
+		MetricsRegistry registry = new MetricsRegistry();
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("client", "server");
+		LoopbackDataCommunicator client = pair.getFirst();
+		LoopbackDataCommunicator server = pair.getSecond();
+		InterfaceMetrics clientMetrics = registry.instrument(client);
+		InterfaceMetrics serverMetrics = registry.instrument(server);
+		
+		assertSame(clientMetrics, registry.instrument(client));
+		assertSame(serverMetrics, server.getDataReader().getMetrics());
+		
+		client.connect();
+		server.connect();
+		
+		Thread thread = new Thread(server.getDataReader());
+		
+		thread.start();
+		
+		for(int i = 0; i < 10; i++)
+		{
+			client.sendData(new byte[100]);
+		}
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		
+		while(serverMetrics.getBytesReceived() < 1000 && System.nanoTime() < deadline)
+		{
+			Thread.sleep(5);
+		}
+		
+		server.injectDisconnect();
+		thread.join(5000);
+		
+		Map<String, InterfaceMetrics.Snapshot> snapshots = registry.snapshot();
+		InterfaceMetrics.Snapshot clientSnapshot = snapshots.get(client.getStableStringIdentifier());
+		InterfaceMetrics.Snapshot serverSnapshot = snapshots.get(server.getStableStringIdentifier());
+		
+		assertEquals(2, snapshots.size());
+		assertEquals(10, clientSnapshot.getSendCount());
+		assertEquals(1000, clientSnapshot.getBytesSent());
+		assertEquals(1000, serverSnapshot.getBytesReceived());
+		assertEquals(serverSnapshot.getReceiveCount(), serverSnapshot.getDeliveryLatency().getCount());
+		assertEquals(1, serverSnapshot.getConnectCount());
+		assertEquals(1, serverSnapshot.getDisconnectCount());
+		assertEquals(0, serverSnapshot.getErrorRate());
+		assertTrue(serverSnapshot.getBytesReceivedPerSecond() > 0);
+		assertTrue(serverSnapshot.toString().contains("Received (bytes): 1000"));
+		
+		assertSame(clientMetrics, registry.remove(client));
+		assertNull(registry.getMetrics(client.getStableStringIdentifier()));
+		
+		client.connect();
+		server.connect();
+		client.sendData(new byte[1]);
+		
+		assertEquals(10, clientMetrics.getSendCount());
+		
+		registry.remove(server);
+		
+		assertNull(server.getDataReader().getMetrics());
+		assertThrows(NullPointerException.class, () -> registry.instrument(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.data.Pair;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+
+class PipelinedRequestClientTest
+{
+	@Test
+	void testResponsesOutOfOrder() throws Exception
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = connectedPair();
+		LoopbackDataCommunicator client = pair.getFirst();
+		LoopbackDataCommunicator device = pair.getSecond();
+		PipelinedRequestClient<String> requests = new PipelinedRequestClient<>(client, PipelinedRequestClientTest::correlation, 4);
+		
+		client.addDataListeners(new FrameForwarder(requests));
+		
+		Thread reader = new Thread(client.getDataReader());
+		
+		reader.start();
+		
+		List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+		
+		for(int i = 0; i < 4; i++)
+		{
+			futures.add(requests.request(bytes(i + ":request")));
+		}
+		
+		assertEquals(4, requests.getInFlightCount());
+		
+		List<String> received = new ArrayList<>();
+		
+		while(received.size() < 4)
+		{
+			byte[] data = device.readData();
+			
+			if(data.length > 0)
+			{
+				received.add(new String(data, StandardCharsets.UTF_8));
+			}
+		}
+		
+		device.sendData(bytes("unsolicited"));
+		
+		for(int i = received.size() - 1; i >= 0; i--)
+		{
+			device.sendData(bytes(correlation(bytes(received.get(i))) + ":response"));
+		}
+		
+		for(int i = 0; i < 4; i++)
+		{
+			assertEquals(i + ":response", new String(futures.get(i).get(5, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+		}
+		
+		assertEquals(0, requests.getInFlightCount());
+		assertEquals(4, requests.getResponseCount());
+		assertEquals(1, requests.getUnmatchedCount());
+		
+		requests.shutdown();
+		
+		assertThrows(RejectedExecutionException.class, () -> requests.request(bytes("5:request")));
+		
+		client.shutdown();
+		reader.join(5000);
+	}
+	
+	@Test
+	void testTimeoutReleasesSlot() throws Exception
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = connectedPair();
+		PipelinedRequestClient<String> requests = new PipelinedRequestClient<>(pair.getFirst(), PipelinedRequestClientTest::correlation, 1);
+		
+		CompletableFuture<byte[]> first = requests.request("1", bytes("1:request"), 30, TimeUnit.MILLISECONDS);
+		
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		
+		assertInstanceOf(CommunicationTimeoutException.class, exception.getCause());
+		assertEquals(1, requests.getTimeoutCount());
+		
+		CompletableFuture<byte[]> second = requests.request("2", bytes("2:request"), -1, TimeUnit.MILLISECONDS);
+		CompletableFuture<CompletableFuture<byte[]>> third = CompletableFuture.supplyAsync(() -> requests.request("3", bytes("3:request"), -1, TimeUnit.MILLISECONDS));
+		
+		Thread.sleep(50);
+		
+		assertFalse(third.isDone());
+		
+		requests.onFrameReceived(Instant.now(), pair.getFirst(), bytes("2:response"));
+		
+		assertEquals("2:response", new String(second.get(5, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+		
+		CompletableFuture<byte[]> thirdResponse = third.get(5, TimeUnit.SECONDS);
+		
+		assertFalse(thirdResponse.isDone());
+		assertEquals(1, requests.getInFlightCount());
+		
+		requests.onFrameReceived(Instant.now(), pair.getFirst(), bytes("3:response"));
+		
+		assertTrue(thirdResponse.isDone());
+		assertEquals(0, requests.getInFlightCount());
+		assertEquals(3, requests.getRequestCount());
+	}
+	
+	@Test
+	void testDisconnectFailsPending() throws Exception
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = connectedPair();
+		PipelinedRequestClient<String> requests = new PipelinedRequestClient<>(pair.getFirst(), PipelinedRequestClientTest::correlation);
+		
+		CompletableFuture<byte[]> pending = requests.request(bytes("1:request"));
+		
+		requests.request("1", bytes("1:again"), -1, TimeUnit.SECONDS).handle((response, throwable) ->
+		{
+			assertInstanceOf(IllegalStateException.class, throwable);
+			
+			return null;
+		}).get(5, TimeUnit.SECONDS);
+		
+		pair.getFirst().injectDisconnect();
+		
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+		
+		assertInstanceOf(ConnectionClosedException.class, exception.getCause());
+		
+		CompletableFuture<byte[]> failed = requests.request(bytes("2:request"));
+		
+		exception = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+		
+		assertInstanceOf(CommunicationException.class, exception.getCause());
+		assertEquals(0, requests.getInFlightCount());
+	}
+	
+	private static Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> connectedPair() throws CommunicationException
+	{
+		Pair<LoopbackDataCommunicator, LoopbackDataCommunicator> pair = LoopbackDataCommunicator.pair("client", "device");
+		
+		pair.getFirst().connect();
+		pair.getSecond().connect();
+		
+		return pair;
+	}
+	
+	private static byte[] bytes(String text)
+	{
+		return text.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private static String correlation(byte[] frame)
+	{
+		String text = new String(frame, StandardCharsets.UTF_8);
+		int separator = text.indexOf(':');
+		
+		return (separator < 0) ? null : text.substring(0, separator);
+	}
+	
+	/**
+	 * Passes each data received as a frame, since the loopback delivers each send in one read.
+	 */
+	private static class FrameForwarder implements DataListener
+	{
+		private final PipelinedRequestClient<?> requests;
+		private final AtomicInteger frames = new AtomicInteger();
+		
+		private FrameForwarder(PipelinedRequestClient<?> requests)
+		{
+			this.requests = requests;
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.frames.incrementAndGet();
+			this.requests.onFrameReceived(instant, dataInterface, data);
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives simulated receivers on a {@link ReaderExecutor} and reports the reads per second,
+ * the start time and the memory used. Not part of the test suite.
+ * <p>
+ * Arguments: amount of receivers (default 10000), poll delay in milliseconds (default 50)
+ * and duration in seconds (default 10).
+ * </p>
+ */
+public class ReaderExecutorBenchmark
+{
+	public static void main(String[] args) throws InterruptedException
+	{
+		int receivers = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000;
+		long pollDelayMS = (args.length > 1) ? Long.parseLong(args[1]) : 50;
+		long seconds = (args.length > 2) ? Long.parseLong(args[2]) : 10;
+		
+		ReaderExecutor executor = new ReaderExecutor(ReaderExecutorBenchmark.class.getSimpleName());
+		AtomicLong reads = new AtomicLong();
+		List<SimulatedDataReader> readers = new ArrayList<>(receivers);
+		Runtime runtime = Runtime.getRuntime();
+		
+		long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+		long start = System.nanoTime();
+		
+		for(int i = 0; i < receivers; i++)
+		{
+			SimulatedDataReader reader = new SimulatedDataReader(pollDelayMS, reads);
+			
+			readers.add(reader);
+			executor.execute(reader);
+		}
+		
+		long startNanos = System.nanoTime() - start;
+		
+		Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+		
+		long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+		long totalReads = reads.get();
+		
+		for(SimulatedDataReader reader : readers)
+		{
+			reader.stopReading();
+		}
+		
+		boolean terminated = executor.awaitTermination(30, TimeUnit.SECONDS);
+		
+		System.out.println("Virtual threads: " + executor.isVirtual());
+		System.out.println("Receivers: " + receivers);
+		System.out.println("Start time (ms): " + TimeUnit.NANOSECONDS.toMillis(startNanos));
+		System.out.println("Reads per second: " + totalReads / seconds);
+		System.out.println("Expected reads per second: " + receivers * 1000 / pollDelayMS);
+		System.out.println("Heap used (MB): " + (usedAfter - usedBefore) / (1024 * 1024));
+		System.out.println("Terminated: " + terminated);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ReaderExecutorTest
+{
+	private static final int READERS = 100;
+	
+	@Test
+	void testLiveReaderCountAndStop() throws InterruptedException
+	{
+		ReaderExecutor executor = new ReaderExecutor("test");
+		AtomicLong reads = new AtomicLong();
+		List<SimulatedDataReader> readers = new ArrayList<>();
+		
+		for(int i = 0; i < READERS; i++)
+		{
+			SimulatedDataReader reader = new SimulatedDataReader(1, reads);
+			
+			readers.add(reader);
+			executor.execute(reader);
+		}
+		
+		assertEquals(READERS, executor.getLiveReaderCount());
+		assertThrows(IllegalStateException.class, () -> executor.execute(readers.get(0)));
+		
+		while(reads.get() < READERS)
+		{
+			Thread.sleep(5);
+		}
+		
+		assertTrue(readers.get(0).getThreadName().startsWith(SimulatedDataReader.class.getSimpleName()));
+		
+		for(SimulatedDataReader reader : readers)
+		{
+			reader.stopReading();
+		}
+		
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(0, executor.getLiveReaderCount());
+		assertTrue(readers.get(0).isReadingComplete());
+		assertFalse(readers.get(0).isShuttingDown());
+	}
+	
+	@Test
+	void testShutdownInterruptsReaders() throws InterruptedException
+	{
+		ReaderExecutor executor = new ReaderExecutor("test", false);
+		SimulatedDataReader reader = new SimulatedDataReader(60_000, new AtomicLong());
+		
+		assertFalse(executor.isVirtual());
+		
+		executor.execute(reader);
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(reader.isShuttingDown());
+		assertFalse(executor.interrupt(reader));
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(reader));
+		assertThrows(NullPointerException.class, () -> new ReaderExecutor().execute(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ReadinessSignalTest
+{
+	@Test
+	void testPendingSignalIsConsumed()
+	{
+		ReadinessSignal signal = new ReadinessSignal();
+		
+		assertFalse(signal.await(1_000));
+		
+		signal.signal();
+		
+		assertTrue(signal.isSignaled());
+		assertTrue(signal.await(0));
+		assertFalse(signal.isSignaled());
+		
+		signal.signal();
+		signal.clear();
+		
+		assertFalse(signal.await(1_000));
+	}
+	
+	@Test
+	void testSignalWakesWaiter() throws InterruptedException
+	{
+		ReadinessSignal signal = new ReadinessSignal();
+		
+		Thread signaler = new Thread(() ->
+		{
+			try
+			{
+				Thread.sleep(20);
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			
+			signal.signal();
+		});
+		
+		long start = System.nanoTime();
+		
+		signaler.start();
+		
+		assertTrue(signal.await(TimeUnit.SECONDS.toNanos(10)));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+		
+		signaler.join();
+	}
+}
\ No newline at end of file
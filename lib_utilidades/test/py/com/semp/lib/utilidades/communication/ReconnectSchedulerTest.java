@@ -0,0 +1,201 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.ReconnectScheduler.CircuitState;
+import py.com.semp.lib.utilidades.utilities.HashedWheelTimer;
+
+class ReconnectSchedulerTest
+{
+	private HashedWheelTimer timer;
+	private ReconnectScheduler scheduler;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 64);
+		this.scheduler = new ReconnectScheduler(this.timer, 2);
+		
+		this.scheduler.setBackoff(1, 8, TimeUnit.MILLISECONDS);
+		this.scheduler.setMaxAttemptRate(1000);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.scheduler.shutdown();
+		this.timer.stop();
+	}
+	
+	@Test
+	void testReconnectsAfterFailures() throws InterruptedException
+	{
+		FlakyDataInterface dataInterface = new FlakyDataInterface("host", 3);
+		
+		this.scheduler.register(dataInterface);
+		
+		assertTrue(dataInterface.getConnectionEventListeners().contains(this.scheduler));
+		
+		dataInterface.drop(3);
+		
+		assertTrue(waitFor(dataInterface::isConnected));
+		assertTrue(waitFor(() -> this.scheduler.getPendingCount() == 0));
+		assertEquals(4, dataInterface.getConnectCount());
+		assertEquals(4, this.scheduler.getAttemptCount());
+		assertEquals(3, this.scheduler.getFailureCount());
+		assertEquals(1, this.scheduler.getSuccessCount());
+		assertEquals(CircuitState.CLOSED, this.scheduler.getCircuitState("host"));
+	}
+	
+	@Test
+	void testSingleReconnectionPerInterface() throws InterruptedException
+	{
+		FlakyDataInterface dataInterface = new FlakyDataInterface("host", 0);
+		
+		this.scheduler.setBackoff(50, 50, TimeUnit.MILLISECONDS);
+		this.scheduler.register(dataInterface);
+		
+		dataInterface.drop(0);
+		dataInterface.drop(0);
+		
+		assertFalse(this.scheduler.schedule(dataInterface));
+		assertEquals(1, this.scheduler.getPendingCount());
+		assertTrue(waitFor(dataInterface::isConnected));
+		assertTrue(waitFor(() -> this.scheduler.getPendingCount() == 0));
+		assertEquals(1, dataInterface.getConnectCount());
+	}
+	
+	@Test
+	void testCircuitBreakerOpens() throws InterruptedException
+	{
+		FlakyDataInterface dataInterface = new FlakyDataInterface("host", 0);
+		
+		this.scheduler.setCircuitBreaker(2, 200, TimeUnit.MILLISECONDS);
+		this.scheduler.register(dataInterface);
+		
+		dataInterface.drop(Integer.MAX_VALUE);
+		
+		assertTrue(waitFor(() -> this.scheduler.getCircuitState("host") == CircuitState.OPEN));
+		assertEquals(1, this.scheduler.getCircuitOpenCount());
+		
+		int connectCount = dataInterface.getConnectCount();
+		
+		Thread.sleep(100);
+		
+		assertEquals(connectCount, dataInterface.getConnectCount());
+		assertTrue(this.scheduler.getDeferredCount() > 0);
+		
+		this.scheduler.unregister(dataInterface);
+		
+		assertFalse(dataInterface.getConnectionEventListeners().contains(this.scheduler));
+	}
+	
+	@Test
+	void testHalfOpenTrialCloses() throws InterruptedException
+	{
+		FlakyDataInterface dataInterface = new FlakyDataInterface("host", 0);
+		
+		this.scheduler.setCircuitBreaker(2, 50, TimeUnit.MILLISECONDS);
+		this.scheduler.register(dataInterface);
+		
+		dataInterface.drop(2);
+		
+		assertTrue(waitFor(dataInterface::isConnected));
+		assertTrue(waitFor(() -> this.scheduler.getCircuitState("host") == CircuitState.CLOSED));
+		assertEquals(1, this.scheduler.getCircuitOpenCount());
+		assertEquals(3, dataInterface.getConnectCount());
+	}
+	
+	@Test
+	void testRateLimitPerHost() throws InterruptedException
+	{
+		this.scheduler.setMaxAttemptRate(20);
+		
+		FlakyDataInterface[] dataInterfaces = new FlakyDataInterface[40];
+		
+		for(int i = 0; i < dataInterfaces.length; i++)
+		{
+			dataInterfaces[i] = new FlakyDataInterface("host", 0);
+			
+			this.scheduler.register(dataInterfaces[i]);
+		}
+		
+		long start = System.nanoTime();
+		
+		for(FlakyDataInterface dataInterface : dataInterfaces)
+		{
+			dataInterface.drop(0);
+		}
+		
+		for(FlakyDataInterface dataInterface : dataInterfaces)
+		{
+			assertTrue(waitFor(dataInterface::isConnected));
+		}
+		
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(800));
+		assertTrue(this.scheduler.getDeferredCount() > 0);
+		assertEquals(40, this.scheduler.getSuccessCount());
+	}
+	
+	@Test
+	void testRequestedDisconnectNotReconnected() throws Exception
+	{
+		FlakyDataInterface dataInterface = new FlakyDataInterface("host", 0);
+		
+		this.scheduler.register(dataInterface);
+		
+		dataInterface.connect();
+		dataInterface.disconnect();
+		
+		assertEquals(0, this.scheduler.getPendingCount());
+		
+		Thread.sleep(50);
+		
+		assertFalse(dataInterface.isConnected());
+		assertEquals(1, dataInterface.getConnectCount());
+		assertEquals(0, this.scheduler.getAttemptCount());
+		
+		dataInterface.connect();
+		dataInterface.drop(0);
+		
+		assertTrue(waitFor(dataInterface::isConnected));
+		assertEquals(3, dataInterface.getConnectCount());
+	}
+	
+	@Test
+	void testInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class, () -> this.scheduler.setBackoff(0, 1, TimeUnit.SECONDS));
+		assertThrows(IllegalArgumentException.class, () -> this.scheduler.setBackoff(2, 1, TimeUnit.SECONDS));
+		assertThrows(IllegalArgumentException.class, () -> this.scheduler.setMaxAttemptRate(0));
+		assertThrows(IllegalArgumentException.class, () -> this.scheduler.setCircuitBreaker(0, 1, TimeUnit.SECONDS));
+		assertThrows(NullPointerException.class, () -> this.scheduler.register((FlakyDataInterface)null));
+	}
+	
+	private static boolean waitFor(BooleanSupplier condition) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		
+		while(!condition.getAsBoolean())
+		{
+			if(System.nanoTime() > deadline)
+			{
+				return false;
+			}
+			
+			Thread.sleep(1);
+		}
+		
+		return true;
+	}
+}
\ No newline at end of file
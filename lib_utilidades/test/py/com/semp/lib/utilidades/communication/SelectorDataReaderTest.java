@@ -0,0 +1,215 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.SelectorDataReader.ChannelReader;
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+
+class SelectorDataReaderTest
+{
+	private static final int CONNECTIONS = 4;
+	
+	private ServerSocketChannel server;
+	private SelectorDataReader selectorDataReader;
+	private final List<SocketChannel> channels = new ArrayList<>();
+	
+	@BeforeEach
+	void setUp() throws Exception
+	{
+		this.server = ServerSocketChannel.open();
+		this.server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		this.selectorDataReader = new SelectorDataReader(2, 16, 8);
+	}
+	
+	@AfterEach
+	void tearDown() throws Exception
+	{
+		this.selectorDataReader.shutdown();
+		
+		assertTrue(this.selectorDataReader.awaitTermination(10, TimeUnit.SECONDS));
+		
+		for(SocketChannel channel : this.channels)
+		{
+			channel.close();
+		}
+		
+		this.server.close();
+	}
+	
+	@Test
+	void testReadsManyConnections() throws Exception
+	{
+		List<SocketChannel> clients = new ArrayList<>();
+		List<ChannelReader> readers = new ArrayList<>();
+		BlockingQueue<String> received = new LinkedBlockingQueue<>();
+		
+		for(int i = 0; i < CONNECTIONS; i++)
+		{
+			SocketChannel client = this.connect();
+			SocketChannelReceiver receiver = new SocketChannelReceiver(this.accept());
+			
+			receiver.addDataListeners(new QueueListener(received));
+			
+			clients.add(client);
+			readers.add(this.selectorDataReader.register(receiver));
+		}
+		
+		assertEquals(CONNECTIONS, this.selectorDataReader.getConnectionCount());
+		
+		for(int i = 0; i < CONNECTIONS; i++)
+		{
+			write(clients.get(i), "client " + i);
+		}
+		
+		List<String> messages = new ArrayList<>();
+		
+		while(messages.size() < CONNECTIONS)
+		{
+			String message = received.poll(10, TimeUnit.SECONDS);
+			
+			assertTrue(message != null);
+			
+			messages.add(message);
+		}
+		
+		for(int i = 0; i < CONNECTIONS; i++)
+		{
+			assertTrue(messages.contains("client " + i), messages.toString());
+			assertEquals(8, readers.get(i).getBytesRead());
+			assertArrayEquals(("client " + i).getBytes(StandardCharsets.US_ASCII), readers.get(i).getBuffer().getData());
+		}
+	}
+	
+	@Test
+	void testLifeCycle() throws Exception
+	{
+		BlockingQueue<String> received = new LinkedBlockingQueue<>();
+		SocketChannel client = this.connect();
+		SocketChannelReceiver receiver = new SocketChannelReceiver(this.accept());
+		
+		receiver.addDataListeners(new QueueListener(received));
+		
+		ChannelReader reader = this.selectorDataReader.register(receiver);
+		
+		reader.pauseReading();
+		
+		assertFalse(reader.isReading());
+		
+		write(client, "paused");
+		
+		assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+		
+		reader.startReading();
+		
+		assertEquals("paused", received.poll(10, TimeUnit.SECONDS));
+		assertTrue(reader.isReading());
+		
+		client.close();
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		
+		while((!reader.isReadingComplete() || !receiver.getConnectionEventListeners().isEmpty()) && System.nanoTime() < deadline)
+		{
+			Thread.sleep(5);
+		}
+		
+		assertTrue(reader.isReadingComplete());
+		assertTrue(receiver.getConnectionEventListeners().isEmpty());
+		assertFalse(receiver.isConnected() && receiver.getChannel().isOpen());
+		assertEquals(0, this.selectorDataReader.getConnectionCount());
+		assertNull(receiver.getReceivingError());
+	}
+	
+	@Test
+	void testInvalidRegistrations() throws Exception
+	{
+		assertThrows(NullPointerException.class, () -> this.selectorDataReader.register(null));
+		assertThrows(IllegalArgumentException.class, () -> new SelectorDataReader(0, 1, 1));
+		
+		SocketChannelReceiver receiver = new SocketChannelReceiver(SocketChannel.open());
+		
+		this.selectorDataReader.shutdown();
+		
+		assertThrows(RejectedExecutionException.class, () -> this.selectorDataReader.register(receiver));
+		
+		receiver.shutdown();
+	}
+	
+	private SocketChannel connect() throws IOException
+	{
+		SocketChannel client = SocketChannel.open(this.server.getLocalAddress());
+		
+		this.channels.add(client);
+		
+		return client;
+	}
+	
+	private SocketChannel accept() throws IOException
+	{
+		SocketChannel channel = this.server.accept();
+		
+		this.channels.add(channel);
+		
+		return channel;
+	}
+	
+	private static void write(SocketChannel channel, String message) throws IOException
+	{
+		ByteBuffer data = ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII));
+		
+		while(data.hasRemaining())
+		{
+			channel.write(data);
+		}
+	}
+	
+	private static class QueueListener implements DataListener
+	{
+		private final BlockingQueue<String> queue;
+		
+		private QueueListener(BlockingQueue<String> queue)
+		{
+			this.queue = queue;
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.queue.add(new String(data, StandardCharsets.US_ASCII));
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data) {}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable) {}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable) {}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+
+/**
+ * Reader that simulates a receiver returning data every poll delay, with the same
+ * naming and interruption behavior as {@link DefaultDataReader}.
+ */
+class SimulatedDataReader implements DataReader
+{
+	private final long pollDelayNanos;
+	private final AtomicLong reads;
+	private volatile boolean stopping = false;
+	private volatile boolean reading = false;
+	private volatile boolean readingComplete = false;
+	private volatile boolean shuttingDown = false;
+	private volatile String threadName;
+	
+	SimulatedDataReader(long pollDelayMS, AtomicLong reads)
+	{
+		this.pollDelayNanos = TimeUnit.MILLISECONDS.toNanos(pollDelayMS);
+		this.reads = reads;
+	}
+	
+	@Override
+	public void run()
+	{
+		Thread currentThread = Thread.currentThread();
+		
+		currentThread.setName(this.getClass().getSimpleName() + "_" + currentThread.getId());
+		
+		this.threadName = currentThread.getName();
+		this.reading = true;
+		
+		while(!this.stopping)
+		{
+			if(currentThread.isInterrupted())
+			{
+				this.shutdown();
+				
+				break;
+			}
+			
+			LockSupport.parkNanos(this.pollDelayNanos);
+			
+			this.reads.incrementAndGet();
+		}
+		
+		this.reading = false;
+		this.readingComplete = true;
+	}
+	
+	@Override
+	public void startReading()
+	{
+	}
+	
+	@Override
+	public void pauseReading()
+	{
+	}
+	
+	@Override
+	public void stopReading()
+	{
+		this.stopping = true;
+	}
+	
+	@Override
+	public SimulatedDataReader shutdown()
+	{
+		this.shuttingDown = true;
+		this.stopping = true;
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isReading()
+	{
+		return this.reading;
+	}
+	
+	@Override
+	public boolean isReadingComplete()
+	{
+		return this.readingComplete;
+	}
+	
+	String getThreadName()
+	{
+		return this.threadName;
+	}
+}
\ No newline at end of file
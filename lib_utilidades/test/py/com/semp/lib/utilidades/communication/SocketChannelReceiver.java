@@ -0,0 +1,237 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.io.IOException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import py.com.semp.lib.utilidades.communication.interfaces.ChannelDataReceiver;
+import py.com.semp.lib.utilidades.communication.interfaces.DataReader;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+
+/**
+ * Receiver over a connected {@link SocketChannel}, for the tests of multiplexed readers.
+ */
+class SocketChannelReceiver implements ChannelDataReceiver
+{
+	private final SocketChannel channel;
+	private final Set<DataListener> dataListeners = new CopyOnWriteArraySet<>();
+	private final Set<ConnectionEventListener> connectionEventListeners = new CopyOnWriteArraySet<>();
+	private volatile Throwable receivingError;
+	private volatile boolean shuttingDown = false;
+	
+	SocketChannelReceiver(SocketChannel channel)
+	{
+		this.channel = channel;
+	}
+	
+	@Override
+	public SelectableChannel getChannel()
+	{
+		return this.channel;
+	}
+	
+	@Override
+	public SocketChannelReceiver addDataListeners(DataListener... listeners)
+	{
+		this.dataListeners.addAll(Set.of(listeners));
+		
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver removeDataListeners(DataListener... listeners)
+	{
+		this.dataListeners.removeAll(Set.of(listeners));
+		
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver removeAllDataListeners()
+	{
+		this.dataListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<DataListener> getDataListeners()
+	{
+		return this.dataListeners;
+	}
+	
+	@Override
+	public SocketChannelReceiver informOnReceivingError(Throwable throwable)
+	{
+		this.receivingError = throwable;
+		
+		return this;
+	}
+	
+	@Override
+	public DataReader getDataReader()
+	{
+		return null;
+	}
+	
+	@Override
+	public byte[] readData() throws CommunicationException
+	{
+		return new byte[0];
+	}
+	
+	@Override
+	public SocketChannelReceiver connect()
+	{
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver connect(ConfigurationValues configurationValues)
+	{
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver disconnect() throws CommunicationException
+	{
+		if(!this.channel.isOpen())
+		{
+			return this;
+		}
+		
+		try
+		{
+			this.channel.close();
+		}
+		catch(IOException e)
+		{
+			throw new CommunicationException(e);
+		}
+		
+		for(ConnectionEventListener listener : this.connectionEventListeners)
+		{
+			listener.onDisconnect(Instant.now(), this);
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver requestReconnect()
+	{
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver setConfigurationValues(ConfigurationValues configurationValues)
+	{
+		return this;
+	}
+	
+	@Override
+	public ConfigurationValues getConfigurationValues()
+	{
+		return null;
+	}
+	
+	@Override
+	public SocketChannelReceiver addConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		this.connectionEventListeners.addAll(Set.of(listeners));
+		
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver removeConnectionEventListeners(ConnectionEventListener... listeners)
+	{
+		this.connectionEventListeners.removeAll(Set.of(listeners));
+		
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver removeAllConnectionEventListeners()
+	{
+		this.connectionEventListeners.clear();
+		
+		return this;
+	}
+	
+	@Override
+	public Set<ConnectionEventListener> getConnectionEventListeners()
+	{
+		return this.connectionEventListeners;
+	}
+	
+	@Override
+	public SocketChannelReceiver informOnConnectError(Throwable e)
+	{
+		return this;
+	}
+	
+	@Override
+	public SocketChannelReceiver informOnDisconnectError(Throwable e)
+	{
+		return this;
+	}
+	
+	@Override
+	public String getStableStringIdentifier()
+	{
+		return this.getClass().getSimpleName();
+	}
+	
+	@Override
+	public String getDynamicStringIdentifier()
+	{
+		return this.getClass().getSimpleName() + "_" + this.channel;
+	}
+	
+	@Override
+	public SocketChannelReceiver shutdown()
+	{
+		this.shuttingDown = true;
+		
+		try
+		{
+			this.channel.close();
+		}
+		catch(IOException e)
+		{
+			this.receivingError = e;
+		}
+		
+		return this;
+	}
+	
+	@Override
+	public boolean isStopping()
+	{
+		return false;
+	}
+	
+	@Override
+	public boolean isShuttingDown()
+	{
+		return this.shuttingDown;
+	}
+	
+	@Override
+	public boolean isConnected()
+	{
+		return this.channel.isConnected();
+	}
+	
+	Throwable getReceivingError()
+	{
+		return this.receivingError;
+	}
+}
\ No newline at end of file
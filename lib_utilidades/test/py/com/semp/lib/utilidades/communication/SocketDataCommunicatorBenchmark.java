@@ -0,0 +1,158 @@
+package py.com.semp.lib.utilidades.communication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of sending messages through a {@link SocketDataCommunicator}, over TCP and a
+ * Unix-domain socket, with the throughput of a blocking {@link Socket} stream. A local server drains the
+ * data, and the throughput is measured until the server received everything. Not part of the test suite.
+ * <p>
+ * Arguments: total megabytes to send (default 512) and message size in bytes (default 1024).
+ * </p>
+ */
+public class SocketDataCommunicatorBenchmark
+{
+	public static void main(String[] args) throws Exception
+	{
+		long totalBytes = ((args.length > 0) ? Long.parseLong(args[0]) : 512) * 1024 * 1024;
+		int messageSize = (args.length > 1) ? Integer.parseInt(args[1]) : 1024;
+		long messages = totalBytes / messageSize;
+		byte[] message = new byte[messageSize];
+		ExecutorService executor = Executors.newCachedThreadPool();
+		
+		try(ServerSocketChannel server = ServerSocketChannel.open())
+		{
+			server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			
+			InetSocketAddress address = (InetSocketAddress)server.getLocalAddress();
+			
+			report("Blocking Socket (TCP)", messages * messageSize, measure(executor, server, messages * messageSize, () ->
+			{
+				try(Socket socket = new Socket(address.getAddress(), address.getPort()))
+				{
+					socket.setTcpNoDelay(true);
+					
+					OutputStream output = socket.getOutputStream();
+					
+					for(long i = 0; i < messages; i++)
+					{
+						output.write(message);
+					}
+					
+					output.flush();
+				}
+				
+				return null;
+			}));
+			
+			report("SocketDataCommunicator (TCP)", messages * messageSize, measure(executor, server, messages * messageSize, () ->
+			{
+				send(new SocketDataCommunicator(address), messages, message);
+				
+				return null;
+			}));
+		}
+		
+		Path directory = Files.createTempDirectory("benchmark");
+		Path path = directory.resolve("benchmark.socket");
+		
+		try(ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX))
+		{
+			SocketAddress address = UnixDomainSocketAddress.of(path);
+			
+			server.bind(address);
+			
+			report("SocketDataCommunicator (Unix-domain)", messages * messageSize, measure(executor, server, messages * messageSize, () ->
+			{
+				send(new SocketDataCommunicator(address), messages, message);
+				
+				return null;
+			}));
+		}
+		finally
+		{
+			Files.deleteIfExists(path);
+			Files.delete(directory);
+			executor.shutdown();
+		}
+	}
+	
+	private static void send(SocketDataCommunicator communicator, long messages, byte[] message) throws Exception
+	{
+		communicator.setTcpNoDelay(true);
+		communicator.connect();
+		
+		try
+		{
+			for(long i = 0; i < messages; i++)
+			{
+				communicator.sendData(message);
+			}
+		}
+		finally
+		{
+			communicator.shutdown();
+		}
+	}
+	
+	/**
+	 * Runs the client and drains the server until it receives the expected bytes.
+	 *
+	 * @return the elapsed nanoseconds
+	 */
+	private static long measure(ExecutorService executor, ServerSocketChannel server, long expectedBytes, Callable<Void> client) throws Exception
+	{
+		long start = System.nanoTime();
+		Future<Void> sender = executor.submit(client);
+		
+		try(SocketChannel accepted = server.accept())
+		{
+			ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+			long received = 0;
+			
+			while(received < expectedBytes)
+			{
+				buffer.clear();
+				
+				int count = accepted.read(buffer);
+				
+				if(count < 0)
+				{
+					throw new IOException("Closed after " + received + " bytes");
+				}
+				
+				received += count;
+			}
+		}
+		
+		long elapsed = System.nanoTime() - start;
+		
+		sender.get(1, TimeUnit.MINUTES);
+		
+		return elapsed;
+	}
+	
+	private static void report(String name, long bytes, long nanos)
+	{
+		double seconds = nanos / (double)TimeUnit.SECONDS.toNanos(1);
+		
+		System.out.printf("%s: %.1f MB/s%n", name, bytes / seconds / (1024 * 1024));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.ConnectionEventListener;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.communication.listeners.FrameListener;
+import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
+import py.com.semp.lib.utilidades.configuration.Values;
+import py.com.semp.lib.utilidades.data.DelimiterFrameDecoder;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.CommunicationTimeoutException;
+
+class SocketDataCommunicatorTest
+{
+	@Test
+	void testTcpFramesAndOptions() throws Exception
+	{
+		try(ServerSocketChannel server = ServerSocketChannel.open())
+		{
+			server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			
+			int port = ((InetSocketAddress)server.getLocalAddress()).getPort();
+			SocketDataCommunicator client = SocketDataCommunicator.tcp("localhost", port);
+			FrameCollector collector = new FrameCollector(3);
+			
+			client.getDataReader().setFrameDecoder(new DelimiterFrameDecoder("\n"));
+			client.getDataReader().addFrameListeners(collector);
+			client.setTcpNoDelay(true);
+			client.setKeepAlive(true);
+			client.setSendBufferSize(32 * 1024);
+			client.addDataListeners(collector);
+			
+			assertEquals(Boolean.TRUE, client.getOption(StandardSocketOptions.TCP_NODELAY));
+			
+			client.connect();
+			
+			try(SocketChannel accepted = server.accept())
+			{
+				assertTrue(client.getOption(StandardSocketOptions.TCP_NODELAY));
+				assertTrue(client.getOption(StandardSocketOptions.SO_KEEPALIVE));
+				
+				Thread reader = new Thread(client.getDataReader());
+				
+				reader.start();
+				
+				accepted.write(ByteBuffer.wrap("one\ntw".getBytes(StandardCharsets.UTF_8)));
+				Thread.sleep(20);
+				accepted.write(ByteBuffer.wrap("o\nthree\n".getBytes(StandardCharsets.UTF_8)));
+				
+				assertTrue(collector.latch.await(5, TimeUnit.SECONDS));
+				assertEquals(List.of("one\n", "two\n", "three\n"), collector.frames);
+				
+				client.sendData("ping".getBytes(StandardCharsets.UTF_8));
+				client.sendData(ByteBuffer.wrap(new byte[] {'-'}), ByteBuffer.allocateDirect(2).put(new byte[] {'o', 'k'}).flip());
+				
+				assertEquals("ping-ok", readString(accepted, 7));
+				assertEquals(7, client.getBytesWritten());
+				assertEquals(14, client.getBytesRead());
+				assertEquals(7, collector.sentBytes.get());
+				
+				client.disconnect();
+				reader.join(5000);
+				
+				assertTrue(client.getDataReader().isReadingComplete());
+				assertNull(client.getChannel());
+			}
+		}
+	}
+	
+	@Test
+	void testUnixDomainPeerClose() throws Exception
+	{
+		Path directory = Files.createTempDirectory("socket");
+		Path path = directory.resolve("test.socket");
+		
+		try(ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX))
+		{
+			server.bind(UnixDomainSocketAddress.of(path));
+			
+			SocketDataCommunicator client = SocketDataCommunicator.unixDomain(path);
+			CountingListener listener = new CountingListener();
+			
+			client.setTcpNoDelay(true);
+			client.setReceiveBufferSize(64 * 1024);
+			client.addConnectionEventListeners(listener);
+			client.connect();
+			
+			assertEquals(1, listener.connects);
+			
+			try(SocketChannel accepted = server.accept())
+			{
+				byte[] large = new byte[100_000];
+				
+				for(int i = 0; i < large.length; i++)
+				{
+					large[i] = (byte)i;
+				}
+				
+				Thread writer = new Thread(() ->
+				{
+					try
+					{
+						client.sendData(large);
+					}
+					catch(CommunicationException e)
+					{
+					}
+				});
+				
+				writer.start();
+				
+				ByteBuffer received = ByteBuffer.allocate(large.length);
+				
+				while(received.hasRemaining())
+				{
+					accepted.read(received);
+				}
+				
+				writer.join();
+				
+				assertArrayEquals(large, received.array());
+			}
+			
+			assertTrue(client.awaitData(TimeUnit.SECONDS.toNanos(5)));
+			assertThrows(CommunicationException.class, () -> client.readData(new byte[16], 0, 16));
+			assertFalse(client.isConnected());
+			assertEquals(1, listener.disconnects);
+		}
+		finally
+		{
+			Files.deleteIfExists(path);
+			Files.delete(directory);
+		}
+	}
+	
+	@Test
+	void testConnectRefused() throws IOException
+	{
+		int port;
+		
+		try(ServerSocketChannel server = ServerSocketChannel.open())
+		{
+			server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			
+			port = ((InetSocketAddress)server.getLocalAddress()).getPort();
+		}
+		
+		SocketDataCommunicator client = new SocketDataCommunicator(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+		CountingListener listener = new CountingListener();
+		
+		client.addConnectionEventListeners(listener);
+		
+		assertThrows(CommunicationException.class, client::connect);
+		assertEquals(1, listener.connectErrors);
+		assertFalse(client.isConnected());
+		assertThrows(CommunicationException.class, () -> client.sendData(new byte[] {1}));
+	}
+	
+	@Test
+	void testWriteTimeout() throws Exception
+	{
+		try(ServerSocketChannel server = ServerSocketChannel.open())
+		{
+			server.setOption(StandardSocketOptions.SO_RCVBUF, 4 * 1024);
+			server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			
+			SocketDataCommunicator client = new SocketDataCommunicator(server.getLocalAddress());
+			TestConfigurationValues configurationValues = new TestConfigurationValues();
+			
+			configurationValues.setParameter(Integer.class, Values.VariableNames.WRITE_TIMEOUT_MS, 100);
+			client.setSendBufferSize(4 * 1024);
+			client.connect(configurationValues);
+			
+			try(SocketChannel accepted = server.accept())
+			{
+				long start = System.nanoTime();
+				
+				assertThrows(CommunicationTimeoutException.class, () -> client.sendData(new byte[16 * 1024 * 1024]));
+				assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+				assertTrue(accepted.isConnected());
+			}
+			finally
+			{
+				client.shutdown();
+			}
+			
+			assertTrue(client.isShuttingDown());
+		}
+	}
+	
+	private static String readString(SocketChannel channel, int length) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		
+		while(buffer.hasRemaining())
+		{
+			channel.read(buffer);
+		}
+		
+		return new String(buffer.array(), StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Collects the lines decoded by the reader of the communicator and counts the bytes sent.
+	 */
+	private static class FrameCollector implements DataListener, FrameListener
+	{
+		private final List<String> frames = new CopyOnWriteArrayList<>();
+		private final CountDownLatch latch;
+		private final AtomicInteger sentBytes = new AtomicInteger();
+		
+		private FrameCollector(int expectedFrames)
+		{
+			this.latch = new CountDownLatch(expectedFrames);
+		}
+		
+		@Override
+		public void onFrameReceived(Instant instant, DataInterface dataInterface, byte[] frame)
+		{
+			this.frames.add(new String(frame, StandardCharsets.UTF_8));
+			this.latch.countDown();
+		}
+		
+		@Override
+		public void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.sentBytes.addAndGet(data.length);
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+	
+	private static class CountingListener implements ConnectionEventListener
+	{
+		private volatile int connects = 0;
+		private volatile int disconnects = 0;
+		private volatile int connectErrors = 0;
+		
+		@Override
+		public void onDisconnect(Instant instant, DataInterface dataInterface)
+		{
+			this.disconnects++;
+		}
+		
+		@Override
+		public void onConnect(Instant instant, DataInterface dataInterface)
+		{
+			this.connects++;
+		}
+		
+		@Override
+		public void onConnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+			this.connectErrors++;
+		}
+		
+		@Override
+		public void onDisconnectError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+	
+	private static class TestConfigurationValues extends ConfigurationValues
+	{
+		@Override
+		protected void setRequiredParameters()
+		{
+		}
+		
+		@Override
+		protected void setOptionalParameters()
+		{
+		}
+		
+		@Override
+		protected void setDefaultValues()
+		{
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package py.com.semp.lib.utilidades.communication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.communication.TrafficCapture.Direction;
+import py.com.semp.lib.utilidades.communication.interfaces.DataInterface;
+import py.com.semp.lib.utilidades.communication.listeners.DataListener;
+import py.com.semp.lib.utilidades.exceptions.CommunicationException;
+import py.com.semp.lib.utilidades.exceptions.ConnectionClosedException;
+
+class TrafficCaptureTest
+{
+	@Test
+	void testCaptureAndReplayFlatOut() throws Exception
+	{
+		Path path = Files.createTempFile("capture", ".bin");
+		TrafficCapture capture = new TrafficCapture(path, 64);
+		byte[] large = new byte[100];
+		
+		for(int i = 0; i < large.length; i++)
+		{
+			large[i] = (byte)i;
+		}
+		
+		capture.onDataReceived(Instant.now(), null, bytes("one"));
+		capture.onDataSent(Instant.now(), null, bytes("sent"));
+		capture.onDataReceived(Instant.now(), null, large);
+		capture.onDataReceived(Instant.now(), null, bytes("two"));
+		capture.shutdown();
+		
+		assertFalse(capture.record(Direction.RECEIVED, bytes("late")));
+		assertEquals(4, capture.getRecordCount());
+		assertEquals(110, capture.getCapturedBytes());
+		
+		TrafficReplay replay = new TrafficReplay(path, 32).setSpeed(TrafficReplay.FLAT_OUT);
+		
+		assertThrows(ConnectionClosedException.class, replay::readData);
+		
+		replay.connect();
+		
+		assertEquals("one", string(replay.readData()));
+		assertArrayEquals(large, replay.readData());
+		
+		byte[] destination = new byte[2];
+		
+		assertEquals(2, replay.readData(destination, 0, 2));
+		assertEquals("tw", string(destination));
+		assertEquals(1, replay.readData(destination, 0, 2));
+		assertEquals(0, replay.readData(destination, 0, 2));
+		assertTrue(replay.isFinished());
+		assertFalse(replay.isConnected());
+		assertEquals(3, replay.getReplayedRecords());
+		
+		replay.setDirection(null).connect();
+		
+		assertEquals("one", string(replay.readData()));
+		assertEquals("sent", string(replay.readData()));
+		
+		replay.shutdown();
+		
+		assertThrows(CommunicationException.class, replay::connect);
+		
+		Files.delete(path);
+	}
+	
+	@Test
+	void testReplayTimingThroughReader() throws Exception
+	{
+		Path path = Files.createTempFile("capture", ".bin");
+		TrafficCapture capture = new TrafficCapture(path);
+		
+		for(int i = 0; i < 3; i++)
+		{
+			capture.record(Direction.RECEIVED, bytes(i + ";"));
+			
+			Thread.sleep(50);
+		}
+		
+		capture.shutdown();
+		
+		long originalNanos = replay(path, TrafficReplay.ORIGINAL_SPEED);
+		long fasterNanos = replay(path, 10);
+		
+		assertTrue(originalNanos >= TimeUnit.MILLISECONDS.toNanos(90), Long.toString(originalNanos));
+		assertTrue(fasterNanos < originalNanos, fasterNanos + " " + originalNanos);
+		
+		Files.delete(path);
+	}
+	
+	@Test
+	void testInvalidCapture() throws IOException
+	{
+		Path path = Files.createTempFile("capture", ".bin");
+		
+		Files.write(path, bytes("not a capture file"));
+		
+		assertThrows(IOException.class, () -> new TrafficReplay(path));
+		
+		Files.delete(path);
+	}
+	
+	/**
+	 * Plays back a capture through the reader of the replay, until the capture ends.
+	 *
+	 * @return
+	 * - the time taken, in nanoseconds.
+	 */
+	private static long replay(Path path, double speed) throws Exception
+	{
+		TrafficReplay replay = new TrafficReplay(path).setSpeed(speed);
+		CollectingListener listener = new CollectingListener();
+		DefaultDataReader<TrafficReplay> reader = replay.getDataReader();
+		
+		replay.addDataListeners(listener);
+		
+		long start = System.nanoTime();
+		
+		replay.connect();
+		
+		Thread thread = new Thread(reader);
+		
+		thread.start();
+		thread.join(5000);
+		
+		long elapsed = System.nanoTime() - start;
+		
+		assertTrue(reader.isReadingComplete());
+		assertEquals("0;1;2;", listener.received.toString(StandardCharsets.UTF_8));
+		
+		replay.shutdown();
+		
+		return elapsed;
+	}
+	
+	private static byte[] bytes(String string)
+	{
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private static String string(byte[] bytes)
+	{
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	private static class CollectingListener implements DataListener
+	{
+		private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+		
+		@Override
+		public void onDataSent(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+		}
+		
+		@Override
+		public synchronized void onDataReceived(Instant instant, DataInterface dataInterface, byte[] data)
+		{
+			this.received.writeBytes(data);
+		}
+		
+		@Override
+		public void onSendingError(Instant instant, DataInterface dataInterface, byte[] data, Throwable throwable)
+		{
+		}
+		
+		@Override
+		public void onReceivingError(Instant instant, DataInterface dataInterface, Throwable throwable)
+		{
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+package py.com.semp.lib.utilidades.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import py.com.semp.lib.utilidades.test.TestUtils;
+
+public class ChunkedByteBufferTest
+{
+	private static final int CHUNK_SIZE = 3;
+	
+	@Test
+	public void testAddAndGetAcrossChunks()
+	{
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(4);
+		
+		buffer.add((byte)0);
+		buffer.add(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+		buffer.add(new byte[]{10, 11, 12, 13}, 1, 2);
+		
+		assertEquals(12, buffer.getDataSize());
+		assertEquals(3, buffer.getChunkCount());
+		assertEquals(7, buffer.get(7));
+		assertArrayEquals(new byte[]{3, 4, 5, 6, 7, 8, 9, 11}, buffer.getData(3, 10));
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(12));
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.getData(5, 12));
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.add(new byte[]{1}, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ChunkedByteBuffer(0));
+	}
+	
+	@Test
+	public void testConsumedChunksAreReleased()
+	{
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(4);
+		byte[] data = new byte[]{'a', 'b', 'c', '\n'};
+		
+		for(int i = 0; i < 1000; i++)
+		{
+			buffer.add(data);
+			buffer.add(data, 0, 2);
+			
+			assertEquals(1, buffer.extractAll("\n").size());
+			assertTrue(buffer.getChunkCount() <= 2);
+		}
+		
+		assertEquals(2, buffer.getDataSize());
+		assertEquals('a', buffer.removeFirst());
+		
+		buffer.trimStart(buffer.getDataSize());
+		
+		assertTrue(buffer.isEmpty());
+		assertEquals(0, buffer.getChunkCount());
+		assertEquals(1500, buffer.getReleasedChunkCount());
+	}
+	
+	@Test
+	public void testIterator()
+	{
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(2);
+		
+		buffer.add(new byte[]{9, 0, 1, 2, 3, 4});
+		buffer.trimStart(1);
+		
+		ChunkedByteBufferIterator iterator = buffer.iterator();
+		
+		for(int i = 0; i < 5; i++)
+		{
+			assertTrue(iterator.hasNext());
+			assertEquals(i, iterator.nextByte());
+		}
+		
+		assertFalse(iterator.hasNext());
+		assertTrue(iterator.patternFound(new byte[]{2, 3, 4}));
+		assertFalse(iterator.patternFound(new byte[]{9, 0, 1, 2, 3, 4}));
+		
+		assertEquals(3, iterator.previousByte());
+		assertEquals(2, iterator.previousByte());
+		
+		iterator.rewind(2);
+		
+		assertEquals(0, iterator.current());
+		assertFalse(iterator.hasPrevious());
+		
+		iterator.forward(3);
+		
+		assertEquals(3, iterator.getIndex());
+		assertTrue(iterator.patternFound(new byte[]{1, 2, 3}));
+		assertTrue(iterator.hasNext(1));
+		assertFalse(iterator.hasNext(2));
+	}
+	
+	@ParameterizedTest
+	@MethodSource("readExtractAll1HData")
+	public void testExtractAll1H(ExtractDto testDTO)
+	{
+		ChunkedByteBuffer buffer = this.createBuffer(testDTO);
+		
+		List<byte[]> extracted = buffer.extractAll(testDTO.getEndHeader());
+		
+		this.assertExtraction(testDTO, extracted, buffer);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("readExtractOne1HData")
+	public void testExtractOne1H(ExtractDto testDTO)
+	{
+		ChunkedByteBuffer buffer = this.createBuffer(testDTO);
+		
+		byte[] extracted = buffer.extractOne(testDTO.getEndHeader());
+		
+		this.assertExtraction(testDTO, List.of(extracted), buffer);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("readExtractAll2HData")
+	public void testExtractAll2H(ExtractDto testDTO)
+	{
+		ChunkedByteBuffer buffer = this.createBuffer(testDTO);
+		
+		List<byte[]> extracted = buffer.extractAll(testDTO.getStartHeader(), testDTO.getEndHeader());
+		
+		this.assertExtraction(testDTO, extracted, buffer);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("readExtractOne2HData")
+	public void testExtractOne2H(ExtractDto testDTO)
+	{
+		ChunkedByteBuffer buffer = this.createBuffer(testDTO);
+		
+		byte[] extracted = buffer.extractOne(testDTO.getStartHeader(), testDTO.getEndHeader());
+		
+		this.assertExtraction(testDTO, List.of(extracted), buffer);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("readExtractOne2HExtraAfterData")
+	public void testExtractOne2HExtraAfter(ExtractDto testDTO)
+	{
+		ChunkedByteBuffer buffer = this.createBuffer(testDTO);
+		
+		byte[] extracted = buffer.extractOne(testDTO.getStartHeader(), testDTO.getEndHeader(), testDTO.getExtraBytesAfter());
+		
+		this.assertExtraction(testDTO, List.of(extracted), buffer);
+	}
+	
+	private ChunkedByteBuffer createBuffer(ExtractDto testDTO)
+	{
+		ChunkedByteBuffer buffer = new ChunkedByteBuffer(CHUNK_SIZE);
+		
+		buffer.add(testDTO.getInput().getBytes(StandardCharsets.UTF_8));
+		
+		return buffer;
+	}
+	
+	private void assertExtraction(ExtractDto testDTO, List<byte[]> extracted, ChunkedByteBuffer buffer)
+	{
+		String[] expectedOutput = testDTO.getExpectedOutput();
+		
+		assertEquals(expectedOutput.length, extracted.size(), testDTO.toString());
+		
+		for(int i = 0; i < expectedOutput.length; i++)
+		{
+			String actual = new String(extracted.get(i), StandardCharsets.UTF_8);
+			
+			assertEquals(expectedOutput[i], actual, testDTO.toString());
+		}
+		
+		String remaining = new String(buffer.getData(), StandardCharsets.UTF_8);
+		
+		assertEquals(testDTO.getExpectedRemainingData(), remaining, testDTO.toString());
+	}
+	
+	private static Stream<Arguments> readExtractAll1HData() throws Exception
+	{
+		return readExtractData("extract_all_1h.json");
+	}
+	
+	private static Stream<Arguments> readExtractOne1HData() throws Exception
+	{
+		return readExtractData("extract_one_1h.json");
+	}
+	
+	private static Stream<Arguments> readExtractAll2HData() throws Exception
+	{
+		return readExtractData("extract_all_2h.json");
+	}
+	
+	private static Stream<Arguments> readExtractOne2HData() throws Exception
+	{
+		return readExtractData("extract_one_2h.json");
+	}
+	
+	private static Stream<Arguments> readExtractOne2HExtraAfterData() throws Exception
+	{
+		return readExtractData("extract_one_2h_extra_after.json");
+	}
+	
+	private static Stream<Arguments> readExtractData(String fileName) throws Exception
+	{
+		TypeReference<List<ExtractDto>> typeReference = new TypeReference<>(){};
+		
+		return TestUtils.streamArgumentsFromFiles(typeReference, CircularByteBufferTest.DATA_DIRECTORY, new String[]{fileName});
+	}
+}
\ No newline at end of file
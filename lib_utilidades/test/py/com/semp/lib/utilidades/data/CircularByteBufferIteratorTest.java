@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteOrder;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -1262,6 +1264,140 @@ public class CircularByteBufferIteratorTest
 		assertEquals("[(00), 00, 01, 02, 03, 04, 05, 06, {07}]", list.stateToString());
 	}
 	
+	@Test
+	public void testPatternFound()
+	{
+		byte[] pattern = new byte[]{8, 0};
+		
+		this.iterator.goNext();
+		assertFalse(this.iterator.patternFound(pattern));
+		
+		this.iterator.goNext();
+		this.iterator.goNext();
+		assertFalse(this.iterator.patternFound(pattern));
+		
+		this.iterator.goNext();
+		assertTrue(this.iterator.patternFound(pattern));
+		assertTrue(this.iterator.patternFound(new byte[]{}));
+		
+		this.iterator.goNext();
+		assertFalse(this.iterator.patternFound(pattern));
+		
+		this.iterator.rewind(1);
+		assertTrue(this.iterator.patternFound(pattern));
+		
+		byte[] modifiedPattern = new byte[]{0, 1};
+		
+		this.iterator.next();
+		assertTrue(this.iterator.patternFound(modifiedPattern));
+		
+		this.iterator.set((byte)9);
+		assertFalse(this.iterator.patternFound(modifiedPattern));
+		assertTrue(this.iterator.patternFound(new byte[]{0, 9}));
+	}
+	
+	@Test
+	public void testPatternFoundMatchesDirectComparison()
+	{
+		Random random = new Random(26);
+		
+		for(int round = 0; round < 200; round++)
+		{
+			CircularByteBuffer buffer = new CircularByteBuffer(5 + random.nextInt(20));
+			int length = random.nextInt(buffer.getBufferCapacity() * 2);
+			
+			for(int i = 0; i < length; i++)
+			{
+				buffer.add((byte)random.nextInt(3));
+			}
+			
+			byte[] data = buffer.getData();
+			byte[][] patterns = new byte[6][];
+			
+			for(int i = 0; i < patterns.length; i++)
+			{
+				patterns[i] = new byte[1 + random.nextInt(4)];
+				
+				for(int j = 0; j < patterns[i].length; j++)
+				{
+					patterns[i][j] = (byte)random.nextInt(3);
+				}
+			}
+			
+			CircularByteBufferIterator iterator = buffer.iterator();
+			
+			for(int step = 0; step < data.length * 2; step++)
+			{
+				if(random.nextInt(10) == 0 && data.length > 0)
+				{
+					iterator.goTo(random.nextInt(data.length));
+				}
+				else if(iterator.hasNext())
+				{
+					iterator.goNext();
+				}
+				else
+				{
+					iterator.reset();
+				}
+				
+				int index = iterator.getIndex();
+				
+				for(byte[] pattern : patterns)
+				{
+					boolean expected = index >= pattern.length - 1 && this.endsWith(data, index, pattern);
+					
+					assertEquals(expected, iterator.patternFound(pattern));
+				}
+			}
+		}
+	}
+	
+	private boolean endsWith(byte[] data, int index, byte[] pattern)
+	{
+		for(int i = 0; i < pattern.length; i++)
+		{
+			if(data[index - pattern.length + 1 + i] != pattern[i])
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	@Test
+	public void testNextPrimitives()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(16);
+		
+		buffer.add(new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+		buffer.trimStart(9);
+		
+		buffer.add(new byte[]{0x12, 0x34, 0x01, 0x00, 0x00, 0x00, (byte)0x96, 0x01, 0x03});
+		buffer.trimStart(1);
+		
+		assertTrue(buffer.isWrapped());
+		
+		CircularByteBufferIterator iterator = buffer.iterator();
+		
+		assertEquals(0x1234, iterator.nextShort());
+		assertEquals(1, iterator.nextInt(ByteOrder.LITTLE_ENDIAN));
+		assertEquals(5, iterator.getIndex());
+		assertEquals(150, iterator.nextVarInt());
+		assertEquals(-2, iterator.nextZigZagInt());
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, () -> iterator.nextByte());
+		
+		iterator.reset();
+		iterator.nextByte();
+		
+		assertEquals(0x34010000, iterator.nextInt());
+		assertEquals(0x00, iterator.previousByte());
+		assertEquals(0x00009601, iterator.nextInt());
+		assertThrows(NoSuchElementException.class, () -> iterator.nextLong());
+	}
+	
 	@Test
 	void testToString()
 	{
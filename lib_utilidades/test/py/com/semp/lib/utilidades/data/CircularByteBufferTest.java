@@ -6,12 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
 import java.util.function.IntPredicate;
 import java.util.stream.Stream;
@@ -238,6 +241,19 @@ public class CircularByteBufferTest
 	    assertThrows(IndexOutOfBoundsException.class, () -> buffer.getData(2, 0));
 	}
 	
+	@Test
+	public void testGetDataAfterTrimStart()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(8);
+		
+		buffer.add(new byte[]{1, 2, 3, 4, 5, 6});
+		buffer.trimStart(4);
+		buffer.add(new byte[]{7, 8, 9, 10});
+		
+		assertArrayEquals(new byte[]{6, 7, 8}, buffer.getData(1, 3));
+		assertArrayEquals(new byte[]{10}, buffer.getData(5, 5));
+	}
+	
 	@Test
 	@SuppressWarnings("unlikely-arg-type")
 	public void testEquals()
@@ -612,6 +628,252 @@ public class CircularByteBufferTest
 		assertArrayEquals(expected5, extracted5);
 	}
 	
+	@Test
+	public void testLinearizeWrapped()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+		
+		buffer.start = 7;
+		buffer.end = 2;
+		
+		assertTrue(buffer.isWrapped());
+		
+		buffer.linearize();
+		
+		assertFalse(buffer.isWrapped());
+		assertEquals(0, buffer.start);
+		assertEquals(5, buffer.end);
+		assertArrayEquals(new byte[]{7, 8, 9, 0, 1, 2}, buffer.getData());
+		assertEquals(1, buffer.getLinearizationCount());
+		
+		buffer.linearize();
+		
+		assertEquals(1, buffer.getLinearizationCount());
+		
+		buffer.add(new byte[]{10, 11, 12, 13, 14, 15});
+		
+		assertArrayEquals(new byte[]{9, 0, 1, 2, 10, 11, 12, 13, 14, 15}, buffer.getData());
+	}
+	
+	@Test
+	public void testContiguousView()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(8);
+		
+		assertEquals(0, buffer.contiguousView().remaining());
+		
+		buffer.add(new byte[]{1, 2, 3, 4, 5, 6});
+		buffer.removeFirst();
+		buffer.removeFirst();
+		
+		ByteBuffer view = buffer.contiguousView();
+		
+		assertEquals(0, buffer.getLinearizationCount());
+		assertEquals(4, view.remaining());
+		assertEquals(2, view.arrayOffset());
+		assertEquals(3, view.get(0));
+		
+		buffer.add(new byte[]{7, 8, 9});
+		
+		assertTrue(buffer.isWrapped());
+		
+		view = buffer.contiguousView();
+		
+		byte[] data = new byte[view.remaining()];
+		view.get(data);
+		
+		assertEquals(1, buffer.getLinearizationCount());
+		assertEquals(0, view.arrayOffset());
+		assertArrayEquals(new byte[]{3, 4, 5, 6, 7, 8, 9}, data);
+		assertArrayEquals(data, buffer.getData());
+	}
+	
+	@Test
+	public void testToStringLimitAndDump() throws Exception
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(4);
+		
+		assertEquals("[]", buffer.toString());
+		assertEquals("[]", buffer.toString(2));
+		
+		buffer.add(new byte[]{0x41, 0x42, 0x43, 0x44});
+		buffer.removeFirst();
+		buffer.removeFirst();
+		buffer.add(new byte[]{0x45, 0x46});
+		
+		assertEquals("[43, 44, 45, 46]", buffer.toString());
+		assertEquals("[43, 44, ...]", buffer.toString(2));
+		assertEquals("[45, {46}, (43), 44]", buffer.stateToString());
+		
+		StringBuilder sb = new StringBuilder();
+		
+		buffer.dump(sb, 3);
+		
+		assertEquals("00000000  43 44 45                                          |CDE|\n...\n", sb.toString());
+	}
+	
+	@Test
+	public void testEqualsAndHashCodeAcrossLayouts()
+	{
+		CircularByteBuffer linear = new CircularByteBuffer(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+		CircularByteBuffer wrapped = new CircularByteBuffer(new byte[]{5, 6, 7, 8, 9, 0, 0, 0, 0, 1, 2, 3, 4});
+		
+		linear.start = 0;
+		linear.end = 9;
+		wrapped.start = 8;
+		wrapped.end = 4;
+		
+		assertArrayEquals(linear.getData(), wrapped.getData());
+		assertTrue(linear.equals(wrapped));
+		assertTrue(wrapped.equals(linear));
+		assertEquals(0, linear.compareTo(wrapped));
+		assertEquals(Arrays.hashCode(linear.getData()), linear.hashCode());
+		assertEquals(linear.hashCode(), wrapped.hashCode());
+		
+		wrapped.set(9, (byte)10);
+		
+		assertFalse(linear.equals(wrapped));
+		assertEquals(Arrays.hashCode(wrapped.getData()), wrapped.hashCode());
+		assertTrue(linear.compareTo(wrapped) < 0);
+		
+		wrapped.add((byte)11);
+		
+		assertEquals(Arrays.hashCode(wrapped.getData()), wrapped.hashCode());
+		
+		CircularByteBufferIterator iterator = wrapped.iterator();
+		iterator.next();
+		iterator.set((byte)-1);
+		
+		assertEquals(Arrays.hashCode(wrapped.getData()), wrapped.hashCode());
+		assertTrue(wrapped.compareTo(linear) < 0);
+		
+		wrapped.removeFirst();
+		
+		assertEquals(Arrays.hashCode(wrapped.getData()), wrapped.hashCode());
+		assertEquals(1, new CircularByteBuffer(4).hashCode());
+	}
+	
+	@Test
+	public void testCompareToMatchesArraysCompare()
+	{
+		Random random = new Random(32);
+		
+		for(int i = 0; i < 500; i++)
+		{
+			CircularByteBuffer buffer1 = this.randomBuffer(random);
+			CircularByteBuffer buffer2 = this.randomBuffer(random);
+			
+			byte[] data1 = buffer1.getData();
+			byte[] data2 = buffer2.getData();
+			
+			assertEquals(Integer.signum(Arrays.compare(data1, data2)), Integer.signum(buffer1.compareTo(buffer2)));
+			assertEquals(Arrays.equals(data1, data2), buffer1.equals(buffer2));
+			assertEquals(Arrays.hashCode(data1), buffer1.hashCode());
+		}
+	}
+	
+	private CircularByteBuffer randomBuffer(Random random)
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(1 + random.nextInt(12));
+		
+		int count = random.nextInt(20);
+		
+		for(int i = 0; i < count; i++)
+		{
+			buffer.add((byte)random.nextInt(3));
+		}
+		
+		return buffer;
+	}
+	
+	@Test
+	public void testPeekPrimitives()
+	{
+		byte[] byteArray = new byte[16];
+		
+		for(int i = 0; i < byteArray.length; i++)
+		{
+			byteArray[i] = (byte)(i * 17 + 3);
+		}
+		
+		CircularByteBuffer buffer = new CircularByteBuffer(byteArray);
+		
+		buffer.start = 12;
+		buffer.end = 11;
+		
+		ByteBuffer[] expected = new ByteBuffer[]
+		{
+			ByteBuffer.wrap(buffer.getData()).order(ByteOrder.BIG_ENDIAN),
+			ByteBuffer.wrap(buffer.getData()).order(ByteOrder.LITTLE_ENDIAN)
+		};
+		
+		for(ByteBuffer byteBuffer : expected)
+		{
+			ByteOrder byteOrder = byteBuffer.order();
+			
+			for(int offset = 0; offset < 16; offset++)
+			{
+				assertEquals(byteBuffer.get(offset), buffer.peekByte(offset));
+				
+				if(offset <= 14)
+				{
+					assertEquals(byteBuffer.getShort(offset), buffer.peekShort(offset, byteOrder));
+				}
+				
+				if(offset <= 12)
+				{
+					assertEquals(byteBuffer.getInt(offset), buffer.peekInt(offset, byteOrder));
+					assertEquals(byteBuffer.getFloat(offset), buffer.peekFloat(offset, byteOrder));
+				}
+				
+				if(offset <= 8)
+				{
+					assertEquals(byteBuffer.getLong(offset), buffer.peekLong(offset, byteOrder));
+					assertEquals(byteBuffer.getDouble(offset), buffer.peekDouble(offset, byteOrder));
+				}
+			}
+		}
+		
+		assertEquals(expected[0].getInt(2), buffer.peekInt(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.peekInt(13));
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.peekByte(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> new CircularByteBuffer(4).peekByte(0));
+	}
+	
+	@Test
+	public void testPeekVarInt()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(8);
+		
+		buffer.add(new byte[]{0, 0, 0, 0, 0});
+		buffer.trimStart(4);
+		
+		// 300 = 0xAC 0x02, zigzag(-2) = 3, zigzag(-1) = 1
+		buffer.add(new byte[]{(byte)0xAC, 0x02, 0x03, 0x01});
+		buffer.trimStart(1);
+		
+		assertTrue(buffer.isWrapped());
+		
+		assertEquals(300, buffer.peekVarInt(0));
+		assertEquals(300L, buffer.peekVarLong(0));
+		assertEquals(2, buffer.peekVarLength(0));
+		assertEquals(-2, buffer.peekZigZagInt(2));
+		assertEquals(-1L, buffer.peekZigZagLong(3));
+		
+		buffer.add((byte)0x80);
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.peekVarInt(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.peekVarLength(4));
+		
+		CircularByteBuffer malformed = new CircularByteBuffer(12);
+		
+		malformed.add(new byte[]{(byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, (byte)0x80, 1});
+		
+		assertThrows(IllegalStateException.class, () -> malformed.peekVarLong(0));
+		assertThrows(IllegalStateException.class, () -> malformed.peekVarInt(0));
+		assertThrows(IllegalStateException.class, () -> malformed.peekVarLength(0));
+	}
+	
 	//************************************ Parameterized Test ************************************//
 	
 	@ParameterizedTest
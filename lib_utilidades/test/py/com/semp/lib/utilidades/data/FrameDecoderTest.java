@@ -0,0 +1,136 @@
+package py.com.semp.lib.utilidades.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.exceptions.FrameTooLargeException;
+
+public class FrameDecoderTest
+{
+	@Test
+	public void testDelimiterSplitAcrossChunks()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(10);
+		DelimiterFrameDecoder decoder = new DelimiterFrameDecoder(this.bytes("\r\n"), true, DelimiterFrameDecoder.UNLIMITED);
+		
+		buffer.add(this.bytes("abc\r"));
+		assertNull(decoder.decode(buffer));
+		
+		buffer.add(this.bytes("\n\r\nde"));
+		assertEquals("abc", this.string(decoder.decode(buffer)));
+		assertEquals("", this.string(decoder.decode(buffer)));
+		assertNull(decoder.decode(buffer));
+		
+		buffer.add(this.bytes("fg\r\n"));
+		assertEquals("defg", this.string(decoder.decode(buffer)));
+		assertTrue(buffer.isEmpty());
+	}
+	
+	@Test
+	public void testDelimiterKeptAndMaxLength()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(32);
+		DelimiterFrameDecoder decoder = new DelimiterFrameDecoder(this.bytes(";"), false, 4);
+		
+		buffer.add(this.bytes("ab;toolong"));
+		
+		assertEquals("ab;", this.string(decoder.decode(buffer)));
+		assertThrows(IllegalStateException.class, () -> decoder.decode(buffer));
+		
+		buffer.clear();
+		decoder.reset();
+		buffer.add(this.bytes("x;"));
+		
+		assertEquals("x;", this.string(decoder.decode(buffer)));
+		assertThrows(IllegalArgumentException.class, () -> new DelimiterFrameDecoder(new byte[0], false, 0));
+		assertThrows(NullPointerException.class, () -> new DelimiterFrameDecoder((byte[])null, false, 0));
+	}
+	
+	@Test
+	public void testLengthPrefix()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(16);
+		LengthPrefixFrameDecoder decoder = new LengthPrefixFrameDecoder(2);
+		
+		buffer.add(new byte[] {0});
+		assertNull(decoder.decode(buffer));
+		
+		buffer.add(new byte[] {3, 1, 2});
+		assertNull(decoder.decode(buffer));
+		
+		buffer.add(new byte[] {3, 0, 0, 0, 2, 9});
+		assertArrayEquals(new byte[] {1, 2, 3}, decoder.decode(buffer));
+		assertArrayEquals(new byte[0], decoder.decode(buffer));
+		assertNull(decoder.decode(buffer));
+		assertEquals(3, buffer.getDataSize());
+		
+		buffer.add(new byte[] {8});
+		assertArrayEquals(new byte[] {9, 8}, decoder.decode(buffer));
+		assertTrue(buffer.isEmpty());
+	}
+	
+	@Test
+	public void testLengthPrefixLittleEndianWithHeader()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(16);
+		LengthPrefixFrameDecoder decoder = new LengthPrefixFrameDecoder(4, ByteOrder.LITTLE_ENDIAN, false, 8);
+		
+		buffer.add(new byte[] {2, 0, 0, 0, 7, 8});
+		assertArrayEquals(new byte[] {2, 0, 0, 0, 7, 8}, decoder.decode(buffer));
+		
+		buffer.add(new byte[] {9, 0, 0, 0});
+		assertThrows(IllegalStateException.class, () -> decoder.decode(buffer));
+		
+		buffer.clear();
+		buffer.add(new byte[] {(byte)0xFF, 1});
+		assertThrows(IllegalStateException.class, () -> new LengthPrefixFrameDecoder(1, null, true, 100).decode(buffer));
+		assertThrows(IllegalArgumentException.class, () -> new LengthPrefixFrameDecoder(3));
+	}
+	
+	@Test
+	public void testFramesTooLargeAreRemoved()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(8);
+		LengthPrefixFrameDecoder lengthDecoder = new LengthPrefixFrameDecoder(1);
+		
+		buffer.add(new byte[] {20, 1, 2});
+		
+		FrameTooLargeException exception = assertThrows(FrameTooLargeException.class, () -> lengthDecoder.decode(buffer));
+		
+		assertEquals(21, exception.getFrameLength());
+		assertEquals(18, exception.getRemainingLength());
+		assertTrue(buffer.isEmpty());
+		
+		DelimiterFrameDecoder delimiterDecoder = new DelimiterFrameDecoder(this.bytes(";"), false, 4);
+		
+		buffer.add(this.bytes("ab;c"));
+		assertEquals("ab;", this.string(delimiterDecoder.decode(buffer)));
+		assertNull(delimiterDecoder.decode(buffer));
+		
+		buffer.add(this.bytes("def;g;"));
+		exception = assertThrows(FrameTooLargeException.class, () -> delimiterDecoder.decode(buffer));
+		
+		assertEquals(5, exception.getFrameLength());
+		assertEquals(0, exception.getRemainingLength());
+		assertEquals("g;", this.string(delimiterDecoder.decode(buffer)));
+		assertTrue(buffer.isEmpty());
+	}
+	
+	private byte[] bytes(String string)
+	{
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private String string(byte[] bytes)
+	{
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package py.com.semp.lib.utilidades.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import py.com.semp.lib.utilidades.utilities.CachedNanoClock;
+
+public class IdleGapFramerTest
+{
+	private static final long GAP_NANOS = 4_000_000L;
+	
+	@Test
+	public void testFrameEmittedAfterGap()
+	{
+		AtomicLong clock = new AtomicLong(1_000L);
+		IdleGapFramer framer = new IdleGapFramer(new CircularByteBuffer(32), GAP_NANOS, clock::get);
+		
+		assertNull(framer.poll());
+		assertEquals(Long.MAX_VALUE, framer.getNanosUntilFlush());
+		
+		framer.append(new byte[]{1, 2, 3});
+		clock.addAndGet(GAP_NANOS - 1);
+		framer.append(new byte[]{4});
+		
+		assertTrue(framer.hasPendingData());
+		assertNull(framer.poll());
+		assertEquals(GAP_NANOS, framer.getNanosUntilFlush());
+		
+		clock.addAndGet(GAP_NANOS - 1);
+		
+		assertNull(framer.poll());
+		assertEquals(1, framer.getNanosUntilFlush());
+		
+		clock.incrementAndGet();
+		
+		assertArrayEquals(new byte[]{1, 2, 3, 4}, framer.poll());
+		assertFalse(framer.hasPendingData());
+		assertNull(framer.poll());
+		assertEquals(1, framer.getFrameCount());
+	}
+	
+	@Test
+	public void testAppendAfterGapCompletesFrame()
+	{
+		AtomicLong clock = new AtomicLong(1_000L);
+		IdleGapFramer framer = new IdleGapFramer(new CircularByteBuffer(32), GAP_NANOS, clock::get);
+		
+		framer.append(new byte[]{1, 2});
+		clock.addAndGet(GAP_NANOS);
+		framer.append(new byte[]{3});
+		clock.addAndGet(GAP_NANOS + 1);
+		framer.append(new byte[]{4, 5});
+		
+		assertTrue(framer.hasPendingData());
+		assertEquals(0, framer.getNanosUntilFlush());
+		assertArrayEquals(new byte[]{1, 2}, framer.poll());
+		assertArrayEquals(new byte[]{3}, framer.poll());
+		assertNull(framer.poll());
+		assertEquals(GAP_NANOS, framer.getNanosUntilFlush());
+		
+		clock.addAndGet(GAP_NANOS);
+		
+		assertArrayEquals(new byte[]{4, 5}, framer.poll());
+		assertFalse(framer.hasPendingData());
+		assertEquals(3, framer.getFrameCount());
+	}
+	
+	@Test
+	public void testFlushAndReset()
+	{
+		AtomicLong clock = new AtomicLong();
+		IdleGapFramer framer = new IdleGapFramer(new CircularByteBuffer(32), GAP_NANOS, clock::get);
+		
+		framer.append(new byte[]{});
+		assertNull(framer.flush());
+		
+		framer.append(new byte[]{5, 6});
+		assertArrayEquals(new byte[]{5, 6}, framer.flush());
+		
+		framer.append(new byte[]{9, 7, 8, 9}, 1, 2);
+		assertArrayEquals(new byte[]{7, 8}, framer.flush());
+		
+		framer.append(new byte[]{7});
+		framer.reset();
+		clock.addAndGet(GAP_NANOS);
+		
+		assertNull(framer.poll());
+		assertEquals(2, framer.getFrameCount());
+	}
+	
+	@Test
+	public void testCachedClock() throws InterruptedException
+	{
+		CachedNanoClock clock = new CachedNanoClock(TimeUnit.MILLISECONDS.toNanos(1));
+		
+		try
+		{
+			IdleGapFramer framer = new IdleGapFramer(new CircularByteBuffer(8), TimeUnit.MILLISECONDS.toNanos(5), clock);
+			
+			framer.append(new byte[]{1});
+			
+			assertNull(framer.poll());
+			
+			Thread.sleep(30);
+			
+			assertArrayEquals(new byte[]{1}, framer.poll());
+		}
+		finally
+		{
+			clock.stop();
+		}
+		
+		assertTrue(clock.isStopped());
+	}
+	
+	@Test
+	public void testCachedClockStopsWhenIdle() throws InterruptedException
+	{
+		CachedNanoClock clock = new CachedNanoClock(TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(20));
+		
+		try
+		{
+			assertFalse(clock.isTicking());
+			
+			long first = clock.nanoTime();
+			
+			assertTrue(clock.isTicking());
+			
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			
+			while(clock.isTicking() && System.nanoTime() < deadline)
+			{
+				Thread.sleep(5);
+			}
+			
+			assertFalse(clock.isTicking());
+			
+			Thread.sleep(5);
+			
+			assertTrue(clock.nanoTime() > first);
+			assertTrue(clock.isTicking());
+		}
+		finally
+		{
+			clock.stop();
+		}
+		
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		
+		while(clock.isTicking() && System.nanoTime() < deadline)
+		{
+			Thread.sleep(5);
+		}
+		
+		assertFalse(clock.isTicking());
+		
+		clock.nanoTime();
+		
+		assertFalse(clock.isTicking());
+	}
+	
+	@Test
+	public void testInvalidArguments()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(4);
+		
+		assertThrows(NullPointerException.class, () -> new IdleGapFramer(null, GAP_NANOS, System::nanoTime));
+		assertThrows(NullPointerException.class, () -> new IdleGapFramer(buffer, GAP_NANOS, null));
+		assertThrows(IllegalArgumentException.class, () -> new IdleGapFramer(buffer, 0, System::nanoTime));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package py.com.semp.lib.utilidades.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LineFramerTest
+{
+	@Test
+	public void testMixedTerminators()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(64);
+		LineFramer framer = new LineFramer(buffer);
+		
+		buffer.add(this.bytes("one\ntwo\r\nthree\rfour"));
+		
+		List<byte[]> lines = framer.extractAll();
+		
+		assertEquals(3, lines.size());
+		assertEquals("one\n", this.string(lines.get(0)));
+		assertEquals("two\r\n", this.string(lines.get(1)));
+		assertEquals("three\r", this.string(lines.get(2)));
+		assertEquals("four", this.string(buffer.getData()));
+	}
+	
+	@Test
+	public void testStripTerminators()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(64);
+		LineFramer framer = new LineFramer(buffer, true, LineFramer.UNLIMITED);
+		
+		buffer.add(this.bytes("one\n\r\ntwo\r\n"));
+		
+		List<byte[]> lines = framer.extractAll();
+		
+		assertEquals(3, lines.size());
+		assertEquals("one", this.string(lines.get(0)));
+		assertEquals("", this.string(lines.get(1)));
+		assertEquals("two", this.string(lines.get(2)));
+		assertTrue(buffer.isEmpty());
+		assertNull(framer.extractOne());
+	}
+	
+	@Test
+	public void testIncrementalScan()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(64);
+		LineFramer framer = new LineFramer(buffer, true, LineFramer.UNLIMITED);
+		
+		buffer.add(this.bytes("par"));
+		assertNull(framer.extractOne());
+		
+		buffer.add(this.bytes("tial"));
+		assertNull(framer.extractOne());
+		
+		buffer.add(this.bytes(" line\nnext"));
+		assertEquals("partial line", this.string(framer.extractOne()));
+		assertNull(framer.extractOne());
+		assertEquals("next", this.string(buffer.getData()));
+	}
+	
+	@Test
+	public void testCarriageReturnSplitFromLineFeed()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(64);
+		LineFramer framer = new LineFramer(buffer, true, LineFramer.UNLIMITED);
+		
+		buffer.add(this.bytes("first\r"));
+		assertEquals("first", this.string(framer.extractOne()));
+		
+		buffer.add(this.bytes("\nsecond\n"));
+		assertEquals("second", this.string(framer.extractOne()));
+		assertNull(framer.extractOne());
+		assertTrue(buffer.isEmpty());
+	}
+	
+	@Test
+	public void testWrappedBuffer()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(8);
+		LineFramer framer = new LineFramer(buffer, true, LineFramer.UNLIMITED);
+		
+		buffer.add(this.bytes("abcde\n"));
+		assertEquals("abcde", this.string(framer.extractOne()));
+		
+		buffer.add(this.bytes("fghij\r\n"));
+		assertEquals("fghij", this.string(framer.extractOne()));
+		assertTrue(buffer.isEmpty());
+	}
+	
+	@Test
+	public void testMaxLineLength()
+	{
+		CircularByteBuffer buffer = new CircularByteBuffer(64);
+		LineFramer framer = new LineFramer(buffer, true, 5);
+		
+		buffer.add(this.bytes("ok\ntoolong"));
+		
+		assertEquals("ok", this.string(framer.extractOne()));
+		assertNull(framer.extractOne());
+		assertTrue(framer.isDiscarding());
+		assertTrue(buffer.isEmpty());
+		assertEquals(7, framer.getDiscardedBytes());
+		
+		buffer.add(this.bytes("stilldiscarded\r\nvalid\n"));
+		
+		List<byte[]> lines = framer.extractAll();
+		
+		assertEquals(1, lines.size());
+		assertEquals("valid", this.string(lines.get(0)));
+		assertFalse(framer.isDiscarding());
+		assertEquals(1, framer.getDiscardedLines());
+		
+		buffer.add(this.bytes("123456\nabcd\n"));
+		
+		assertArrayEquals(this.bytes("abcd"), framer.extractOne());
+		assertEquals(2, framer.getDiscardedLines());
+	}
+	
+	@Test
+	public void testInvalidArguments()
+	{
+		assertThrows(NullPointerException.class, () -> new LineFramer(null));
+		assertThrows(IllegalArgumentException.class, () -> new LineFramer(new CircularByteBuffer(4), false, -1));
+	}
+	
+	private byte[] bytes(String string)
+	{
+		return string.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private String string(byte[] bytes)
+	{
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
\ No newline at end of file
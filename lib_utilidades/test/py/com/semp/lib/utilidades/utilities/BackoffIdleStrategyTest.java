@@ -0,0 +1,49 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BackoffIdleStrategyTest
+{
+	@Test
+	void testBackoffSequence()
+	{
+		BackoffIdleStrategy strategy = new BackoffIdleStrategy(2, 1, 1_000, 3_500);
+		
+		assertFalse(strategy.isParking());
+		
+		strategy.idle();
+		strategy.idle();
+		strategy.idle();
+		
+		assertTrue(strategy.isParking());
+		assertEquals(1_000, strategy.getParkNanos());
+		
+		strategy.idle();
+		assertEquals(2_000, strategy.getParkNanos());
+		
+		strategy.idle();
+		assertEquals(3_500, strategy.getParkNanos());
+		
+		strategy.idle(1);
+		assertEquals(3_500, strategy.getParkNanos());
+		
+		strategy.reset();
+		
+		assertFalse(strategy.isParking());
+		assertEquals(1_000, strategy.getParkNanos());
+	}
+	
+	@Test
+	void testInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new BackoffIdleStrategy(-1, 0, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new BackoffIdleStrategy(0, -1, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new BackoffIdleStrategy(0, 0, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new BackoffIdleStrategy(0, 0, 2, 1));
+	}
+}
\ No newline at end of file
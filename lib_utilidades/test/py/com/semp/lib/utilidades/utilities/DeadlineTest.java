@@ -0,0 +1,87 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest
+{
+	private HashedWheelTimer timer;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.timer.stop();
+	}
+	
+	@Test
+	void testExpiresOncePerArm() throws InterruptedException
+	{
+		AtomicInteger wakeUps = new AtomicInteger();
+		Deadline deadline = new Deadline(this.timer, wakeUps::incrementAndGet);
+		
+		assertFalse(deadline.isExpired());
+		assertTrue(deadline.arm(10, TimeUnit.MILLISECONDS));
+		assertTrue(deadline.isArmed());
+		
+		Thread.sleep(100);
+		
+		assertTrue(deadline.isExpired());
+		assertEquals(1, wakeUps.get());
+		
+		deadline.cancel();
+		
+		assertFalse(deadline.isExpired());
+		assertFalse(deadline.isArmed());
+		
+		Thread.sleep(30);
+		
+		assertEquals(1, wakeUps.get());
+	}
+	
+	@Test
+	void testCancelBeforeExpiration() throws InterruptedException
+	{
+		AtomicInteger wakeUps = new AtomicInteger();
+		Deadline deadline = new Deadline(this.timer, wakeUps::incrementAndGet);
+		
+		deadline.arm(20, TimeUnit.MILLISECONDS);
+		deadline.cancel();
+		
+		Thread.sleep(60);
+		
+		assertFalse(deadline.isExpired());
+		assertEquals(0, wakeUps.get());
+		assertEquals(0, this.timer.getPendingCount());
+	}
+	
+	@Test
+	void testRearmIgnoresPreviousArm() throws InterruptedException
+	{
+		Deadline deadline = new Deadline(this.timer, null);
+		
+		deadline.arm(5, TimeUnit.MILLISECONDS);
+		
+		Thread.sleep(50);
+		
+		assertTrue(deadline.isExpired());
+		assertTrue(deadline.arm(1, TimeUnit.MINUTES));
+		assertFalse(deadline.isExpired());
+		assertFalse(deadline.arm(-1, TimeUnit.MILLISECONDS));
+		assertFalse(deadline.isArmed());
+		assertEquals(0, this.timer.getPendingCount());
+	}
+}
\ No newline at end of file
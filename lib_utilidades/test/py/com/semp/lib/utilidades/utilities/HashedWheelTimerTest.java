@@ -0,0 +1,104 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedWheelTimerTest
+{
+	private HashedWheelTimer timer;
+	
+	@BeforeEach
+	void setUp()
+	{
+		this.timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8);
+	}
+	
+	@AfterEach
+	void tearDown()
+	{
+		this.timer.stop();
+	}
+	
+	@Test
+	void testExpiresAfterDelay() throws InterruptedException
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		
+		HashedWheelTimer.Timeout timeout = this.timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+		
+		assertTrue(latch.await(2, TimeUnit.SECONDS));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(19));
+		assertTrue(timeout.isExpired());
+		assertFalse(timeout.cancel());
+		assertEquals(0, this.timer.getPendingCount());
+	}
+	
+	@Test
+	void testMultipleRounds() throws InterruptedException
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		
+		this.timer.newTimeout(latch::countDown, 30, TimeUnit.MILLISECONDS);
+		
+		assertEquals(8, this.timer.getWheelSize());
+		assertTrue(latch.await(2, TimeUnit.SECONDS));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(29));
+	}
+	
+	@Test
+	void testCancel() throws InterruptedException
+	{
+		AtomicInteger runs = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(1);
+		
+		HashedWheelTimer.Timeout cancelled = this.timer.newTimeout(runs::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+		
+		assertEquals(1, this.timer.getPendingCount());
+		assertTrue(cancelled.cancel());
+		assertTrue(cancelled.isCancelled());
+		assertEquals(0, this.timer.getPendingCount());
+		
+		this.timer.newTimeout(latch::countDown, 30, TimeUnit.MILLISECONDS);
+		
+		assertTrue(latch.await(2, TimeUnit.SECONDS));
+		assertEquals(0, runs.get());
+	}
+	
+	@Test
+	void testManyTimeoutsAndFailingTask() throws InterruptedException
+	{
+		int count = 1000;
+		CountDownLatch latch = new CountDownLatch(count);
+		
+		this.timer.newTimeout(() -> { throw new IllegalStateException(); }, 0, TimeUnit.MILLISECONDS);
+		
+		for(int i = 0; i < count; i++)
+		{
+			this.timer.newTimeout(latch::countDown, i % 50, TimeUnit.MILLISECONDS);
+		}
+		
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+	
+	@Test
+	void testStopRejectsTimeouts()
+	{
+		this.timer.stop();
+		
+		assertTrue(this.timer.isStopped());
+		assertThrows(IllegalStateException.class, () -> this.timer.newTimeout(() -> {}, 1, TimeUnit.MILLISECONDS));
+		assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer(0, TimeUnit.MILLISECONDS, 8));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class HexFormatterTest
+{
+	@Test
+	void testAppendHexaArray()
+	{
+		byte[] bytes = new byte[]{(byte)0xA0, (byte)0xBD, 0x78, 0x01, (byte)0xFF};
+		
+		assertEquals("[A0, BD, 78, 01, FF]", HexFormatter.appendHexaArray(new StringBuilder(), bytes, 0, 5, HexFormatter.UNLIMITED).toString());
+		assertEquals("[A0, BD, ...]", HexFormatter.appendHexaArray(new StringBuilder(), bytes, 0, 5, 2).toString());
+		assertEquals("[...]", HexFormatter.appendHexaArray(new StringBuilder(), bytes, 0, 5, 0).toString());
+		assertEquals("[]", HexFormatter.appendHexaArray(new StringBuilder(), bytes, 0, 0, 0).toString());
+		assertEquals("[01, FF, A0, BD]", HexFormatter.appendHexaArray(new StringBuilder(), bytes, 3, 4, 4).toString());
+		assertEquals("[FF, A0, ...]", HexFormatter.appendHexaArray(new StringBuilder(), bytes, 4, 5, 2).toString());
+		assertEquals("x", HexFormatter.appendHexa(new StringBuilder("x"), (byte)0x0C).substring(0, 1));
+		assertEquals("FFA0", HexFormatter.appendHexaString(new StringBuilder(), bytes, 4, 2).toString());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> HexFormatter.appendHexaArray(new StringBuilder(), bytes, 5, 1, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> HexFormatter.appendHexaString(new StringBuilder(), bytes, 0, 6));
+	}
+	
+	@Test
+	void testDump() throws IOException
+	{
+		byte[] bytes = "Hello, World!\n0123456789".getBytes(StandardCharsets.US_ASCII);
+		
+		String expected =
+			"00000000  48 65 6C 6C 6F 2C 20 57  6F 72 6C 64 21 0A 30 31  |Hello, World!.01|\n" +
+			"00000010  32 33 34 35 36 37 38 39                           |23456789|\n";
+		
+		assertEquals(expected, HexFormatter.dump(bytes, HexFormatter.UNLIMITED));
+		assertEquals(expected.substring(0, expected.indexOf('\n') + 1) + "...\n", HexFormatter.dump(bytes, 16));
+		assertNull(HexFormatter.dump(null, 1));
+		
+		StringWriter writer = new StringWriter();
+		
+		HexFormatter.appendDump(writer, bytes, 22, 4, HexFormatter.UNLIMITED);
+		
+		assertEquals("00000000  38 39 48 65                                       |89He|\n", writer.toString());
+	}
+}
\ No newline at end of file
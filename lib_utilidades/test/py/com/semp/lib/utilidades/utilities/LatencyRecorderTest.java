@@ -0,0 +1,31 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest
+{
+	@Test
+	void testRecord()
+	{
+		LatencyRecorder recorder = new LatencyRecorder();
+		
+		assertEquals(0, recorder.getMinNanos());
+		assertEquals(0, recorder.getMeanNanos());
+		
+		recorder.record(30);
+		recorder.record(10);
+		recorder.record(20);
+		
+		assertEquals(3, recorder.getCount());
+		assertEquals(10, recorder.getMinNanos());
+		assertEquals(30, recorder.getMaxNanos());
+		assertEquals(20, recorder.getMeanNanos());
+		
+		recorder.reset();
+		
+		assertEquals(0, recorder.getCount());
+		assertEquals(0, recorder.getMaxNanos());
+	}
+}
\ No newline at end of file
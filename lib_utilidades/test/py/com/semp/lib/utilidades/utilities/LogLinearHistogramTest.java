@@ -0,0 +1,102 @@
+package py.com.semp.lib.utilidades.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LogLinearHistogramTest
+{
+	@Test
+	void testSmallValuesAreExact()
+	{
+		LogLinearHistogram histogram = new LogLinearHistogram();
+		
+		for(int i = 1; i <= 100; i++)
+		{
+			histogram.record(i);
+		}
+		
+		assertEquals(100, histogram.getCount());
+		assertEquals(1, histogram.getMinValue());
+		assertEquals(100, histogram.getMaxValue());
+		assertEquals(50, histogram.getMeanValue());
+		assertEquals(50, histogram.getValueAtPercentile(50));
+		assertEquals(99, histogram.getValueAtPercentile(99));
+		assertEquals(100, histogram.getValueAtPercentile(100));
+		assertEquals(1, histogram.getValueAtPercentile(0));
+	}
+	
+	@Test
+	void testRelativeError()
+	{
+		LogLinearHistogram histogram = new LogLinearHistogram(7);
+		long[] values = {1_000, 123_456, 9_876_543_210L, Long.MAX_VALUE / 3};
+		
+		for(long value : values)
+		{
+			histogram.reset();
+			histogram.record(value);
+			histogram.record(Long.MAX_VALUE);
+			
+			long reported = histogram.getValueAtPercentile(50);
+			
+			assertTrue(reported >= value, value + " -> " + reported);
+			assertTrue(reported - value <= value / 64, value + " -> " + reported);
+		}
+		
+		assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+	}
+	
+	@Test
+	void testCopyAndReset()
+	{
+		LogLinearHistogram histogram = new LogLinearHistogram(4);
+		
+		histogram.record(-5);
+		histogram.record(1_000_000);
+		
+		LogLinearHistogram copy = histogram.copy();
+		
+		histogram.reset();
+		
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		assertEquals(0, histogram.getMaxValue());
+		assertEquals(2, copy.getCount());
+		assertEquals(0, copy.getMinValue());
+		assertEquals(0, copy.getValueAtPercentile(50));
+		assertEquals(1_000_000, copy.getValueAtPercentile(100));
+		assertThrows(IllegalArgumentException.class, () -> new LogLinearHistogram(1));
+	}
+	
+	@Test
+	void testConcurrentRecording() throws InterruptedException
+	{
+		LogLinearHistogram histogram = new LogLinearHistogram();
+		Thread[] threads = new Thread[4];
+		
+		for(int t = 0; t < threads.length; t++)
+		{
+			threads[t] = new Thread(() ->
+			{
+				for(int i = 0; i < 100_000; i++)
+				{
+					histogram.record(i);
+				}
+			});
+			
+			threads[t].start();
+		}
+		
+		for(Thread thread : threads)
+		{
+			thread.join();
+		}
+		
+		assertEquals(400_000, histogram.getCount());
+		assertEquals(0, histogram.getMinValue());
+		assertEquals(99_999, histogram.getMaxValue());
+	}
+}
\ No newline at end of file